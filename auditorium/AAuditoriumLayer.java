@@ -22,6 +22,9 @@
 
 package auditorium;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import sexpression.ASExpression;
 
 /**
@@ -99,4 +102,17 @@ public abstract class AAuditoriumLayer implements IAuditoriumLayer {
     protected IAuditoriumHost getHost() {
         return _host;
     }
+
+    /**
+     * By default, a batch of announcements is made one at a time with
+     * makeAnnouncement.
+     * 
+     * @see auditorium.IAuditoriumLayer#makeAnnouncements(java.util.List)
+     */
+    public List<ASExpression> makeAnnouncements(List<ASExpression> announcements) {
+        ArrayList<ASExpression> data = new ArrayList<ASExpression>();
+        for (ASExpression announcement : announcements)
+            data.add( makeAnnouncement( announcement ) );
+        return data;
+    }
 }
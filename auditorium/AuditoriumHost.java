@@ -23,16 +23,18 @@
 package auditorium;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.ServerSocket;
 import java.net.SocketException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Observer;
+import java.util.concurrent.TimeUnit;
 
 // import auditorium.verifierplugins.*;
 
@@ -115,11 +117,18 @@ public class AuditoriumHost implements IAuditoriumHost {
     // Core state
     private final HashMap<String, IAuditoriumLayer> _layers;
     private final IAuditoriumLayer _head;
+    private final AuditoriumIntegrityLayer _integrity;
     private final AuditoriumDiscoveryHost _discover;
     private final IAuditoriumParams _constants;
-    private final SynchronizedQueue<Pair> _inqueue;
-    private final SynchronizedQueue<ASExpression> _outqueue;
-    private final SynchronizedQueue<Message> _pendingqueue;
+    private final BoundedQueue<Pair> _inqueue;
+    private final BoundedQueue<ASExpression> _outqueue;
+    private final BoundedQueue<Message> _pendingqueue;
+
+    // Deliveries to the application are taken in log order, under the host
+    // lock, and made in that order once it's released.
+    private final Object _deliveryTurn = new Object();
+    private long _deliveryTickets = 0;
+    private long _delivered = 0;
 
     // People
     private final HostPointer _me;
@@ -139,6 +148,8 @@ public class AuditoriumHost implements IAuditoriumHost {
 
     // Sockets
     private ServerSocket _listensocket;
+    private final boolean _useChannels;
+    private volatile ChannelTransport _transport;
 
     // Thread state
     private volatile boolean _running;
@@ -162,18 +173,26 @@ public class AuditoriumHost implements IAuditoriumHost {
         
         //Core state
         _layers = new HashMap<String, IAuditoriumLayer>();
-        AuditoriumIntegrityLayer integrity = new AuditoriumIntegrityLayer(
-                AAuditoriumLayer.BOTTOM, this, constants.getKeyStore() );
+        _integrity = new AuditoriumIntegrityLayer( AAuditoriumLayer.BOTTOM,
+                this, constants.getKeyStore(), constants
+                        .getAuditoriumVerifyThreads() );
         AuditoriumTemporalLayer temporal = new AuditoriumTemporalLayer(
-                integrity, this );
-        _layers.put( "Integrity", integrity );
+                _integrity, this );
+        _layers.put( "Integrity", _integrity );
         _layers.put( "Temporal", temporal );
         _head = temporal;
         _discover = new AuditoriumDiscoveryHost( this, constants );
         _constants = constants;
-        _inqueue = new SynchronizedQueue<Pair>();
-        _outqueue = new SynchronizedQueue<ASExpression>();
-        _pendingqueue = new SynchronizedQueue<Message>();
+        _useChannels = "nio".equalsIgnoreCase( constants
+                .getAuditoriumTransport() );
+        int capacity = constants.getAuditoriumQueueCapacity();
+        BoundedQueue.Policy policy = BoundedQueue.Policy.parse( constants
+                .getAuditoriumQueuePolicy() );
+        // Whatever has been logged and flooded has to reach the application,
+        // so the policy only applies to the queues in front of the log.
+        _inqueue = new BoundedQueue<Pair>( capacity, BoundedQueue.Policy.BLOCK );
+        _outqueue = new BoundedQueue<ASExpression>( capacity, policy );
+        _pendingqueue = new BoundedQueue<Message>( capacity, policy );
 
         // Events
         _hostJoined = new Event<HostPointer>();
@@ -187,9 +206,10 @@ public class AuditoriumHost implements IAuditoriumHost {
         	if (ruleFile != null) {
 //        		loadedRule = Verifier.readRule( constants.getRuleFile() );
         	}
-            _log = new Log( new File( constants.getLogLocation() ) );
+            _log = new Log( new File( constants.getLogLocation() ), constants
+                    .getLogSegmentSize(), constants.getLogSyncInterval() );
         }
-        catch (FileNotFoundException e) {
+        catch (IOException e) {
             throw new FatalNetworkException( "Can't open file: "
                     + e.getMessage(), e );
         }
@@ -221,15 +241,18 @@ public class AuditoriumHost implements IAuditoriumHost {
      */
     public void start() throws NetworkException {
         Bugout.msg( "Host: STARTING" );
+        if (_useChannels)
+            startTransport();
         _discover.start();
         _running = true;
-        new Thread( new Runnable() {
+        if (!_useChannels)
+            new Thread( new Runnable() {
 
-            public void run() {
-                joinListenerThread();
-            }
+                public void run() {
+                    joinListenerThread();
+                }
 
-        } ).start();
+            } ).start();
         new Thread( new Runnable() {
 
             public void run() {
@@ -260,8 +283,24 @@ public class AuditoriumHost implements IAuditoriumHost {
         _inqueue.releaseThreads();
         _outqueue.releaseThreads();
         _pendingqueue.releaseThreads();
+        Bugout.msg( "Host: application queue: " + _inqueue );
+        Bugout.msg( "Host: announce queue: " + _outqueue );
+        Bugout.msg( "Host: receive queue: " + _pendingqueue );
+        Bugout.msg( "Host: " + RSACrypto.SINGLETON );
+        _integrity.shutdown();
         try {
-            _listensocket.close();
+            synchronized (this) {
+                _log.close();
+            }
+        }
+        catch (IOException e) {
+            Bugout.err( "Host: couldn't close the log: " + e.getMessage() );
+        }
+        if (_transport != null)
+            _transport.stop();
+        try {
+            if (_listensocket != null)
+                _listensocket.close();
         }
         catch (IOException e) {}
 
@@ -313,8 +352,11 @@ public class AuditoriumHost implements IAuditoriumHost {
         // Send the join
         Message joinmsg = new Message( "join", _me, nextSequence(), _head
                 .makeJoin( StringExpression.EMPTY ) );
-        MessageSocket socket = new MessageSocket( host, _constants
-                .getJoinTimeout() );
+        IMessageSocket socket;
+        if (_transport != null)
+            socket = _transport.connect( host, _constants.getJoinTimeout() );
+        else
+            socket = new MessageSocket( host, _constants.getJoinTimeout() );
         Bugout.msg( "Host: sending join: " + new MessagePointer( joinmsg ) );
         socket.send( joinmsg );
 
@@ -324,7 +366,18 @@ public class AuditoriumHost implements IAuditoriumHost {
             joinreply = socket.receive();
             _head.receiveJoinReply( joinreply.getDatum() );
         }
+        catch (NetworkException e) {
+            try {
+                socket.close();
+            }
+            catch (IOException e1) {}
+            throw e;
+        }
         catch (IncorrectFormatException e) {
+            try {
+                socket.close();
+            }
+            catch (IOException e1) {}
             throw new NetworkException( "Couldn't join, malformed reply", e );
         }
         Bugout.msg( "Host: received reply: " + new MessagePointer( joinreply ) );
@@ -354,7 +407,8 @@ public class AuditoriumHost implements IAuditoriumHost {
      *            Place this announcement on the wire.
      */
     public void announce(ASExpression announcement) {
-        _outqueue.push( announcement );
+        if (!_outqueue.push( announcement ))
+            Bugout.err( "Announce: queue full, dropped an announcement" );
     }
 
     /**
@@ -458,7 +512,10 @@ public class AuditoriumHost implements IAuditoriumHost {
      * @see auditorium.IAuditoriumHost#receiveAnnouncement(auditorium.Message)
      */
     public void receiveAnnouncement(Message message) {
-        _pendingqueue.push( message );
+        _integrity.verifyAhead( message.getDatum() );
+        if (!_pendingqueue.push( message ))
+            Bugout.err( "Receive: queue full, dropped "
+                    + new MessagePointer( message ) );
     }
 
     /**
@@ -500,19 +557,10 @@ public class AuditoriumHost implements IAuditoriumHost {
                 break;
             }
 
-            // Get the join request, make the response.
+            // Get the join request.
             Message jrq = null;
             try {
                 jrq = socket.receive();
-                Bugout.msg( "Listen: received " + new MessagePointer( jrq ) );
-                if (!jrq.getType().equals( "join" )) {
-                    Bugout.err( "Listen: received non-join message" );
-                    try {
-                        socket.close();
-                    }
-                    catch (IOException e) {}
-                    continue;
-                }
             }
             catch (NetworkException e) {
                 Bugout.err( "Listen: " + e.getMessage() );
@@ -531,33 +579,68 @@ public class AuditoriumHost implements IAuditoriumHost {
                 continue;
             }
 
-            // Send the join response, set up the auditorium link.
-            synchronized (this) {
+            acceptJoin( socket, jrq );
+        }
+        Bugout.msg( "Listen: THREAD END" );
+        stop();
+    }
+
+    // Start the event loop that replaces the join listener and link threads.
+    private void startTransport() throws NetworkException {
+        ChannelTransport transport = new ChannelTransport();
+        transport.start();
+        try {
+            transport.listen( _constants.getListenPort(),
+                    new ChannelTransport.IConnectionHandler() {
+
+                        public void connected(ChannelMessageSocket socket,
+                                Message first) {
+                            acceptJoin( socket, first );
+                        }
+                    } );
+        }
+        catch (NetworkException e) {
+            Bugout.err( "Couldn't bind socket." );
+            transport.stop();
+            throw e;
+        }
+        _transport = transport;
+    }
+
+    // Answer the join request received on a new connection.
+    private void acceptJoin(IMessageSocket socket, Message jrq) {
+        Bugout.msg( "Listen: received " + new MessagePointer( jrq ) );
+        if (!jrq.getType().equals( "join" )) {
+            Bugout.err( "Listen: received non-join message" );
+            try {
+                socket.close();
+            }
+            catch (IOException e) {}
+            return;
+        }
+
+        // Send the join response, set up the auditorium link.
+        synchronized (this) {
+            try {
+                socket.send( new Message( "join-reply", _me, nextSequence(),
+                        _head.makeJoinReply( Nothing.SINGLETON ) ) );
+            }
+            catch (NetworkException e) {
                 try {
-                    socket.send( new Message( "join-reply", _me,
-                            nextSequence(), _head
-                                    .makeJoinReply( Nothing.SINGLETON ) ) );
-                }
-                catch (NetworkException e) {
-                    try {
-                        socket.close();
-                    }
-                    catch (IOException e1) {}
-                    continue;
+                    socket.close();
                 }
-                for (Link l : _hosts)
-                    if (l.getAddress().equals( jrq.getFrom() ))
-                        continue;
-                Link l = new Link( this, socket, jrq.getFrom() );
-                l.start();
-                _hosts.add( l );
-                _hostJoined.notify( jrq.getFrom() );
-                Bugout.msg( "Listen: Connection successful to "
-                        + l.getAddress() );
+                catch (IOException e1) {}
+                return;
             }
+            for (Link l : _hosts)
+                if (l.getAddress().equals( jrq.getFrom() ))
+                    continue;
+            Link l = new Link( this, socket, jrq.getFrom() );
+            l.start();
+            _hosts.add( l );
+            _hostJoined.notify( jrq.getFrom() );
+            Bugout.msg( "Listen: Connection successful to " + l.getAddress() );
         }
-        Bugout.msg( "Listen: THREAD END" );
-        stop();
     }
 
     // Announce thread
@@ -565,20 +648,36 @@ public class AuditoriumHost implements IAuditoriumHost {
         Bugout.msg( "Announce: THREAD START" );
         while (_running) {
             try {
-                ASExpression announcement = _outqueue.pop();
-                synchronized (this) {
-                    // Make the announcement
-                    Message msg = new Message( "announce", _me, nextSequence(),
-                            _head.makeAnnouncement( announcement ) );
-
-                    // Flood the message.
-                    Bugout.msg( "Announce: flooding "
-                            + new MessagePointer( msg ) 
-							+ " (" + (announcement instanceof ListExpression
-									? ((ListExpression)announcement).get(0)
-									: "<string>")
-							+ " ...)");
-                    logMessage( msg );
+                List<ASExpression> announcements = nextBatch();
+                ArrayList<Pair> deliveries = new ArrayList<Pair>();
+                long ticket = -1;
+                try {
+                    synchronized (this) {
+                        ticket = _deliveryTickets++;
+                        // Make the announcements
+                        List<ASExpression> data = _head
+                                .makeAnnouncements( announcements );
+                        for (int i = 0; i < data.size(); i++) {
+                            ASExpression announcement = announcements.get( i );
+                            Message msg = new Message( "announce", _me,
+                                    nextSequence(), data.get( i ) );
+
+                            // Flood the message.
+                            Bugout.msg( "Announce: flooding "
+                                    + new MessagePointer( msg )
+                                    + " ("
+                                    + (announcement instanceof ListExpression
+                                            ? ((ListExpression) announcement)
+                                                    .get( 0 )
+                                            : "<string>") + " ...)" );
+                            deliveries.add( logMessage( msg ) );
+                        }
+                    }
+                }
+                finally {
+                    // Even if logging failed, so later deliveries get a turn.
+                    if (ticket >= 0)
+                        deliver( ticket, deliveries );
                 }
             }
             catch (ReleasedQueueException e) {}
@@ -591,17 +690,48 @@ public class AuditoriumHost implements IAuditoriumHost {
         Bugout.msg( "Announce: THREAD END" );
     }
 
+    /**
+     * Wait for the next announcement, then for up to the batch window for
+     * more to be made, so they can be signed together.
+     */
+    private List<ASExpression> nextBatch() throws ReleasedQueueException {
+        ArrayList<ASExpression> batch = new ArrayList<ASExpression>();
+        batch.add( _outqueue.pop() );
+
+        long window = TimeUnit.MILLISECONDS.toNanos( _constants
+                .getAuditoriumBatchWindow() );
+        long deadline = System.nanoTime() + window;
+        int size = _constants.getAuditoriumBatchSize();
+        while (window > 0 && batch.size() < size) {
+            ASExpression next = _outqueue.pop( deadline - System.nanoTime(),
+                TimeUnit.NANOSECONDS );
+            if (next == null)
+                break;
+            batch.add( next );
+        }
+        return batch;
+    }
+
     // Receive thread
     private void receiveThread() {
         Bugout.msg( "Receive: THREAD START." );
         while (_running) {
             try {
                 Message message = _pendingqueue.pop();
+                Pair delivery = null;
+                long ticket = -1;
 
-                synchronized (this) {
-                    Bugout.msg( "Announce: flooding "
-                            + new MessagePointer( message ) );
-                    logMessage( message );
+                try {
+                    synchronized (this) {
+                        ticket = _deliveryTickets++;
+                        Bugout.msg( "Announce: flooding "
+                                + new MessagePointer( message ) );
+                        delivery = logMessage( message );
+                    }
+                }
+                finally {
+                    if (ticket >= 0)
+                        deliver( ticket, Collections.singletonList( delivery ) );
                 }
 
             }
@@ -636,9 +766,16 @@ public class AuditoriumHost implements IAuditoriumHost {
     }
 
     /**
-     * Assume lock is already acquired!
+     * Assume lock is already acquired! Returns what should be handed to the
+     * application, or null if nothing should. It is handed over with
+     * deliver() once the lock is released, since a full application queue
+     * may block.
      */
-    private void logMessage(Message message) throws IOException {
+    private Pair logMessage(Message message) throws IOException {
+        // The log is closed once the host stops.
+        if (!_running)
+            return null;
+
         if (_log.logAnnouncement( message )) {
             verify( message );
             try {
@@ -647,15 +784,54 @@ public class AuditoriumHost implements IAuditoriumHost {
                 flood( message );
                 ASExpression payload = _head.receiveAnnouncement( message
                         .getDatum() );
-                if (!_inqueue.push( new Pair( message.getFrom(), payload ) )) {
-                    Bugout.err( "Receive: Applciation queue push fail" );
-                    stop();
-                }
+                return new Pair( message.getFrom(), payload );
             }
             catch (IncorrectFormatException e) {
                 Bugout.err( "Receive: malformed message:" + e.getMessage() );
-                return;
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hand the payloads of messages to the application, once every delivery
+     * taken before this one has been made, so the application hears messages
+     * in the order they were logged. The host lock mustn't be held, since this
+     * waits for the application to make room.
+     * 
+     * @param ticket
+     *            This was taken from _deliveryTickets when the messages were
+     *            logged.
+     * @param deliveries
+     *            These are the payloads, in log order. Nulls are skipped.
+     */
+    private void deliver(long ticket, List<Pair> deliveries) {
+        boolean interrupted = false;
+        try {
+            synchronized (_deliveryTurn) {
+                while (_delivered != ticket) {
+                    try {
+                        _deliveryTurn.wait();
+                    }
+                    catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+            for (Pair delivery : deliveries)
+                if (delivery != null && !_inqueue.push( delivery ))
+                    Bugout.err( "Receive: host stopped, dropped a message from "
+                            + delivery.from );
+        }
+        finally {
+            synchronized (_deliveryTurn) {
+                _delivered++;
+                _deliveryTurn.notifyAll();
             }
+            if (interrupted)
+                Thread.currentThread().interrupt();
         }
     }
 
@@ -23,6 +23,7 @@
 package auditorium;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import sexpression.*;
 
@@ -68,6 +69,47 @@ public class AuditoriumTemporalLayer extends AAuditoriumLayer {
         return getChild().makeAnnouncement( newdatum );
     }
 
+    /**
+     * None of the announcements in a batch can point to another before the
+     * batch is signed, so each of them ends up in the last list, and the next
+     * batch would carry every one of those pointers in every one of its
+     * announcements. Instead every announcement points to this host's latest
+     * message, so the host's messages stay on one chain, and the other
+     * hosts' pointers in the last list are dealt out across the batch: each
+     * goes to one announcement. This host's other pointers in the last list
+     * already precede its latest message along that chain, so they are left
+     * out. Every message is still succeeded, and the pointers a batch carries
+     * grow with its size, not its size squared.
+     * 
+     * @see auditorium.IAuditoriumLayer#makeAnnouncements(java.util.List)
+     */
+    @Override
+    public List<ASExpression> makeAnnouncements(List<ASExpression> announcements) {
+        Log log = getHost().getLog();
+        String me = getHost().getNodeId();
+        MessagePointer previous = log.getLatest( me );
+        ArrayList<ASExpression> others = new ArrayList<ASExpression>();
+        for (MessagePointer p : log.getLast())
+            if (previous == null || !p.getNodeId().equals( me ))
+                others.add( p.toASE() );
+
+        ArrayList<ASExpression> data = new ArrayList<ASExpression>();
+        int n = announcements.size();
+        for (int i = 0; i < n; i++) {
+            ArrayList<ASExpression> list = new ArrayList<ASExpression>();
+            if (previous != null)
+                list.add( previous.toASE() );
+            for (int j = i; j < others.size(); j += n)
+                list.add( others.get( j ) );
+            data.add( new ListExpression( StringExpression
+                    .makeString( "succeeds" ), new ListExpression( list ),
+                    announcements.get( i ) ) );
+        }
+
+        // Make decorated method call
+        return getChild().makeAnnouncements( data );
+    }
+
     /**
      * @see auditorium.IAuditoriumLayer#makeJoin(sexpression.ASExpression)
      */
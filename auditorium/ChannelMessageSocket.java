@@ -0,0 +1,403 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEFrameDecoder;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+/**
+ * A message socket over a non-blocking channel. Reads and writes are done by
+ * the event loop of the {@link ChannelTransport} that made it, so
+ * {@link #send(Message)} never blocks: the message is queued and written when
+ * the channel can take it. A peer that stops reading can only hold
+ * {@link #MAX_OUTBOUND_BYTES} of queued messages; past that, send throws and
+ * the link to it is dropped.<br>
+ * <br>
+ * Until a {@link Link} is attached, incoming messages are held for
+ * {@link #receive()}, which is how the join handshake is done. Once a link is
+ * attached they are handed to it on the transport's delivery thread, so a
+ * link that is slow to take them never holds up the event loop. While more
+ * than {@link #MAX_PENDING_DELIVERIES} are waiting to be taken, the socket
+ * stops reading, which pushes back on the peer through TCP.
+ *
+ * @author Montrose
+ */
+public class ChannelMessageSocket implements IMessageSocket {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Stop reading once this many received messages are waiting to be handed
+     * to the link, and start again once half of them have been.
+     */
+    public static final int MAX_PENDING_DELIVERIES = 256;
+
+    /**
+     * Refuse to queue more than this many bytes for a peer to read.
+     */
+    public static final long MAX_OUTBOUND_BYTES = 16L << 20;
+
+    private final ChannelTransport _transport;
+    private final SocketChannel _channel;
+    private final ChannelTransport.IConnectionHandler _handler;
+    private final ASEFrameDecoder _decoder;
+    private final ByteBuffer _readBuffer;
+    private final ConcurrentLinkedQueue<ByteBuffer> _outbound;
+    private final AtomicLong _outboundBytes;
+    private final AtomicBoolean _flushScheduled;
+    private final SynchronizedQueue<ASExpression> _inbox;
+    private final AtomicInteger _pendingDeliveries;
+    private final int _receiveTimeout;
+
+    // Only touched by the event loop.
+    private SelectionKey _key;
+    private Link _link;
+    private boolean _handshaken;
+    private boolean _readPaused;
+
+    private volatile String _failure;
+
+    /**
+     * @param transport
+     *            This is the transport whose event loop services the channel.
+     * @param channel
+     *            This is the connected channel, already non-blocking.
+     * @param handler
+     *            The first message received is given to this handler instead of
+     *            to receive(), or null if it shouldn't be.
+     * @param receiveTimeout
+     *            receive() gives up after this many milliseconds, or never if
+     *            this is 0.
+     */
+    ChannelMessageSocket(ChannelTransport transport, SocketChannel channel,
+            ChannelTransport.IConnectionHandler handler, int receiveTimeout) {
+        _transport = transport;
+        _channel = channel;
+        _handler = handler;
+        _decoder = new ASEFrameDecoder();
+        _readBuffer = ByteBuffer.allocate( READ_BUFFER_SIZE );
+        _outbound = new ConcurrentLinkedQueue<ByteBuffer>();
+        _outboundBytes = new AtomicLong();
+        _flushScheduled = new AtomicBoolean( false );
+        _inbox = new SynchronizedQueue<ASExpression>();
+        _pendingDeliveries = new AtomicInteger();
+        _receiveTimeout = receiveTimeout;
+        _handshaken = handler == null;
+        _readPaused = false;
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#send(auditorium.Message)
+     */
+    public void send(Message msg) throws NetworkException {
+        if (_failure != null)
+            throw new NetworkException( "Couldn't send " + msg + ": "
+                    + _failure, null );
+
+        byte[] bytes = msg.toASE().toVerbatim();
+        long queued = _outboundBytes.addAndGet( bytes.length );
+        if (queued > MAX_OUTBOUND_BYTES && queued > bytes.length) {
+            _outboundBytes.addAndGet( -bytes.length );
+            throw new NetworkException( "Couldn't send "
+                    + new MessagePointer( msg ) + ": the peer isn't reading, "
+                    + (queued - bytes.length) + " bytes are already queued",
+                    null );
+        }
+
+        _outbound.add( ByteBuffer.wrap( bytes ) );
+        if (_flushScheduled.compareAndSet( false, true ))
+            _transport.execute( new Runnable() {
+
+                public void run() {
+                    flush();
+                }
+            } );
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#receive()
+     */
+    public Message receive() throws NetworkException, IncorrectFormatException {
+        try {
+            ASExpression expression = _receiveTimeout > 0 ? _inbox
+                    .pop( _receiveTimeout ) : _inbox.pop();
+            if (expression == null)
+                throw new NetworkException( "Nothing received in "
+                        + _receiveTimeout + "ms", null );
+            return new Message( expression );
+        }
+        catch (ReleasedQueueException e) {
+            throw new NetworkException( "while receiving:" + _failure, e );
+        }
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#close()
+     */
+    public void close() throws IOException {
+        if (_failure == null)
+            _failure = "socket closed";
+        _inbox.releaseThreads();
+        _channel.close();
+    }
+
+    /**
+     * Hand every message received from now on, and any that were received but
+     * not yet taken by receive(), to the given link.
+     *
+     * @param link
+     *            This is the link that owns this socket.
+     */
+    void attach(final Link link) {
+        _transport.execute( new Runnable() {
+
+            public void run() {
+                if (_failure != null) {
+                    final String reason = _failure;
+                    _transport.deliver( new Runnable() {
+
+                        public void run() {
+                            link.failed( reason );
+                        }
+                    } );
+                    return;
+                }
+
+                _link = link;
+                try {
+                    while (_inbox.size() > 0)
+                        enqueue( _inbox.pop() );
+                }
+                catch (ReleasedQueueException e) {}
+            }
+        } );
+    }
+
+    /**
+     * Register the channel with the event loop's selector. Called by the event
+     * loop.
+     */
+    void register(Selector selector) {
+        try {
+            _key = _channel.register( selector, SelectionKey.OP_READ, this );
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+        }
+    }
+
+    /**
+     * Read what has arrived and dispatch every message it completes. Called by
+     * the event loop.
+     */
+    void readReady() {
+        List<ASExpression> decoded;
+        try {
+            _readBuffer.clear();
+            if (_channel.read( _readBuffer ) < 0) {
+                fail( "End of stream" );
+                return;
+            }
+            _readBuffer.flip();
+            decoded = _decoder.decode( _readBuffer );
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+            return;
+        }
+        catch (InvalidVerbatimStreamException e) {
+            fail( e.getMessage() );
+            return;
+        }
+
+        for (ASExpression expression : decoded) {
+            if (_failure != null)
+                return;
+            dispatch( expression );
+        }
+    }
+
+    /**
+     * Write as much of the outbound queue as the channel will take, and ask
+     * to be told when it will take more if anything is left. Called by the
+     * event loop.
+     */
+    void flush() {
+        _flushScheduled.set( false );
+        if (_key == null || !_key.isValid())
+            return;
+
+        try {
+            ByteBuffer buffer;
+            while ((buffer = _outbound.peek()) != null) {
+                _channel.write( buffer );
+                if (buffer.hasRemaining())
+                    break;
+                _outbound.poll();
+                _outboundBytes.addAndGet( -buffer.capacity() );
+            }
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+            return;
+        }
+
+        updateInterest();
+    }
+
+    /**
+     * Close the channel after an error and tell whoever is waiting on it.
+     * Called by the event loop.
+     */
+    void fail(String reason) {
+        if (_failure != null)
+            return;
+
+        _failure = reason;
+        try {
+            close();
+        }
+        catch (IOException e) {}
+
+        // Taking the link down locks the host, so it's done after anything
+        // this socket already handed to the link.
+        final Link link = _link;
+        if (link != null)
+            _transport.deliver( new Runnable() {
+
+                public void run() {
+                    link.failed( reason );
+                }
+            } );
+    }
+
+    /**
+     * Ask the selector for reads unless they are paused, and for writes if
+     * anything is waiting to be written.
+     */
+    private void updateInterest() {
+        if (_key == null || !_key.isValid())
+            return;
+
+        int ops = _readPaused ? 0 : SelectionKey.OP_READ;
+        if (!_outbound.isEmpty())
+            ops |= SelectionKey.OP_WRITE;
+        _key.interestOps( ops );
+    }
+
+    /**
+     * Hand a message to the link on the delivery thread, pausing reads if too
+     * many are waiting.
+     */
+    private void enqueue(final ASExpression expression) {
+        final Link link = _link;
+        if (_pendingDeliveries.incrementAndGet() >= MAX_PENDING_DELIVERIES
+                && !_readPaused) {
+            _readPaused = true;
+            updateInterest();
+        }
+
+        _transport.deliver( new Runnable() {
+
+            public void run() {
+                deliver( link, expression );
+                int left = _pendingDeliveries.decrementAndGet();
+                if (left == MAX_PENDING_DELIVERIES / 2)
+                    _transport.execute( new Runnable() {
+
+                        public void run() {
+                            resumeReading();
+                        }
+                    } );
+            }
+        } );
+    }
+
+    private void resumeReading() {
+        if (!_readPaused
+                || _pendingDeliveries.get() >= MAX_PENDING_DELIVERIES)
+            return;
+
+        _readPaused = false;
+        updateInterest();
+    }
+
+    private void dispatch(ASExpression expression) {
+        if (_link != null) {
+            enqueue( expression );
+            return;
+        }
+
+        if (!_handshaken) {
+            _handshaken = true;
+            final Message first;
+            try {
+                first = new Message( expression );
+            }
+            catch (IncorrectFormatException e) {
+                Bugout.err( "Listen: " + e.getMessage() );
+                try {
+                    close();
+                }
+                catch (IOException e1) {}
+                return;
+            }
+
+            // Answering a join locks the host and signs, so it's done on the
+            // delivery thread like everything else handed to the host.
+            _transport.deliver( new Runnable() {
+
+                public void run() {
+                    _handler.connected( ChannelMessageSocket.this, first );
+                }
+            } );
+            return;
+        }
+
+        _inbox.push( expression );
+    }
+
+    private void deliver(Link link, ASExpression expression) {
+        if (!link.running())
+            return;
+
+        try {
+            link.received( new Message( expression ) );
+        }
+        catch (IncorrectFormatException e) {
+            link.malformed( e );
+        }
+    }
+}
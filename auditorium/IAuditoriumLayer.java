@@ -22,6 +22,8 @@
 
 package auditorium;
 
+import java.util.List;
+
 import sexpression.ASExpression;
 
 /**
@@ -82,6 +84,19 @@ public interface IAuditoriumLayer {
      */
     public ASExpression makeAnnouncement(ASExpression announcement);
 
+    /**
+     * Make the data for several announcement messages that are sent together.
+     * A layer may make use of knowing the whole batch, as long as each datum
+     * can still be processed by receiveAnnouncement on its own. Flow: top to
+     * bottom.
+     * 
+     * @param announcements
+     *            Send these announcements, in this order.
+     * @return This method returns the announcement data, one for each
+     *         announcement, in the same order.
+     */
+    public List<ASExpression> makeAnnouncements(List<ASExpression> announcements);
+
     /**
      * Process an announcement that was received on the network. Flow: bottom to
      * top.
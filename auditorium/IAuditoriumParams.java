@@ -205,4 +205,85 @@ public interface IAuditoriumParams {
      * @return true if the AWT VoteBox UI should attempt to scale a ballot to fit the screen
      */
     public boolean getAllowUIScaling();
+    
+    /**
+     * @return how the Supervisor checks ballot NIZKs: "serial", "batch", or "compare" (both, reporting any disagreement).
+     */
+    public String getNIZKVerificationMode();
+    
+    /**
+     * @return the number of threads the Supervisor uses to check ballot NIZKs, or 0 for one per processor.
+     */
+    public int getNIZKVerificationThreads();
+    
+    /**
+     * @return the number of ballots whose NIZKs are checked together in "batch" mode.
+     */
+    public int getNIZKBatchSize();
+    
+    /**
+     * @return the most memory, in kilobytes, each table of precomputed Adder key powers may use, or -1 for no limit
+     */
+    public int getAdderTableLimit();
+    
+    /**
+     * @return the number of running totals each race's encrypted tally is spread across
+     */
+    public int getTallyStripes();
+    
+    /**
+     * @return the directory each counted encrypted vote is recorded in, or null to not record them
+     */
+    public String getTallyAuditDirectory();
+    
+    /**
+     * @return the number of powers precomputed for decrypting ElGamal tallies
+     */
+    public int getDecryptionTableSize();
+    
+    /**
+     * @return the most encryptions' worth of randomness a booth computes ahead of time, or 0 to not
+     */
+    public int getRandomnessPoolSize();
+    
+    /**
+     * @return how auditorium hosts talk to each other: "blocking" (a thread per link) or "nio" (one event loop per host)
+     */
+    public String getAuditoriumTransport();
+    
+    /**
+     * @return the most messages each of an auditorium host's queues may hold
+     */
+    public int getAuditoriumQueueCapacity();
+    
+    /**
+     * @return what an auditorium host does when its announce or receive queue is full: "block", "drop", or "backpressure" (wait briefly, then drop).
+     *         The queue to the application always blocks, since what reaches it has already been logged.
+     */
+    public String getAuditoriumQueuePolicy();
+    
+    /**
+     * @return the number of threads an auditorium host checks announcement signatures on as they arrive, or 0 to check them only as they are processed
+     */
+    public int getAuditoriumVerifyThreads();
+    
+    /**
+     * @return the number of milliseconds an auditorium host waits to gather announcements into one signed batch, or 0 to sign each announcement on its own
+     */
+    public int getAuditoriumBatchWindow();
+    
+    /**
+     * @return the most announcements an auditorium host puts in one signed batch
+     */
+    public int getAuditoriumBatchSize();
+    
+    /**
+     * @return the number of bytes at which the auditorium log starts a new segment file
+     */
+    public int getLogSegmentSize();
+    
+    /**
+     * @return the most milliseconds the auditorium log waits before forcing what it has written to disk, or 0 to force it only in batches
+     */
+    public int getLogSyncInterval();
 }
@@ -33,7 +33,10 @@ import java.io.IOException;
  * stop() on it before it will behave in the expected way. The link's thread
  * will operate at a priority one less than the calling thread. This is to aid
  * auditorium in being able to keep up with many links flooding messages onto
- * its queues.
+ * its queues.<br>
+ * <br>
+ * A link over a {@link ChannelMessageSocket} has no thread of its own; the
+ * socket's transport hands it each message on its delivery thread instead.
  * 
  * @author Kyle
  * 
@@ -41,7 +44,7 @@ import java.io.IOException;
 public class Link {
 
     private final IAuditoriumHost _host;
-    private final MessageSocket _socket;
+    private final IMessageSocket _socket;
     private final HostPointer _address;
     private volatile boolean _running;
 
@@ -56,7 +59,7 @@ public class Link {
      * @param address
      *            This is the address that the socket is connected to.
      */
-    public Link(IAuditoriumHost host, MessageSocket socket, HostPointer address) {
+    public Link(IAuditoriumHost host, IMessageSocket socket, HostPointer address) {
         _host = host;
         _socket = socket;
         _address = address;
@@ -71,6 +74,11 @@ public class Link {
 
         _running = true; // listenThread will stop immediately if not set here
 
+        if (_socket instanceof ChannelMessageSocket) {
+            ((ChannelMessageSocket) _socket).attach( this );
+            return;
+        }
+
         Thread t = new Thread( new Runnable() {
 
             public void run() {
@@ -112,7 +120,7 @@ public class Link {
      * @return This method returns the message socket that is established for
      *         this link.
      */
-    public MessageSocket getSocket() {
+    public IMessageSocket getSocket() {
         return _socket;
     }
 
@@ -142,17 +150,10 @@ public class Link {
         try {
             while (_running) {
                 try {
-                    Message message = _socket.receive();
-                    Bugout.msg( "Link " + _address + ": received: "
-                            + new MessagePointer( message ) );
-                    _host.receiveAnnouncement( message );
+                    received( _socket.receive() );
                 }
                 catch (IncorrectFormatException e) {
-                    Bugout
-                            .err( "Link "
-                                    + _address
-                                    + ": received a message that is incorrectly formatted:"
-                                    + e.getMessage() );
+                    malformed( e );
                 }
             }
         }
@@ -163,4 +164,40 @@ public class Link {
         Bugout.msg( "Link " + _address + ": THREAD END" );
         stop();
     }
+
+    /**
+     * Relay a message that was received on this link to the host.
+     * 
+     * @param message
+     *            This is the message that was received.
+     */
+    void received(Message message) {
+        Bugout.msg( "Link " + _address + ": received: "
+                + new MessagePointer( message ) );
+        _host.receiveAnnouncement( message );
+    }
+
+    /**
+     * Note that something which isn't a message was received on this link.
+     * 
+     * @param e
+     *            This is what went wrong.
+     */
+    void malformed(IncorrectFormatException e) {
+        Bugout.err( "Link " + _address
+                + ": received a message that is incorrectly formatted:"
+                + e.getMessage() );
+    }
+
+    /**
+     * Take this link down after its socket failed.
+     * 
+     * @param reason
+     *            This is why the socket failed.
+     */
+    void failed(String reason) {
+        Bugout.err( "Link " + _address + ": " + reason );
+        _host.removeLink( this );
+        stop();
+    }
 }
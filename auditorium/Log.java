@@ -23,12 +23,30 @@
 package auditorium;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import sexpression.*;
+import sexpression.stream.ASEFrameDecoder;
+import sexpression.stream.InvalidVerbatimStreamException;
 
 /**
  * Log's job is to serialize messages that are heard over auditorium. In
@@ -36,34 +54,181 @@ import java.util.List;
  * compute whether or not a given s-expression has been heard before, as well as
  * keep track of what the most recently heard but not pointed to messages are.
  * (This is useful for helping the temporal layer decide what messages should be
- * pointed to when said messages are being constructed.)
- * 
+ * pointed to when said messages are being constructed.)<br>
+ * <br>
+ * Messages are appended, in verbatim form, to a series of memory-mapped
+ * segment files: the given location, then location.1, location.2, and so on,
+ * each started when the one before it is full. Read back to back they are
+ * the same stream of messages a log has always been; {@link #open(File)} does
+ * that. Which messages have been heard is kept in a {@link LogIndex} at
+ * location.idx rather than on the heap.<br>
+ * <br>
+ * Writes are made durable in groups: the segment is forced to disk once
+ * enough messages have been written since the last time, or on a timer, and
+ * only then are their pointers added to the index. So the index never claims
+ * a message the log doesn't hold. When a log is opened on a location that
+ * already has one, whatever came after the index's last durable position is
+ * read back and indexed, and a torn message at the end is cut off. The last
+ * list is saved at location.last each time the index is, so a restarted host
+ * carries on where it left off; if it can't be read, it is rebuilt from the
+ * final segment instead.
+ *
  * @author derrley
  */
 public class Log {
 
-    private final FileOutputStream _location;
-    private final HashSet<MessagePointer> _haveSeen;
+    /**
+     * Segments are this big, unless a message won't fit in one.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * By default, writes are forced to disk at least this often, in
+     * milliseconds.
+     */
+    public static final int DEFAULT_SYNC_INTERVAL = 100;
+
+    /**
+     * Writes are forced to disk once this many messages are waiting.
+     */
+    public static final int SYNC_BATCH = 256;
+
+    private static final ScheduledExecutorService SYNCER = Executors
+            .newSingleThreadScheduledExecutor( new ThreadFactory() {
+
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread( r, "LogSync" );
+                    t.setDaemon( true );
+                    return t;
+                }
+            } );
+
+    private final File _location;
+    private final int _segmentSize;
+    private final LogIndex _index;
+    private final HashSet<ByteBuffer> _pending;
     private final LinkedList<MessagePointer> _last;
+    private final HashMap<String, MessagePointer> _latest;
+    private final ScheduledFuture<?> _syncTask;
+
+    // The segment being written.
+    private int _segment;
+    private RandomAccessFile _file;
+    private MappedByteBuffer _map;
 
     /**
-     * Construct a Log instance that serializes log data to a given location.
-     * 
+     * Construct a Log instance that serializes log data to a given location,
+     * with the default segment size and sync interval.
+     *
      * @param location
      *            This is the location that should be written to.
-     * @throws FileNotFoundException
-     *             This method throws if the given location cannot be found.
+     * @throws IOException
+     *             This method throws if the given location cannot be opened or
+     *             mapped.
      */
-    public Log(File location) throws FileNotFoundException {
-        _location = new FileOutputStream( location );
-        _haveSeen = new HashSet<MessagePointer>();
+    public Log(File location) throws IOException {
+        this( location, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL );
+    }
+
+    /**
+     * Construct a Log instance that serializes log data to a given location,
+     * recovering what is already there.
+     *
+     * @param location
+     *            This is the location that should be written to.
+     * @param segmentSize
+     *            Start a new segment file when the current one reaches this
+     *            many bytes.
+     * @param syncInterval
+     *            Force writes to disk at least this often, in milliseconds, or
+     *            only when enough are waiting if 0.
+     * @throws IOException
+     *             This method throws if the given location cannot be opened or
+     *             mapped.
+     */
+    public Log(File location, int segmentSize, int syncInterval)
+            throws IOException {
+        _location = location;
+        _segmentSize = segmentSize;
+        _index = new LogIndex( new File( location.getPath() + ".idx" ) );
+        _pending = new HashSet<ByteBuffer>();
         _last = new LinkedList<MessagePointer>();
+        _latest = new HashMap<String, MessagePointer>();
+
+        recover();
+
+        if (syncInterval > 0)
+            _syncTask = SYNCER.scheduleWithFixedDelay( new Runnable() {
+
+                public void run() {
+                    try {
+                        sync();
+                    }
+                    catch (IOException e) {
+                        Bugout.err( "Log: couldn't sync " + _location + ": "
+                                + e.getMessage() );
+                    }
+                }
+            }, syncInterval, syncInterval, TimeUnit.MILLISECONDS );
+        else
+            _syncTask = null;
+    }
+
+    /**
+     * Open the messages in the log at the given location as one stream, in
+     * the order they were logged.
+     *
+     * @param location
+     *            This is the location the log was written to.
+     * @return This method returns the stream, which should be read with an
+     *         ASEInputStreamReader. A {@link LogReader} reads the log without
+     *         going through a stream.
+     * @throws IOException
+     *             This method throws if the log can't be read.
+     */
+    public static InputStream open(File location) throws IOException {
+        ArrayList<InputStream> segments = new ArrayList<InputStream>();
+        File file = location;
+        for (int segment = 1; file.exists(); segment++) {
+            segments.add( new BufferInputStream( mapSegment( file ) ) );
+            file = segmentFile( location, segment );
+        }
+        return new SequenceInputStream( Collections.enumeration( segments ) );
+    }
+
+    /**
+     * Map a segment for reading.
+     *
+     * @param file
+     *            This is the segment's file.
+     * @return This method returns the segment's messages, without the padding
+     *         after them.
+     * @throws IOException
+     *             This method throws if the file can't be mapped.
+     */
+    static MappedByteBuffer mapSegment(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile( file, "r" );
+        try {
+            MappedByteBuffer map = raf.getChannel().map(
+                FileChannel.MapMode.READ_ONLY, 0, raf.length() );
+            // A segment still being written is padded out with zeroes. Every
+            // message ends with ')', so the padding starts after the last
+            // byte that isn't zero.
+            int end = map.limit();
+            while (end > 0 && map.get( end - 1 ) == 0)
+                end--;
+            map.limit( end );
+            return map;
+        }
+        finally {
+            raf.close();
+        }
     }
 
     /**
      * Call this method to check and see if a message has been seen before, and
      * if it has not, log it.
-     * 
+     *
      * @param message
      *            This is the message in question. Log it if it hasn't been seen
      *            before.
@@ -73,35 +238,42 @@ public class Log {
      *             This method throws if there is an IO error when trying to add
      *             the message to the log file on disk.
      */
-    public boolean logAnnouncement(Message message) throws IOException {
+    public synchronized boolean logAnnouncement(Message message)
+            throws IOException {
         MessagePointer tomessage = new MessagePointer( message );
-        if (!_haveSeen.contains( tomessage )) {
-            _haveSeen.add( tomessage );
-            _last.add( tomessage );
-            write( message );
-            return true;
-        }
-        return false;
+        ByteBuffer fingerprint = ByteBuffer.wrap( LogIndex
+                .fingerprint( tomessage ) );
+        if (_pending.contains( fingerprint )
+                || _index.contains( fingerprint.array() ))
+            return false;
+
+        write( message );
+        _pending.add( fingerprint );
+        _last.add( tomessage );
+        _latest.put( tomessage.getNodeId(), tomessage );
+        if (_pending.size() >= SYNC_BATCH)
+            sync();
+        return true;
     }
 
     /**
      * Add a message to the "last" list. This message will be included in the
      * pointer set for the next message sent out.
-     * 
+     *
      * @param message
      *            Add this message.
      */
-    public void updateLast(MessagePointer message) {
+    public synchronized void updateLast(MessagePointer message) {
         _last.add( message );
     }
 
     /**
      * Remove a pointer from the last list, if it exists in the list.
-     * 
+     *
      * @param message
      *            Remove this message from the last list.
      */
-    public void removeFromLast(MessagePointer message) {
+    public synchronized void removeFromLast(MessagePointer message) {
         _last.remove( message );
     }
 
@@ -109,18 +281,384 @@ public class Log {
      * Get a list of messages that have been seen but not yet referenced.
      * Calling this method effectively clears the last list (before saving it as
      * a return value).
-     * 
+     *
      * @return This method returns the last list.
      */
-    public MessagePointer[] getLast() {
+    public synchronized MessagePointer[] getLast() {
         MessagePointer[] ret = _last.toArray( new MessagePointer[0] );
         _last.clear();
         return ret;
     }
 
+    /**
+     * Get the most recent message logged from a given node, whether or not
+     * anything points to it yet.
+     * 
+     * @param nodeid
+     *            Get the latest message from the node with this id.
+     * @return This method returns a pointer to the latest message logged from
+     *         the node, or null if none has been logged since the log was
+     *         opened.
+     */
+    public synchronized MessagePointer getLatest(String nodeid) {
+        return _latest.get( nodeid );
+    }
+
+    /**
+     * Force everything written so far to disk, and then add it to the index.
+     *
+     * @throws IOException
+     *             This method throws if the index can't be written.
+     */
+    public synchronized void sync() throws IOException {
+        if (_map == null || _pending.isEmpty())
+            return;
+
+        _map.force();
+        for (ByteBuffer fingerprint : _pending)
+            _index.add( fingerprint.array() );
+        _pending.clear();
+        saveLast();
+        _index.setPosition( _segment, _map.position() );
+        _index.force();
+    }
+
+    /**
+     * Sync, then close the segment and the index. The log can't be written
+     * after this.
+     *
+     * @throws IOException
+     *             This method throws if the files can't be written.
+     */
+    public synchronized void close() throws IOException {
+        if (_map == null)
+            return;
+
+        if (_syncTask != null)
+            _syncTask.cancel( false );
+        sync();
+        saveLast();
+        finishSegment();
+        _index.close();
+    }
+
     private void write(Message message) throws IOException {
-        _location.write( message.toASE().toVerbatim() );
-        _location.flush();
+        if (_map == null)
+            throw new IOException( "the log at " + _location + " is closed" );
+
+        byte[] bytes = message.toASE().toVerbatim();
+        if (_map.remaining() < bytes.length) {
+            sync();
+            finishSegment();
+            _segment++;
+            openSegment( 0, bytes.length );
+        }
+        _map.put( bytes );
+    }
+
+    /**
+     * Map the current segment for writing at the given offset.
+     */
+    private void openSegment(int offset, int needed) throws IOException {
+        _file = new RandomAccessFile( segmentFile( _location, _segment ), "rw" );
+        _map = _file.getChannel().map( FileChannel.MapMode.READ_WRITE, 0,
+            Math.max( _segmentSize, offset + needed ) );
+        _map.position( offset );
+    }
+
+    /**
+     * Cut the padding off the end of the current segment and close it.
+     */
+    private void finishSegment() throws IOException {
+        int end = _map.position();
+        unmap( _map );
+        _map = null;
+        _file.close();
+        truncate( segmentFile( _location, _segment ), end );
+    }
+
+    /**
+     * Cut a file off at the given length. Windows won't change the length of
+     * a file while any part of it is mapped, so unmap it first.
+     */
+    private static void truncate(File file, long length) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile( file, "rw" );
+        try {
+            raf.setLength( length );
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Release a mapping now rather than when it is garbage collected, so the
+     * file can be truncated, replaced or deleted. The buffer mustn't be used
+     * afterwards. If the runtime offers no way to do this, the mapping is left
+     * to the collector.
+     *
+     * @param map
+     *            This is the mapping to release.
+     */
+    static void unmap(MappedByteBuffer map) {
+        try {
+            Class<?> unsafe = Class.forName( "sun.misc.Unsafe" );
+            Field field = unsafe.getDeclaredField( "theUnsafe" );
+            field.setAccessible( true );
+            unsafe.getMethod( "invokeCleaner", ByteBuffer.class ).invoke(
+                field.get( null ), map );
+            return;
+        }
+        catch (Exception e) {}
+
+        // Before Java 9 the buffer has a cleaner of its own.
+        try {
+            Method cleaner = map.getClass().getMethod( "cleaner" );
+            cleaner.setAccessible( true );
+            Object clean = cleaner.invoke( map );
+            clean.getClass().getMethod( "clean" ).invoke( clean );
+        }
+        catch (Exception e) {
+            Bugout.msg( "Log: can't unmap a buffer: " + e );
+        }
+    }
+
+    /**
+     * Bring the index up to date with the segments on disk, cut off anything
+     * torn at the end of them, rebuild the last list, and open the last
+     * segment to be appended to.
+     */
+    private void recover() throws IOException {
+        int last = 0;
+        while (segmentFile( _location, last + 1 ).exists())
+            last++;
+
+        int segment = _index.getSegment();
+        int offset = _index.getOffset();
+        if (segment > last
+                || offset > segmentFile( _location, segment ).length()
+                || (segment == 0 && offset == 0 && _index.size() > 0)) {
+            Bugout.msg( "Log: the index doesn't match " + _location
+                    + ", rebuilding it" );
+            _index.clear();
+            segment = 0;
+            offset = 0;
+        }
+
+        // The saved last list covers everything up to the index's position.
+        // Without it, the whole final segment has to be read to rebuild it.
+        boolean saved = loadLast() && (segment > 0 || offset > 0);
+        if (!saved)
+            _last.clear();
+
+        ArrayList<Message> tail = new ArrayList<Message>();
+        int end = 0;
+        for (int s = segment; s <= last; s++) {
+            int from = s == segment ? offset : 0;
+            if (s == last && !saved)
+                from = 0;
+            end = scan( s, from, true, s == last || saved ? tail : null );
+        }
+
+        _segment = last;
+        openSegment( end, 0 );
+        _index.setPosition( _segment, end );
+        _index.force();
+
+        // Whatever no later message points to is last.
+        HashSet<MessagePointer> pointedTo = new HashSet<MessagePointer>();
+        for (Message message : tail) {
+            ListExpression predecessors = predecessors( message.getDatum() );
+            if (predecessors == null)
+                continue;
+            for (ASExpression ptr : predecessors)
+                try {
+                    pointedTo.add( new MessagePointer( ptr ) );
+                }
+                catch (IncorrectFormatException e) {}
+        }
+        _last.removeAll( pointedTo );
+        for (Message message : tail) {
+            MessagePointer pointer = new MessagePointer( message );
+            if (!pointedTo.contains( pointer ) && !_last.contains( pointer ))
+                _last.add( pointer );
+            _latest.put( pointer.getNodeId(), pointer );
+        }
+
+        if (end > 0 || last > 0)
+            Bugout.msg( "Log: recovered " + _location + " through segment "
+                    + last + " at " + end + ", " + _index.size()
+                    + " messages, " + _last.size() + " last" );
+    }
+
+    /**
+     * Write the last list to location.last.
+     */
+    private void saveLast() throws IOException {
+        ArrayList<ASExpression> list = new ArrayList<ASExpression>();
+        for (MessagePointer pointer : _last)
+            list.add( pointer.toASE() );
+
+        RandomAccessFile raf = new RandomAccessFile( lastFile(), "rw" );
+        try {
+            byte[] bytes = new ListExpression( list ).toVerbatim();
+            raf.setLength( bytes.length );
+            raf.write( bytes );
+            raf.getFD().sync();
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Read location.last into the last list.
+     *
+     * @return false if it couldn't be read.
+     */
+    private boolean loadLast() throws IOException {
+        File file = lastFile();
+        if (!file.exists())
+            return false;
+
+        RandomAccessFile raf = new RandomAccessFile( file, "r" );
+        try {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully( bytes );
+            ASExpression list = new ASEFrameDecoder().next( ByteBuffer
+                    .wrap( bytes ) );
+            if (!(list instanceof ListExpression))
+                return false;
+            for (ASExpression pointer : (ListExpression) list)
+                _last.add( new MessagePointer( pointer ) );
+            return true;
+        }
+        catch (InvalidVerbatimStreamException e) {
+            return false;
+        }
+        catch (IncorrectFormatException e) {
+            return false;
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    private File lastFile() {
+        return new File( _location.getPath() + ".last" );
+    }
+
+    /**
+     * Read the messages in a segment from the given offset until the data
+     * ends or stops making sense.
+     *
+     * @param recover
+     *            If true, add each message to the index and cut the segment
+     *            off where its messages end.
+     * @param into
+     *            If not null, add each message to this list.
+     * @return the offset where the segment's messages end.
+     */
+    private int scan(int segment, int offset, boolean recover,
+            List<Message> into) throws IOException {
+        File file = segmentFile( _location, segment );
+        if (!file.exists())
+            return 0;
+
+        RandomAccessFile raf = new RandomAccessFile( file, "r" );
+        long length = raf.length();
+        MappedByteBuffer map = null;
+        int end = offset;
+        try {
+            map = raf.getChannel().map( FileChannel.MapMode.READ_ONLY, 0,
+                length );
+            map.position( offset );
+            ASEFrameDecoder decoder = new ASEFrameDecoder();
+            try {
+                ASExpression expression;
+                while (map.hasRemaining() && map.get( map.position() ) != 0
+                        && (expression = decoder.next( map )) != null) {
+                    end = map.position();
+                    Message message;
+                    try {
+                        message = new Message( expression );
+                    }
+                    catch (IncorrectFormatException e) {
+                        Bugout.err( "Log: skipping something that isn't a message in "
+                                + file + " at " + end );
+                        continue;
+                    }
+                    if (recover)
+                        _index.add( LogIndex.fingerprint( new MessagePointer(
+                                message ) ) );
+                    if (into != null)
+                        into.add( message );
+                }
+            }
+            catch (InvalidVerbatimStreamException e) {
+                Bugout.err( "Log: " + file + " is torn at " + end + ": "
+                        + e.getMessage() );
+            }
+        }
+        finally {
+            if (map != null)
+                unmap( map );
+            raf.close();
+        }
+
+        if (recover && end < length)
+            truncate( file, end );
+        return end;
+    }
+
+    /**
+     * Find the list of predecessors the temporal layer put in a datum,
+     * wherever the layers below it put it.
+     */
+    private static ListExpression predecessors(ASExpression datum) {
+        ASExpression match = AuditoriumTemporalLayer.PATTERN.match( datum );
+        if (match != NoMatch.SINGLETON)
+            return (ListExpression) ((ListExpression) match).get( 0 );
+
+        if (datum instanceof ListExpression)
+            for (ASExpression child : (ListExpression) datum) {
+                ListExpression found = predecessors( child );
+                if (found != null)
+                    return found;
+            }
+        return null;
+    }
+
+    static File segmentFile(File location, int segment) {
+        if (segment == 0)
+            return location;
+        return new File( location.getPath() + "." + segment );
+    }
+
+    /**
+     * Reads a mapped segment.
+     */
+    private static class BufferInputStream extends InputStream {
+
+        private final ByteBuffer _buffer;
+
+        public BufferInputStream(ByteBuffer buffer) {
+            _buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return _buffer.hasRemaining() ? _buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!_buffer.hasRemaining())
+                return -1;
+            int n = Math.min( len, _buffer.remaining() );
+            _buffer.get( b, off, n );
+            return n;
+        }
     }
 
     // ** Testing Methods ***
@@ -129,8 +667,16 @@ public class Log {
      * logAnnouncement to know whether or not you've seen a message (becaues the
      * lookup is done atomically with the store!)
      */
-    public synchronized HashSet<MessagePointer> TESTgetSetCopy() {
-        return new HashSet<MessagePointer>( _haveSeen );
+    public synchronized HashSet<MessagePointer> TESTgetSetCopy()
+            throws IOException {
+        ArrayList<Message> messages = new ArrayList<Message>();
+        for (int s = 0; s <= _segment; s++)
+            scan( s, 0, false, messages );
+
+        HashSet<MessagePointer> set = new HashSet<MessagePointer>();
+        for (Message message : messages)
+            set.add( new MessagePointer( message ) );
+        return set;
     }
 
     /**
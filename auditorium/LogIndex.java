@@ -0,0 +1,322 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * A hash set of message pointers kept in a memory-mapped file, so that
+ * {@link Log} can tell whether it has heard a message before without keeping
+ * every pointer it has ever heard on the heap, and without forgetting them
+ * when the host restarts.<br>
+ * <br>
+ * Each slot holds the first 16 bytes of the SHA-1 of a pointer, and is found
+ * by linear probing from a position taken from those bytes. The table is
+ * rebuilt at twice the size in a new file when it gets half full. A header in
+ * front of the table records how far into the log the set is known to be
+ * complete, so that recovery only has to look at what came after that.
+ *
+ * @author Montrose
+ */
+class LogIndex {
+
+    public static final int FINGERPRINT_SIZE = 16;
+
+    private static final int MAGIC = 0x41554458; // "AUDX"
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_AT = 0;
+    private static final int CAPACITY_AT = 4;
+    private static final int COUNT_AT = 8;
+    private static final int SEGMENT_AT = 12;
+    private static final int OFFSET_AT = 16;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    private final File _file;
+    private RandomAccessFile _raf;
+    private MappedByteBuffer _map;
+    private int _capacity;
+    private int _count;
+    private final byte[] _probe = new byte[FINGERPRINT_SIZE];
+
+    /**
+     * Open the index in the given file, or make a new, empty one if the file
+     * doesn't hold an index.
+     *
+     * @param file
+     *            Keep the index in this file.
+     * @throws IOException
+     *             This method throws if the file can't be opened or mapped.
+     */
+    public LogIndex(File file) throws IOException {
+        _file = file;
+        _raf = new RandomAccessFile( file, "rw" );
+        if (_raf.length() >= HEADER_SIZE) {
+            _map = _raf.getChannel().map( FileChannel.MapMode.READ_WRITE, 0,
+                _raf.length() );
+            _capacity = _map.getInt( CAPACITY_AT );
+            _count = _map.getInt( COUNT_AT );
+            if (_map.getInt( MAGIC_AT ) == MAGIC
+                    && Integer.bitCount( _capacity ) == 1
+                    && _raf.length() == HEADER_SIZE + (long) _capacity
+                            * FINGERPRINT_SIZE && _count >= 0
+                    && _count <= _capacity / 2)
+                return;
+        }
+
+        Bugout.msg( "Log: making a new index in " + file );
+        if (_map != null)
+            Log.unmap( _map );
+        _map = null;
+        _raf.close();
+        _raf = create( file, MIN_CAPACITY );
+        _map = map( _raf );
+        _capacity = MIN_CAPACITY;
+        _count = 0;
+    }
+
+    /**
+     * @param pointer
+     *            Get the fingerprint of this pointer.
+     * @return This method returns the fingerprint that stands for the pointer
+     *         in the set. It is never all zeroes, since that marks an empty
+     *         slot.
+     */
+    public static byte[] fingerprint(MessagePointer pointer) {
+        byte[] fingerprint = Arrays.copyOf( pointer.toASE().getSHA1(),
+            FINGERPRINT_SIZE );
+        fingerprint[FINGERPRINT_SIZE - 1] |= 1;
+        return fingerprint;
+    }
+
+    /**
+     * Add a fingerprint to the set.
+     *
+     * @param fingerprint
+     *            Add this. It must be FINGERPRINT_SIZE bytes.
+     * @return This method returns false if the fingerprint was already in the
+     *         set, true otherwise.
+     * @throws IOException
+     *             This method throws if the table needs to grow and can't.
+     */
+    public boolean add(byte[] fingerprint) throws IOException {
+        int slot = find( fingerprint );
+        if (!empty( slot ))
+            return false;
+
+        if (_count + 1 > _capacity / 2) {
+            grow();
+            slot = find( fingerprint );
+        }
+
+        _map.position( slotOffset( slot ) );
+        _map.put( fingerprint );
+        _count++;
+        _map.putInt( COUNT_AT, _count );
+        return true;
+    }
+
+    /**
+     * @param fingerprint
+     *            Look for this. It must be FINGERPRINT_SIZE bytes.
+     * @return This method returns true if the fingerprint is in the set.
+     */
+    public boolean contains(byte[] fingerprint) {
+        return !empty( find( fingerprint ) );
+    }
+
+    /**
+     * @return This method returns the number of fingerprints in the set.
+     */
+    public int size() {
+        return _count;
+    }
+
+    /**
+     * Empty the set, and forget how far into the log it was complete.
+     */
+    public void clear() {
+        for (int i = HEADER_SIZE; i < _map.capacity(); i += 8)
+            _map.putLong( i, 0 );
+        _count = 0;
+        _map.putInt( COUNT_AT, 0 );
+        setPosition( 0, 0 );
+    }
+
+    /**
+     * Record that every message before the given position in the log is in
+     * the set. This is only durable once {@link #force()} returns.
+     *
+     * @param segment
+     *            This is the segment the position is in.
+     * @param offset
+     *            This is the offset of the position in that segment.
+     */
+    public void setPosition(int segment, int offset) {
+        _map.putInt( SEGMENT_AT, segment );
+        _map.putInt( OFFSET_AT, offset );
+    }
+
+    /**
+     * @return This method returns the segment of the last recorded position.
+     */
+    public int getSegment() {
+        return _map.getInt( SEGMENT_AT );
+    }
+
+    /**
+     * @return This method returns the offset of the last recorded position.
+     */
+    public int getOffset() {
+        return _map.getInt( OFFSET_AT );
+    }
+
+    /**
+     * Write everything to disk.
+     */
+    public void force() {
+        _map.force();
+    }
+
+    /**
+     * Write everything to disk and close the file.
+     *
+     * @throws IOException
+     *             This method throws if the close fails.
+     */
+    public void close() throws IOException {
+        force();
+        Log.unmap( _map );
+        _map = null;
+        _raf.close();
+    }
+
+    /**
+     * Find the slot that holds the given fingerprint, or the empty slot where
+     * it would go.
+     */
+    private int find(byte[] fingerprint) {
+        int mask = _capacity - 1;
+        int slot = (int) (start( fingerprint ) & mask);
+        while (true) {
+            if (empty( slot ))
+                return slot;
+
+            _map.position( slotOffset( slot ) );
+            _map.get( _probe );
+            if (Arrays.equals( _probe, fingerprint ))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean empty(int slot) {
+        int offset = slotOffset( slot );
+        return _map.getLong( offset ) == 0 && _map.getLong( offset + 8 ) == 0;
+    }
+
+    /**
+     * Move every fingerprint into a table twice the size, made in a new file
+     * which then takes the place of the old one. Windows won't rename a file
+     * that is open or mapped, or over one that exists, so both tables are
+     * closed and the old one deleted before the new one is moved into place.
+     * If that fails partway, the index is rebuilt from the log when it is
+     * next opened.
+     */
+    private void grow() throws IOException {
+        if (_capacity >= MAX_CAPACITY)
+            throw new IOException( "the log index is full" );
+
+        File grown = new File( _file.getPath() + ".grow" );
+        RandomAccessFile raf = create( grown, _capacity * 2 );
+        MappedByteBuffer map = map( raf );
+
+        int capacity = _capacity * 2;
+        int mask = capacity - 1;
+        byte[] fingerprint = new byte[FINGERPRINT_SIZE];
+        for (int slot = 0; slot < _capacity; slot++) {
+            if (empty( slot ))
+                continue;
+            _map.position( slotOffset( slot ) );
+            _map.get( fingerprint );
+
+            int to = (int) (start( fingerprint ) & mask);
+            while (map.getLong( slotOffset( to ) ) != 0
+                    || map.getLong( slotOffset( to ) + 8 ) != 0)
+                to = (to + 1) & mask;
+            map.position( slotOffset( to ) );
+            map.put( fingerprint );
+        }
+
+        map.putInt( CAPACITY_AT, capacity );
+        map.putInt( COUNT_AT, _count );
+        map.putInt( SEGMENT_AT, getSegment() );
+        map.putInt( OFFSET_AT, getOffset() );
+        map.force();
+        Log.unmap( map );
+        raf.close();
+
+        Log.unmap( _map );
+        _map = null;
+        _raf.close();
+        if (!grown.renameTo( _file )
+                && !(_file.delete() && grown.renameTo( _file )))
+            throw new IOException( "couldn't replace " + _file + " with "
+                    + grown );
+        _raf = new RandomAccessFile( _file, "rw" );
+        _map = map( _raf );
+        _capacity = capacity;
+    }
+
+    private static RandomAccessFile create(File file, int capacity)
+            throws IOException {
+        RandomAccessFile raf = new RandomAccessFile( file, "rw" );
+        raf.setLength( 0 );
+        raf.setLength( HEADER_SIZE + (long) capacity * FINGERPRINT_SIZE );
+        raf.writeInt( MAGIC );
+        raf.writeInt( capacity );
+        return raf;
+    }
+
+    private static MappedByteBuffer map(RandomAccessFile raf)
+            throws IOException {
+        return raf.getChannel().map( FileChannel.MapMode.READ_WRITE, 0,
+            raf.length() );
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * FINGERPRINT_SIZE;
+    }
+
+    private static long start(byte[] fingerprint) {
+        long start = 0;
+        for (int i = 0; i < 8; i++)
+            start = (start << 8) | (fingerprint[i] & 0xff);
+        return start;
+    }
+}
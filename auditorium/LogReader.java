@@ -0,0 +1,113 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEBufferReader;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+/**
+ * Reads the messages in a log written by {@link Log}, in the order they were
+ * logged. Each segment of the log is mapped and its messages are parsed where
+ * they lie, rather than being streamed through an ASEInputStreamReader a byte
+ * at a time.
+ *
+ * @author Montrose
+ */
+public class LogReader {
+
+    private final File _location;
+    private final boolean _intern;
+    private int _segment = 0;
+    private ByteBuffer _map;
+    private ASEBufferReader _reader;
+
+    /**
+     * @param location
+     *            This is the location the log was written to. If there is
+     *            nothing there, the log is read as empty.
+     * @throws IOException
+     *             This method throws if the log can't be read.
+     */
+    public LogReader(File location) throws IOException {
+        this( location, true );
+    }
+
+    /**
+     * @param location
+     *            This is the location the log was written to. If there is
+     *            nothing there, the log is read as empty.
+     * @param intern
+     *            If false, the strings in the messages aren't interned, which
+     *            is quicker for a pass over a log that doesn't keep what it
+     *            reads.
+     * @throws IOException
+     *             This method throws if the log can't be read.
+     */
+    public LogReader(File location, boolean intern) throws IOException {
+        _location = location;
+        _intern = intern;
+        if (location.exists()) {
+            _map = Log.mapSegment( location );
+            _reader = new ASEBufferReader( _map, intern );
+        }
+    }
+
+    /**
+     * Read the next message in the log.
+     *
+     * @return This method returns the next message, as it was logged.
+     * @throws EOFException
+     *             This method throws when there are no more messages.
+     * @throws IOException
+     *             This method throws if a segment can't be read.
+     * @throws InvalidVerbatimStreamException
+     *             This method throws if a segment doesn't hold whole
+     *             s-expressions.
+     */
+    public ASExpression read() throws IOException,
+            InvalidVerbatimStreamException {
+        while (true) {
+            if (_map == null)
+                throw new EOFException( "End of log" );
+
+            ASExpression expression = _reader.read();
+            if (expression != null)
+                return expression;
+            if (_map.hasRemaining())
+                throw new InvalidVerbatimStreamException( "segment "
+                        + _segment + " of " + _location
+                        + " ends in the middle of a message" );
+
+            File next = Log.segmentFile( _location, ++_segment );
+            _map = next.exists() ? Log.mapSegment( next ) : null;
+            _reader = _map == null ? null : new ASEBufferReader( _map,
+                    _intern );
+        }
+    }
+}
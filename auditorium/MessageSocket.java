@@ -22,24 +22,37 @@
 
 package auditorium;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 
+import sexpression.ASExpression;
 import sexpression.stream.*;
 
 /**
  * This class wraps a socket that interfaces with the outside world in the form
  * of Message instances. This type of socket can only send and receive entire
- * auditorium messages.
+ * auditorium messages.<br>
+ * <br>
+ * Incoming bytes are read off the socket a buffer at a time and parsed out of
+ * the buffer by an {@link ASEFrameDecoder}, so a message that arrives in one
+ * piece is parsed where it lies.
  * 
  * @author kyle
  * 
  */
-public class MessageSocket {
+public class MessageSocket implements IMessageSocket {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
 
     private final ASEWriter _out;
-    private final ASEInputStreamReader _in;
+    private final InputStream _in;
+    private final ASEFrameDecoder _decoder = new ASEFrameDecoder();
+    private final ByteBuffer _buffer = ByteBuffer.wrap(
+        new byte[BUFFER_SIZE], 0, 0 );
     private final Socket _socket;
 
     /**
@@ -59,7 +72,7 @@ public class MessageSocket {
             _socket.connect( new InetSocketAddress( host.getIP(), host
                     .getPort() ), timeout );
             _out = new ASEWriter( _socket.getOutputStream() );
-            _in = new ASEInputStreamReader( _socket.getInputStream() );
+            _in = _socket.getInputStream();
         }
         catch (IOException e) {
             throw new NetworkException( "couldn't create socket", e );
@@ -79,7 +92,7 @@ public class MessageSocket {
         _socket = socket;
         try {
             _out = new ASEWriter( socket.getOutputStream() );
-            _in = new ASEInputStreamReader( socket.getInputStream() );
+            _in = socket.getInputStream();
         }
         catch (IOException e) {
             throw new NetworkException( "couldn't create socket", e );
@@ -116,7 +129,16 @@ public class MessageSocket {
      */
     public Message receive() throws NetworkException, IncorrectFormatException {
         try {
-            return new Message( _in.read() );
+            ASExpression expression;
+            while ((expression = _decoder.next( _buffer )) == null) {
+                // The decoder has taken everything in the buffer.
+                int n = _in.read( _buffer.array() );
+                if (n < 0)
+                    throw new EOFException( "End of stream" );
+                _buffer.clear();
+                _buffer.limit( n );
+            }
+            return new Message( expression );
         }
         catch (IOException e) {
             throw new NetworkException( "while receiving:" + e.getMessage(), e );
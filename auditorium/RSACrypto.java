@@ -22,16 +22,32 @@
 
 package auditorium;
 
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.RSAPrivateKeySpec;
 import java.security.spec.RSAPublicKeySpec;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import sexpression.*;
 
 /**
- * Crypto primitives used in auditorium are wrapped here.
+ * Crypto primitives used in auditorium are wrapped here.<br>
+ * <br>
+ * Keys are converted to their java.security form once and kept, and each
+ * thread keeps its own java.security.Signature objects, so signing and
+ * verifying don't go through the provider lookup every time. A signature
+ * that has verified is remembered, by the hash of the signature and its
+ * payload together with the key, so the same signature checked against the
+ * same key again (a certificate attached to every message from a host, or a
+ * message received over several links) isn't checked again.
  * 
  * @author kyle
  * 
@@ -40,6 +56,35 @@ public class RSACrypto {
 
     public static final RSACrypto SINGLETON = new RSACrypto();
 
+    /**
+     * The number of verified signatures remembered.
+     */
+    public static final int VERIFIED_CACHE_SIZE = 4096;
+
+    private static final String ALGORITHM = "SHA1withRSA";
+
+    private final Map<List<BigInteger>, PublicKey> _publicKeys = new ConcurrentHashMap<List<BigInteger>, PublicKey>();
+    private final Map<List<BigInteger>, PrivateKey> _privateKeys = new ConcurrentHashMap<List<BigInteger>, PrivateKey>();
+    private final ThreadLocal<java.security.Signature> _signature = new ThreadLocal<java.security.Signature>();
+
+    // Least recently used entries are dropped first.
+    private final Map<List<BigInteger>, Boolean> _verified = new LinkedHashMap<List<BigInteger>, Boolean>(
+            16, 0.75f, true ) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<List<BigInteger>, Boolean> eldest) {
+            return size() > VERIFIED_CACHE_SIZE;
+        }
+    };
+
+    // Statistics
+    private final AtomicLong _verifies = new AtomicLong();
+    private final AtomicLong _verifyHits = new AtomicLong();
+    private final AtomicLong _verifyNanos = new AtomicLong();
+
     private RSACrypto() {}
 
     /**
@@ -54,12 +99,15 @@ public class RSACrypto {
     public Signature sign(ASExpression data, Key key)
             throws AuditoriumCryptoException {
         try {
-            KeyFactory factory = KeyFactory.getInstance( "RSA" );
-            java.security.Signature sig = java.security.Signature
-                    .getInstance( "SHA1withRSA" );
-            PrivateKey privkey = factory
-                    .generatePrivate( new RSAPrivateKeySpec( key.getMod(), key
-                            .getKey() ) );
+            List<BigInteger> id = Arrays.asList( key.getMod(), key.getKey() );
+            PrivateKey privkey = _privateKeys.get( id );
+            if (privkey == null) {
+                privkey = KeyFactory.getInstance( "RSA" ).generatePrivate(
+                    new RSAPrivateKeySpec( key.getMod(), key.getKey() ) );
+                _privateKeys.put( id, privkey );
+            }
+
+            java.security.Signature sig = getSignature();
             sig.initSign( privkey );
             sig.update( data.toVerbatim() );
             return new Signature( key.getId(),
@@ -82,21 +130,94 @@ public class RSACrypto {
      */
     public void verify(Signature signature, Cert host)
             throws AuditoriumCryptoException {
+        long start = System.nanoTime();
+        _verifies.incrementAndGet();
         try {
-            KeyFactory factory = KeyFactory.getInstance( "RSA" );
-            java.security.Signature sig = java.security.Signature
-                    .getInstance( "SHA1withRSA" );
-            PublicKey pubkey = factory.generatePublic( new RSAPublicKeySpec(
-                    host.getKey().getMod(), host.getKey().getKey() ) );
+            BigInteger mod = host.getKey().getMod();
+            BigInteger exp = host.getKey().getKey();
+            List<BigInteger> verified = Arrays.asList( new BigInteger( 1,
+                    signature.toASE().getSHA1() ), mod, exp );
+            synchronized (_verified) {
+                if (_verified.containsKey( verified )) {
+                    _verifyHits.incrementAndGet();
+                    return;
+                }
+            }
+
+            List<BigInteger> id = Arrays.asList( mod, exp );
+            PublicKey pubkey = _publicKeys.get( id );
+            if (pubkey == null) {
+                pubkey = KeyFactory.getInstance( "RSA" ).generatePublic(
+                    new RSAPublicKeySpec( mod, exp ) );
+                _publicKeys.put( id, pubkey );
+            }
+
+            java.security.Signature sig = getSignature();
             sig.initVerify( pubkey );
             sig.update( signature.getPayload().toVerbatim() );
             if (!sig.verify( signature.getSigData().getBytesCopy() ))
                 throw new AuditoriumCryptoException( "verify signature",
                         new Exception( "Verification failure: " + signature
                                 + " not signed by " + host ) );
+
+            synchronized (_verified) {
+                _verified.put( verified, Boolean.TRUE );
+            }
         }
         catch (Exception e) {
             throw new AuditoriumCryptoException( "verify signature", e );
         }
+        finally {
+            _verifyNanos.addAndGet( System.nanoTime() - start );
+        }
+    }
+
+    /**
+     * @return This method returns the number of calls to verify so far.
+     */
+    public long getVerifyCount() {
+        return _verifies.get();
+    }
+
+    /**
+     * @return This method returns the fraction of calls to verify that were
+     *         answered from the cache of verified signatures.
+     */
+    public double getVerifyHitRate() {
+        long verifies = _verifies.get();
+        return verifies == 0 ? 0 : (double) _verifyHits.get() / verifies;
+    }
+
+    /**
+     * @return This method returns the average time, in nanoseconds, that a
+     *         call to verify took, counting cache hits.
+     */
+    public long getAverageVerifyNanos() {
+        long verifies = _verifies.get();
+        return verifies == 0 ? 0 : _verifyNanos.get() / verifies;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "RSACrypto: " + getVerifyCount() + " verifies, "
+                + Math.round( getVerifyHitRate() * 100 ) + "% cached, avg "
+                + getAverageVerifyNanos() / 1000 + "us";
+    }
+
+    /**
+     * Get this thread's signature engine, making it if this is the thread's
+     * first use.
+     */
+    private java.security.Signature getSignature()
+            throws GeneralSecurityException {
+        java.security.Signature sig = _signature.get();
+        if (sig == null) {
+            sig = java.security.Signature.getInstance( ALGORITHM );
+            _signature.set( sig );
+        }
+        return sig;
     }
 }
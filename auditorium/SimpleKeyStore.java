@@ -76,7 +76,7 @@ public class SimpleKeyStore implements IKeyStore {
 	 * 
 	 * @see auditorium.IKeyStore#loadKey(java.lang.String)
 	 */
-	public Key loadKey(String nodeid) throws AuditoriumCryptoException {
+	public synchronized Key loadKey(String nodeid) throws AuditoriumCryptoException {
 		if (! _keyCache.containsKey(nodeid)) {
 			try {
 				_keyCache.put(nodeid, 
@@ -95,7 +95,7 @@ public class SimpleKeyStore implements IKeyStore {
 	 * 
 	 * @see auditorium.IKeyStore#loadCert(java.lang.String)
 	 */
-	public Cert loadCert(String nodeid) throws AuditoriumCryptoException {
+	public synchronized Cert loadCert(String nodeid) throws AuditoriumCryptoException {
 		if (! _certCache.containsKey(nodeid)) {
 			try {
 				_certCache.put(nodeid, 
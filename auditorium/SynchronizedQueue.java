@@ -86,6 +86,38 @@ public class SynchronizedQueue<T> {
         return _queue.poll();
     }
 
+    /**
+     * Like pop(), but gives up if nothing is placed in the queue within the
+     * given time.
+     * 
+     * @param timeout
+     *            Wait at most this many milliseconds.
+     * @return This method returns the least recently added S-Expression, or
+     *         null if none was added before the timeout.
+     * @throws ReleasedQueueException
+     *             This method throws if another thread calls releaseThreads().
+     */
+    public synchronized T pop(long timeout) throws ReleasedQueueException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (_queue.isEmpty() && !_release) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0)
+                return null;
+            try {
+                wait( remaining );
+            }
+            catch (InterruptedException e) {
+                throw new FatalNetworkException(
+                        "Couldn't wait on the synchronized queue.", e );
+            }
+        }
+
+        if (_release)
+            throw ReleasedQueueException.SINGLETON;
+
+        return _queue.poll();
+    }
+
     /**
      * Get the number of elements that are in the queue.
      * 
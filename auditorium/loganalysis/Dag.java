@@ -25,7 +25,6 @@ package auditorium.loganalysis;
 import java.io.CharArrayReader;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -53,6 +52,28 @@ public class Dag {
                                     "(announce(host #string #string #string) #string (signed-message (cert (signature #string #string (key #string #string #string #string)))(signature #string #string (succeeds #list:(ptr #string #string #string) #any))))" )
                                     .toCharArray() ) ) ).read();
 
+    /**
+     * An announcement signed as part of a batch. Besides what PATTERN finds,
+     * matching this finds the batch's root at 12 and the inclusion proof at
+     * 13, which moves the succeeds pointers and the payload to 14 and 15.
+     */
+    public static final ASExpression BATCH_PATTERN = new Parser(
+            new Lexer(
+                    new CharArrayReader(
+                            new String(
+                                    "(announce(host #string #string #string) #string (batch-signed-message (cert (signature #string #string (key #string #string #string #string)))(signature #string #string #string) #any (succeeds #list:(ptr #string #string #string) #any)))" )
+                                    .toCharArray() ) ) ).read();
+
+    /**
+     * Where the succeeds pointers are in a match.
+     */
+    public static final int PREDECESSORS = 12;
+
+    /**
+     * Where the payload is in a match.
+     */
+    public static final int PAYLOAD = 13;
+
     private final String _filename;
     private final HashMap<MessagePointer, ArrayList<MessagePointer>> _dag;
 
@@ -71,8 +92,7 @@ public class Dag {
      */
     public void build() throws IOException, InvalidVerbatimStreamException,
             IncorrectFormatException {
-        ASEInputStreamReader reader = new ASEInputStreamReader(
-                new FileInputStream( new File( _filename ) ) );
+        LogReader reader = new LogReader( new File( _filename ) );
 
         try {
             while (true) {
@@ -80,9 +100,13 @@ public class Dag {
                 MessagePointer ptr = new MessagePointer( new Message( message ) );
 
                 ArrayList<MessagePointer> predlist = new ArrayList<MessagePointer>();
-                ListExpression matchresult = (ListExpression) PATTERN
-                        .match( message );
-                for (ASExpression ase : (ListExpression) matchresult.get( 12 ))
+                ASExpression matchresult = match( message );
+                if (matchresult == NoMatch.SINGLETON)
+                    throw new IncorrectFormatException( message,
+                            new Exception( "not a signed announcement" ) );
+                ASExpression preds = ((ListExpression) matchresult)
+                        .get( PREDECESSORS );
+                for (ASExpression ase : (ListExpression) preds)
                     predlist.add( new MessagePointer( ase ) );
                 _dag.put( ptr, predlist );
             }
@@ -90,6 +114,36 @@ public class Dag {
         catch (EOFException e) {}
     }
 
+    /**
+     * Match an announcement, whether it was signed by itself or as part of a
+     * batch.
+     * 
+     * @param message
+     *            Match this message.
+     * @return This method returns what matching PATTERN does, with the
+     *         succeeds pointers at {@link #PREDECESSORS} and the payload at
+     *         {@link #PAYLOAD}, or NoMatch.SINGLETON if the message is
+     *         neither kind of announcement.
+     */
+    public static ASExpression match(ASExpression message) {
+        ASExpression result = PATTERN.match( message );
+        if (result != NoMatch.SINGLETON)
+            return result;
+
+        result = BATCH_PATTERN.match( message );
+        if (result == NoMatch.SINGLETON)
+            return result;
+
+        // Leave out the root and the proof.
+        ListExpression batch = (ListExpression) result;
+        ASExpression[] parts = new ASExpression[batch.size() - 2];
+        for (int lcv = 0; lcv < PREDECESSORS; lcv++)
+            parts[lcv] = batch.get( lcv );
+        parts[PREDECESSORS] = batch.get( PREDECESSORS + 2 );
+        parts[PAYLOAD] = batch.get( PAYLOAD + 2 );
+        return new ListExpression( parts );
+    }
+
     /**
      * @return This method returns the dag structure that is wrapped by this
      *         instance.
@@ -0,0 +1,692 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.loganalysis;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.GZIPInputStream;
+
+import auditorium.Log;
+
+import sexpression.*;
+import sexpression.stream.*;
+
+/**
+ * Computes what {@link Dag} and {@link LogCounter} do (branch statistics,
+ * message counts) plus the longest chain of messages, in one pass over logs
+ * too big to hold as expressions. The input is cut into chunks at message
+ * boundaries, the chunks are parsed and matched on a pool of threads, and only
+ * primitive results come back: each message's host, sequence number, type and
+ * predecessors. Those are merged into int arrays on the calling thread. Only
+ * a bounded number of chunks are in memory at once, so the memory used grows
+ * with the number of distinct messages, not with the size of the input.<br>
+ * <br>
+ * A message seen more than once (every booth logs the messages it hears, so
+ * the booth logs of one election overlap) is counted once. Besides a log,
+ * {@link #analyze(File)} reads a tar of logs, gzipped or not, straight out of
+ * the archive.
+ * 
+ * @author kyle
+ * 
+ */
+public class LogAnalysis {
+
+    /**
+     * Chunks are cut at the first message boundary past this many bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private static final long EMPTY = -1L;
+
+    private final int _threads;
+    private final int _chunkSize;
+
+    // host name <--> host id
+    private final HashMap<String, Integer> _hostIds = new HashMap<String, Integer>();
+    private final ArrayList<String> _hosts = new ArrayList<String>();
+    private int[] _hostCounts = new int[16];
+
+    // message type --> count
+    private final HashMap<String, int[]> _typeCounts = new HashMap<String, int[]>();
+
+    // (host id << 32 | seq) --> node id, open addressed
+    private long[] _keys = new long[1024];
+    private int[] _ids = new int[1024];
+    private int _nodes = 0;
+
+    // Per node id. A node is declared when something names it, and added when
+    // the message itself is read.
+    private boolean[] _added = new boolean[1024];
+    private int[] _branches = new int[1024];
+
+    // edge e runs from message _from[e] back to its predecessor _to[e]
+    private int[] _from = new int[4096];
+    private int[] _to = new int[4096];
+    private int _edges = 0;
+
+    private int _messages = 0;
+    private int _duplicates = 0;
+    private int _malformed = 0;
+    private int _longest = -1;
+
+    /**
+     * Analyze with a thread per processor and the default chunk size.
+     */
+    public LogAnalysis() {
+        this( Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE );
+    }
+
+    /**
+     * @param threads
+     *            Parse chunks on this many threads.
+     * @param chunkSize
+     *            Cut the input into chunks of about this many bytes.
+     */
+    public LogAnalysis(int threads, int chunkSize) {
+        if (threads < 1 || chunkSize < 1)
+            throw new IllegalArgumentException( "threads=" + threads
+                    + " chunkSize=" + chunkSize );
+        _threads = threads;
+        _chunkSize = chunkSize;
+        Arrays.fill( _keys, EMPTY );
+    }
+
+    /**
+     * Add the messages in the given file to the analysis. A file whose name
+     * ends in .tgz, .tar.gz or .tar is read as an archive of logs, and every
+     * file in it is analyzed. Anything else is read as an auditorium log,
+     * with all of its segments (see {@link Log#open(File)}).
+     * 
+     * @param file
+     *            Read messages from this file.
+     * @throws IOException
+     *             This method throws if the file can't be read.
+     */
+    public void analyze(File file) throws IOException {
+        String name = file.getName();
+        if (name.endsWith( ".tgz" ) || name.endsWith( ".tar.gz" ))
+            analyzeTar( new GZIPInputStream( new FileInputStream( file ),
+                    64 * 1024 ) );
+        else if (name.endsWith( ".tar" ))
+            analyzeTar( new BufferedInputStream( new FileInputStream( file ),
+                    64 * 1024 ) );
+        else {
+            InputStream in = Log.open( file );
+            try {
+                analyze( in );
+            }
+            finally {
+                in.close();
+            }
+        }
+    }
+
+    private void analyzeTar(InputStream in) throws IOException {
+        try {
+            TarReader tar = new TarReader( in );
+            while (tar.next() != null)
+                analyze( tar.entry() );
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Add the messages in the given stream to the analysis. The stream is
+     * read to its end but not closed.
+     * 
+     * @param in
+     *            Read verbatim messages, back to back, from this stream.
+     * @throws IOException
+     *             This method throws if the stream can't be read.
+     */
+    public void analyze(InputStream in) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool( _threads,
+            new ThreadFactory() {
+
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread( r, "log-analysis" );
+                    t.setDaemon( true );
+                    return t;
+                }
+            } );
+        LinkedList<Future<Chunk>> pending = new LinkedList<Future<Chunk>>();
+
+        try {
+            Splitter splitter = new Splitter( in, _chunkSize );
+            byte[] chunk;
+            while ((chunk = splitter.next()) != null) {
+                // Merge in order, and keep two chunks per thread in flight at
+                // most, so a fast reader can't fill the heap.
+                if (pending.size() >= 2 * _threads)
+                    merge( pending.removeFirst() );
+                final byte[] bytes = chunk;
+                pending.add( pool.submit( new Callable<Chunk>() {
+
+                    public Chunk call() {
+                        return parse( bytes );
+                    }
+                } ) );
+            }
+            while (!pending.isEmpty())
+                merge( pending.removeFirst() );
+        }
+        finally {
+            pool.shutdownNow();
+        }
+        _longest = -1;
+    }
+
+    private void merge(Future<Chunk> future) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "interrupted" );
+        }
+        catch (ExecutionException e) {
+            IOException ioe = new IOException( "parsing a chunk failed" );
+            ioe.initCause( e.getCause() );
+            throw ioe;
+        }
+
+        _malformed += chunk.malformed;
+        int pred = 0;
+        for (int lcv = 0; lcv < chunk.count; lcv++) {
+            int host = host( chunk.hosts[lcv] );
+            int node = declare( host, chunk.seqs[lcv] );
+            int branches = chunk.branches[lcv];
+            if (_added[node]) {
+                _duplicates++;
+                pred += branches;
+                continue;
+            }
+
+            _added[node] = true;
+            _branches[node] = branches;
+            _messages++;
+            _hostCounts[host]++;
+            int[] type = _typeCounts.get( chunk.types[lcv] );
+            if (type == null)
+                _typeCounts.put( chunk.types[lcv], type = new int[1] );
+            type[0]++;
+
+            for (int end = pred + branches; pred < end; pred++) {
+                int to = declare( host( chunk.predHosts[pred] ),
+                    chunk.predSeqs[pred] );
+                if (_edges == _from.length) {
+                    _from = Arrays.copyOf( _from, _edges * 2 );
+                    _to = Arrays.copyOf( _to, _edges * 2 );
+                }
+                _from[_edges] = node;
+                _to[_edges] = to;
+                _edges++;
+            }
+        }
+    }
+
+    private int host(String name) {
+        Integer id = _hostIds.get( name );
+        if (id == null) {
+            id = _hosts.size();
+            _hostIds.put( name, id );
+            _hosts.add( name );
+            if (id == _hostCounts.length)
+                _hostCounts = Arrays.copyOf( _hostCounts, id * 2 );
+        }
+        return id;
+    }
+
+    private int declare(int host, int seq) {
+        long key = ((long) host << 32) | (seq & 0xffffffffL);
+        int mask = _keys.length - 1;
+        int slot = slot( key, mask );
+        while (_keys[slot] != EMPTY) {
+            if (_keys[slot] == key)
+                return _ids[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        int id = _nodes++;
+        _keys[slot] = key;
+        _ids[slot] = id;
+        if (id == _added.length) {
+            _added = Arrays.copyOf( _added, id * 2 );
+            _branches = Arrays.copyOf( _branches, id * 2 );
+        }
+        // Keep the table at most half full.
+        if (_nodes * 2 > _keys.length)
+            rehash();
+        return id;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void rehash() {
+        long[] keys = _keys;
+        int[] ids = _ids;
+        _keys = new long[keys.length * 2];
+        _ids = new int[keys.length * 2];
+        Arrays.fill( _keys, EMPTY );
+        int mask = _keys.length - 1;
+        for (int lcv = 0; lcv < keys.length; lcv++) {
+            if (keys[lcv] == EMPTY)
+                continue;
+            int slot = slot( keys[lcv], mask );
+            while (_keys[slot] != EMPTY)
+                slot = (slot + 1) & mask;
+            _keys[slot] = keys[lcv];
+            _ids[slot] = ids[lcv];
+        }
+    }
+
+    /**
+     * @return This method returns the number of distinct messages analyzed.
+     */
+    public int getMessageCount() {
+        return _messages;
+    }
+
+    /**
+     * @return This method returns how many messages were skipped because the
+     *         same message had already been analyzed.
+     */
+    public int getDuplicateCount() {
+        return _duplicates;
+    }
+
+    /**
+     * @return This method returns how many messages couldn't be parsed or
+     *         weren't auditorium announcements. A chunk that isn't valid
+     *         verbatim data is given up on at the first bad byte, so this
+     *         counts each such chunk once.
+     */
+    public int getMalformedCount() {
+        return _malformed;
+    }
+
+    /**
+     * @return This method returns the number of succeeds pointers in the
+     *         distinct messages.
+     */
+    public int getEdgeCount() {
+        return _edges;
+    }
+
+    /**
+     * @return This method returns how many messages were pointed to but never
+     *         seen themselves.
+     */
+    public int getMissingCount() {
+        return _nodes - _messages;
+    }
+
+    /**
+     * Query the analysis for information about branch rates.
+     * 
+     * @return This method returns the histogram of branch rates in the same
+     *         form as {@link Dag#getBranchStatistics()}.
+     */
+    public HashMap<Integer, Integer> getBranchStatistics() {
+        HashMap<Integer, Integer> ret = new HashMap<Integer, Integer>();
+        for (int node = 0; node < _nodes; node++) {
+            if (!_added[node])
+                continue;
+            Integer num = _branches[node];
+            Integer old = ret.get( num );
+            ret.put( num, old == null ? 1 : old + 1 );
+        }
+        return ret;
+    }
+
+    /**
+     * @return This method returns host id->number of distinct messages that
+     *         host sent.
+     */
+    public HashMap<String, Integer> getHostCounts() {
+        HashMap<String, Integer> ret = new HashMap<String, Integer>();
+        for (int lcv = 0; lcv < _hosts.size(); lcv++)
+            if (_hostCounts[lcv] > 0)
+                ret.put( _hosts.get( lcv ), _hostCounts[lcv] );
+        return ret;
+    }
+
+    /**
+     * @return This method returns message type->number of distinct messages
+     *         of that type. A message's type is the first string of its
+     *         payload.
+     */
+    public HashMap<String, Integer> getTypeCounts() {
+        HashMap<String, Integer> ret = new HashMap<String, Integer>();
+        for (String type : _typeCounts.keySet())
+            ret.put( type, _typeCounts.get( type )[0] );
+        return ret;
+    }
+
+    /**
+     * Find the longest chain of messages, each of which points to the one
+     * before it. Predecessors that were never seen aren't part of any chain.
+     * 
+     * @return This method returns the number of messages in the longest chain,
+     *         or 0 if there are none. Messages caught in a cycle (which a
+     *         well-formed log can't contain) are left out.
+     */
+    public int getLongestChain() {
+        if (_longest >= 0)
+            return _longest;
+
+        // Successors of each node, as compressed rows, and how many of each
+        // node's predecessors were seen.
+        int[] start = new int[_nodes + 1];
+        int[] waiting = new int[_nodes];
+        for (int e = 0; e < _edges; e++) {
+            if (!_added[_to[e]])
+                continue;
+            start[_to[e] + 1]++;
+            waiting[_from[e]]++;
+        }
+        for (int node = 0; node < _nodes; node++)
+            start[node + 1] += start[node];
+        int[] successors = new int[start[_nodes]];
+        int[] fill = Arrays.copyOf( start, _nodes );
+        for (int e = 0; e < _edges; e++)
+            if (_added[_to[e]])
+                successors[fill[_to[e]]++] = _from[e];
+
+        // Walk forward from the messages with no seen predecessors.
+        int[] depth = new int[_nodes];
+        int[] queue = new int[_nodes];
+        int head = 0, tail = 0;
+        for (int node = 0; node < _nodes; node++) {
+            if (_added[node] && waiting[node] == 0) {
+                depth[node] = 1;
+                queue[tail++] = node;
+            }
+        }
+
+        int longest = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            longest = Math.max( longest, depth[node] );
+            for (int lcv = start[node]; lcv < start[node + 1]; lcv++) {
+                int next = successors[lcv];
+                depth[next] = Math.max( depth[next], depth[node] + 1 );
+                if (--waiting[next] == 0)
+                    queue[tail++] = next;
+            }
+        }
+
+        _longest = longest;
+        return longest;
+    }
+
+    /**
+     * Parse one chunk into primitive results. This runs on the pool, so it
+     * doesn't touch the analysis.
+     */
+    private static Chunk parse(byte[] bytes) {
+        Chunk chunk = new Chunk();
+        ByteBuffer buffer = ByteBuffer.wrap( bytes );
+        ASEBufferReader reader = new ASEBufferReader( buffer, false );
+        try {
+            ASExpression message;
+            while ((message = reader.read()) != null) {
+                ASExpression result = Dag.match( message );
+                if (result == NoMatch.SINGLETON) {
+                    chunk.malformed++;
+                    continue;
+                }
+                chunk.add( (ListExpression) result );
+            }
+            // The input ended partway through a message.
+            if (buffer.hasRemaining())
+                chunk.malformed++;
+        }
+        catch (InvalidVerbatimStreamException e) {
+            chunk.malformed++;
+        }
+        return chunk;
+    }
+
+    /**
+     * The messages of one chunk. Predecessors are packed back to back, in the
+     * order of the messages they belong to.
+     */
+    private static class Chunk {
+
+        int count = 0;
+        int malformed = 0;
+        String[] hosts = new String[256];
+        String[] types = new String[256];
+        int[] seqs = new int[256];
+        int[] branches = new int[256];
+
+        int preds = 0;
+        String[] predHosts = new String[512];
+        int[] predSeqs = new int[512];
+
+        void add(ListExpression match) {
+            ListExpression ptrs = (ListExpression) match
+                    .get( Dag.PREDECESSORS );
+            int seq;
+            int[] predSeqs = new int[ptrs.size()];
+            try {
+                seq = Integer.parseInt( match.get( 3 ).toString() );
+                for (int lcv = 0; lcv < predSeqs.length; lcv++)
+                    predSeqs[lcv] = Integer
+                            .parseInt( ((ListExpression) ptrs.get( lcv ))
+                                    .get( 2 ).toString() );
+            }
+            catch (NumberFormatException e) {
+                malformed++;
+                return;
+            }
+
+            if (count == seqs.length) {
+                hosts = Arrays.copyOf( hosts, count * 2 );
+                types = Arrays.copyOf( types, count * 2 );
+                seqs = Arrays.copyOf( seqs, count * 2 );
+                branches = Arrays.copyOf( branches, count * 2 );
+            }
+            hosts[count] = match.get( 0 ).toString();
+            types[count] = type( match.get( Dag.PAYLOAD ) );
+            seqs[count] = seq;
+            branches[count] = predSeqs.length;
+            count++;
+
+            for (int lcv = 0; lcv < predSeqs.length; lcv++) {
+                if (preds == this.predSeqs.length) {
+                    predHosts = Arrays.copyOf( predHosts, preds * 2 );
+                    this.predSeqs = Arrays.copyOf( this.predSeqs, preds * 2 );
+                }
+                predHosts[preds] = ((ListExpression) ptrs.get( lcv )).get( 1 )
+                        .toString();
+                this.predSeqs[preds] = predSeqs[lcv];
+                preds++;
+            }
+        }
+
+        private static String type(ASExpression payload) {
+            if (payload instanceof ListExpression
+                    && payload.size() > 0
+                    && ((ListExpression) payload).get( 0 ) instanceof StringExpression)
+                return ((ListExpression) payload).get( 0 ).toString();
+            return payload.toString();
+        }
+    }
+
+    /**
+     * Cuts a stream of verbatim messages into chunks that end on message
+     * boundaries. Only the structure is looked at: string bodies are skipped
+     * by their length, so a message is never parsed here.
+     */
+    private static class Splitter {
+
+        private final InputStream _in;
+        private final int _chunkSize;
+
+        private byte[] _buf;
+        private int _size = 0;
+        private boolean _eof = false;
+
+        // scan state, which carries over from one read to the next
+        private int _scanned = 0;
+        private int _boundary = 0;
+        private int _depth = 0;
+        private int _length = -1;
+        private int _remaining = 0;
+
+        Splitter(InputStream in, int chunkSize) {
+            _in = in;
+            _chunkSize = chunkSize;
+            _buf = new byte[Math.max( chunkSize, 4096 ) + 4096];
+        }
+
+        /**
+         * @return the next chunk, or null at the end of the stream
+         */
+        byte[] next() throws IOException {
+            while (!_eof && (_boundary < _chunkSize || _boundary == 0)) {
+                if (_size == _buf.length)
+                    _buf = Arrays.copyOf( _buf, _buf.length * 2 );
+                int n = _in.read( _buf, _size, _buf.length - _size );
+                if (n < 0)
+                    _eof = true;
+                else {
+                    _size += n;
+                    scan();
+                }
+            }
+
+            int cut = _eof ? _size : _boundary;
+            if (cut == 0)
+                return null;
+            byte[] chunk = Arrays.copyOf( _buf, cut );
+            System.arraycopy( _buf, cut, _buf, 0, _size - cut );
+            _size -= cut;
+            _scanned -= cut;
+            _boundary = 0;
+            return chunk;
+        }
+
+        private void scan() {
+            while (_scanned < _size) {
+                if (_remaining > 0) {
+                    int n = Math.min( _remaining, _size - _scanned );
+                    _scanned += n;
+                    _remaining -= n;
+                    if (_remaining == 0 && _depth == 0)
+                        _boundary = _scanned;
+                    continue;
+                }
+
+                byte b = _buf[_scanned++];
+                if (_length >= 0) {
+                    if (b == ':') {
+                        _remaining = _length;
+                        _length = -1;
+                        if (_remaining == 0 && _depth == 0)
+                            _boundary = _scanned;
+                    }
+                    else
+                        _length = _length * 10 + (b - '0');
+                }
+                else if (b >= '0' && b <= '9')
+                    _length = b - '0';
+                else if (b == '(')
+                    _depth++;
+                else if (b == ')') {
+                    if (_depth > 0)
+                        _depth--;
+                    if (_depth == 0)
+                        _boundary = _scanned;
+                }
+            }
+        }
+    }
+
+    /**
+     * Analyze each file named on the command line and print the results.
+     * 
+     * @param args
+     *            Log files or archives of them, optionally preceded by
+     *            threads=N and chunk=BYTES.
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        ArrayList<File> files = new ArrayList<File>();
+        for (String arg : args) {
+            if (arg.startsWith( "threads=" ))
+                threads = Integer.parseInt( arg.substring( 8 ) );
+            else if (arg.startsWith( "chunk=" ))
+                chunkSize = Integer.parseInt( arg.substring( 6 ) );
+            else
+                files.add( new File( arg ) );
+        }
+
+        long time = System.currentTimeMillis();
+        LogAnalysis analysis = new LogAnalysis( threads, chunkSize );
+        for (File file : files)
+            analysis.analyze( file );
+
+        System.out.println( "messages: " + analysis.getMessageCount() );
+        System.out.println( "duplicates: " + analysis.getDuplicateCount() );
+        System.out.println( "malformed: " + analysis.getMalformedCount() );
+        System.out.println( "missing: " + analysis.getMissingCount() );
+        System.out.println( "edges: " + analysis.getEdgeCount() );
+        System.out.println( "longest chain: " + analysis.getLongestChain() );
+        System.out.println( "hosts:" );
+        HashMap<String, Integer> hosts = analysis.getHostCounts();
+        for (String host : hosts.keySet())
+            System.out.println( "  " + host + ": " + hosts.get( host ) );
+        System.out.println( "types:" );
+        HashMap<String, Integer> types = analysis.getTypeCounts();
+        for (String type : types.keySet())
+            System.out.println( "  " + type + ": " + types.get( type ) );
+        System.out.println( "branches:" );
+        HashMap<Integer, Integer> branches = analysis.getBranchStatistics();
+        for (Integer num : branches.keySet())
+            System.out.println( "  " + num + ":" + branches.get( num ) );
+        System.err.println( (System.currentTimeMillis() - time) + "ms" );
+    }
+}
@@ -22,16 +22,13 @@
 
 package auditorium.loganalysis;
 
-import java.io.CharArrayReader;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.EOFException;
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import auditorium.*;
 import sexpression.*;
-import sexpression.lexer.Lexer;
-import sexpression.parser.Parser;
 import sexpression.stream.*;
 
 /**
@@ -39,24 +36,19 @@ import sexpression.stream.*;
  * [machine number]\n<br>
  * [message num] [message num] ... (if ** that means it's out of order)
  * 
- * [branch factor]:[branch number]
+ * [branch factor]:[branch number]<br>
+ * <br>
+ * {@link LogAnalysis} computes the same counts, in parallel and without
+ * holding the messages, for logs too big for this.
  * 
  * @author kyle
  * 
  */
 public class LogCounter {
 
-    public static final ASExpression PATTERN = new Parser(
-            new Lexer(
-                    new CharArrayReader(
-                            new String(
-                                    "(announce(host #string #string #string) #string (signed-message (cert (signature #string #string (key #string #string #string #string)))(signature #string #string (succeeds #listof:(ptr #string #string #string) #any))))" )
-                                    .toCharArray() ) ) ).read();
-
     public static void main(String[] args) throws Exception {
         long count = 0;
-        ASEInputStreamReader rd = new ASEInputStreamReader(
-                new FileInputStream( args[0] ) );
+        LogReader rd = new LogReader( new File( args[0] ) );
         HashMap<String, ArrayList<Integer>> map = new HashMap<String, ArrayList<Integer>>();
         int[] branches = new int[1000];
 
@@ -71,9 +63,8 @@ public class LogCounter {
                     map.put( m.getFrom().getNodeId(), message );
                 }
                 message.add( Integer.parseInt( m.getSequence() ) );
-                ListExpression list = (ListExpression) PATTERN
-                        .match( m.toASE() );
-                branches[list.get( 12 ).size()]++;
+                ListExpression list = (ListExpression) Dag.match( m.toASE() );
+                branches[list.get( Dag.PREDECESSORS ).size()]++;
                 count++;
             }
         }
@@ -0,0 +1,160 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.loganalysis;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the regular files out of a tar archive one after another, as streams,
+ * without unpacking it anywhere. Only what the ustar format needs for plain
+ * files is understood: a 512 byte header giving the name and size, then the
+ * contents padded out to a multiple of 512 bytes. Anything that isn't a
+ * regular file (directories, links) is skipped.
+ * 
+ * @author kyle
+ * 
+ */
+public class TarReader {
+
+    private static final int BLOCK = 512;
+
+    private final InputStream _in;
+    private long _remaining = 0;
+    private long _padding = 0;
+    private boolean _done = false;
+
+    /**
+     * @param in
+     *            Read the archive from this stream (already decompressed).
+     */
+    public TarReader(InputStream in) {
+        _in = in;
+    }
+
+    /**
+     * Skip to the next regular file in the archive.
+     * 
+     * @return This method returns the file's name, or null if there are no
+     *         more. Its contents are read from the stream entry() returns.
+     * @throws IOException
+     *             This method throws if the archive is cut short.
+     */
+    public String next() throws IOException {
+        byte[] header = new byte[BLOCK];
+        while (!_done) {
+            skip( _remaining + _padding );
+            _remaining = 0;
+            _padding = 0;
+
+            if (!readFully( header )) {
+                _done = true;
+                break;
+            }
+            // The archive ends with zeroed blocks.
+            if (header[0] == 0) {
+                _done = true;
+                break;
+            }
+
+            String name = string( header, 0, 100 );
+            long size = octal( header, 124, 12 );
+            byte type = header[156];
+            _remaining = size;
+            _padding = (BLOCK - size % BLOCK) % BLOCK;
+            if (type == '0' || type == 0)
+                return name;
+        }
+        return null;
+    }
+
+    /**
+     * @return This method returns a stream over the contents of the file
+     *         next() last returned. It ends where the file does.
+     */
+    public InputStream entry() {
+        return new InputStream() {
+
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read( b, 0, 1 ) < 0 ? -1 : b[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (_remaining == 0)
+                    return -1;
+                int n = _in.read( b, off, (int) Math.min( len, _remaining ) );
+                if (n < 0)
+                    throw new EOFException( "tar entry cut short" );
+                _remaining -= n;
+                return n;
+            }
+        };
+    }
+
+    private boolean readFully(byte[] block) throws IOException {
+        int read = 0;
+        while (read < block.length) {
+            int n = _in.read( block, read, block.length - read );
+            if (n < 0) {
+                if (read == 0)
+                    return false;
+                throw new EOFException( "tar header cut short" );
+            }
+            read += n;
+        }
+        return true;
+    }
+
+    private void skip(long n) throws IOException {
+        byte[] discard = new byte[BLOCK * 8];
+        while (n > 0) {
+            int got = _in.read( discard, 0, (int) Math.min( n, discard.length ) );
+            if (got < 0)
+                throw new EOFException( "tar entry cut short" );
+            n -= got;
+        }
+    }
+
+    private static String string(byte[] header, int off, int len) {
+        int end = off;
+        while (end < off + len && header[end] != 0)
+            end++;
+        return new String( header, off, end - off );
+    }
+
+    private static long octal(byte[] header, int off, int len) {
+        long value = 0;
+        for (int lcv = off; lcv < off + len; lcv++) {
+            byte b = header[lcv];
+            if (b >= '0' && b <= '7')
+                value = value * 8 + (b - '0');
+            else if (value > 0 || (b != ' ' && b != 0))
+                break;
+        }
+        return value;
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.runner.*;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+  BoundedQueueTest.class,
   CertTest.class,
   CryptoTest.class,
   HostPointerTest.class,
@@ -34,6 +35,7 @@ import org.junit.runner.*;
   KeyStoreTest.class,
   KeyTest.class,
   LinkTest.class,
+  LogAnalysisTest.class,
   LogTest.class,
   MessagePointerTest.class,
   MessageTest.class,
@@ -0,0 +1,193 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import sexpression.*;
+import auditorium.*;
+import auditorium.Generator.Keys;
+
+/**
+ * Writes a log the way a host does with announcement batching on. Each batch
+ * goes through the temporal and integrity layers together, then every
+ * announcement in it is logged and received, so the next batch succeeds it.
+ * A batch of one is signed on its own, as a host does when only one
+ * announcement was waiting.
+ */
+public class BatchedLog {
+
+    private final File _location;
+    private final Log _log;
+    private final HostPointer _me = new HostPointer( "booth", "127.0.0.1",
+            9700 );
+    private final AuditoriumIntegrityLayer _integrity;
+    private final AuditoriumTemporalLayer _temporal;
+    private int _sequence = 0;
+
+    private final IAuditoriumHost _host = new IAuditoriumHost() {
+
+        public ASExpression getAddresses() {
+            throw new RuntimeException( "unused" );
+        }
+
+        public Log getLog() {
+            return _log;
+        }
+
+        public HostPointer getMe() {
+            return _me;
+        }
+
+        public String getNodeId() {
+            return _me.getNodeId();
+        }
+
+        public void receiveAnnouncement(Message message) {
+            throw new RuntimeException( "unused" );
+        }
+
+        public void removeLink(Link link) {
+            throw new RuntimeException( "unused" );
+        }
+
+        public String nextSequence() {
+            throw new RuntimeException( "unused" );
+        }
+    };
+
+    /**
+     * @param location
+     *            Write the log here. Whatever log was there before is
+     *            deleted first.
+     */
+    public BatchedLog(File location) throws Exception {
+        delete( location );
+        _location = location;
+        _log = new Log( location );
+
+        Generator gen = new Generator();
+        Keys ca = gen.generateKey( "ca", "ca" );
+        Keys my = gen.generateKey( _me.getNodeId(), "booth" );
+        final Key mykey = my.getPrivate();
+        final Cert mycert = new Cert( RSACrypto.SINGLETON.sign( my.getPublic()
+                .toASE(), ca.getPrivate() ) );
+        final Cert cacert = new Cert( RSACrypto.SINGLETON.sign( ca.getPublic()
+                .toASE(), ca.getPrivate() ) );
+        IKeyStore keystore = new IKeyStore() {
+
+            public Cert loadCert(String nodeid) {
+                if (nodeid.equals( "ca" ))
+                    return cacert;
+                return mycert;
+            }
+
+            public Key loadKey(String nodeid) {
+                return mykey;
+            }
+
+            public Object loadAdderKey(String nodeid) {
+                return null;
+            }
+        };
+
+        _integrity = new AuditoriumIntegrityLayer( AAuditoriumLayer.BOTTOM,
+                _host, keystore );
+        _temporal = new AuditoriumTemporalLayer( _integrity, _host );
+    }
+
+    /**
+     * Announce a batch.
+     * 
+     * @param payloads
+     *            These are the announcements in the batch, in the order they
+     *            were made.
+     */
+    public void announce(String... payloads) throws Exception {
+        ArrayList<ASExpression> batch = new ArrayList<ASExpression>();
+        for (String payload : payloads)
+            batch.add( ASExpression.make( payload ) );
+
+        List<ASExpression> data = _temporal.makeAnnouncements( batch );
+        for (ASExpression datum : data) {
+            _log.logAnnouncement( new Message( "announce", _me, Integer
+                    .toString( _sequence++ ), datum ) );
+            _temporal.receiveAnnouncement( datum );
+        }
+    }
+
+    /**
+     * Finish writing the log.
+     */
+    public void close() throws IOException {
+        _integrity.shutdown();
+        _log.close();
+    }
+
+    /**
+     * Write a small election: polls open, two voters are authorized, cast
+     * and have their ballots received, and polls close. Each batch but the
+     * last two holds a step for each voter, and every announcement succeeds
+     * the last one of the batch before, so each voter's steps are in order
+     * along the booth's chain.
+     * 
+     * @param location
+     *            Write the log here.
+     * @return This method returns how many messages were written.
+     */
+    public static int election(File location) throws Exception {
+        BatchedLog log = new BatchedLog( location );
+        try {
+            log.announce( "(polls-open 0 key)",
+                "(authorized-to-cast 2 nonce1 ballot)" );
+            log.announce( "(authorized-to-cast 1 nonce0 ballot)",
+                "(cast-ballot nonce1 cast1)" );
+            log.announce( "(cast-ballot nonce0 cast0)",
+                "(ballot-received 2 nonce1)" );
+            log.announce( "(ballot-received 1 nonce0)" );
+            log.announce( "(polls-closed 1)" );
+            return log._sequence;
+        }
+        finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Delete a log written by this class, along with the files kept beside
+     * it.
+     */
+    public static void delete(File location) {
+        File dir = location.getAbsoluteFile().getParentFile();
+        String[] names = dir.list();
+        if (names == null)
+            return;
+        for (String name : names)
+            if (name.equals( location.getName() )
+                    || name.startsWith( location.getName() + "." ))
+                new File( dir, name ).delete();
+    }
+}
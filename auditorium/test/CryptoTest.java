@@ -22,6 +22,8 @@
 
 package auditorium.test;
 
+import static org.junit.Assert.*;
+
 import org.junit.Test;
 
 import auditorium.*;
@@ -67,4 +69,36 @@ public class CryptoTest {
             RSACrypto.SINGLETON.verify( notsig, cert );
         }
     }
+
+    // A verified signature is remembered, but only for the same payload and
+    // key.
+    @Test
+    public void test_verify_cache() throws Exception {
+        Keys keys = _gen.generateKey( "TEST", "TEST" );
+        Keys other = _gen.generateKey( "TEST", "TEST" );
+        Cert cert = _gen.createCert( keys.getPrivate(), keys.getPublic() );
+        Cert othercert = _gen.createCert( other.getPrivate(), other.getPublic() );
+        Signature sig = RSACrypto.SINGLETON.sign( _message, keys.getPrivate() );
+
+        RSACrypto.SINGLETON.verify( sig, cert );
+        long verifies = RSACrypto.SINGLETON.getVerifyCount();
+        double hits = RSACrypto.SINGLETON.getVerifyHitRate() * verifies;
+        RSACrypto.SINGLETON.verify( sig, cert );
+        assertEquals( hits + 1, RSACrypto.SINGLETON.getVerifyHitRate()
+                * (verifies + 1), 0.001 );
+
+        Signature moved = new Signature( "TEST", sig.getSigData(),
+                new ListExpression( "One", "Two" ) );
+        try {
+            RSACrypto.SINGLETON.verify( moved, cert );
+            fail();
+        }
+        catch (AuditoriumCryptoException e) {}
+
+        try {
+            RSACrypto.SINGLETON.verify( sig, othercert );
+            fail();
+        }
+        catch (AuditoriumCryptoException e) {}
+    }
 }
@@ -24,6 +24,9 @@ package auditorium.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.*;
 
 import sexpression.*;
@@ -247,6 +250,50 @@ public class IntegrityLayerTest {
                 StringExpression.EMPTY, datum ) );
     }
 
+    // ** makeAnnouncements(List) tests **
+    private List<ASExpression> batch(int size) {
+        ArrayList<ASExpression> batch = new ArrayList<ASExpression>();
+        for (int lcv = 0; lcv < size; lcv++)
+            batch.add( new ListExpression( StringExpression.makeString( "Test" ),
+                    StringExpression.makeString( Integer.toString( lcv ) ) ) );
+        return batch;
+    }
+
+    // Good (every announcement in batches of each size checks on its own)
+    @Test
+    public void make_announcements_1() throws Exception {
+        for (int size = 1; size <= 9; size++) {
+            List<ASExpression> batch = batch( size );
+            List<ASExpression> wrapped = _layer.makeAnnouncements( batch );
+            assertEquals( size, wrapped.size() );
+            for (int lcv = 0; lcv < size; lcv++)
+                assertEquals( batch.get( lcv ), _layer
+                        .receiveAnnouncement( wrapped.get( lcv ) ) );
+        }
+    }
+
+    // Bad (a payload that wasn't in the batch)
+    @Test(expected = IncorrectFormatException.class)
+    public void make_announcements_2() throws Exception {
+        ListExpression wrapped = (ListExpression) _layer.makeAnnouncements(
+            batch( 5 ) ).get( 2 );
+
+        _layer.receiveAnnouncement( new ListExpression( wrapped.get( 0 ),
+                wrapped.get( 1 ), wrapped.get( 2 ), wrapped.get( 3 ),
+                StringExpression.makeString( "TEST" ) ) );
+    }
+
+    // Bad (a proof for a different announcement in the batch)
+    @Test(expected = IncorrectFormatException.class)
+    public void make_announcements_3() throws Exception {
+        List<ASExpression> wrapped = _layer.makeAnnouncements( batch( 5 ) );
+        ListExpression first = (ListExpression) wrapped.get( 0 );
+        ListExpression second = (ListExpression) wrapped.get( 1 );
+
+        _layer.receiveAnnouncement( new ListExpression( first.get( 0 ), first
+                .get( 1 ), second.get( 3 ), first.get( 4 ) ) );
+    }
+
     // ** do nothing method tests **
     // (all these tested methods essentially return what they're given)
     private void donothing_test(ASExpression datum) throws Exception {
@@ -0,0 +1,189 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import sexpression.ASExpression;
+import auditorium.MessagePointer;
+import auditorium.loganalysis.Dag;
+import auditorium.loganalysis.LogAnalysis;
+
+/**
+ * Tests for LogAnalysis.
+ * 
+ * @author kyle
+ * 
+ */
+public class LogAnalysisTest {
+
+    private static final String SUPERVISOR = "logdata/e4-supervisor.log";
+    private static final String BOOTHS = "logdata/e4-booths.tgz";
+
+    @Test
+    public void same_as_dag() throws Exception {
+        Dag dag = new Dag( SUPERVISOR );
+        dag.build();
+        LogAnalysis analysis = new LogAnalysis( 2, LogAnalysis.DEFAULT_CHUNK_SIZE );
+        analysis.analyze( new File( SUPERVISOR ) );
+
+        assertEquals( dag.getDag().size(), analysis.getMessageCount() );
+        assertEquals( dag.getBranchStatistics(), analysis
+                .getBranchStatistics() );
+        assertEquals( 0, analysis.getDuplicateCount() );
+        assertEquals( 0, analysis.getMalformedCount() );
+
+        HashMap<String, Integer> hosts = new HashMap<String, Integer>();
+        int edges = 0;
+        for (MessagePointer ptr : dag.getDag().keySet()) {
+            Integer old = hosts.get( ptr.getNodeId() );
+            hosts.put( ptr.getNodeId(), old == null ? 1 : old + 1 );
+            edges += dag.getDag().get( ptr ).size();
+        }
+        assertEquals( hosts, analysis.getHostCounts() );
+        assertEquals( edges, analysis.getEdgeCount() );
+    }
+
+    @Test
+    public void chunking_doesnt_matter() throws Exception {
+        LogAnalysis whole = new LogAnalysis( 1, 64 * 1024 * 1024 );
+        whole.analyze( new File( SUPERVISOR ) );
+
+        // Every message gets a chunk of its own.
+        LogAnalysis pieces = new LogAnalysis( 4, 1 );
+        pieces.analyze( new File( SUPERVISOR ) );
+
+        assertEquals( whole.getMessageCount(), pieces.getMessageCount() );
+        assertEquals( whole.getBranchStatistics(), pieces
+                .getBranchStatistics() );
+        assertEquals( whole.getTypeCounts(), pieces.getTypeCounts() );
+        assertEquals( whole.getLongestChain(), pieces.getLongestChain() );
+        assertEquals( 0, pieces.getMalformedCount() );
+    }
+
+    @Test
+    public void booth_archive() throws Exception {
+        LogAnalysis supervisor = new LogAnalysis();
+        supervisor.analyze( new File( SUPERVISOR ) );
+        LogAnalysis booths = new LogAnalysis( 3, 128 * 1024 );
+        booths.analyze( new File( BOOTHS ) );
+
+        // The booths logged what they heard from each other many times over,
+        // and heard at least everything the supervisor did.
+        assertTrue( booths.getDuplicateCount() > booths.getMessageCount() );
+        assertTrue( booths.getMessageCount() >= supervisor.getMessageCount() );
+        assertEquals( 0, booths.getMalformedCount() );
+        assertEquals( 0, booths.getMissingCount() );
+        HashSet<String> hosts = new HashSet<String>( supervisor
+                .getHostCounts().keySet() );
+        assertEquals( hosts, booths.getHostCounts().keySet() );
+
+        // Adding the supervisor's log adds nothing new.
+        int messages = booths.getMessageCount();
+        booths.analyze( new File( SUPERVISOR ) );
+        assertEquals( messages, booths.getMessageCount() );
+    }
+
+    @Test
+    public void batched_log() throws Exception {
+        File log = new File( "batched-analysis.log" );
+        try {
+            int written = BatchedLog.election( log );
+            Dag dag = new Dag( log.getPath() );
+            dag.build();
+            LogAnalysis analysis = new LogAnalysis( 2, 1 );
+            analysis.analyze( log );
+
+            assertEquals( written, dag.getDag().size() );
+            assertEquals( written, analysis.getMessageCount() );
+            assertEquals( dag.getBranchStatistics(), analysis
+                    .getBranchStatistics() );
+            assertEquals( 0, analysis.getMalformedCount() );
+            assertEquals( 0, analysis.getMissingCount() );
+            // Nothing precedes the first batch, and each later announcement
+            // points only to the last one of the batch before.
+            assertEquals( written - 2, analysis.getEdgeCount() );
+            assertEquals( 5, analysis.getLongestChain() );
+            assertEquals( Integer.valueOf( 2 ), analysis.getTypeCounts().get(
+                "cast-ballot" ) );
+            assertEquals( Integer.valueOf( 1 ), analysis.getTypeCounts().get(
+                "polls-closed" ) );
+        }
+        finally {
+            BatchedLog.delete( log );
+        }
+    }
+
+    @Test
+    public void longest_chain() throws Exception {
+        // a0 <- a1 <- b0 <- a2, and b1 points to a0 and to c5, which is never
+        // seen.
+        String log = msg( "a", 0 ) + msg( "a", 1, "a", 0 )
+                + msg( "b", 0, "a", 1 ) + msg( "a", 2, "b", 0 )
+                + msg( "b", 1, "a", 0, "c", 5 );
+        LogAnalysis analysis = new LogAnalysis( 2, 1 );
+        analysis.analyze( new ByteArrayInputStream( log.getBytes() ) );
+
+        assertEquals( 5, analysis.getMessageCount() );
+        assertEquals( 1, analysis.getMissingCount() );
+        assertEquals( 5, analysis.getEdgeCount() );
+        assertEquals( 4, analysis.getLongestChain() );
+        assertEquals( Integer.valueOf( 3 ), analysis.getBranchStatistics().get( 1 ) );
+        assertEquals( Integer.valueOf( 3 ), analysis.getHostCounts().get( "a" ) );
+        assertEquals( Integer.valueOf( 5 ), analysis.getTypeCounts().get( "test" ) );
+    }
+
+    @Test
+    public void malformed() throws Exception {
+        String log = msg( "a", 0 ) + "(3:foo)" + msg( "a", 1, "a", 0 )
+                + "(5:cut-o";
+        LogAnalysis analysis = new LogAnalysis( 1, 1 );
+        analysis.analyze( new ByteArrayInputStream( log.getBytes() ) );
+
+        assertEquals( 2, analysis.getMessageCount() );
+        assertEquals( 2, analysis.getMalformedCount() );
+        assertEquals( 2, analysis.getLongestChain() );
+    }
+
+    /**
+     * Make an announcement in verbatim form, from the given host with the
+     * given sequence number, pointing to the given (host, seq) pairs.
+     */
+    private String msg(String host, int seq, Object... preds) {
+        StringBuilder ptrs = new StringBuilder();
+        for (int lcv = 0; lcv < preds.length; lcv += 2)
+            ptrs.append( "(ptr " + preds[lcv] + " " + preds[lcv + 1] + " h)" );
+        return new String( ASExpression.make(
+            "(announce (host " + host + " 127.0.0.1 9700) " + seq
+                    + " (signed-message (cert (signature s c (key k p n e)))"
+                    + " (signature s d (succeeds (" + ptrs
+                    + ") (test x)))))" ).toVerbatim() );
+    }
+}
@@ -26,10 +26,14 @@ import static org.junit.Assert.*;
 
 import org.junit.*;
 
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.util.ArrayList;
+import java.util.List;
 
 import sexpression.*;
+import sexpression.stream.ASEInputStreamReader;
 
 import auditorium.*;
 
@@ -49,8 +53,21 @@ public class LogTest {
     }
 
     @After
-    public void tear() {
+    public void tear() throws Exception {
+        _log.close();
         new File( "temp" ).delete();
+        new File( "temp.idx" ).delete();
+        new File( "temp.last" ).delete();
+        for (int lcv = 1; new File( "temp." + lcv ).delete(); lcv++)
+            ;
+    }
+
+    private Message message(int sequence, ASExpression... predecessors) {
+        return new Message( "announcement", new HostPointer( "test-node",
+                "192.168.1.100", 9000 ), Integer.toString( sequence ),
+                new ListExpression( StringExpression.makeString( "succeeds" ),
+                        new ListExpression( predecessors ), StringExpression
+                                .makeString( "test" + sequence ) ) );
     }
 
     // ** logAnnouncement(Message) tests
@@ -97,4 +114,118 @@ public class LogTest {
         assertFalse( _log.logAnnouncement( msg1 ) );
         assertFalse( _log.logAnnouncement( msg2 ) );
     }
+
+    // ** recovery tests
+
+    // Reopening a log remembers what was heard, and what was last.
+    @Test
+    public void recover_1() throws Exception {
+        Message msg0 = message( 0 );
+        Message msg1 = message( 1, new MessagePointer( msg0 ).toASE() );
+        Message msg2 = message( 2 );
+        assertTrue( _log.logAnnouncement( msg0 ) );
+        assertTrue( _log.logAnnouncement( msg1 ) );
+        assertTrue( _log.logAnnouncement( msg2 ) );
+        _log.removeFromLast( new MessagePointer( msg2 ) );
+        List<MessagePointer> before = _log.TESTgetLast();
+        _log.close();
+
+        _log = new Log( new File( "temp" ) );
+        assertFalse( _log.logAnnouncement( msg0 ) );
+        assertFalse( _log.logAnnouncement( msg1 ) );
+        assertFalse( _log.logAnnouncement( msg2 ) );
+        assertEquals( 3, _log.TESTgetSetCopy().size() );
+        assertEquals( before, _log.TESTgetLast() );
+        _log.close();
+
+        // Without the saved last list, it is rebuilt from what points to what.
+        new File( "temp.last" ).delete();
+        _log = new Log( new File( "temp" ) );
+        List<MessagePointer> last = _log.TESTgetLast();
+        assertEquals( 2, last.size() );
+        assertTrue( last.contains( new MessagePointer( msg1 ) ) );
+        assertTrue( last.contains( new MessagePointer( msg2 ) ) );
+    }
+
+    // Messages spill into new segments, which read back as one stream.
+    @Test
+    public void recover_2() throws Exception {
+        _log.close();
+        _log = new Log( new File( "temp" ), 1024, 0 );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertTrue( _log.logAnnouncement( message( lcv ) ) );
+        _log.close();
+        assertTrue( new File( "temp.2" ).exists() );
+
+        ASEInputStreamReader reader = new ASEInputStreamReader( Log
+                .open( new File( "temp" ) ) );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertEquals( message( lcv ).toASE(), reader.read() );
+
+        LogReader logReader = new LogReader( new File( "temp" ) );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertEquals( message( lcv ).toASE(), logReader.read() );
+        try {
+            logReader.read();
+            fail( "the log should have ended" );
+        }
+        catch (EOFException e) {}
+
+        _log = new Log( new File( "temp" ), 1024, 0 );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertFalse( _log.logAnnouncement( message( lcv ) ) );
+        assertTrue( _log.logAnnouncement( message( 100 ) ) );
+    }
+
+    // A message torn off the end, and one that was never indexed, are
+    // recovered as well as can be.
+    @Test
+    public void recover_3() throws Exception {
+        assertTrue( _log.logAnnouncement( message( 0 ) ) );
+        _log.close();
+        _log = new Log( new File( "temp" ) );
+        _log.close();
+
+        // Append one message whole, and half of another, behind the index's
+        // back.
+        byte[] whole = message( 1 ).toASE().toVerbatim();
+        byte[] torn = message( 2 ).toASE().toVerbatim();
+        FileOutputStream out = new FileOutputStream( "temp", true );
+        out.write( whole );
+        out.write( torn, 0, torn.length / 2 );
+        out.close();
+
+        _log = new Log( new File( "temp" ) );
+        assertFalse( _log.logAnnouncement( message( 0 ) ) );
+        assertFalse( _log.logAnnouncement( message( 1 ) ) );
+        assertTrue( _log.logAnnouncement( message( 2 ) ) );
+        _log.close();
+
+        ASEInputStreamReader reader = new ASEInputStreamReader( Log
+                .open( new File( "temp" ) ) );
+        for (int lcv = 0; lcv < 3; lcv++)
+            assertEquals( message( lcv ).toASE(), reader.read() );
+        assertEquals( new File( "temp" ).length(), 
+                message( 0 ).toASE().toVerbatim().length + whole.length
+                        + torn.length );
+    }
+
+    // The index grows in place of the old one, and a finished segment is cut
+    // down to its messages, with the files they were mapped from released.
+    @Test
+    public void recover_4() throws Exception {
+        long length = 0;
+        for (int lcv = 0; lcv < 2000; lcv++) {
+            assertTrue( _log.logAnnouncement( message( lcv ) ) );
+            length += message( lcv ).toASE().toVerbatim().length;
+        }
+        _log.close();
+        assertFalse( new File( "temp.idx.grow" ).exists() );
+        assertEquals( length, new File( "temp" ).length() );
+
+        _log = new Log( new File( "temp" ) );
+        for (int lcv = 0; lcv < 2000; lcv++)
+            assertFalse( _log.logAnnouncement( message( lcv ) ) );
+        assertTrue( _log.logAnnouncement( message( 2000 ) ) );
+    }
 }
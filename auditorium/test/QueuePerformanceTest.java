@@ -0,0 +1,140 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import auditorium.BoundedQueue;
+import auditorium.ReleasedQueueException;
+import auditorium.SynchronizedQueue;
+
+/**
+ * Compares SynchronizedQueue and BoundedQueue with several producers feeding
+ * one consumer, the way links feed an AuditoriumHost's receive queue. Not part
+ * of the suite; run it on its own.
+ */
+public class QueuePerformanceTest {
+    public static final int ELEMENTS = 1000000;
+    public static final int TRIAL_COUNT = 5;
+    public static final int[] PRODUCERS = { 1, 2, 4, 8 };
+    public static final int CAPACITY = 8192;
+
+    // The two queues don't share an interface, so wrap them.
+    private interface Queue {
+        public void push(Integer i);
+
+        public Integer pop() throws ReleasedQueueException;
+    }
+
+    private static Queue synchronizedQueue() {
+        final SynchronizedQueue<Integer> q = new SynchronizedQueue<Integer>();
+        return new Queue() {
+
+            public void push(Integer i) {
+                q.push( i );
+            }
+
+            public Integer pop() throws ReleasedQueueException {
+                return q.pop();
+            }
+        };
+    }
+
+    private static Queue boundedQueue() {
+        final BoundedQueue<Integer> q = new BoundedQueue<Integer>( CAPACITY,
+                BoundedQueue.Policy.BLOCK );
+        return new Queue() {
+
+            public void push(Integer i) {
+                q.push( i );
+            }
+
+            public Integer pop() throws ReleasedQueueException {
+                return q.pop();
+            }
+        };
+    }
+
+    /**
+     * Push ELEMENTS elements through the queue, split among the producers.
+     * 
+     * @return elapsed milliseconds until the consumer has popped them all
+     */
+    private static long run(final Queue q, int producers) throws Exception {
+        final int each = ELEMENTS / producers;
+        final Integer element = Integer.valueOf( 1 );
+        Thread[] threads = new Thread[producers];
+
+        long start = System.currentTimeMillis();
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread( new Runnable() {
+
+                public void run() {
+                    for (int i = 0; i < each; i++)
+                        q.push( element );
+                }
+            } );
+            threads[p].start();
+        }
+
+        long sum = 0;
+        for (int i = 0; i < each * producers; i++)
+            sum += q.pop();
+        long stop = System.currentTimeMillis();
+
+        for (Thread t : threads)
+            t.join();
+        assertEquals( each * producers, sum );
+        return stop - start;
+    }
+
+    private static void compare(int producers) throws Exception {
+        long sync = 0, bounded = 0;
+
+        // Warm up both before timing.
+        run( synchronizedQueue(), producers );
+        run( boundedQueue(), producers );
+
+        for (int trial = 0; trial < TRIAL_COUNT; trial++) {
+            sync += run( synchronizedQueue(), producers );
+            bounded += run( boundedQueue(), producers );
+        }
+
+        System.out.println( producers + " producer(s): SynchronizedQueue "
+                + (sync / TRIAL_COUNT) + "ms, BoundedQueue "
+                + (bounded / TRIAL_COUNT) + "ms per " + ELEMENTS
+                + " elements" );
+    }
+
+    @Test
+    public void producers() throws Exception {
+        for (int producers : PRODUCERS)
+            compare( producers );
+    }
+
+    public static void main(String[] args) throws Exception {
+        new QueuePerformanceTest().producers();
+    }
+}
@@ -78,8 +78,11 @@ public class TemporalLayerTest {
     }
 
     @After
-    public void tear() {
+    public void tear() throws Exception {
+        _log.close();
         _tmpFile.delete();
+        new File( _tmpFile.getPath() + ".idx" ).delete();
+        new File( _tmpFile.getPath() + ".last" ).delete();
     }
 
     // ** makeAnnouncement(ASExpression) tests **
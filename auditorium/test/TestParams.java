@@ -68,6 +68,22 @@ public class TestParams implements IAuditoriumParams {
     public static final boolean DEFAULT_USE_TABLE_TALLY_VIEW = false;
     public static final boolean DEFAULT_USE_WINDOWED_VIEW = true;
     public static final boolean DEFAULT_ALLOW_UI_SCALING = true;
+    public static final String DEFAULT_NIZK_VERIFICATION_MODE = "batch";
+    public static final int DEFAULT_NIZK_VERIFICATION_THREADS = 0;
+    public static final int DEFAULT_NIZK_BATCH_SIZE = 32;
+    public static final int DEFAULT_ADDER_TABLE_LIMIT = -1;
+    public static final int DEFAULT_TALLY_STRIPES = 1;
+    public static final String DEFAULT_TALLY_AUDIT_DIRECTORY = null;
+    public static final int DEFAULT_DECRYPTION_TABLE_SIZE = 65536;
+    public static final int DEFAULT_RANDOMNESS_POOL_SIZE = 256;
+    public static final String DEFAULT_AUDITORIUM_TRANSPORT = "blocking";
+    public static final int DEFAULT_AUDITORIUM_QUEUE_CAPACITY = 8192;
+    public static final String DEFAULT_AUDITORIUM_QUEUE_POLICY = "block";
+    public static final int DEFAULT_AUDITORIUM_VERIFY_THREADS = 0;
+    public static final int DEFAULT_AUDITORIUM_BATCH_WINDOW = 0;
+    public static final int DEFAULT_AUDITORIUM_BATCH_SIZE = 64;
+    public static final int DEFAULT_LOG_SEGMENT_SIZE = 67108864;
+    public static final int DEFAULT_LOG_SYNC_INTERVAL = 100;
 
     public String getBroadcastAddress() {
         return BROADCAST_ADDRESS;
@@ -193,4 +209,68 @@ public class TestParams implements IAuditoriumParams {
 	public boolean getAllowUIScaling(){
 		return DEFAULT_ALLOW_UI_SCALING;
 	}
+	
+	public String getNIZKVerificationMode(){
+		return DEFAULT_NIZK_VERIFICATION_MODE;
+	}
+	
+	public int getNIZKVerificationThreads(){
+		return DEFAULT_NIZK_VERIFICATION_THREADS;
+	}
+	
+	public int getNIZKBatchSize(){
+		return DEFAULT_NIZK_BATCH_SIZE;
+	}
+	
+	public int getAdderTableLimit(){
+		return DEFAULT_ADDER_TABLE_LIMIT;
+	}
+	
+	public int getTallyStripes(){
+		return DEFAULT_TALLY_STRIPES;
+	}
+	
+	public String getTallyAuditDirectory(){
+		return DEFAULT_TALLY_AUDIT_DIRECTORY;
+	}
+	
+	public int getDecryptionTableSize(){
+		return DEFAULT_DECRYPTION_TABLE_SIZE;
+	}
+	
+	public int getRandomnessPoolSize(){
+		return DEFAULT_RANDOMNESS_POOL_SIZE;
+	}
+	
+	public String getAuditoriumTransport(){
+		return DEFAULT_AUDITORIUM_TRANSPORT;
+	}
+	
+	public int getAuditoriumQueueCapacity(){
+		return DEFAULT_AUDITORIUM_QUEUE_CAPACITY;
+	}
+	
+	public String getAuditoriumQueuePolicy(){
+		return DEFAULT_AUDITORIUM_QUEUE_POLICY;
+	}
+	
+	public int getAuditoriumVerifyThreads(){
+		return DEFAULT_AUDITORIUM_VERIFY_THREADS;
+	}
+	
+	public int getAuditoriumBatchWindow(){
+		return DEFAULT_AUDITORIUM_BATCH_WINDOW;
+	}
+	
+	public int getAuditoriumBatchSize(){
+		return DEFAULT_AUDITORIUM_BATCH_SIZE;
+	}
+	
+	public int getLogSegmentSize(){
+		return DEFAULT_LOG_SEGMENT_SIZE;
+	}
+	
+	public int getLogSyncInterval(){
+		return DEFAULT_LOG_SYNC_INTERVAL;
+	}
 }
@@ -198,10 +198,10 @@ public class AdderInteger implements Comparable/*<AdderInteger>*/ {
      *
      * @param b AdderInteger to be copied
      * @param m the modulus
-     * @see   #toString()
      */
     public AdderInteger(AdderInteger b, AdderInteger m) {
-        this(b.toString(), m);
+        this.val = b.val.mod(m.val);
+        this.m = m.val;
     }
 
     //////////
@@ -0,0 +1,484 @@
+package edu.uconn.cse.adder;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Verifies many membership proofs at once using a random linear combination
+ * of their verification equations (the "small exponent" batch test).
+ * <p>
+ * Each proof carries its commitments <tt>y</tt> and <tt>z</tt>; a proof is
+ * valid exactly when those commitments hash to the sum of its challenges and
+ * satisfy <tt>y = g<sup>s</sup>G<sup>-c</sup></tt> and
+ * <tt>z = h<sup>s</sup>(H/f<sup>d</sup>)<sup>-c</sup></tt>. Rather than
+ * recomputing every commitment, the equations of all queued proofs are raised
+ * to random 64-bit weights and multiplied together, so the fixed bases
+ * <tt>g</tt>, <tt>h</tt> and <tt>f</tt> are exponentiated once per batch and
+ * each ciphertext twice per proof. A batch containing an invalid proof is
+ * accepted with probability at most 2<sup>-64</sup>.
+ * <p>
+ * The test is only sound inside the prime-order subgroup of quadratic
+ * residues, so {@link #verify()} also checks that every ciphertext and
+ * commitment in the batch lies in it. Rather than computing a Jacobi symbol
+ * per value, it computes one for each of 64 random subset products; a batch
+ * holding a non-residue passes this with probability at most
+ * 2<sup>-64</sup>. Proofs with the wrong shape are refused by
+ * {@link #add(MembershipProof, ElgamalCiphertext, List)} and must be checked
+ * with {@link MembershipProof#verify} instead. Instances are not thread safe.
+ *
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @see MembershipProof#verify(ElgamalCiphertext, PublicKey, List)
+ * @see VoteProof#verify(Vote, PublicKey, int, int)
+ */
+public class BatchVerifier {
+    private static final int WEIGHT_BITS = 64;
+    private static final int RESIDUE_ROUNDS = 64;
+    private static final Context CTX = new Context();
+
+    private final PublicKey pubKey;
+    private final BigInteger p;
+    private final BigInteger q;
+    private final BigInteger g;
+    private final BigInteger h;
+    private final BigInteger f;
+    private final boolean usable;
+
+    private BigInteger expG = BigInteger.ZERO;
+    private BigInteger expH = BigInteger.ZERO;
+    private BigInteger expF = BigInteger.ZERO;
+    private BigInteger lhs = BigInteger.ONE;
+    private BigInteger rhs = BigInteger.ONE;
+    private final List<BigInteger> residues = new ArrayList<BigInteger>();
+    private boolean failed = false;
+    private int count = 0;
+
+    /**
+     * Creates an empty batch for proofs made under the given public key.
+     *
+     * @param pubKey the public key the proofs were computed with
+     */
+    public BatchVerifier(PublicKey pubKey) {
+        this.pubKey = pubKey;
+        this.p = pubKey.getP().bigintValue();
+        this.q = pubKey.getQ().bigintValue();
+        this.g = pubKey.getG().bigintValue();
+        this.f = pubKey.getF().bigintValue();
+        this.h = (pubKey.getH() == null) ? null : pubKey.getH().bigintValue();
+
+        this.usable = h != null
+                      && hasModulusP(pubKey.getG())
+                      && hasModulusP(pubKey.getH())
+                      && hasModulusP(pubKey.getF())
+                      && inRange(g) && inRange(h) && inRange(f)
+                      && jacobi(g, p) == 1 && jacobi(h, p) == 1
+                      && jacobi(f, p) == 1;
+    }
+
+    /**
+     * Adds a membership proof to this batch.
+     *
+     * @param proof the proof
+     * @param ciphertext the ciphertext the proof is about
+     * @param domain the domain of allowed plaintexts
+     * @return <tt>false</tt> if the proof cannot be batched, in which case
+     *         nothing was added and it must be verified on its own
+     */
+    public boolean add(MembershipProof proof, ElgamalCiphertext ciphertext,
+                       List<AdderInteger> domain) {
+        Term term = prepare(proof, ciphertext, domain);
+
+        if (term == null) {
+            return false;
+        }
+
+        accumulate(term);
+
+        return true;
+    }
+
+    /**
+     * Adds every membership proof making up a vote proof to this batch.
+     *
+     * @param proof the vote proof
+     * @param vote the vote the proof is about
+     * @param min the minimum number of choices
+     * @param max the maximum number of choices
+     * @return <tt>false</tt> if any part of the proof cannot be batched, in
+     *         which case nothing was added and it must be verified on its own
+     */
+    public boolean add(VoteProof proof, Vote vote, int min, int max) {
+        List<Term> terms = new ArrayList<Term>();
+
+        if (!prepare(proof, vote, min, max, terms)) {
+            return false;
+        }
+
+        for (Term term : terms) {
+            accumulate(term);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds several vote proofs to this batch, all or nothing. This is the
+     * shape of a ballot, which must be accepted or rejected as a whole.
+     *
+     * @param proofs the vote proofs
+     * @param votes the votes, in the same order as <tt>proofs</tt>
+     * @param min the minimum number of choices
+     * @param max the maximum number of choices
+     * @return <tt>false</tt> if any of the proofs cannot be batched, in which
+     *         case nothing was added
+     */
+    public boolean add(List<VoteProof> proofs, List<Vote> votes,
+                       int min, int max) {
+        if (proofs.size() != votes.size()) {
+            return false;
+        }
+
+        List<Term> terms = new ArrayList<Term>();
+
+        for (int i = 0; i < proofs.size(); i++) {
+            if (!prepare(proofs.get(i), votes.get(i), min, max, terms)) {
+                return false;
+            }
+        }
+
+        for (Term term : terms) {
+            accumulate(term);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of membership proofs added to this batch.
+     *
+     * @return the number of proofs
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks every proof added so far in one combined test.
+     *
+     * @return <tt>true</tt> if all proofs in the batch are valid (an empty
+     *         batch is trivially valid)
+     */
+    public boolean verify() {
+        if (failed) {
+            return false;
+        }
+
+        if (count == 0) {
+            return true;
+        }
+
+        if (!allResidues()) {
+            return false;
+        }
+
+        BigInteger total = rhs.multiply(g.modPow(expG.mod(q), p)).mod(p);
+        total = total.multiply(h.modPow(expH.mod(q), p)).mod(p);
+        total = total.multiply(f.modPow(expF.mod(q), p)).mod(p);
+
+        return lhs.equals(total);
+    }
+
+    /**
+     * Prepares the terms of every membership proof in a vote proof, mirroring
+     * {@link VoteProof#verify(Vote, PublicKey, int, int)}.
+     *
+     * @return <tt>false</tt> if the proof must be verified on its own
+     */
+    private boolean prepare(VoteProof proof, Vote vote, int min, int max,
+                            List<Term> terms) {
+        List<MembershipProof> proofList = proof.getProofList();
+        List<ElgamalCiphertext> cipherList = vote.getCipherList();
+
+        if (proofList == null || cipherList == null
+            || proof.getSumProof() == null
+            || proofList.size() != cipherList.size()) {
+            return false;
+        }
+
+        List<AdderInteger> cipherDomain = new ArrayList<AdderInteger>(2);
+        cipherDomain.add(AdderInteger.ZERO);
+        cipherDomain.add(AdderInteger.ONE);
+
+        ElgamalCiphertext sumCipher
+            = new ElgamalCiphertext(AdderInteger.ONE, AdderInteger.ONE,
+                                    pubKey.getP());
+
+        for (int i = 0; i < proofList.size(); i++) {
+            ElgamalCiphertext ciphertext = cipherList.get(i);
+            Term term = prepare(proofList.get(i), ciphertext, cipherDomain);
+
+            if (term == null) {
+                return false;
+            }
+
+            terms.add(term);
+            sumCipher = sumCipher.multiply(ciphertext);
+        }
+
+        List<AdderInteger> totalDomain
+            = new ArrayList<AdderInteger>(max + 1);
+
+        for (int j = min; j <= max; j++) {
+            totalDomain.add(new AdderInteger(j));
+        }
+
+        Term sumTerm = prepare(proof.getSumProof(), sumCipher, totalDomain);
+
+        if (sumTerm == null) {
+            return false;
+        }
+
+        terms.add(sumTerm);
+
+        return true;
+    }
+
+    /**
+     * Pulls the values of one membership proof apart and checks everything
+     * that does not need an exponentiation: list sizes, the Fiat-Shamir
+     * hash over the carried commitments, and subgroup membership.
+     *
+     * @return the prepared term, or <tt>null</tt> if the proof must be
+     *         verified on its own
+     */
+    private Term prepare(MembershipProof proof, ElgamalCiphertext ciphertext,
+                         List<AdderInteger> domain) {
+        if (!usable) {
+            return null;
+        }
+
+        List<AdderInteger> yList = proof.getYList();
+        List<AdderInteger> zList = proof.getZList();
+        List<AdderInteger> sList = proof.getSList();
+        List<AdderInteger> cList = proof.getCList();
+        int size = domain.size();
+
+        if (size == 0 || yList.size() != size || zList.size() != size
+            || sList.size() != size || cList.size() != size) {
+            return null;
+        }
+
+        Term term = new Term(size);
+        term.bigG = ciphertext.getG().bigintValue();
+        term.bigH = ciphertext.getH().bigintValue();
+
+        if (!inRange(term.bigG) || !inRange(term.bigH)) {
+            return null;
+        }
+
+        StringBuffer sb = new StringBuffer(4096);
+
+        sb.append(pubKey.getG());
+        sb.append(pubKey.getH());
+        sb.append(ciphertext.getG());
+        sb.append(ciphertext.getH());
+
+        BigInteger cChoices = BigInteger.ZERO;
+
+        for (int i = 0; i < size; i++) {
+            AdderInteger c = cList.get(i);
+            BigInteger cMod = c.getModulus().bigintValue();
+
+            /* Only a challenge reduced mod q negates to -c in the subgroup. */
+            if (cMod.signum() != 0 && !cMod.equals(q)) {
+                return null;
+            }
+
+            term.y[i] = yList.get(i).bigintValue();
+            term.z[i] = zList.get(i).bigintValue();
+            term.s[i] = sList.get(i).bigintValue();
+            term.c[i] = c.bigintValue();
+            term.d[i] = domain.get(i).bigintValue();
+
+            if (!inRange(term.y[i]) || !inRange(term.z[i])) {
+                return null;
+            }
+
+            cChoices = cChoices.add(term.c[i]).mod(q);
+
+            sb.append(yList.get(i));
+            sb.append(zList.get(i));
+        }
+
+        BigInteger newC = new BigInteger(Util.sha1(sb.toString()), 16).mod(q);
+        term.hashOk = cChoices.equals(newC);
+
+        return term;
+    }
+
+    /**
+     * Folds a prepared term into the running products and exponents.
+     */
+    private void accumulate(Term term) {
+        BigInteger sumAC = BigInteger.ZERO;
+        BigInteger sumBC = BigInteger.ZERO;
+
+        for (int i = 0; i < term.y.length; i++) {
+            BigInteger a = weight();
+            BigInteger b = weight();
+
+            lhs = lhs.multiply(term.y[i].modPow(a, p)).mod(p);
+            lhs = lhs.multiply(term.z[i].modPow(b, p)).mod(p);
+
+            expG = expG.add(a.multiply(term.s[i])).mod(q);
+            expH = expH.add(b.multiply(term.s[i])).mod(q);
+            expF = expF.add(b.multiply(term.c[i]).multiply(term.d[i])).mod(q);
+
+            sumAC = sumAC.add(a.multiply(term.c[i]));
+            sumBC = sumBC.add(b.multiply(term.c[i]));
+        }
+
+        rhs = rhs.multiply(term.bigG.modPow(sumAC.negate().mod(q), p)).mod(p);
+        rhs = rhs.multiply(term.bigH.modPow(sumBC.negate().mod(q), p)).mod(p);
+
+        residues.add(term.bigG);
+        residues.add(term.bigH);
+
+        for (int i = 0; i < term.y.length; i++) {
+            residues.add(term.y[i]);
+            residues.add(term.z[i]);
+        }
+
+        if (!term.hashOk) {
+            failed = true;
+        }
+
+        count++;
+    }
+
+    /**
+     * Returns a fresh non-zero random weight.
+     */
+    private static BigInteger weight() {
+        BigInteger w;
+
+        do {
+            w = new BigInteger(WEIGHT_BITS, CTX.getRandom());
+        } while (w.signum() == 0);
+
+        return w;
+    }
+
+    /**
+     * Returns whether the given AdderInteger is reduced modulo <tt>p</tt>.
+     */
+    private boolean hasModulusP(AdderInteger a) {
+        return a != null && a.getModulus().bigintValue().equals(p);
+    }
+
+    /**
+     * Returns whether <tt>a</tt> lies in <tt>[1, p)</tt>.
+     */
+    private boolean inRange(BigInteger a) {
+        return a.signum() > 0 && a.compareTo(p) < 0;
+    }
+
+    /**
+     * Checks that every value added to the batch is a quadratic residue
+     * modulo <tt>p</tt>, using random subset products. The Legendre symbol
+     * is multiplicative, so a subset holding an odd number of non-residues
+     * has a product that is a non-residue, and each random subset catches a
+     * non-residue with probability one half.
+     *
+     * @return <tt>false</tt> if some value is not a residue
+     */
+    private boolean allResidues() {
+        Montgomery mont = new Montgomery(p);
+        Montgomery.Product[] products = new Montgomery.Product[RESIDUE_ROUNDS];
+        Montgomery.Product value = mont.product();
+
+        for (int j = 0; j < RESIDUE_ROUNDS; j++) {
+            products[j] = mont.product();
+        }
+
+        for (BigInteger a : residues) {
+            long subsets = CTX.getRandom().nextLong();
+
+            // Split a into limbs once for the roughly half of the products
+            // it joins.
+            value.set(a);
+
+            for (int j = 0; j < RESIDUE_ROUNDS; j++) {
+                if (((subsets >>> j) & 1) == 1) {
+                    products[j].multiply(value);
+                }
+            }
+        }
+
+        for (int j = 0; j < RESIDUE_ROUNDS; j++) {
+            if (jacobi(products[j].bigintValue(), p) != 1) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the Jacobi symbol <tt>(a/n)</tt> for odd positive <tt>n</tt>
+     * without any exponentiation.
+     *
+     * @param a the numerator
+     * @param n the odd denominator
+     * @return -1, 0 or 1
+     */
+    static int jacobi(BigInteger a, BigInteger n) {
+        int result = 1;
+
+        a = a.mod(n);
+
+        while (a.signum() != 0) {
+            int twos = a.getLowestSetBit();
+            a = a.shiftRight(twos);
+
+            int nMod8 = n.intValue() & 7;
+
+            if ((twos & 1) == 1 && (nMod8 == 3 || nMod8 == 5)) {
+                result = -result;
+            }
+
+            if ((a.intValue() & 3) == 3 && (nMod8 & 3) == 3) {
+                result = -result;
+            }
+
+            BigInteger t = a;
+            a = n.mod(t);
+            n = t;
+        }
+
+        return n.equals(BigInteger.ONE) ? result : 0;
+    }
+
+    /**
+     * The raw values of one membership proof, ready to be folded into the
+     * batch.
+     */
+    private static class Term {
+        private BigInteger bigG;
+        private BigInteger bigH;
+        private final BigInteger[] y;
+        private final BigInteger[] z;
+        private final BigInteger[] s;
+        private final BigInteger[] c;
+        private final BigInteger[] d;
+        private boolean hashOk;
+
+        private Term(int size) {
+            y = new BigInteger[size];
+            z = new BigInteger[size];
+            s = new BigInteger[size];
+            c = new BigInteger[size];
+            d = new BigInteger[size];
+        }
+    }
+}
@@ -1,19 +1,41 @@
 package edu.uconn.cse.adder;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents an election.
  *
+ * An election either keeps every vote cast and multiplies them together when
+ * asked for the sum, or, if created with a number of stripes, keeps only a
+ * running product of the votes cast so far.  In the latter case votes are
+ * spread across the stripes so that threads casting at the same time rarely
+ * wait on one another, the stripes are multiplied together by
+ * {@link #sumVotes}, and the individual votes can be written to an audit
+ * record, one per line, instead of being held in memory.
+ *
+ * Either way, the products are kept in {@link Montgomery} form, so that
+ * summing votes does not allocate a new number for every multiplication.
+ *
  * @author David Walluck
  * @version $LastChangedRevision$ $LastChangedDate$
  * @since 0.0.1
  */
 public class Election {
     private AdderInteger p;
+    private Montgomery mont;
     private List<Vote> votes;
+    private Total[] totals;
+    private int[] counts;
+    private Object[] locks;
+    private AtomicInteger nextStripe;
+    private volatile Writer audit;
+    private List<Long> decodeTimes;
 
     /**
      * Creates a new election.
@@ -22,25 +44,145 @@ public class Election {
      */
     public Election(AdderInteger p) {
         this.p = p;
+        this.mont = new Montgomery(p);
         this.votes = new ArrayList<Vote>();
+        this.decodeTimes = new ArrayList<Long>();
     }
 
     /**
-     * Gets the votes of this election.
+     * Creates a new election that keeps a running total of its votes rather
+     * than the votes themselves.
+     *
+     * @param p       the prime
+     * @param stripes the number of running totals to spread votes across
+     * @param audit   where to record each vote as it is cast, or
+     *                <tt>null</tt> to not record them
+     */
+    public Election(AdderInteger p, int stripes, Writer audit) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+
+        this.p = p;
+        this.mont = new Montgomery(p);
+        this.totals = new Total[stripes];
+        this.counts = new int[stripes];
+        this.locks = new Object[stripes];
+        this.nextStripe = new AtomicInteger();
+        this.audit = audit;
+        this.decodeTimes = new ArrayList<Long>();
+
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Gets the votes of this election.  An election keeping a running total
+     * does not hold on to its votes, and returns an empty list.
      *
      * @return the voes
      */
     public List<Vote> getVotes() {
+        if (votes == null) {
+            return Collections.emptyList();
+        }
+
         return votes;
     }
 
+    /**
+     * Gets the number of votes cast in this election.
+     *
+     * @return the number of votes
+     */
+    public int getVoteCount() {
+        if (votes != null) {
+            return votes.size();
+        }
+
+        int count = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            synchronized (locks[i]) {
+                count += counts[i];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the time spent finding each total in the last call to
+     * {@link #getFinalSum}, in the same order as the totals.
+     *
+     * @return the decode times, in nanoseconds
+     */
+    public List<Long> getDecodeTimes() {
+        return decodeTimes;
+    }
+
+    /**
+     * Flushes and closes the audit record, if there is one.  Votes cast
+     * afterwards are still counted, but no longer recorded.
+     *
+     * @throws IOException if the record could not be closed
+     */
+    public void closeAudit() throws IOException {
+        Writer record = audit;
+
+        if (record == null) {
+            return;
+        }
+
+        synchronized (record) {
+            if (audit == record) {
+                audit = null;
+                record.close();
+            }
+        }
+    }
+
     /**
      * Casts the given vote in this election.
      *
      * @param vote the vote
      */
     public void castVote(Vote vote) {
-        votes.add(vote);
+        if (votes != null) {
+            votes.add(vote);
+            return;
+        }
+
+        Writer record = audit;
+
+        if (record != null) {
+            String line = vote.toString();
+
+            synchronized (record) {
+                try {
+                    if (audit == record) {
+                        record.write(line);
+                        record.write('\n');
+                        record.flush();
+                    }
+                } catch (IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+        }
+
+        int stripe = (nextStripe.getAndIncrement() & Integer.MAX_VALUE)
+                     % totals.length;
+
+        synchronized (locks[stripe]) {
+            if (totals[stripe] == null) {
+                totals[stripe] = new Total(vote.getCipherList().size());
+            }
+
+            totals[stripe].multiply(vote);
+            counts[stripe]++;
+        }
     }
 
     /**
@@ -50,27 +192,127 @@ public class Election {
      * @return a vote representing the total of the given list of votes
      */
     public Vote sumVotes() {
-        Vote vote = (Vote) votes.get(0);
-        int size = vote.getCipherList().size();
-        List<ElgamalCiphertext> initList = new 
-            ArrayList<ElgamalCiphertext>(size);
-
-        for (int i = 0; i < size; i++) {
-            ElgamalCiphertext ciphertext
-                = new ElgamalCiphertext(AdderInteger.ONE, AdderInteger.ONE,
-                                        p);
-            initList.add(ciphertext);
+        if (votes == null) {
+            return sumTotals();
         }
 
-        Vote total = new Vote(initList);
+        Vote vote = (Vote) votes.get(0);
+        int size = vote.getCipherList().size();
+        Total total = new Total(size);
 
         /*for (Vote vote : votes) {*/
         for (Iterator it = votes.iterator(); it.hasNext();) {
             Vote vote2 = (Vote) it.next();
-            total = vote2.multiply(total);
+            total.multiply(vote2);
+        }
+
+        return total.toVote();
+    }
+
+    /**
+     * Multiplies the running totals of the stripes together.
+     *
+     * @return a vote representing the total of every vote cast so far
+     */
+    private Vote sumTotals() {
+        Total total = null;
+
+        for (int i = 0; i < totals.length; i++) {
+            synchronized (locks[i]) {
+                Total stripeTotal = totals[i];
+
+                if (stripeTotal == null) {
+                    continue;
+                }
+
+                if (total == null) {
+                    total = new Total(stripeTotal.g.length);
+                }
+
+                total.multiply(stripeTotal);
+            }
+        }
+
+        if (total == null) {
+            throw new IndexOutOfBoundsException("no votes cast");
+        }
+
+        return total.toVote();
+    }
+
+    /**
+     * A running product of votes, one ciphertext at a time.  The product of
+     * two ciphertexts multiplies their <tt>g</tt> and <tt>h</tt> values and
+     * adds their random values.
+     */
+    private class Total {
+        private final Montgomery.Product[] g;
+        private final Montgomery.Product[] h;
+        private final AdderInteger[] r;
+
+        /**
+         * Creates a product of no votes.
+         *
+         * @param size the number of ciphertexts in each vote
+         */
+        private Total(int size) {
+            g = new Montgomery.Product[size];
+            h = new Montgomery.Product[size];
+            r = new AdderInteger[size];
+
+            for (int i = 0; i < size; i++) {
+                g[i] = mont.product();
+                h[i] = mont.product();
+                r[i] = AdderInteger.ZERO;
+            }
         }
 
-        return total;
+        /**
+         * Multiplies a vote into this product.
+         *
+         * @param vote the vote
+         */
+        private void multiply(Vote vote) {
+            List<ElgamalCiphertext> cipherList = vote.getCipherList();
+
+            for (int i = 0; i < g.length; i++) {
+                ElgamalCiphertext ciphertext = cipherList.get(i);
+                g[i].multiply(ciphertext.getG());
+                h[i].multiply(ciphertext.getH());
+                r[i] = ciphertext.getR().add(r[i]);
+            }
+        }
+
+        /**
+         * Multiplies another product into this one.
+         *
+         * @param total the other product, which is left unchanged
+         */
+        private void multiply(Total total) {
+            for (int i = 0; i < g.length; i++) {
+                g[i].multiply(total.g[i]);
+                h[i].multiply(total.h[i]);
+                r[i] = total.r[i].add(r[i]);
+            }
+        }
+
+        /**
+         * Returns this product as a vote.
+         *
+         * @return the vote
+         */
+        private Vote toVote() {
+            List<ElgamalCiphertext> cipherList
+                = new ArrayList<ElgamalCiphertext>(g.length);
+
+            for (int i = 0; i < g.length; i++) {
+                cipherList.add(new ElgamalCiphertext(g[i].getValue(),
+                                                     h[i].getValue(), r[i],
+                                                     p));
+            }
+
+            return new Vote(cipherList);
+        }
     }
 
     /**
@@ -91,6 +333,8 @@ public class Election {
         AdderInteger q = masterKey.getQ();
         AdderInteger f = masterKey.getF();
         AdderInteger g = masterKey.getG();
+        DiscreteLog log = masterKey.getDiscreteLog();
+        Montgomery mont = new Montgomery(p);
 
         Polynomial poly = new Polynomial(p, g, f, coeffs);
         List<AdderInteger> lagrangeCoeffs = poly.lagrange();
@@ -103,48 +347,42 @@ public class Election {
         List<AdderInteger> results
             = new ArrayList<AdderInteger>(csize);
 
+        decodeTimes = new ArrayList<Long>(csize);
+
+        Montgomery.Product product = mont.product();
+
         for (int i = 0; i < csize; i++) {
-            productList.add(new AdderInteger(AdderInteger.ONE, p));
+            product.reset();
 
             for (int j = 0; j < lsize; j++) {
-                AdderInteger pli = (AdderInteger) productList.get(i);
                 List ps = (List) partialSums.get(j);
                 AdderInteger psi = (AdderInteger) ps.get(i);
                 AdderInteger lcj = (AdderInteger) lagrangeCoeffs.get(j);
-                AdderInteger product = psi.pow(lcj).multiply(pli);
-                productList.set(i, product);
+                product.multiply(psi.pow(lcj));
             }
 
-            AdderInteger bigH = ((ElgamalCiphertext) cipherList.get(i)).getH();
-            AdderInteger target = bigH.divide((AdderInteger) productList.get(i));
-            AdderInteger j = null;
-            boolean gotResult = false;
-
-            int numVotes = votes.size();
-
-            //System.out.println("Looping " + (numVotes + 1) + " times to look for result");
+            productList.add(product.getValue());
+        }
 
-            for (int k = 0; k <= numVotes; k++) {
-                j = new AdderInteger(k, q);
+        // Dividing by every product at once costs a single modular inverse.
+        AdderInteger[] inverses
+            = mont.invert(productList.toArray(new AdderInteger[csize]));
+        int numVotes = getVoteCount();
 
-                //System.out.println("DOES " + new AdderInteger(f, p).pow(j) + " equal " + target + "?");
+        for (int i = 0; i < csize; i++) {
+            AdderInteger bigH = ((ElgamalCiphertext) cipherList.get(i)).getH();
+            AdderInteger target = bigH.multiply(inverses[i]);
+            long start = System.nanoTime();
+            long k = log.solve(target, numVotes);
 
-                if (f.pow(j).equals(target)) {
-                    //System.out.println("GOT RESULT!!!");
-                    gotResult = true;
-                    break;
-                }
-            }
+            decodeTimes.add(Long.valueOf(System.nanoTime() - start));
 
-            if (gotResult) {
-                //System.out.println("Adding result: " + j);
-                results.add(j);
-                gotResult = false;
-            } else {
-                //System.out.println("THROWING EXCEPTION!!!");
+            if (k < 0) {
                 throw new SearchSpaceExhaustedException("Error searching for "
                                                         + target);
             }
+
+            results.add(new AdderInteger((int) k, q));
         }
 
         return results;
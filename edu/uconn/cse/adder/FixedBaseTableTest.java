@@ -0,0 +1,125 @@
+package edu.uconn.cse.adder;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import auditorium.SimpleKeyStore;
+
+/**
+ * Checks {@link FixedBaseTable#pow(AdderInteger)} against
+ * {@link BigInteger#modPow(BigInteger, BigInteger)}.  Proving and verifying
+ * both go through the tables, so a proof round trip alone would not notice
+ * a table that is consistently wrong.
+ *
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @see FixedBaseTable
+ */
+public class FixedBaseTableTest extends TestCase {
+    private static final int RANDOM_EXPONENTS = 200;
+
+    private PublicKey key;
+
+    protected void setUp() throws Exception {
+        SimpleKeyStore store = new SimpleKeyStore("keys");
+        PublicKey partial = (PublicKey) store.loadAdderKey("public");
+
+        key = new PublicKey(partial.getP(), partial.getG(), partial.getH(),
+                            partial.getF());
+    }
+
+    protected void tearDown() {
+        FixedBaseTable.setMemoryLimit(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns 0, 1, 2, <tt>q - 1</tt>, <tt>q</tt>, the values on either
+     * side of every window boundary up to the size of <tt>q</tt>, and
+     * random exponents below <tt>q</tt>.
+     */
+    private List<BigInteger> exponents() {
+        BigInteger q = key.getQ().bigintValue();
+        List<BigInteger> exponents = new ArrayList<BigInteger>();
+
+        exponents.add(BigInteger.ZERO);
+        exponents.add(BigInteger.ONE);
+        exponents.add(BigInteger.valueOf(2));
+        exponents.add(q.subtract(BigInteger.ONE));
+        exponents.add(q);
+
+        for (int bits = FixedBaseTable.WINDOW; bits <= q.bitLength();
+             bits += FixedBaseTable.WINDOW) {
+            BigInteger boundary = BigInteger.ONE.shiftLeft(bits);
+
+            exponents.add(boundary.subtract(BigInteger.ONE));
+            exponents.add(boundary);
+            exponents.add(boundary.add(BigInteger.ONE));
+        }
+
+        Random random = new Random(2);
+
+        for (int i = 0; i < RANDOM_EXPONENTS; i++) {
+            exponents.add(new BigInteger(q.bitLength(), random).mod(q));
+        }
+
+        return exponents;
+    }
+
+    private void checkPowers(AdderInteger base) {
+        BigInteger p = key.getP().bigintValue();
+        FixedBaseTable table = new FixedBaseTable(base, key.getP());
+
+        for (BigInteger e : exponents()) {
+            AdderInteger expected
+                = new AdderInteger(base.bigintValue().modPow(e, p), p);
+
+            assertEquals(e.toString(), expected,
+                         table.pow(new AdderInteger(e)));
+        }
+    }
+
+    public void testPowersOfG() {
+        checkPowers(key.getG());
+    }
+
+    public void testPowersOfH() {
+        checkPowers(key.getH());
+    }
+
+    public void testCappedTable() {
+        // Room for two rows: the high bits take the modPow path.
+        FixedBaseTable.setMemoryLimit(2 * 63 * (key.getP().bigintValue()
+                                                .bitLength() / 8 + 48));
+        checkPowers(key.getG());
+    }
+
+    public void testPublicKeyPowers() {
+        checkPublicKeyPowers();
+    }
+
+    public void testPublicKeyPowersWithoutTables() {
+        FixedBaseTable.setMemoryLimit(0);
+        checkPublicKeyPowers();
+    }
+
+    private void checkPublicKeyPowers() {
+        BigInteger p = key.getP().bigintValue();
+        BigInteger g = key.getG().bigintValue();
+        BigInteger h = key.getH().bigintValue();
+        BigInteger f = key.getF().bigintValue();
+        BigInteger fInverse = f.modInverse(p);
+
+        for (BigInteger e : exponents()) {
+            AdderInteger exponent = new AdderInteger(e);
+
+            assertEquals(g.modPow(e, p), key.powG(exponent).bigintValue());
+            assertEquals(h.modPow(e, p), key.powH(exponent).bigintValue());
+            assertEquals(f.modPow(e, p), key.powF(exponent).bigintValue());
+            assertEquals(fInverse.modPow(e, p),
+                         key.powFInverse(exponent).bigintValue());
+        }
+    }
+}
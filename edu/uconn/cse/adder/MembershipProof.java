@@ -78,7 +78,6 @@ public class MembershipProof {
 
 		AdderInteger g = new AdderInteger(pubKey.getG(), this.p);
 		AdderInteger h = pubKey.getH();
-		AdderInteger f = pubKey.getF();
 
 		AdderInteger bigG = ciphertext.getG();
 		AdderInteger bigH = ciphertext.getH();
@@ -103,8 +102,8 @@ public class MembershipProof {
 			if (d.equals(value)) {
 				sList.add(AdderInteger.ZERO);
 				cList.add(AdderInteger.ZERO);
-				y = g.pow(t);
-				z = h.pow(t);
+				y = pubKey.powG(t);
+				z = pubKey.powH(t);
 				indexInDomain = i;
 			} else {
 				sList.add(AdderInteger.random(q));
@@ -112,9 +111,9 @@ public class MembershipProof {
 				AdderInteger s = (AdderInteger) sList.get(i);
 				AdderInteger c = (AdderInteger) cList.get(i);
 				AdderInteger negC = c.negate();
-				AdderInteger fpow = f.pow(d);
-				y = g.pow(s).multiply(bigG.pow(negC));
-				z = h.pow(s).multiply(bigH.divide(fpow).pow(negC));
+				AdderInteger fpowInv = pubKey.powFInverse(d);
+				y = pubKey.powG(s).multiply(bigG.pow(negC));
+				z = pubKey.powH(s).multiply(bigH.multiply(fpowInv).pow(negC));
 			}
 
 			yList.add(y);
@@ -154,7 +153,6 @@ public class MembershipProof {
 		q = pubKey.getQ();
 		AdderInteger g = pubKey.getG();
 		AdderInteger h = pubKey.getH();
-		AdderInteger f = pubKey.getF();
 
 		AdderInteger bigG = ciphertext.getG();
 		AdderInteger bigH = ciphertext.getH();
@@ -172,15 +170,15 @@ public class MembershipProof {
 
 		for (int i = 0; i < size; i++) {
 			AdderInteger d = (AdderInteger) domain.get(i);
-			AdderInteger fpow = f.pow(d);
+			AdderInteger fpowInv = pubKey.powFInverse(d);
 			AdderInteger s = (AdderInteger) sList.get(i);
 			AdderInteger c = (AdderInteger) cList.get(i);
 			AdderInteger negC = c.negate();
 
 			cChoices = cChoices.add(c);
 
-			sb.append(g.pow(s).multiply(bigG.pow(negC)));
-			sb.append(h.pow(s).multiply(bigH.divide(fpow).pow(negC)));
+			sb.append(pubKey.powG(s).multiply(bigG.pow(negC)));
+			sb.append(pubKey.powH(s).multiply(bigH.multiply(fpowInv).pow(negC)));
 		}
 
 		String cHash = Util.sha1(sb.toString());
@@ -189,6 +187,42 @@ public class MembershipProof {
 		return (cChoices.equals(newC));
 	}
 
+	/**
+	 * Returns the commitments <tt>y</tt> carried by this proof.
+	 *
+	 * @return the y list
+	 */
+	List<AdderInteger> getYList() {
+		return yList;
+	}
+
+	/**
+	 * Returns the commitments <tt>z</tt> carried by this proof.
+	 *
+	 * @return the z list
+	 */
+	List<AdderInteger> getZList() {
+		return zList;
+	}
+
+	/**
+	 * Returns the responses <tt>s</tt> carried by this proof.
+	 *
+	 * @return the s list
+	 */
+	List<AdderInteger> getSList() {
+		return sList;
+	}
+
+	/**
+	 * Returns the challenges <tt>c</tt> carried by this proof.
+	 *
+	 * @return the c list
+	 */
+	List<AdderInteger> getCList() {
+		return cList;
+	}
+
 	/**
 	 * Creates a <tt>MembershipProof</tt> from the string standard representation
 	 * as described in the {@link #toString} method.
@@ -0,0 +1,383 @@
+package edu.uconn.cse.adder;
+
+import java.math.BigInteger;
+
+/**
+ * Modular multiplication for a fixed odd modulus, such as <tt>p</tt> or
+ * <tt>q</tt> of a {@link PublicKey}, done in Montgomery form.
+ *
+ * Every {@link AdderInteger} multiplication allocates a double-length
+ * product and reduces it with a long division.  A {@link Product} instead
+ * keeps a running product in a mutable array of 32-bit limbs and reduces
+ * each multiplication with Montgomery's method, in scratch space it reuses,
+ * so folding in another factor allocates nothing but the copy of the
+ * factor's bytes.  Each multiplication leaves an extra factor of
+ * <tt>R<sup>-1</sup></tt> (where <tt>R = 2<sup>32n</sup></tt>) in the
+ * product; the product counts them and removes them all at once when its
+ * value is read, so factors never need converting into Montgomery form.
+ *
+ * {@link #invert(AdderInteger[])} inverts many values with a single
+ * modular inverse using Montgomery's trick.
+ *
+ * A Montgomery context is immutable and may be shared between threads; the
+ * products it makes may not.
+ *
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @see AdderInteger#multiply(AdderInteger)
+ * @see AdderInteger#divide(AdderInteger)
+ * @since 0.0.1
+ */
+public final class Montgomery {
+    private static final long MASK = 0xffffffffL;
+
+    private final BigInteger modulus;
+    private final int n;
+    private final int[] m;
+    private final int mInv;
+    private final BigInteger r;
+    private final int[] r2;
+
+    /**
+     * Creates a context for the given modulus.
+     *
+     * @param modulus the modulus, which must be odd and greater than one
+     */
+    public Montgomery(AdderInteger modulus) {
+        this(modulus.bigintValue());
+    }
+
+    /**
+     * Creates a context for the given modulus.
+     *
+     * @param modulus the modulus, which must be odd and greater than one
+     */
+    public Montgomery(BigInteger modulus) {
+        if (!modulus.testBit(0) || modulus.compareTo(BigInteger.ONE) <= 0) {
+            throw new IllegalArgumentException("modulus must be odd and "
+                                               + "greater than one");
+        }
+
+        this.modulus = modulus;
+        this.n = (modulus.bitLength() + 31) / 32;
+        this.m = new int[n];
+        toLimbs(modulus, m);
+
+        // Newton's iteration doubles the number of correct low bits of the
+        // inverse each step, starting from the three that m[0] gets right.
+        int inv = m[0];
+
+        for (int i = 0; i < 4; i++) {
+            inv *= 2 - m[0] * inv;
+        }
+
+        this.mInv = -inv;
+        this.r = BigInteger.ONE.shiftLeft(32 * n).mod(modulus);
+        this.r2 = new int[n];
+        toLimbs(r.multiply(r).mod(modulus), r2);
+    }
+
+    /**
+     * Returns the modulus.
+     *
+     * @return the modulus
+     */
+    public AdderInteger getModulus() {
+        return new AdderInteger(modulus);
+    }
+
+    /**
+     * Returns a new running product, starting at one.
+     *
+     * @return the product
+     */
+    public Product product() {
+        return new Product();
+    }
+
+    /**
+     * Returns the inverses of the given values, computed with one modular
+     * inverse and three multiplications per value.  The result is the same
+     * as dividing one by each value with {@link AdderInteger#divide}.
+     *
+     * @param  values the values to invert, none of which may be zero
+     * @return the inverses, in the same order, reduced by the modulus
+     * @throws ArithmeticException if some value has no inverse
+     */
+    public AdderInteger[] invert(AdderInteger[] values) {
+        int count = values.length;
+        AdderInteger[] inverses = new AdderInteger[count];
+
+        if (count == 0) {
+            return inverses;
+        }
+
+        int[] t = new int[n + 2];
+        int[] one = new int[n];
+        one[0] = 1;
+
+        // prefix[i] holds the product of values 0..i, in Montgomery form.
+        int[][] prefix = new int[count][n];
+        int[] x = new int[n];
+
+        for (int i = 0; i < count; i++) {
+            load(values[i].bigintValue(), x);
+            multiply(x, r2, t, x);
+
+            if (i == 0) {
+                System.arraycopy(x, 0, prefix[0], 0, n);
+            } else {
+                multiply(prefix[i - 1], x, t, prefix[i]);
+            }
+        }
+
+        int[] acc = new int[n];
+        multiply(prefix[count - 1], one, t, acc);
+        toLimbs(toBigInteger(acc).modInverse(modulus), acc);
+        multiply(acc, r2, t, acc);
+
+        // acc now holds the inverse of the product of values 0..i.
+        for (int i = count - 1; i >= 0; i--) {
+            if (i > 0) {
+                multiply(acc, prefix[i - 1], t, x);
+            } else {
+                System.arraycopy(acc, 0, x, 0, n);
+            }
+
+            multiply(x, one, t, x);
+            inverses[i] = new AdderInteger(toBigInteger(x), modulus);
+
+            if (i > 0) {
+                load(values[i].bigintValue(), x);
+                multiply(acc, x, t, acc);
+                multiply(acc, r2, t, acc);
+            }
+        }
+
+        return inverses;
+    }
+
+    /**
+     * A running product modulo the modulus.  Instances are not thread safe.
+     */
+    public final class Product {
+        private final int[] value = new int[n];
+        private final int[] operand = new int[n];
+        private final int[] scratch = new int[n + 2];
+        private long shifts;
+
+        private Product() {
+            value[0] = 1;
+        }
+
+        /**
+         * Multiplies this product by the given value.
+         *
+         * @param  x the value
+         * @return this product
+         */
+        public Product multiply(AdderInteger x) {
+            return multiply(x.bigintValue());
+        }
+
+        /**
+         * Multiplies this product by the given value.
+         *
+         * @param  x the value
+         * @return this product
+         */
+        public Product multiply(BigInteger x) {
+            load(x, operand);
+            Montgomery.this.multiply(value, operand, scratch, value);
+            shifts++;
+
+            return this;
+        }
+
+        /**
+         * Multiplies this product by another product from the same context,
+         * which is left unchanged.
+         *
+         * @param  x the other product
+         * @return this product
+         */
+        public Product multiply(Product x) {
+            Montgomery.this.multiply(value, x.value, scratch, value);
+            shifts += x.shifts + 1;
+
+            return this;
+        }
+
+        /**
+         * Sets this product to the given value.
+         *
+         * @param  x the value
+         * @return this product
+         */
+        public Product set(BigInteger x) {
+            load(x, value);
+            shifts = 0;
+
+            return this;
+        }
+
+        /**
+         * Sets this product back to one.
+         *
+         * @return this product
+         */
+        public Product reset() {
+            for (int i = 0; i < n; i++) {
+                value[i] = 0;
+            }
+
+            value[0] = 1;
+            shifts = 0;
+
+            return this;
+        }
+
+        /**
+         * Returns the value of this product.
+         *
+         * @return the product, reduced by the modulus
+         */
+        public BigInteger bigintValue() {
+            BigInteger v = toBigInteger(value);
+
+            if (shifts == 0) {
+                return v;
+            }
+
+            return v.multiply(r.modPow(BigInteger.valueOf(shifts), modulus))
+                    .mod(modulus);
+        }
+
+        /**
+         * Returns the value of this product.
+         *
+         * @return the product, reduced by the modulus
+         */
+        public AdderInteger getValue() {
+            return new AdderInteger(bigintValue(), modulus);
+        }
+    }
+
+    /**
+     * Sets <tt>out</tt> to <tt>a * b * R<sup>-1</sup></tt> modulo the
+     * modulus, using the CIOS method.  Both <tt>a</tt> and <tt>b</tt> must
+     * be less than the modulus; <tt>out</tt> may be either of them.
+     *
+     * @param a   the first factor
+     * @param b   the second factor
+     * @param t   scratch space of <tt>n + 2</tt> limbs
+     * @param out where to put the result
+     */
+    private void multiply(int[] a, int[] b, int[] t, int[] out) {
+        for (int i = 0; i < n + 2; i++) {
+            t[i] = 0;
+        }
+
+        for (int i = 0; i < n; i++) {
+            long bi = b[i] & MASK;
+            long carry = 0;
+
+            for (int j = 0; j < n; j++) {
+                long s = (t[j] & MASK) + (a[j] & MASK) * bi + carry;
+                t[j] = (int) s;
+                carry = s >>> 32;
+            }
+
+            long s = (t[n] & MASK) + carry;
+            t[n] = (int) s;
+            t[n + 1] = (int) (s >>> 32);
+
+            long u = (t[0] * mInv) & MASK;
+            s = (t[0] & MASK) + (m[0] & MASK) * u;
+            carry = s >>> 32;
+
+            for (int j = 1; j < n; j++) {
+                s = (t[j] & MASK) + (m[j] & MASK) * u + carry;
+                t[j - 1] = (int) s;
+                carry = s >>> 32;
+            }
+
+            s = (t[n] & MASK) + carry;
+            t[n - 1] = (int) s;
+            t[n] = t[n + 1] + (int) (s >>> 32);
+        }
+
+        if (t[n] != 0 || !lessThanModulus(t)) {
+            long borrow = 0;
+
+            for (int j = 0; j < n; j++) {
+                long d = (t[j] & MASK) - (m[j] & MASK) - borrow;
+                out[j] = (int) d;
+                borrow = (d < 0) ? 1 : 0;
+            }
+        } else {
+            System.arraycopy(t, 0, out, 0, n);
+        }
+    }
+
+    /**
+     * Returns whether the low <tt>n</tt> limbs of <tt>t</tt> are less than
+     * the modulus.
+     */
+    private boolean lessThanModulus(int[] t) {
+        for (int j = n - 1; j >= 0; j--) {
+            long tj = t[j] & MASK;
+            long mj = m[j] & MASK;
+
+            if (tj != mj) {
+                return tj < mj;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Splits a value into limbs, reducing it by the modulus first if need
+     * be.
+     */
+    private void load(BigInteger x, int[] out) {
+        if (x.signum() < 0 || x.compareTo(modulus) >= 0) {
+            x = x.mod(modulus);
+        }
+
+        toLimbs(x, out);
+    }
+
+    /**
+     * Splits a non-negative value into limbs, least significant first.
+     */
+    private static void toLimbs(BigInteger x, int[] out) {
+        byte[] bytes = x.toByteArray();
+        int len = bytes.length;
+
+        for (int i = 0; i < out.length; i++) {
+            out[i] = 0;
+        }
+
+        for (int i = 0; i < len && i / 4 < out.length; i++) {
+            out[i / 4] |= (bytes[len - 1 - i] & 0xff) << (8 * (i % 4));
+        }
+    }
+
+    /**
+     * Joins limbs, least significant first, into a value.
+     */
+    private static BigInteger toBigInteger(int[] a) {
+        byte[] bytes = new byte[4 * a.length];
+
+        for (int i = 0; i < a.length; i++) {
+            int limb = a[a.length - 1 - i];
+            bytes[4 * i] = (byte) (limb >>> 24);
+            bytes[4 * i + 1] = (byte) (limb >>> 16);
+            bytes[4 * i + 2] = (byte) (limb >>> 8);
+            bytes[4 * i + 3] = (byte) limb;
+        }
+
+        return new BigInteger(1, bytes);
+    }
+}
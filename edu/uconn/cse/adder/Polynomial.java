@@ -126,6 +126,9 @@ public class Polynomial {
     public List<AdderInteger> lagrange() {
         List<AdderInteger> lagrangeCoeffs =
             new ArrayList<AdderInteger>(coeffs.size());
+        AdderInteger[] numerators = new AdderInteger[coeffs.size()];
+        AdderInteger[] denominators = new AdderInteger[coeffs.size()];
+        int k = 0;
 
         /*for (AdderInteger ai : coeffs) {*/
         for (Iterator it = coeffs.iterator(); it.hasNext();) {
@@ -152,12 +155,44 @@ public class Polynomial {
                 }
             }
 
-            lagrangeCoeffs.add(numerator.divide(denominator));
+            numerators[k] = numerator;
+            denominators[k] = denominator;
+            k++;
+        }
+
+        // Dividing by every denominator at once costs a single modular
+        // inverse.
+        AdderInteger[] inverses = inverses(denominators);
+
+        for (int i = 0; i < k; i++) {
+            lagrangeCoeffs.add(numerators[i].multiply(inverses[i]));
         }
 
         return lagrangeCoeffs;
     }
 
+    /**
+     * Returns the inverses modulo <tt>q</tt> of the given values.
+     *
+     * @param  values the values
+     * @return the inverses, in the same order
+     */
+    private AdderInteger[] inverses(AdderInteger[] values) {
+        if (q.bigintValue().testBit(0)
+            && q.compareTo(AdderInteger.ONE) > 0) {
+            return new Montgomery(q).invert(values);
+        }
+
+        AdderInteger[] inverses = new AdderInteger[values.length];
+        AdderInteger one = new AdderInteger(AdderInteger.ONE, q);
+
+        for (int i = 0; i < values.length; i++) {
+            inverses[i] = one.divide(values[i]);
+        }
+
+        return inverses;
+    }
+
     /**
      * Returns the prime <tt>p</tt>.
      *
@@ -23,6 +23,14 @@ public class PublicKey {
     private AdderInteger g;
     private AdderInteger h;
     private AdderInteger f;
+    // Built on first use; volatile so a table built by one thread is seen
+    // whole by the others.
+    private volatile FixedBaseTable gTable;
+    private volatile FixedBaseTable hTable;
+    private volatile FixedBaseTable fTable;
+    private volatile FixedBaseTable fInverseTable;
+    private volatile AdderInteger fInverse;
+    private DiscreteLog discreteLog;
 
     /**
      * Creates a new PublicKey with the specified parameter values.
@@ -119,6 +127,7 @@ public class PublicKey {
         AdderInteger x = AdderInteger.random(q);
 
         this.h = g.pow(x);
+        this.hTable = null;
 
         return new PrivateKey(p, g, x, f);
     }
@@ -131,11 +140,38 @@ public class PublicKey {
      * @return the encrypted vote
      */
     private ElgamalCiphertext encrypt(AdderInteger m) {
+        return encrypt(m, precompute());
+    }
+
+    /**
+     * Picks the randomness for one encryption and computes its powers of
+     * <tt>g</tt> and <tt>h</tt>, which are the expensive part of encrypting.
+     * Done ahead of time, this leaves only multiplications for
+     * {@link #encrypt(AdderInteger, AdderInteger[])}.
+     *
+     * @return <tt>{r, g<sup>r</sup>, h<sup>r</sup>}</tt>
+     */
+    public AdderInteger[] precompute() {
         AdderInteger r = AdderInteger.random(q);
-        AdderInteger bigG = g.pow(r);
-        AdderInteger bigH = h.pow(r).multiply(f.pow(m));
 
-        ElgamalCiphertext ciphertext = new ElgamalCiphertext(bigG, bigH, r, p);
+        return new AdderInteger[] {r, powG(r), powH(r)};
+    }
+
+    /**
+     * Encrypts the given choice with randomness from {@link #precompute()}.
+     * The same randomness must never be used twice.
+     *
+     * @param m the choice
+     * @param precomputed <tt>{r, g<sup>r</sup>, h<sup>r</sup>}</tt>
+     *
+     * @return the encrypted choice
+     */
+    public ElgamalCiphertext encrypt(AdderInteger m,
+                                     AdderInteger[] precomputed) {
+        AdderInteger bigH = precomputed[2].multiply(powF(m));
+
+        ElgamalCiphertext ciphertext
+            = new ElgamalCiphertext(precomputed[1], bigH, precomputed[0], p);
 
         return ciphertext;
     }
@@ -171,9 +207,9 @@ public class PublicKey {
      */
     public ElgamalCiphertext encryptPoly(AdderInteger m) {
         AdderInteger r = AdderInteger.random(q);
-        AdderInteger bigG = g.pow(r);
+        AdderInteger bigG = powG(r);
         AdderInteger mPlusOne = new AdderInteger(m.add(AdderInteger.ONE), p);
-        AdderInteger bigH = h.pow(r).multiply(mPlusOne.pow(AdderInteger.TWO));
+        AdderInteger bigH = powH(r).multiply(mPlusOne.pow(AdderInteger.TWO));
 
         //XXX:  This is a VoteBox related change.  We need to keep r around, but not send it over the wire
         ElgamalCiphertext ciphertext = new ElgamalCiphertext(bigG, bigH, r, p);
@@ -181,6 +217,117 @@ public class PublicKey {
         return ciphertext;
     }
 
+    /**
+     * Returns <tt>g<sup>exponent</sup></tt>, using a table of precomputed
+     * powers of <tt>g</tt> that is built up as this key is used.
+     *
+     * @param exponent the exponent
+     * @return <tt>g<sup>exponent</sup></tt>
+     * @see FixedBaseTable
+     */
+    AdderInteger powG(AdderInteger exponent) {
+        FixedBaseTable table = gTable;
+        if (table == null) {
+            table = makeTable(g);
+            gTable = table;
+        }
+
+        return (table != null) ? table.pow(exponent) : g.pow(exponent);
+    }
+
+    /**
+     * Returns <tt>h<sup>exponent</sup></tt>, using a table of precomputed
+     * powers of <tt>h</tt> that is built up as this key is used.
+     *
+     * @param exponent the exponent
+     * @return <tt>h<sup>exponent</sup></tt>
+     * @see FixedBaseTable
+     */
+    AdderInteger powH(AdderInteger exponent) {
+        FixedBaseTable table = hTable;
+        if (table == null) {
+            table = makeTable(h);
+            hTable = table;
+        }
+
+        return (table != null) ? table.pow(exponent) : h.pow(exponent);
+    }
+
+    /**
+     * Returns <tt>f<sup>exponent</sup></tt>, using a table of precomputed
+     * powers of <tt>f</tt> that is built up as this key is used.
+     *
+     * @param exponent the exponent
+     * @return <tt>f<sup>exponent</sup></tt>
+     * @see FixedBaseTable
+     */
+    AdderInteger powF(AdderInteger exponent) {
+        FixedBaseTable table = fTable;
+        if (table == null) {
+            table = makeTable(f);
+            fTable = table;
+        }
+
+        return (table != null) ? table.pow(exponent) : f.pow(exponent);
+    }
+
+    /**
+     * Returns <tt>f<sup>-exponent</sup></tt>, so that dividing by a power of
+     * <tt>f</tt> costs a multiplication rather than a modular inverse.
+     *
+     * @param exponent the exponent
+     * @return <tt>f<sup>-exponent</sup></tt>
+     * @see FixedBaseTable
+     */
+    AdderInteger powFInverse(AdderInteger exponent) {
+        AdderInteger inverse = fInverse;
+        if (inverse == null) {
+            inverse = new AdderInteger(AdderInteger.ONE, p).divide(f);
+            fInverse = inverse;
+        }
+
+        if (FixedBaseTable.getMemoryLimit() == 0) {
+            return inverse.pow(exponent);
+        }
+
+        FixedBaseTable table = fInverseTable;
+        if (table == null) {
+            table = makeTable(inverse);
+            fInverseTable = table;
+        }
+
+        return (table != null) ? table.pow(exponent) : inverse.pow(exponent);
+    }
+
+    /**
+     * Returns the solver for discrete logarithms to the base <tt>f</tt>,
+     * shared by every election decrypted with this key.
+     *
+     * @return the solver
+     */
+    synchronized DiscreteLog getDiscreteLog() {
+        if (discreteLog == null) {
+            discreteLog = new DiscreteLog(f, p);
+        }
+
+        return discreteLog;
+    }
+
+    /**
+     * Creates a table of powers of the given base modulo <tt>p</tt>, or
+     * returns <tt>null</tt> if the base cannot use one.
+     *
+     * @param base the base
+     * @return the table, or <tt>null</tt>
+     */
+    private FixedBaseTable makeTable(AdderInteger base) {
+        if (base == null || !base.getModulus().equals(p)
+            || FixedBaseTable.getMemoryLimit() == 0) {
+            return null;
+        }
+
+        return new FixedBaseTable(base, p);
+    }
 
     /**
      * Returns the prime <tt>p</tt>.
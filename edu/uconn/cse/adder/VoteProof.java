@@ -106,6 +106,14 @@ public class VoteProof {
         return true;
     }
 
+    List<MembershipProof> getProofList() {
+        return proofList;
+    }
+
+    MembershipProof getSumProof() {
+        return sumProof;
+    }
+
     public static VoteProof fromString(String s) {
         StringTokenizer st = new StringTokenizer(s, " ");
         List<MembershipProof> pList
@@ -22,16 +22,17 @@
 
 package sexpression;
 
-import java.io.ByteArrayInputStream;
 import java.io.CharArrayReader;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import sexpression.lexer.*;
 import sexpression.parser.*;
-import sexpression.stream.ASEInputStreamReader;
+import sexpression.stream.ASEBufferReader;
+import sexpression.stream.ASEBufferWriter;
 import sexpression.stream.InvalidVerbatimStreamException;
 
 /**
@@ -85,21 +86,35 @@ public abstract class ASExpression {
      *         stream of bytes.
      * @throws InvalidVerbatimStreamException
      * @throws
-     * @see sexpression.stream.ASEInputStreamReader
+     * @see sexpression.stream.ASEBufferReader
      */
     public static ASExpression makeVerbatim(byte[] bytes)
             throws InvalidVerbatimStreamException {
-        try {
-            return new ASEInputStreamReader( new ByteArrayInputStream( bytes ) )
-                    .read();
-        }
-        catch (IOException e) {
-            // Should never get here, can't have an IO Exception on a memory
-            // stream.
-            throw new RuntimeException();
-        }
+        ASExpression expression = new ASEBufferReader( ByteBuffer
+                .wrap( bytes ) ).read();
+        if (expression == null)
+            throw new InvalidVerbatimStreamException( "read: the bytes end "
+                    + "before the expression does" );
+        return expression;
     }
 
+    // Looking up a digest costs more than hashing most strings with it. Whoever
+    // takes this thread's digest must be done with it before hashing anything
+    // else.
+    static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance( "SHA" );
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(
+                        "SHA-1 not supported on this platform" );
+            }
+        }
+    };
+
     /**
      * Compute the sha-1 hash of a given byte array.
      * 
@@ -108,19 +123,29 @@ public abstract class ASExpression {
      * @return This method returns the SHA-1 hash of the given byte array.
      */
     public static byte[] computeSHA1(byte[] expression) {
-        MessageDigest md = null;
-        try {
-            md = MessageDigest.getInstance( "SHA" );
-            md.update( expression );
-        }
-        catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException( "SHA-1 not supported on this platform" );
-        }
+        MessageDigest md = DIGEST.get();
+        md.update( expression );
+        return md.digest();
+    }
+
+    /**
+     * Compute the sha-1 hash of the bytes in a buffer, without copying them
+     * out of it.
+     * 
+     * @param bytes
+     *            Compute the hash of the bytes from this buffer's position to
+     *            its limit. Its position is not changed.
+     * @return This method returns the SHA-1 hash of the bytes.
+     */
+    public static byte[] computeSHA1(ByteBuffer bytes) {
+        MessageDigest md = DIGEST.get();
+        md.update( bytes.duplicate() );
         return md.digest();
     }
 
     // lazy eval save
     private byte[] _hash = null;
+    private byte[] _structuralHash = null;
     private byte[] _verbatim = null;
     private String _string = null;
 
@@ -197,6 +222,42 @@ public abstract class ASExpression {
         return new HashMap<String, ASExpression>();
     }
 
+    /**
+     * Match target against this pattern the way match does, but add what the
+     * wildcards matched to the end of a list that the caller passes down,
+     * instead of building a list at every level of the pattern.
+     * 
+     * @param target
+     *            Treat "this" as a pattern and match against target.
+     * @param out
+     *            The matched subexpressions are added to this list. If the
+     *            match fails, some may have been added anyway.
+     * @return This method returns true if target matches the pattern.
+     */
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        ASExpression result = match( target );
+        if (result == NoMatch.SINGLETON)
+            return false;
+        for (ASExpression ase : (ListExpression) result)
+            out.add( ase );
+        return true;
+    }
+
+    /**
+     * Match target against this pattern the way namedMatch does, but put the
+     * mappings into a map that the caller passes down.
+     * 
+     * @param target
+     *            Treat "this" as a pattern and match against target.
+     * @param out
+     *            The mappings are put into this map. If the match fails, some
+     *            may have been put there anyway.
+     * @return This method returns true if target matches the pattern.
+     */
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return match( target ) != NoMatch.SINGLETON;
+    }
+
     /**
      * Convert this s-expression into Rivest verbatim format:<br>
      * String: "[len]:[bytes]"<br>
@@ -207,27 +268,99 @@ public abstract class ASExpression {
      */
     public byte[] toVerbatim() {
         if (_verbatim == null) {
-            _verbatim = toVerbatimHelp().getBytes();
+            ASEBufferWriter writer = new ASEBufferWriter();
+            writer.write( this );
+            _verbatim = writer.toByteArray();
         }
         return _verbatim;
     }
 
     /**
      * This method computes the SHA1 hash of the verbatim representation of this
-     * S-Expression.
+     * S-Expression. This is the hash that goes on the wire and into logs (in
+     * message pointers, for instance), so it can't change. The verbatim form
+     * is fed to the digest as the expression is walked, and isn't built unless
+     * it already has been.
      * 
      * @return This method returns the SHA1 hash of this sexpression.
      * @throws IncorrectUseException
      *             This method throws if "This" cannot be converted into a
      *             verbatim string.
+     * @see #getStructuralHash()
      */
     public byte[] getSHA1() {
         if (_hash == null) {
-            _hash = computeSHA1( toVerbatim() );
+            MessageDigest md = DIGEST.get();
+            digestVerbatim( md );
+            _hash = md.digest();
         }
         return _hash;
     }
 
+    /**
+     * Feed the verbatim representation of this expression to a digest.
+     * 
+     * @param md
+     *            Update this digest.
+     */
+    void digestVerbatim(MessageDigest md) {
+        if (_verbatim != null)
+            md.update( _verbatim );
+        else
+            digestVerbatimHelp( md );
+    }
+
+    /**
+     * Feed the verbatim representation of this expression to a digest,
+     * without building it if possible. Types that can should override this.
+     * 
+     * @param md
+     *            Update this digest.
+     */
+    void digestVerbatimHelp(MessageDigest md) {
+        md.update( toVerbatim() );
+    }
+
+    /**
+     * Get a hash of this expression that is built up from the hashes of its
+     * parts, the way a Merkle tree is: a list's hash covers the hashes of its
+     * elements rather than their bytes. Every expression keeps its own hash
+     * once it has been computed, so hashing a list whose elements have been
+     * hashed before (interned strings, for instance) only hashes the list
+     * itself.<br>
+     * <br>
+     * This is not the same as getSHA1(), and must not be used where the hash
+     * has to agree with other hosts or with a log; it is for telling
+     * expressions apart within this process.
+     * 
+     * @return This method returns the structural hash of this expression.
+     */
+    public byte[] getStructuralHash() {
+        if (_structuralHash == null)
+            _structuralHash = computeStructuralHash();
+        return _structuralHash;
+    }
+
+    /**
+     * Compute the structural hash of this expression. Types other than
+     * strings and lists are hashed by their verbatim form.
+     * 
+     * @return This method returns the structural hash of this expression.
+     */
+    byte[] computeStructuralHash() {
+        byte[] verbatim = toVerbatim();
+        MessageDigest md = DIGEST.get();
+        md.update( OTHER_TAG );
+        md.update( verbatim );
+        return md.digest();
+    }
+
+    // The first byte hashed for each kind of expression, so that no two kinds
+    // can hash alike.
+    static final byte STRING_TAG = 0;
+    static final byte LIST_TAG = 1;
+    static final byte OTHER_TAG = 2;
+
     /**
      * @see java.lang.Object#toString()
      */
@@ -244,7 +377,7 @@ public abstract class ASExpression {
      */
     @Override
     public int hashCode() {
-        byte[] sha = getSHA1();
+        byte[] sha = getStructuralHash();
         return (((int) sha[0]) << 24) | (((int) sha[1]) << 16)
                 | (((int) sha[2]) << 8) | (int) sha[3];
     }
@@ -22,6 +22,7 @@
 
 package sexpression;
 
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -130,34 +131,62 @@ public class ListExpression extends ASExpression implements
         return buf;
     }
 
+    /**
+     * @see sexpression.ASExpression#digestVerbatimHelp(java.security.MessageDigest)
+     */
+    @Override
+    void digestVerbatimHelp(MessageDigest md) {
+        md.update( (byte) '(' );
+        for (ASExpression ase : _list)
+            ase.digestVerbatim( md );
+        md.update( (byte) ')' );
+    }
+
+    /**
+     * A list hashes the hashes of its elements.
+     * 
+     * @see sexpression.ASExpression#computeStructuralHash()
+     */
+    @Override
+    byte[] computeStructuralHash() {
+        // Hash the elements first, since they need the digest too.
+        for (ASExpression ase : _list)
+            ase.getStructuralHash();
+
+        MessageDigest md = DIGEST.get();
+        md.update( LIST_TAG );
+        for (ASExpression ase : _list)
+            md.update( ase.getStructuralHash() );
+        return md.digest();
+    }
+
     /**
      * @see sexpression.ASExpression#match(sexpression.ASExpression)
      */
     @Override
     public ASExpression match(ASExpression target) {
-        if (!(target instanceof ListExpression))
+        ArrayList<ASExpression> matchList = new ArrayList<ASExpression>();
+        if (!matchInto( target, matchList ))
             return NoMatch.SINGLETON;
+        return new ListExpression( matchList );
+    }
+
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        if (!(target instanceof ListExpression))
+            return false;
         ASExpression[] targetlist = ((ListExpression) target)._list;
         if (targetlist.length != _list.length)
-            return NoMatch.SINGLETON;
-
-        ASExpression thiselt, targetelt;
-        ArrayList<ASExpression> matchList = new ArrayList<ASExpression>();
-        for (int lcv = 0; lcv < _list.length; lcv++) {
-            thiselt = _list[lcv];
-            targetelt = targetlist[lcv];
-
-            ASExpression result = thiselt.match( targetelt );
-            if (result == NoMatch.SINGLETON)
-                return NoMatch.SINGLETON;
-            else
-                for (ASExpression ase : (ListExpression) result)
-                    matchList.add( ase );
-
-        }
+            return false;
 
-        ListExpression ret = new ListExpression( matchList );
-        return ret;
+        for (int lcv = 0; lcv < _list.length; lcv++)
+            if (!_list[lcv].matchInto( targetlist[lcv], out ))
+                return false;
+        return true;
     }
 
     /**
@@ -165,27 +194,28 @@ public class ListExpression extends ASExpression implements
      */
     @Override
     public HashMap<String, ASExpression> namedMatch(ASExpression target) {
-        if (!(target instanceof ListExpression))
+        HashMap<String, ASExpression> matchList = new HashMap<String, ASExpression>();
+        if (!namedMatchInto( target, matchList ))
             return NamedNoMatch.SINGLETON;
+        return matchList;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        if (!(target instanceof ListExpression))
+            return false;
         ASExpression[] targetlist = ((ListExpression) target)._list;
         if (targetlist.length != _list.length)
-            return NamedNoMatch.SINGLETON;
-
-        ASExpression thiselt, targetelt;
-        HashMap<String, ASExpression> matchList = new HashMap<String, ASExpression>();
-        for (int lcv = 0; lcv < _list.length; lcv++) {
-            thiselt = _list[lcv];
-            targetelt = targetlist[lcv];
-
-            HashMap<String, ASExpression> result = thiselt
-                    .namedMatch( targetelt );
-            if (result == NamedNoMatch.SINGLETON)
-                return NamedNoMatch.SINGLETON;
-            else
-                matchList.putAll( result );
-        }
+            return false;
 
-        return matchList;
+        for (int lcv = 0; lcv < _list.length; lcv++)
+            if (!_list[lcv].namedMatchInto( targetlist[lcv], out ))
+                return false;
+        return true;
     }
 
     /**
@@ -22,6 +22,9 @@
 
 package sexpression;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 /**
  * An instance of this class represents a list wildcard that constrains slightly
  * more the contents of the list. Each element in the list much match a
@@ -43,17 +46,51 @@ public class ListWildcard extends AWildcard {
      */
     @Override
     public ASExpression match(ASExpression target) {
-        if (!(target instanceof ListExpression))
+        if (!elementsMatch( target ))
             return NoMatch.SINGLETON;
 
-        ListExpression lst = (ListExpression) target;
-        for (ASExpression ase : lst)
-            if (_pattern.match( ase ) == NoMatch.SINGLETON)
-                return NoMatch.SINGLETON;
-
         return new ListExpression( target );
     }
 
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        if (!elementsMatch( target ))
+            return false;
+        out.add( target );
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return elementsMatch( target );
+    }
+
+    /**
+     * @return true if target is a list whose every element matches the
+     *         pattern.
+     */
+    private boolean elementsMatch(ASExpression target) {
+        if (!(target instanceof ListExpression))
+            return false;
+
+        // What the elements matched is thrown away, so one list will do.
+        ArrayList<ASExpression> ignored = new ArrayList<ASExpression>();
+        for (ASExpression ase : (ListExpression) target) {
+            if (!_pattern.matchInto( ase, ignored ))
+                return false;
+            ignored.clear();
+        }
+        return true;
+    }
+
     /**
      * @see sexpression.ASExpression#toStringHelp()
      */
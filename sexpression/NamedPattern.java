@@ -22,6 +22,7 @@
 
 package sexpression;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 
 /**
@@ -72,6 +73,41 @@ public class NamedPattern extends ASExpression {
         return map;
     }
 
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        return _pattern.matchInto( target, out );
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        if (_pattern.match( target ) == NoMatch.SINGLETON)
+            return false;
+        out.put( _name, target );
+        return true;
+    }
+
+    /**
+     * @return This method returns the name of the pattern.
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * @return This method returns the pattern this names.
+     */
+    public ASExpression getPattern() {
+        return _pattern;
+    }
+
     /**
      * @see sexpression.ASExpression#size()
      */
@@ -0,0 +1,194 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A set of patterns, each with a value, compiled into a decision tree keyed on
+ * the kind of expression, then on list arity, then on the leading symbol of the
+ * list. Looking up a target gives back, in the order they were added, the
+ * values of just those patterns that could match it, without trying any of
+ * them. Which of those actually do match is still up to the caller.<br>
+ * <br>
+ * A list pattern whose first element is a string (like
+ * <tt>(polls-open #string #string)</tt>) only comes back for lists of its
+ * length starting with that string. List patterns that start with anything
+ * else come back for every list of their length, #list patterns for every list
+ * and #any for everything.<br>
+ * <br>
+ * Add all the patterns before sharing the table between threads; looking
+ * things up doesn't change it.
+ *
+ * @author Montrose
+ */
+public class PatternTable<T> {
+
+    /**
+     * The lists of one arity.
+     */
+    private final class Arity {
+        // Patterns of this arity without a leading symbol, and #list and #any.
+        final ArrayList<T> _any;
+        final HashMap<StringExpression, ArrayList<T>> _byHead = new HashMap<StringExpression, ArrayList<T>>();
+
+        Arity() {
+            _any = new ArrayList<T>( _lists );
+        }
+    }
+
+    private final ArrayList<T> _strings = new ArrayList<T>();
+    private final ArrayList<T> _lists = new ArrayList<T>();
+    private final ArrayList<T> _others = new ArrayList<T>();
+    private final HashMap<Integer, Arity> _byArity = new HashMap<Integer, Arity>();
+
+    /**
+     * Add a pattern to the table. It goes after every pattern already added.
+     *
+     * @param pattern
+     *            This is the pattern.
+     * @param value
+     *            This is what a lookup hands back when the pattern could match.
+     */
+    public void add(ASExpression pattern, T value) {
+        while (pattern instanceof NamedPattern)
+            pattern = ((NamedPattern) pattern).getPattern();
+
+        if (pattern instanceof StringExpression
+                || pattern instanceof StringWildcard)
+            _strings.add( value );
+        else if (pattern instanceof ListExpression)
+            addList( (ListExpression) pattern, value );
+        else if (pattern instanceof ListWildcard)
+            addAnyList( value );
+        else if (pattern instanceof Wildcard) {
+            _strings.add( value );
+            _others.add( value );
+            addAnyList( value );
+        }
+        else
+            _others.add( value );
+    }
+
+    /**
+     * Find the patterns that could match an expression.
+     *
+     * @param target
+     *            This is the expression to be matched.
+     * @return This method returns the values of the patterns that could match
+     *         target, in the order they were added. The list belongs to the
+     *         table and must not be changed.
+     */
+    public ArrayList<T> candidates(ASExpression target) {
+        if (target instanceof StringExpression)
+            return _strings;
+        if (!(target instanceof ListExpression))
+            return _others;
+
+        ListExpression list = (ListExpression) target;
+        Arity arity = _byArity.get( list.size() );
+        if (arity == null)
+            return _lists;
+        if (list.size() > 0 && list.get( 0 ) instanceof StringExpression) {
+            ArrayList<T> byHead = arity._byHead.get( list.get( 0 ) );
+            if (byHead != null)
+                return byHead;
+        }
+        return arity._any;
+    }
+
+    /**
+     * Check a single pattern against an expression the way a table holding
+     * just that pattern would, without building one.
+     *
+     * @param pattern
+     *            This is the pattern.
+     * @param target
+     *            This is the expression to be matched.
+     * @return This method returns false if pattern can't match target. True
+     *         means it might, and the caller still has to match it.
+     */
+    public static boolean couldMatch(ASExpression pattern, ASExpression target) {
+        while (pattern instanceof NamedPattern)
+            pattern = ((NamedPattern) pattern).getPattern();
+
+        if (pattern instanceof StringExpression
+                || pattern instanceof StringWildcard)
+            return target instanceof StringExpression;
+        if (pattern instanceof ListWildcard)
+            return target instanceof ListExpression;
+        if (!(pattern instanceof ListExpression))
+            return true;
+        if (!(target instanceof ListExpression))
+            return false;
+
+        ListExpression list = (ListExpression) pattern;
+        ListExpression tlist = (ListExpression) target;
+        if (list.size() != tlist.size())
+            return false;
+        if (list.size() == 0)
+            return true;
+
+        ASExpression head = list.get( 0 );
+        while (head instanceof NamedPattern)
+            head = ((NamedPattern) head).getPattern();
+        return !(head instanceof StringExpression)
+                || head.equals( tlist.get( 0 ) );
+    }
+
+    private void addList(ListExpression pattern, T value) {
+        Arity arity = _byArity.get( pattern.size() );
+        if (arity == null) {
+            arity = new Arity();
+            _byArity.put( pattern.size(), arity );
+        }
+
+        ASExpression head = pattern.size() > 0 ? pattern.get( 0 ) : null;
+        while (head instanceof NamedPattern)
+            head = ((NamedPattern) head).getPattern();
+
+        if (!(head instanceof StringExpression)) {
+            arity._any.add( value );
+            for (ArrayList<T> byHead : arity._byHead.values())
+                byHead.add( value );
+            return;
+        }
+
+        ArrayList<T> byHead = arity._byHead.get( head );
+        if (byHead == null) {
+            byHead = new ArrayList<T>( arity._any );
+            arity._byHead.put( (StringExpression) head, byHead );
+        }
+        byHead.add( value );
+    }
+
+    private void addAnyList(T value) {
+        _lists.add( value );
+        for (Arity arity : _byArity.values()) {
+            arity._any.add( value );
+            for (ArrayList<T> byHead : arity._byHead.values())
+                byHead.add( value );
+        }
+    }
+}
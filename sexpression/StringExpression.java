@@ -24,7 +24,9 @@ package sexpression;
 
 import sexpression.ByteArrayBuffer.ByteArray;
 import sexpression.stream.Base64;
-import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -36,30 +38,8 @@ import java.util.HashMap;
  */
 public class StringExpression extends ASExpression {
 
-    public static class BytesBox {
-        private final byte[] _bytes;
-
-        private BytesBox(byte[] bytes) {
-            _bytes = bytes;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (!(o instanceof BytesBox))
-                return false;
-
-            return Arrays.equals(_bytes, ((BytesBox) o)._bytes);
-        }
-
-        @Override
-        public int hashCode() {
-            return (((int) _bytes[0]) << 24) | (((int) _bytes[1]) << 16)
-                    | (((int) _bytes[2]) << 8) | (int) _bytes[3];
-        }
-    }
-
     public static final StringExpression EMPTY = new StringExpression();
-    public static final HashMap<BytesBox, WeakReference<StringExpression>> _interned = new HashMap<BytesBox, WeakReference<StringExpression>>();
+    private static final InternTable INTERNED = new InternTable();
 
     /**
      * Ask for an expression that represents the given string. This method
@@ -88,36 +68,97 @@ public class StringExpression extends ASExpression {
      *         given byte string.
      */
     public static StringExpression makeString(byte[] bytes) {
-        BytesBox hash = new BytesBox(ASExpression.computeSHA1(bytes));
-        synchronized (_interned) {
-            if (_interned.containsKey(hash)
-                    && _interned.get(hash).get() != null)
-                return _interned.get(hash).get();
+        return makeString(bytes, true);
+    }
 
-            StringExpression retval = new StringExpression(bytes);
-            _interned.put(new BytesBox(ASExpression.computeSHA1(bytes)),
-                    new WeakReference<StringExpression>(retval));
-            return retval;
-        }
+    /**
+     * Ask for an expression that represents the given byte array, interned or
+     * not. An expression that isn't interned still matches an equal string,
+     * but matching it has to compare bytes, and it doesn't share its bytes
+     * with other copies of the same string. Parsers that read a lot of strings
+     * which are never seen twice can save the table lookups this way.
+     * 
+     * @param bytes
+     *            Make an expression that represents this set of bytes as a
+     *            string. It may become the expression's own, so don't change
+     *            it afterwards.
+     * @param intern
+     *            If true, return the interned expression, as makeString(byte[])
+     *            does.
+     * @return This method returns an expression that represents the given
+     *         byte string.
+     */
+    public static StringExpression makeString(byte[] bytes, boolean intern) {
+        if (bytes.length == 0)
+            return EMPTY;
+        if (!intern)
+            return new StringExpression(bytes, false);
+        return INTERNED.intern(ByteBuffer.wrap(bytes), bytes);
+    }
 
+    /**
+     * Ask for an expression that represents the bytes in the given buffer, from
+     * its position to its limit. If one has already been interned it is
+     * returned without the bytes being copied out of the buffer; otherwise they
+     * are copied into a new expression, so the buffer may be reused or unmapped
+     * afterwards. The buffer's position is not changed.
+     * 
+     * @param bytes
+     *            Make an expression that represents the remaining bytes of
+     *            this buffer as a string.
+     * @return This method returns the interned expression that represents the
+     *         given byte string.
+     */
+    public static StringExpression makeString(ByteBuffer bytes) {
+        return makeString(bytes, true);
     }
 
-    private byte[] _bytes;
+    /**
+     * Ask for an expression that represents the bytes in the given buffer,
+     * interned or not (see {@link #makeString(byte[], boolean)}). The
+     * buffer's position is not changed.
+     * 
+     * @param bytes
+     *            Make an expression that represents the remaining bytes of
+     *            this buffer as a string.
+     * @param intern
+     *            If true, return the interned expression, as
+     *            makeString(ByteBuffer) does.
+     * @return This method returns an expression that represents the given
+     *         byte string.
+     */
+    public static StringExpression makeString(ByteBuffer bytes, boolean intern) {
+        if (!bytes.hasRemaining())
+            return EMPTY;
+        if (intern)
+            return INTERNED.intern(bytes, null);
+
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.duplicate().get(copy);
+        return new StringExpression(copy, false);
+    }
+
+    private final byte[] _bytes;
+    private final boolean _interned;
 
     /**
      * Construct a string sexp that is empty.
      */
     private StringExpression() {
         _bytes = new byte[0];
+        _interned = true;
     }
 
     /**
      * This is a constructor for ByteStringExpression
      * 
      * @param bytes
+     * @param interned
+     *            True if this is the one interned expression for its bytes.
      */
-    private StringExpression(byte[] bytes) {
+    StringExpression(byte[] bytes, boolean interned) {
         _bytes = bytes;
+        _interned = interned;
     }
 
     /**
@@ -168,12 +209,42 @@ public class StringExpression extends ASExpression {
         return buf;
     }
 
+    /**
+     * @see sexpression.ASExpression#digestVerbatimHelp(java.security.MessageDigest)
+     */
+    @Override
+    void digestVerbatimHelp(MessageDigest md) {
+        byte[] length = new byte[11];
+        int at = length.length;
+        length[--at] = ':';
+        int n = _bytes.length;
+        do {
+            length[--at] = (byte) ('0' + n % 10);
+            n /= 10;
+        } while (n > 0);
+        md.update(length, at, length.length - at);
+        md.update(_bytes);
+    }
+
+    /**
+     * A string hashes its bytes.
+     * 
+     * @see sexpression.ASExpression#computeStructuralHash()
+     */
+    @Override
+    byte[] computeStructuralHash() {
+        MessageDigest md = DIGEST.get();
+        md.update(STRING_TAG);
+        md.update(_bytes);
+        return md.digest();
+    }
+
     /**
      * @see sexpression.ASExpression#match(sexpression.ASExpression)
      */
     @Override
-    public synchronized ASExpression match(ASExpression target) {
-        if (this == target)
+    public ASExpression match(ASExpression target) {
+        if (same(target))
             return ListExpression.EMPTY;
         return NoMatch.SINGLETON;
     }
@@ -182,13 +253,46 @@ public class StringExpression extends ASExpression {
      * @see sexpression.ASExpression#namedMatch(sexpression.ASExpression)
      */
     @Override
-    public synchronized HashMap<String, ASExpression> namedMatch(
-            ASExpression target) {
-        if (this == target)
+    public HashMap<String, ASExpression> namedMatch(ASExpression target) {
+        if (same(target))
             return new HashMap<String, ASExpression>();
         return NamedNoMatch.SINGLETON;
     }
 
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        return same(target);
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return same(target);
+    }
+
+    /**
+     * @return true if the target is this string. Two interned expressions are
+     *         only the same string if they are the same expression.
+     */
+    private boolean same(ASExpression target) {
+        if (this == target)
+            return true;
+        if (!(target instanceof StringExpression))
+            return false;
+
+        StringExpression other = (StringExpression) target;
+        if (_interned && other._interned)
+            return false;
+        return Arrays.equals(_bytes, other._bytes);
+    }
+
     /**
      * This method returns a copy of the bytes. Because s-expressions are
      * immutable, we do not wish to return the actual data.
@@ -232,22 +336,13 @@ public class StringExpression extends ASExpression {
     }
 
     /**
-     * @see java.lang.Object#finalize()
-     */
-
-    @Override
-    public void finalize() {
-        _interned.remove(new BytesBox(_bytes));
-    }
-    
-    /**
-     * 
+     * Two strings are equal if they have the same bytes.
      */
     @Override
     public boolean equals(Object o){
     	if(!(o instanceof StringExpression))
     		return false;
     	
-    	return toString().equals(o.toString());
+    	return same((StringExpression) o);
     }
 }
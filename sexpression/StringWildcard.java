@@ -22,6 +22,9 @@
 
 package sexpression;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 /**
  * This pattern expression represents any string expression.
  * 
@@ -44,6 +47,27 @@ public class StringWildcard extends AWildcard {
         return NoMatch.SINGLETON;
     }
 
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        if (!(target instanceof StringExpression))
+            return false;
+        out.add( target );
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return target instanceof StringExpression;
+    }
+
     /**
      * @see sexpression.ASExpression#size()
      */
@@ -22,6 +22,9 @@
 
 package sexpression;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 /**
  * This pattern wildcard represents any list or string s-expression.
  * 
@@ -42,6 +45,25 @@ public class Wildcard extends AWildcard {
         return new ListExpression( target );
     }
 
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        out.add( target );
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return true;
+    }
+
     /**
      * @see sexpression.ASExpression#size()
      */
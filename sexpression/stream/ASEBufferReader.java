@@ -0,0 +1,251 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import sexpression.*;
+
+/**
+ * The ASEBufferReader parses ASExpressions that have been serialized in
+ * verbatim or base64/canonical form straight out of a ByteBuffer, which may be
+ * a region of a memory-mapped file. Unlike an {@link ASEInputStreamReader} it
+ * never copies the input a byte at a time: it looks at the buffer in place,
+ * and a string is only copied out of it the first time that string is seen
+ * (see {@link StringExpression#makeString(ByteBuffer)}), or every time if the
+ * reader doesn't intern.
+ *
+ * @author Montrose
+ *
+ */
+public class ASEBufferReader {
+
+    private final ByteBuffer _buffer;
+    private final boolean _intern;
+    private int _at;
+
+    /**
+     * @param buffer
+     *            This is the buffer off which ASExpressions are parsed, from its
+     *            position to its limit.
+     */
+    public ASEBufferReader(ByteBuffer buffer) {
+        this( buffer, true );
+    }
+
+    /**
+     * @param buffer
+     *            This is the buffer off which ASExpressions are parsed, from its
+     *            position to its limit.
+     * @param intern
+     *            If false, the strings parsed aren't interned (see
+     *            {@link StringExpression#makeString(byte[], boolean)}).
+     */
+    public ASEBufferReader(ByteBuffer buffer, boolean intern) {
+        _buffer = buffer;
+        _intern = intern;
+    }
+
+    /**
+     * Parse one ASExpression off the buffer.
+     *
+     * @return This method returns the parsed ASExpression, and leaves the
+     *         buffer's position just past it. If the buffer ends before the
+     *         expression does, this method returns null and leaves the
+     *         position where it was.
+     * @throws InvalidVerbatimStreamException
+     *             This method throws if there is invalid data in the buffer.
+     */
+    public ASExpression read() throws InvalidVerbatimStreamException {
+        _at = _buffer.position();
+        if (_at == _buffer.limit())
+            return null;
+
+        ASExpression expression;
+        if (_buffer.get( _at ) == '{')
+            expression = readBase64();
+        else
+            expression = readASE();
+
+        if (expression != null)
+            _buffer.position( _at );
+        return expression;
+    }
+
+    /**
+     * Parse the expression that starts at the current offset.
+     *
+     * @return the expression, or null if the buffer ends first.
+     */
+    private ASExpression readASE() throws InvalidVerbatimStreamException {
+        if (_at == _buffer.limit())
+            return null;
+
+        byte b = _buffer.get( _at++ );
+        switch (b) {
+        case '(':
+            return readList();
+        case '#':
+            return readWildcard();
+        case '%':
+            return readNamedPattern();
+        }
+
+        if (Character.isDigit( b ))
+            return readString( b );
+
+        throw new InvalidVerbatimStreamException( "read: '" + (char) b
+                + "' as " + b + ": expected to be a number, '(', '#', or '%'." );
+    }
+
+    /**
+     * Parse a string whose first length digit has already been read.
+     */
+    private ASExpression readString(byte first)
+            throws InvalidVerbatimStreamException {
+        int length = first - '0';
+        while (true) {
+            if (_at == _buffer.limit())
+                return null;
+
+            byte b = _buffer.get( _at++ );
+            if (b == ':')
+                break;
+            if (!Character.isDigit( b )
+                    || length > (Integer.MAX_VALUE - 9) / 10)
+                throw new InvalidVerbatimStreamException( "read: '" + (char) b
+                        + "' as " + b + ": expected a string length." );
+            length = length * 10 + (b - '0');
+        }
+
+        if (length > _buffer.limit() - _at)
+            return null;
+
+        ByteBuffer slice = _buffer.duplicate();
+        slice.limit( _at + length );
+        slice.position( _at );
+        _at += length;
+        return StringExpression.makeString( slice, _intern );
+    }
+
+    /**
+     * Parse the rest of a list whose open paren has already been read.
+     */
+    private ASExpression readList() throws InvalidVerbatimStreamException {
+        ArrayList<ASExpression> list = new ArrayList<ASExpression>();
+        while (true) {
+            if (_at == _buffer.limit())
+                return null;
+            if (_buffer.get( _at ) == ')') {
+                _at++;
+                return new ListExpression( list );
+            }
+
+            ASExpression element = readASE();
+            if (element == null)
+                return null;
+            list.add( element );
+        }
+    }
+
+    /**
+     * Parse the rest of a wildcard whose '#' has already been read.
+     */
+    private ASExpression readWildcard() throws InvalidVerbatimStreamException {
+        if (_at == _buffer.limit())
+            return null;
+
+        switch (_buffer.get( _at++ )) {
+        case ASEInputStreamReader.ANY:
+            return Wildcard.SINGLETON;
+        case ASEInputStreamReader.STRING:
+            return StringWildcard.SINGLETON;
+        case ASEInputStreamReader.WILDCARD:
+            return WildcardWildcard.SINGLETON;
+        case ASEInputStreamReader.NOTHING:
+            return Nothing.SINGLETON;
+        case ASEInputStreamReader.NOMATCH:
+            return NoMatch.SINGLETON;
+        case ASEInputStreamReader.LIST:
+            ASExpression pattern = readASE();
+            return pattern == null ? null : new ListWildcard( pattern );
+        }
+        throw new InvalidVerbatimStreamException(
+                "# wasn't followed by an acceptable byte" );
+    }
+
+    /**
+     * Parse the rest of a named pattern whose '%' has already been read.
+     */
+    private ASExpression readNamedPattern()
+            throws InvalidVerbatimStreamException {
+        ASExpression name = readASE();
+        if (name == null)
+            return null;
+        if (!(name instanceof StringExpression))
+            throw new InvalidVerbatimStreamException(
+                    "% wasn't followed by a name" );
+
+        ASExpression pattern = readASE();
+        if (pattern == null)
+            return null;
+        return new NamedPattern( name.toString(), pattern );
+    }
+
+    /**
+     * Parse an expression in base64/canonical form, starting at its '{'.
+     */
+    private ASExpression readBase64() throws InvalidVerbatimStreamException {
+        int start = _at + 1;
+        int end = start;
+        while (end < _buffer.limit() && _buffer.get( end ) != '}')
+            end++;
+        if (end == _buffer.limit())
+            return null;
+
+        byte[] decoded;
+        if (_buffer.hasArray())
+            decoded = Base64.decode( _buffer.array(), _buffer.arrayOffset()
+                    + start, end - start );
+        else {
+            byte[] encoded = new byte[end - start];
+            ByteBuffer slice = _buffer.duplicate();
+            slice.position( start );
+            slice.get( encoded );
+            decoded = Base64.decode( encoded, 0, encoded.length );
+        }
+        if (decoded == null)
+            throw new InvalidVerbatimStreamException(
+                    "read: '{' wasn't followed by base64" );
+
+        ByteBuffer inner = ByteBuffer.wrap( decoded );
+        ASExpression expression = new ASEBufferReader( inner, _intern ).read();
+        if (expression == null || inner.hasRemaining())
+            throw new InvalidVerbatimStreamException(
+                    "read: the base64 didn't hold one expression" );
+
+        _at = end + 1;
+        return expression;
+    }
+}
@@ -0,0 +1,287 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import sexpression.ASExpression;
+
+/**
+ * The ASEFrameDecoder pulls whole ASExpressions, serialized back to back in
+ * verbatim form, out of a sequence of ByteBuffers that may split them at any
+ * point. It is meant for non-blocking channels, where a read returns whatever
+ * bytes happen to have arrived. An expression that arrives whole is parsed in
+ * place with an {@link ASEBufferReader}. Otherwise the buffer is scanned just
+ * far enough to find where the expression ends, its bytes are held until the
+ * rest of it arrives, and the held bytes are parsed the same way.<br>
+ * <br>
+ * The scan only looks at structure: the body of a string is skipped by its
+ * length without being examined.
+ *
+ * @author Montrose
+ *
+ */
+public class ASEFrameDecoder {
+
+    /**
+     * Frames larger than this don't keep their buffer once they're parsed.
+     */
+    private static final int RETAINED_CAPACITY = 64 * 1024;
+
+    private static final int TOKEN = 0;
+    private static final int LENGTH = 1;
+    private static final int WILDCARD = 2;
+    private static final int BASE64 = 3;
+
+    private byte[] _frame = new byte[256];
+    private int _size = 0;
+
+    private int _state = TOKEN;
+    private int _depth = 0;
+    private int _length = 0;
+    private int _remaining = 0;
+
+    // Each entry is {depth, expressions still needed} for a '#l' or '%' prefix
+    // which hasn't been followed by all of its expressions yet.
+    private final ArrayList<int[]> _prefixes = new ArrayList<int[]>();
+
+    private final boolean _intern;
+
+    /**
+     * Construct a decoder that interns the strings it parses.
+     */
+    public ASEFrameDecoder() {
+        this( true );
+    }
+
+    /**
+     * @param intern
+     *            If false, the strings parsed aren't interned (see
+     *            {@link sexpression.StringExpression#makeString(byte[], boolean)}).
+     */
+    public ASEFrameDecoder(boolean intern) {
+        _intern = intern;
+    }
+
+    /**
+     * Consume every remaining byte of the given buffer.
+     *
+     * @param in
+     *            Read from this buffer, from its position to its limit.
+     * @return This method returns the expressions that were completed by the
+     *         bytes in the buffer, in the order they were sent. The list is
+     *         empty if none were.
+     * @throws InvalidVerbatimStreamException
+     *             This method throws if the bytes can't be verbatim
+     *             s-expressions. The decoder should not be used again after it
+     *             throws.
+     */
+    public List<ASExpression> decode(ByteBuffer in)
+            throws InvalidVerbatimStreamException {
+        List<ASExpression> decoded = new ArrayList<ASExpression>();
+
+        ASExpression expression;
+        while ((expression = next( in )) != null)
+            decoded.add( expression );
+
+        return decoded;
+    }
+
+    /**
+     * Consume bytes of the given buffer up to the end of the next expression,
+     * and no further.
+     *
+     * @param in
+     *            Read from this buffer, starting at its position. When an
+     *            expression is returned, its position is just past the
+     *            expression's last byte.
+     * @return This method returns the next expression, or null if the buffer
+     *         ran out first. The bytes read are held until the rest of the
+     *         expression is given to a later call.
+     * @throws InvalidVerbatimStreamException
+     *             This method throws if the bytes can't be verbatim
+     *             s-expressions. The decoder should not be used again after it
+     *             throws.
+     */
+    public ASExpression next(ByteBuffer in)
+            throws InvalidVerbatimStreamException {
+        ASExpression decoded = null;
+
+        // Nothing is held, so the next expression may be whole in the buffer.
+        if (_size == 0 && in.hasRemaining()) {
+            decoded = new ASEBufferReader( in, _intern ).read();
+            if (decoded != null)
+                return decoded;
+        }
+
+        while (decoded == null && in.hasRemaining()) {
+            // Copy the rest of a string body without looking at it.
+            if (_remaining > 0) {
+                int n = Math.min( _remaining, in.remaining() );
+                ensureCapacity( n );
+                in.get( _frame, _size, n );
+                _size += n;
+                _remaining -= n;
+                if (_remaining == 0)
+                    decoded = completed();
+                continue;
+            }
+
+            byte b = in.get();
+            ensureCapacity( 1 );
+            _frame[_size++] = b;
+
+            switch (_state) {
+            case LENGTH:
+                if (b == ':') {
+                    _state = TOKEN;
+                    _remaining = _length;
+                    if (_remaining == 0)
+                        decoded = completed();
+                }
+                else if (Character.isDigit( b )
+                        && _length <= (Integer.MAX_VALUE - 9) / 10)
+                    _length = _length * 10 + (b - '0');
+                else
+                    throw new InvalidVerbatimStreamException( "read: '"
+                            + (char) b + "' as " + b
+                            + ": expected a string length." );
+                break;
+
+            case WILDCARD:
+                _state = TOKEN;
+                switch (b) {
+                case ASEInputStreamReader.LIST:
+                    _prefixes.add( new int[] { _depth, 1 } );
+                    break;
+                case ASEInputStreamReader.ANY:
+                case ASEInputStreamReader.STRING:
+                case ASEInputStreamReader.WILDCARD:
+                case ASEInputStreamReader.NOTHING:
+                case ASEInputStreamReader.NOMATCH:
+                    decoded = completed();
+                    break;
+                default:
+                    throw new InvalidVerbatimStreamException(
+                            "# wasn't followed by an acceptable byte" );
+                }
+                break;
+
+            case BASE64:
+                if (b == '}') {
+                    _state = TOKEN;
+                    decoded = completed();
+                }
+                break;
+
+            default:
+                switch (b) {
+                case '(':
+                    _depth++;
+                    break;
+                case ')':
+                    if (_depth == 0)
+                        throw new InvalidVerbatimStreamException(
+                                "read: ')' outside of a list." );
+                    _depth--;
+                    decoded = completed();
+                    break;
+                case '#':
+                    _state = WILDCARD;
+                    break;
+                case '%':
+                    // A named pattern is a name followed by a pattern.
+                    _prefixes.add( new int[] { _depth, 2 } );
+                    break;
+                case '{':
+                    if (_size != 1)
+                        throw new InvalidVerbatimStreamException(
+                                "read: '{' inside an expression." );
+                    _state = BASE64;
+                    break;
+                default:
+                    if (!Character.isDigit( b ))
+                        throw new InvalidVerbatimStreamException( "read: '"
+                                + (char) b + "' as " + b
+                                + ": expected to be a number, '(', '#', or '%'." );
+                    _state = LENGTH;
+                    _length = b - '0';
+                }
+            }
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Get the number of bytes held for an expression that hasn't been
+     * completed yet.
+     *
+     * @return This method returns the number of buffered bytes.
+     */
+    public int buffered() {
+        return _size;
+    }
+
+    /**
+     * Called when an expression ends at the current depth. If that finishes
+     * the outermost expression, parse it and start over.
+     *
+     * @return the outermost expression, or null if it isn't finished.
+     */
+    private ASExpression completed() throws InvalidVerbatimStreamException {
+        while (!_prefixes.isEmpty()) {
+            int[] prefix = _prefixes.get( _prefixes.size() - 1 );
+            if (prefix[0] != _depth)
+                break;
+            if (--prefix[1] > 0)
+                return null;
+            _prefixes.remove( _prefixes.size() - 1 );
+        }
+
+        if (_depth > 0)
+            return null;
+
+        ByteBuffer frame = ByteBuffer.wrap( _frame, 0, _size );
+        ASExpression expression = new ASEBufferReader( frame, _intern ).read();
+        if (expression == null || frame.hasRemaining())
+            throw new InvalidVerbatimStreamException(
+                    "read: a frame didn't hold one expression" );
+
+        _size = 0;
+        if (_frame.length > RETAINED_CAPACITY)
+            _frame = new byte[256];
+        return expression;
+    }
+
+    private void ensureCapacity(int n) {
+        if (_size + n <= _frame.length)
+            return;
+
+        byte[] frame = new byte[Math.max( _frame.length * 2, _size + n )];
+        System.arraycopy( _frame, 0, frame, 0, _size );
+        _frame = frame;
+    }
+}
@@ -45,6 +45,7 @@ public class ASEInputStreamReader {
     public static final byte NOTHING = 'n';
     public static final byte NOMATCH = 'f';
 
+    private final boolean _intern;
     private InputStream _stream;
     private InputStream _base64Stream;
     private InputStream _standardStream;
@@ -54,8 +55,20 @@ public class ASEInputStreamReader {
      *            This is the stream off which ASExpressions are parsed.
      */
     public ASEInputStreamReader(InputStream stream) {
+        this( stream, true );
+    }
+
+    /**
+     * @param stream
+     *            This is the stream off which ASExpressions are parsed.
+     * @param intern
+     *            If false, the strings parsed aren't interned (see
+     *            {@link StringExpression#makeString(byte[], boolean)}).
+     */
+    public ASEInputStreamReader(InputStream stream, boolean intern) {
         _standardStream = stream;
         _base64Stream = new Base64.InputStream( stream );
+        _intern = intern;
     }
 
     /**
@@ -223,7 +236,7 @@ public class ASEInputStreamReader {
 
         // Convert to unicode string, create an ASExpression that represents
         // this node.
-        return StringExpression.makeString( ba );
+        return StringExpression.makeString( ba, _intern );
     }
 
     /**
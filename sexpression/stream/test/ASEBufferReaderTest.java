@@ -0,0 +1,165 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEBufferReader;
+import sexpression.stream.ASEBufferWriter;
+import sexpression.stream.ASEInputStreamReader;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+import junit.framework.TestCase;
+
+/**
+ * This class tests that ASEBufferReader reads the same expressions as
+ * ASEInputStreamReader, and that ASEBufferWriter writes the same bytes as
+ * toVerbatim.
+ *
+ * @author Montrose
+ *
+ */
+public class ASEBufferReaderTest extends TestCase {
+
+    private static final String[] EXPRESSIONS = { "3:abc", "0:", "(3:abc2:ab)",
+            "(()(3:abc2:ab))", "(1:a#l(1:b)%1:n#s#a)", "#l#l()", "%1:n(#w#n)",
+            "{KDEwOkRlYXIgS3lsZTooNTpzLWV4cCgxOmYxOnQxOncpMTohKCkpKQ==}",
+            "(12:(not a list))" };
+
+    private static ASExpression read(String verbatim) throws Exception {
+        return new ASEInputStreamReader( new ByteArrayInputStream( verbatim
+                .getBytes( "us-ascii" ) ) ).read();
+    }
+
+    /**
+     * Each expression, on its own.
+     */
+    public void test_single() throws Exception {
+        for (String test : EXPRESSIONS) {
+            ByteBuffer buffer = ByteBuffer.wrap( test.getBytes( "us-ascii" ) );
+            ASExpression expression = new ASEBufferReader( buffer ).read();
+            assertEquals( test, read( test ).toString(), expression.toString() );
+            assertFalse( test, buffer.hasRemaining() );
+        }
+    }
+
+    /**
+     * All of the expressions back to back, read off a direct buffer.
+     */
+    public void test_backToBack() throws Exception {
+        StringBuffer all = new StringBuffer();
+        for (String test : EXPRESSIONS)
+            all.append( test );
+        byte[] bytes = all.toString().getBytes( "us-ascii" );
+        ByteBuffer buffer = ByteBuffer.allocateDirect( bytes.length );
+        buffer.put( bytes );
+        buffer.flip();
+
+        ASEBufferReader reader = new ASEBufferReader( buffer );
+        for (String test : EXPRESSIONS)
+            assertEquals( test, read( test ).toString(), reader.read()
+                    .toString() );
+        assertNull( reader.read() );
+    }
+
+    /**
+     * An expression cut short reads as null, and doesn't move the buffer.
+     */
+    public void test_truncated() throws Exception {
+        for (String test : EXPRESSIONS) {
+            byte[] bytes = test.getBytes( "us-ascii" );
+            for (int length = 0; length < bytes.length; length++) {
+                ByteBuffer buffer = ByteBuffer.wrap( bytes, 0, length );
+                assertNull( test, new ASEBufferReader( buffer ).read() );
+                assertEquals( test, 0, buffer.position() );
+            }
+        }
+    }
+
+    /**
+     * Bytes that can't be an expression are rejected.
+     */
+    public void test_invalid() throws Exception {
+        String[] tests = { "ê", ")", "3x:abc", "#z", "(1:a{)", "%(1:a)#a",
+                "{AAAA}" };
+
+        for (String test : tests) {
+            try {
+                new ASEBufferReader( ByteBuffer.wrap( test
+                        .getBytes( "iso-8859-1" ) ) ).read();
+                fail( test );
+            }
+            catch (InvalidVerbatimStreamException e) {}
+        }
+    }
+
+    /**
+     * The writer writes what toVerbatimHelp does, and what it writes reads
+     * back.
+     */
+    public void test_write() throws Exception {
+        ASEBufferWriter writer = new ASEBufferWriter( 1 );
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+        for (String test : EXPRESSIONS) {
+            ASExpression expression = read( test );
+            writer.write( expression );
+            byte[] verbatim = expression.toVerbatimHelp().getBytes();
+            assertEquals( test, new String( verbatim, "iso-8859-1" ),
+                new String( writer.toByteArray(), "iso-8859-1" ) );
+            // #nothing has no verbatim form, so compare what reads back by
+            // how it writes.
+            assertEquals( test, new String( verbatim, "iso-8859-1" ),
+                new String( new ASEBufferReader( writer.getBuffer() ).read()
+                        .toVerbatim(), "iso-8859-1" ) );
+
+            writer.writeTo( Channels.newChannel( stream ) );
+            assertEquals( 0, writer.size() );
+            expected.write( verbatim );
+        }
+
+        assertEquals( new String( expected.toByteArray(), "iso-8859-1" ),
+            new String( stream.toByteArray(), "iso-8859-1" ) );
+    }
+
+    /**
+     * String lengths are written in decimal, whatever their number of digits.
+     */
+    public void test_lengths() throws Exception {
+        ASEBufferWriter writer = new ASEBufferWriter();
+        for (int length : new int[] { 0, 9, 10, 99, 100, 12345 }) {
+            ASExpression expression = ASExpression.makeVerbatim( ( length
+                    + ":" + new String( new char[length] ).replace( '\0', 'x' ) )
+                    .getBytes( "us-ascii" ) );
+            writer.write( expression );
+            assertEquals( new String( expression.toVerbatimHelp().getBytes(),
+                "us-ascii" ), new String( writer.toByteArray(), "us-ascii" ) );
+            writer.clear();
+        }
+    }
+}
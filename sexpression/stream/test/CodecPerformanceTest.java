@@ -0,0 +1,152 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEBufferReader;
+import sexpression.stream.ASEBufferWriter;
+import sexpression.stream.ASEInputStreamReader;
+
+/**
+ * Compares ASEInputStreamReader with ASEBufferReader, and toVerbatimHelp with
+ * ASEBufferWriter, on the auditorium logs captured in logdata/. Not part of
+ * the suite; run it on its own from the top of the tree.
+ */
+public class CodecPerformanceTest {
+    public static final String[] CAPTURES = { "logdata/log.out",
+            "logdata/20070929-superlog.out", "logdata/e3-supervisor.log",
+            "logdata/e4-supervisor.log" };
+    public static final int TRIAL_COUNT = 50;
+
+    private static ByteBuffer map(String capture) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile( new File( capture ), "r" );
+        try {
+            return raf.getChannel().map( FileChannel.MapMode.READ_ONLY, 0,
+                raf.length() );
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    private static List<ASExpression> readStream(byte[] bytes)
+            throws Exception {
+        ArrayList<ASExpression> read = new ArrayList<ASExpression>();
+        ASEInputStreamReader reader = new ASEInputStreamReader(
+                new ByteArrayInputStream( bytes ) );
+        try {
+            while (true)
+                read.add( reader.read() );
+        }
+        catch (EOFException e) {}
+        return read;
+    }
+
+    private static List<ASExpression> readBuffer(ByteBuffer buffer)
+            throws Exception {
+        ArrayList<ASExpression> read = new ArrayList<ASExpression>();
+        ASEBufferReader reader = new ASEBufferReader( buffer.duplicate() );
+        ASExpression expression;
+        while ((expression = reader.read()) != null)
+            read.add( expression );
+        return read;
+    }
+
+    private static long writeHelp(List<ASExpression> expressions) {
+        long size = 0;
+        for (ASExpression expression : expressions)
+            size += expression.toVerbatimHelp().getBytes().length;
+        return size;
+    }
+
+    private static long writeBuffer(List<ASExpression> expressions,
+            ASEBufferWriter writer) {
+        long size = 0;
+        for (ASExpression expression : expressions) {
+            writer.write( expression );
+            size += writer.size();
+            writer.clear();
+        }
+        return size;
+    }
+
+    private static void compare(String capture) throws Exception {
+        ByteBuffer map = map( capture );
+        byte[] bytes = new byte[map.remaining()];
+        map.duplicate().get( bytes );
+
+        List<ASExpression> expected = readStream( bytes );
+        assertEquals( expected, readBuffer( map ) );
+        ASEBufferWriter writer = new ASEBufferWriter();
+        assertEquals( writeHelp( expected ), writeBuffer( expected, writer ) );
+
+        long stream = 0, buffer = 0, help = 0, written = 0;
+        for (int trial = 0; trial < TRIAL_COUNT; trial++) {
+            long start = System.nanoTime();
+            readStream( bytes );
+            long middle = System.nanoTime();
+            readBuffer( map );
+            long stop = System.nanoTime();
+            stream += middle - start;
+            buffer += stop - middle;
+
+            start = System.nanoTime();
+            writeHelp( expected );
+            middle = System.nanoTime();
+            writeBuffer( expected, writer );
+            stop = System.nanoTime();
+            help += middle - start;
+            written += stop - middle;
+        }
+
+        System.out.println( capture + " (" + expected.size() + " messages, "
+                + bytes.length + " bytes): read ASEInputStreamReader "
+                + (stream / TRIAL_COUNT / 1000) + "us, ASEBufferReader "
+                + (buffer / TRIAL_COUNT / 1000) + "us; write toVerbatimHelp "
+                + (help / TRIAL_COUNT / 1000) + "us, ASEBufferWriter "
+                + (written / TRIAL_COUNT / 1000) + "us" );
+    }
+
+    @Test
+    public void captures() throws Exception {
+        for (String capture : CAPTURES)
+            compare( capture );
+    }
+
+    public static void main(String[] args) throws Exception {
+        new CodecPerformanceTest().captures();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import sexpression.*;
+
+public class PatternTableTest {
+
+    private static final String[] PATTERNS = { "(polls-open #string #string)",
+            "(polls-closed #string)", "(#string #string)", "#list:#string",
+            "#any", "%name:(polls-open #any #any)", "#string", "foo" };
+
+    private PatternTable<String> table() {
+        PatternTable<String> table = new PatternTable<String>();
+        for (String p : PATTERNS)
+            table.add( ASExpression.make( p ), p );
+        return table;
+    }
+
+    @Test
+    public void candidates_by_head_and_arity() {
+        PatternTable<String> table = table();
+
+        assertEquals( list( "(polls-open #string #string)", "#list:#string",
+            "#any", "%name:(polls-open #any #any)" ), table.candidates( ASExpression
+                .make( "(polls-open 1 2)" ) ) );
+        assertEquals( list( "(polls-closed #string)", "(#string #string)",
+            "#list:#string", "#any" ), table.candidates( ASExpression
+                .make( "(polls-closed 1)" ) ) );
+        assertEquals( list( "(#string #string)", "#list:#string", "#any" ),
+            table.candidates( ASExpression.make( "(something 1)" ) ) );
+        assertEquals( list( "#list:#string", "#any" ), table
+                .candidates( ASExpression.make( "(a b c d)" ) ) );
+        assertEquals( list( "#any", "#string", "foo" ), table
+                .candidates( ASExpression.make( "bar" ) ) );
+        assertEquals( list( "#any" ), table.candidates( ASExpression
+                .make( "#string" ) ) );
+    }
+
+    @Test
+    public void later_wildcards_reach_earlier_heads() {
+        PatternTable<String> table = new PatternTable<String>();
+        table.add( ASExpression.make( "(a #string)" ), "a" );
+        table.add( ASExpression.make( "(#string #string)" ), "any2" );
+        table.add( ASExpression.make( "#list:#any" ), "list" );
+        table.add( ASExpression.make( "(b #string)" ), "b" );
+
+        assertEquals( list( "a", "any2", "list" ), table
+                .candidates( ASExpression.make( "(a 1)" ) ) );
+        assertEquals( list( "any2", "list", "b" ), table
+                .candidates( ASExpression.make( "(b 1)" ) ) );
+        assertEquals( list( "list" ), table.candidates( ASExpression
+                .make( "()" ) ) );
+    }
+
+    @Test
+    public void candidates_include_every_match() {
+        PatternTable<String> table = table();
+        String[] targets = { "(polls-open 1 2)", "(polls-open (1) 2)",
+                "(polls-closed 1)", "(x y)", "(x (y))", "()", "foo", "bar",
+                "#string", "#list:#any", "(polls-open 1)" };
+
+        for (String t : targets) {
+            ASExpression target = ASExpression.make( t );
+            ArrayList<String> candidates = table.candidates( target );
+            for (String p : PATTERNS) {
+                ASExpression pattern = ASExpression.make( p );
+                if (pattern.match( target ) == NoMatch.SINGLETON)
+                    continue;
+                assertTrue( p + " " + t, candidates.contains( p ) );
+                assertTrue( p + " " + t, PatternTable.couldMatch( pattern,
+                    target ) );
+            }
+        }
+    }
+
+    @Test
+    public void could_match() {
+        assertTrue( could( "(a #string)", "(a b)" ) );
+        assertTrue( could( "(#string #string)", "(a b)" ) );
+        assertTrue( could( "%x:(a #string)", "(a (b))" ) );
+        assertTrue( could( "#any", "(a b)" ) );
+        assertTrue( could( "#list:#string", "((a))" ) );
+
+        assertFalse( could( "(a #string)", "(b c)" ) );
+        assertFalse( could( "(a #string)", "(a b c)" ) );
+        assertFalse( could( "(a #string)", "a" ) );
+        assertFalse( could( "#string", "(a)" ) );
+        assertFalse( could( "#list:#any", "a" ) );
+    }
+
+    private boolean could(String pattern, String target) {
+        return PatternTable.couldMatch( ASExpression.make( pattern ),
+            ASExpression.make( target ) );
+    }
+
+    private ArrayList<String> list(String... values) {
+        ArrayList<String> list = new ArrayList<String>();
+        for (String v : values)
+            list.add( v );
+        return list;
+    }
+}
@@ -28,6 +28,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
   ByteArrayBufferTest.class,
+  InternTest.class,
+  HashTest.class,
   PatternTest.class,
   SerializationTest.class
 })
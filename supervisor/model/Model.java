@@ -36,6 +36,7 @@ import java.util.TreeSet;
 
 import javax.swing.Timer;
 
+import edu.uconn.cse.adder.FixedBaseTable;
 import edu.uconn.cse.adder.PrivateKey;
 import edu.uconn.cse.adder.PublicKey;
 
@@ -47,7 +48,10 @@ import supervisor.model.tallier.ChallengeDelayedWithNIZKsTallier;
 import supervisor.model.tallier.EncryptedTallier;
 import supervisor.model.tallier.EncryptedTallierWithNIZKs;
 import supervisor.model.tallier.ITallier;
+import supervisor.model.tallier.NIZKVerifier;
+import supervisor.model.tallier.RaceTotals;
 import supervisor.model.tallier.Tallier;
+import votebox.crypto.ElGamalCrypto;
 import votebox.crypto.interop.AdderKeyManipulator;
 import votebox.events.ActivatedEvent;
 import votebox.events.AdderChallengeEvent;
@@ -148,6 +152,12 @@ public class Model {
     public Model(int serial, IAuditoriumParams params) {
         auditoriumParams = params;
         
+        if(params.getAdderTableLimit() >= 0)
+        	FixedBaseTable.setMemoryLimit(params.getAdderTableLimit() * 1024L);
+        
+        if(params.getDecryptionTableSize() > 0)
+        	ElGamalCrypto.SINGLETON.setTableSize(params.getDecryptionTableSize());
+        
     	if(serial != -1)
         	this.mySerial = serial;
     	else
@@ -247,6 +257,19 @@ public class Model {
         }
     }
 
+    /**
+     * @return where the counted encrypted votes of each race are recorded, or
+     *         null if they are not being recorded
+     */
+    private RaceTotals.IAuditRecordLocator getTallyAuditRecords() {
+        String path = auditoriumParams.getTallyAuditDirectory();
+        
+        if (path == null)
+            return null;
+        
+        return RaceTotals.inDirectory(new File(path));
+    }
+
     /**
      * Closes the polls
      * 
@@ -256,7 +279,11 @@ public class Model {
         auditorium
                 .announce(new PollsClosedEvent(mySerial, new Date().getTime()));
         //return tallier.getReport(privateKey);
-        return tallier.getReport();
+        Map<String, BigInteger> report = tallier.getReport();
+
+        // The report is done, so the records of the votes it counts are too
+        tallier.close();
+        return report;
     }
 
     /**
@@ -705,7 +732,10 @@ public class Model {
 							//Loading privateKey well in advance so the whole affair is "fail-fast"
 							PrivateKey privateKey = (PrivateKey)auditoriumParams.getKeyStore().loadAdderKey("private");
 							PublicKey publicKey = (PublicKey)auditoriumParams.getKeyStore().loadAdderKey("public");
-							tallier = new ChallengeDelayedWithNIZKsTallier(publicKey, privateKey);
+							tallier = new ChallengeDelayedWithNIZKsTallier(publicKey, privateKey,
+									NIZKVerifier.Mode.parse(auditoriumParams.getNIZKVerificationMode()),
+									auditoriumParams.getNIZKVerificationThreads(), auditoriumParams.getNIZKBatchSize(),
+									auditoriumParams.getTallyStripes(), getTallyAuditRecords());
 						}//if
 					} catch (AuditoriumCryptoException e1) {
 						System.err.println("Crypto error encountered: "+e1.getMessage());
@@ -730,7 +760,10 @@ public class Model {
             					//Loading privateKey well in advance so the whole affair is "fail-fast"
             					PrivateKey privateKey = (PrivateKey)auditoriumParams.getKeyStore().loadAdderKey("private");
             					PublicKey publicKey = (PublicKey)auditoriumParams.getKeyStore().loadAdderKey("public");
-            					tallier = new EncryptedTallierWithNIZKs(publicKey, privateKey);
+            					tallier = new EncryptedTallierWithNIZKs(publicKey, privateKey,
+            							NIZKVerifier.Mode.parse(auditoriumParams.getNIZKVerificationMode()),
+            							auditoriumParams.getNIZKVerificationThreads(), auditoriumParams.getNIZKBatchSize(),
+            							auditoriumParams.getTallyStripes(), getTallyAuditRecords());
             				}//if
             			}catch(AuditoriumCryptoException e1){
             				System.err.println("Crypto error encountered: "+e1.getMessage());
@@ -26,13 +26,19 @@ import votebox.crypto.interop.AdderKeyManipulator;
  * @author Montrose
  *
  */
-public class ChallengeDelayedWithNIZKsTallier implements ITallier {
+public class ChallengeDelayedWithNIZKsTallier implements ITallier, NIZKVerifier.IVerifiedBallotHandler {
 	private PublicKey _publicKey;
 	private PrivateKey _privateKey;
 	private PublicKey _finalPublicKey;
 	private PrivateKey _finalPrivateKey;
 	
-	private Map<String, Election> _results = new HashMap<String, Election>();
+	private RaceTotals _totals;
+	private Map<String, Long> _decodeTimes = new HashMap<String, Long>();
+	
+	private NIZKVerifier.Mode _verificationMode = NIZKVerifier.Mode.BATCH;
+	private int _verificationThreads = 0;
+	private int _batchSize = NIZKVerifier.DEFAULT_BATCH_SIZE;
+	private NIZKVerifier _verifier = null;
 	
 	private Map<ASExpression, byte[]> _pendingVotes = new HashMap<ASExpression, byte[]>();
 	
@@ -45,9 +51,29 @@ public class ChallengeDelayedWithNIZKsTallier implements ITallier {
 	public ChallengeDelayedWithNIZKsTallier(PublicKey pubKey, PrivateKey privKey){
 		_publicKey = pubKey;
 		_privateKey = privKey;
+		_totals = new RaceTotals(pubKey.getP(), 1, null);
 		//_finalPublicKey = AdderKeyManipulator.generateFinalPublicKey(_publicKey);
 		//_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
 	}
+	
+	/**
+	 * Constructor.
+	 * @param pubKey - The PublicKey used to encrypt votes to be tallied.
+	 * @param privKey - The PrivateKey to be used to decrypt the totals.
+	 * @param mode - How ballot NIZKs are checked, see {@link NIZKVerifier.Mode}.
+	 * @param threads - Number of threads to check NIZKs on, 0 for one per processor.
+	 * @param batchSize - Number of ballots checked together in batch mode.
+	 * @param stripes - Number of running totals each race is spread across.
+	 * @param auditRecords - Picks the file to record each election-id's counted votes in, or null to not record them.
+	 */
+	public ChallengeDelayedWithNIZKsTallier(PublicKey pubKey, PrivateKey privKey, NIZKVerifier.Mode mode, int threads, int batchSize, int stripes, RaceTotals.IAuditRecordLocator auditRecords){
+		this(pubKey, privKey);
+		
+		_verificationMode = mode;
+		_verificationThreads = threads;
+		_batchSize = batchSize;
+		_totals = new RaceTotals(pubKey.getP(), stripes, auditRecords);
+	}
 
 	public void challenged(ASExpression nonce) {
 		System.out.println("ChallengeDelayedWithNIZKsTallier.challenged("+nonce+")");
@@ -75,6 +101,7 @@ public class ChallengeDelayedWithNIZKsTallier implements ITallier {
 			ASExpression sexp = in.read();
 			//Check that the ballot is well-formed
 			ListExpression ballot = (ListExpression)sexp;
+			NIZKVerifier.Ballot toVerify = new NIZKVerifier.Ballot(ballotBytes);
 				
 			for(int i = 0; i < ballot.size(); i++){
 				ListExpression raceGroup = (ListExpression)ballot.get(i);
@@ -102,41 +129,51 @@ public class ChallengeDelayedWithNIZKsTallier implements ITallier {
 					return;
 				}
 				
-				if(!voteProof.verify(vote, _finalPublicKey, 0, 1)){
-					Bugout.err("!!!Ballot failed NIZK test!!!");
-					return;
-				}
-				
-				String subElectionId = makeId(voteIds);
-				
-				System.out.println("Updating election-id \""+subElectionId+"\"");
-				System.out.println("\t"+voteIds);
-				System.out.println("\t"+voteIdsE);
-				
-				Election election = _results.get(subElectionId);
-				
-				if(election == null)
-					election = new Election(_publicKey.getP());
-				
-				election.castVote(vote);
-				
-				_results.put(subElectionId, election);
+				toVerify.add(makeId(voteIds), vote, voteProof);
 			}//for
+			
+			//Proofs are checked off of this thread; the ballot is only counted once they all pass
+			getVerifier().submit(toVerify);
 		}catch(Exception e){
 			Bugout.err("Malformed ballot received <"+e.getMessage()+">");
 			Bugout.err("Rejected ballot:\n"+new String(ballotBytes));
 		}
 	}
 
-	@SuppressWarnings("unchecked")
+	public void close() {
+		_totals.closeAuditRecords();
+	}
+
 	public Map<String, BigInteger> getReport() {
+		//Every ballot received so far must be checked before it can be counted
+		if(_verifier != null)
+			_verifier.drain();
+		
+		return tally();
+	}
+	
+	/**
+	 * @return the time spent decoding each candidate's total in the last
+	 *         report, in nanoseconds.
+	 */
+	public synchronized Map<String, Long> getDecodeTimes(){
+		return new HashMap<String, Long>(_decodeTimes);
+	}
+	
+	/**
+	 * Decrypts the totals of every ballot verified so far.
+	 */
+	@SuppressWarnings("unchecked")
+	private synchronized Map<String, BigInteger> tally() {
 		_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
 		Map<String, BigInteger> report = new HashMap<String, BigInteger>();
 		
-		for(String group : _results.keySet()){
+		Map<String, Election> elections = _totals.getElections();
+		
+		for(String group : elections.keySet()){
 			System.out.println("Decrypting election-id \""+group+"\"");
 			
-			Election election = _results.get(group);
+			Election election = elections.get(group);
 			
 			Vote cipherSum = election.sumVotes();
 			List<AdderInteger> partialSum = (List<AdderInteger>)_finalPrivateKey.partialDecrypt(cipherSum);
@@ -154,8 +191,14 @@ public class ChallengeDelayedWithNIZKsTallier implements ITallier {
 			System.out.println("\tresults size: "+results.size());
 			System.out.println("\tids count: "+ids.length);
 			
-			for(int i = 0; i < ids.length; i++)
+			List<Long> times = election.getDecodeTimes();
+			
+			for(int i = 0; i < ids.length; i++){
 				report.put(ids[i], results.get(i).bigintValue());
+				_decodeTimes.put(ids[i], times.get(i));
+				
+				System.out.println("\t"+ids[i]+": "+results.get(i)+" (decoded in "+(times.get(i) / 1000)+" us)");
+			}
 		}//for
 		
 		return report;
@@ -166,6 +209,30 @@ public class ChallengeDelayedWithNIZKsTallier implements ITallier {
 		_pendingVotes.put(nonce, ballot);
 	}
 
+	/**
+	 * Counts a ballot whose NIZKs have all been verified.
+	 * @see supervisor.model.tallier.NIZKVerifier.IVerifiedBallotHandler#verified(supervisor.model.tallier.NIZKVerifier.Ballot)
+	 */
+	public void verified(NIZKVerifier.Ballot ballot){
+		for(int i = 0; i < ballot.size(); i++){
+			String subElectionId = ballot.getId(i);
+			
+			System.out.println("Updating election-id \""+subElectionId+"\"");
+			
+			_totals.get(subElectionId).castVote(ballot.getVote(i));
+		}//for
+	}
+	
+	/**
+	 * @return the NIZKVerifier for ballots under the final public key, creating it if need be.
+	 */
+	private NIZKVerifier getVerifier(){
+		if(_verifier == null)
+			_verifier = new NIZKVerifier(_finalPublicKey, _verificationMode, _verificationThreads, _batchSize, this);
+		
+		return _verifier;
+	}
+	
 	/**
 	 * Using nizks imposes structure on our race format we haven't had before.
 	 * This method is 
@@ -25,8 +25,16 @@ package supervisor.model.tallier;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import auditorium.Bugout;
 import auditorium.Key;
@@ -49,22 +57,53 @@ public class EncryptedTallier implements ITallier {
 	
 	public EncryptedTallier(Key privateKey){
 		_privateKey = privateKey;
+		
+		//Build the decryption table while the polls are open, not at report time
+		ElGamalCrypto.SINGLETON.precompute();
 	}
 	
 	/**
+	 * Decrypts the candidates' totals in parallel, one thread per processor.
 	 * @param privateKey - the appropriate ElGamal private key
 	 * @return a text description of the outcome of the election.
 	 */
 	public Map<String, BigInteger> getReport() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, _votes.size())), new ThreadFactory(){
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "EncryptedTallier");
+				t.setDaemon(true);
+				return t;
+			}
+		});
 		
-		Map<String, BigInteger> results = new HashMap<String, BigInteger>();
+		List<String> candidates = new ArrayList<String>(_votes.keySet());
+		List<Future<BigInteger>> totals = new ArrayList<Future<BigInteger>>();
 		
-		for(String candidate : _votes.keySet()){
-			Pair<BigInteger> value = _votes.get(candidate);
+		for(String candidate : candidates){
+			final Pair<BigInteger> value = _votes.get(candidate);
 			
-			results.put(candidate, ElGamalCrypto.SINGLETON.decrypt(_privateKey, value));
+			totals.add(pool.submit(new Callable<BigInteger>(){
+				public BigInteger call() {
+					return ElGamalCrypto.SINGLETON.decrypt(_privateKey, value);
+				}
+			}));
 		}//for
 		
+		Map<String, BigInteger> results = new HashMap<String, BigInteger>();
+		
+		try{
+			for(int i = 0; i < candidates.size(); i++)
+				results.put(candidates.get(i), totals.get(i).get());
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while decrypting the tally", e);
+		}catch(ExecutionException e){
+			throw new RuntimeException("Decrypting the tally failed", e.getCause());
+		}finally{
+			pool.shutdownNow();
+		}
+		
 		return results;
 	}
 
@@ -117,4 +156,8 @@ public class EncryptedTallier implements ITallier {
 		throw new RuntimeException("EncryptedTallier.confirmed NOT IMPLEMENTED");
 	}
 
+	public void close() {
+		//Nothing is kept open
+	}
+
 }
@@ -26,13 +26,19 @@ import votebox.crypto.interop.AdderKeyManipulator;
  * @author Montrose
  *
  */
-public class EncryptedTallierWithNIZKs implements ITallier {
+public class EncryptedTallierWithNIZKs implements ITallier, NIZKVerifier.IVerifiedBallotHandler {
 	private PrivateKey _privateKey = null;
 	private PublicKey _publicKey = null;
 	private PublicKey _finalPublicKey = null;
 	private PrivateKey _finalPrivateKey = null;
 	
-	private Map<String, Election> _results = new HashMap<String, Election>();
+	private RaceTotals _totals;
+	private Map<String, Long> _decodeTimes = new HashMap<String, Long>();
+	
+	private NIZKVerifier.Mode _verificationMode = NIZKVerifier.Mode.BATCH;
+	private int _verificationThreads = 0;
+	private int _batchSize = NIZKVerifier.DEFAULT_BATCH_SIZE;
+	private NIZKVerifier _verifier = null;
 	
 	/**
 	 * Constructor.
@@ -43,11 +49,31 @@ public class EncryptedTallierWithNIZKs implements ITallier {
 	public EncryptedTallierWithNIZKs(PublicKey pub, PrivateKey priv){
 		_privateKey = priv;
 		_publicKey = pub;
+		_totals = new RaceTotals(pub.getP(), 1, null);
 		
 		//_finalPublicKey = AdderKeyManipulator.generateFinalPublicKey(_publicKey);
 		//_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
 	}
 	
+	/**
+	 * Constructor.
+	 * @param pub - The PublicKey used to encrypt votes to be tallied.
+	 * @param priv - The PrivateKey to be used to decrypt the totals.
+	 * @param mode - How ballot NIZKs are checked, see {@link NIZKVerifier.Mode}.
+	 * @param threads - Number of threads to check NIZKs on, 0 for one per processor.
+	 * @param batchSize - Number of ballots checked together in batch mode.
+	 * @param stripes - Number of running totals each race is spread across.
+	 * @param auditRecords - Picks the file to record each election-id's counted votes in, or null to not record them.
+	 */
+	public EncryptedTallierWithNIZKs(PublicKey pub, PrivateKey priv, NIZKVerifier.Mode mode, int threads, int batchSize, int stripes, RaceTotals.IAuditRecordLocator auditRecords){
+		this(pub, priv);
+		
+		_verificationMode = mode;
+		_verificationThreads = threads;
+		_batchSize = batchSize;
+		_totals = new RaceTotals(pub.getP(), stripes, auditRecords);
+	}
+	
 	public void challenged(ASExpression nonce) {
 		throw new RuntimeException("EncryptedTallierWithNIZKs.challenged NOT IMPLEMENTED");
 	}
@@ -56,15 +82,40 @@ public class EncryptedTallierWithNIZKs implements ITallier {
 		throw new RuntimeException("EncryptedTallierWithNIZKs.confirmed NOT IMPLEMENTED");
 	}
 
-	@SuppressWarnings("unchecked")
+	public void close() {
+		_totals.closeAuditRecords();
+	}
+
 	public Map<String, BigInteger> getReport() {
+		//Every ballot received so far must be checked before it can be counted
+		if(_verifier != null)
+			_verifier.drain();
+		
+		return tally();
+	}
+	
+	/**
+	 * @return the time spent decoding each candidate's total in the last
+	 *         report, in nanoseconds.
+	 */
+	public synchronized Map<String, Long> getDecodeTimes(){
+		return new HashMap<String, Long>(_decodeTimes);
+	}
+	
+	/**
+	 * Decrypts the totals of every ballot verified so far.
+	 */
+	@SuppressWarnings("unchecked")
+	private synchronized Map<String, BigInteger> tally() {
 		_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
 		Map<String, BigInteger> report = new HashMap<String, BigInteger>();
 		
-		for(String group : _results.keySet()){
+		Map<String, Election> elections = _totals.getElections();
+		
+		for(String group : elections.keySet()){
 			System.out.println("Decrypting election-id \""+group+"\"");
 			
-			Election election = _results.get(group);
+			Election election = elections.get(group);
 			
 			Vote cipherSum = election.sumVotes();
 			List<AdderInteger> partialSum = (List<AdderInteger>)_finalPrivateKey.partialDecrypt(cipherSum);
@@ -82,8 +133,14 @@ public class EncryptedTallierWithNIZKs implements ITallier {
 			System.out.println("\tresults size: "+results.size());
 			System.out.println("\tids count: "+ids.length);
 			
-			for(int i = 0; i < ids.length; i++)
+			List<Long> times = election.getDecodeTimes();
+			
+			for(int i = 0; i < ids.length; i++){
 				report.put(ids[i], results.get(i).bigintValue());
+				_decodeTimes.put(ids[i], times.get(i));
+				
+				System.out.println("\t"+ids[i]+": "+results.get(i)+" (decoded in "+(times.get(i) / 1000)+" us)");
+			}
 		}//for
 		
 		return report;
@@ -109,6 +166,7 @@ public class EncryptedTallierWithNIZKs implements ITallier {
 			ASExpression sexp = in.read();
 			//Check that the ballot is well-formed
 			ListExpression ballot = (ListExpression)sexp;
+			NIZKVerifier.Ballot toVerify = new NIZKVerifier.Ballot(ballotBytes);
 				
 			for(int i = 0; i < ballot.size(); i++){
 				ListExpression raceGroup = (ListExpression)ballot.get(i);
@@ -136,32 +194,41 @@ public class EncryptedTallierWithNIZKs implements ITallier {
 					return;
 				}
 				
-				if(!voteProof.verify(vote, _finalPublicKey, 0, 1)){
-					Bugout.err("!!!Ballot failed NIZK test!!!");
-					return;
-				}
-				
-				String subElectionId = makeId(voteIds);
-				
-				System.out.println("Updating election-id \""+subElectionId+"\"");
-				System.out.println("\t"+voteIds);
-				System.out.println("\t"+voteIdsE);
-				
-				Election election = _results.get(subElectionId);
-				
-				if(election == null)
-					election = new Election(_publicKey.getP());
-				
-				election.castVote(vote);
-				
-				_results.put(subElectionId, election);
+				toVerify.add(makeId(voteIds), vote, voteProof);
 			}//for
+			
+			//Proofs are checked off of this thread; the ballot is only counted once they all pass
+			getVerifier().submit(toVerify);
 		}catch(Exception e){
 			Bugout.err("Malformed ballot received <"+e.getMessage()+">");
 			Bugout.err("Rejected ballot:\n"+new String(ballotBytes));
 		}
 	}
 
+	/**
+	 * Counts a ballot whose NIZKs have all been verified.
+	 * @see supervisor.model.tallier.NIZKVerifier.IVerifiedBallotHandler#verified(supervisor.model.tallier.NIZKVerifier.Ballot)
+	 */
+	public void verified(NIZKVerifier.Ballot ballot){
+		for(int i = 0; i < ballot.size(); i++){
+			String subElectionId = ballot.getId(i);
+			
+			System.out.println("Updating election-id \""+subElectionId+"\"");
+			
+			_totals.get(subElectionId).castVote(ballot.getVote(i));
+		}//for
+	}
+	
+	/**
+	 * @return the NIZKVerifier for ballots under the final public key, creating it if need be.
+	 */
+	private NIZKVerifier getVerifier(){
+		if(_verifier == null)
+			_verifier = new NIZKVerifier(_finalPublicKey, _verificationMode, _verificationThreads, _batchSize, this);
+		
+		return _verifier;
+	}
+	
 	/**
 	 * Using nizks imposes structure on our race format we haven't had before.
 	 * This method is 
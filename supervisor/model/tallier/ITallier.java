@@ -69,4 +69,12 @@ public interface ITallier {
 	 * @param nonce - Nonce of this voting transaction
 	 */
 	public void challenged(ASExpression nonce);
+	
+	/**
+	 * Called once the polls have closed and the report has been taken.
+	 * Flushes and closes whatever the tallier keeps open, such as the records
+	 * of the votes it counted.  Votes counted afterwards still count, but are
+	 * no longer recorded.
+	 */
+	public void close();
 }
\ No newline at end of file
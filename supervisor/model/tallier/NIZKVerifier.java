@@ -0,0 +1,353 @@
+/**
+  * This file is part of VoteBox.
+  *
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  *
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  *
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package supervisor.model.tallier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import auditorium.Bugout;
+
+import edu.uconn.cse.adder.BatchVerifier;
+import edu.uconn.cse.adder.PublicKey;
+import edu.uconn.cse.adder.Vote;
+import edu.uconn.cse.adder.VoteProof;
+
+/**
+ * Checks the NIZKs attached to ballots off of the auditorium event thread.
+ * Ballots handed to {@link #submit(Ballot)} are verified on a pool of worker
+ * threads; every ballot whose proofs all pass is handed, whole, to the
+ * {@link IVerifiedBallotHandler}. A ballot with any failing proof is dropped
+ * in its entirety.
+ * <p>
+ * In {@link Mode#BATCH} mode ballots are grouped and checked with a single
+ * {@link BatchVerifier}; if a group fails, each of its ballots is re-checked
+ * serially so only the bad ones are dropped. {@link Mode#COMPARE} runs both
+ * checks on every ballot, counts by the serial result, and reports any
+ * disagreement.
+ *
+ * @author Montrose
+ */
+public class NIZKVerifier {
+	/**
+	 * How the proofs on a ballot are checked.
+	 */
+	public enum Mode {
+		/** Each proof is checked with VoteProof.verify. */
+		SERIAL,
+		/** Groups of ballots are checked with one random linear combination. */
+		BATCH,
+		/** Both of the above, for auditing; the serial result is used. */
+		COMPARE;
+
+		/**
+		 * @param name - "serial", "batch" or "compare", in any case.
+		 * @return the matching Mode, or BATCH if name is not recognized.
+		 */
+		public static Mode parse(String name){
+			for(Mode mode : values())
+				if(mode.name().equalsIgnoreCase(name))
+					return mode;
+
+			Bugout.err("Unknown NIZK verification mode \""+name+"\", using batch");
+			return BATCH;
+		}
+	}
+
+	/**
+	 * Receives ballots once every one of their proofs has been verified.
+	 * Called from worker threads.
+	 */
+	public interface IVerifiedBallotHandler {
+		public void verified(Ballot ballot);
+	}
+
+	/**
+	 * The race groups of a single ballot, with the proof for each.
+	 */
+	public static class Ballot {
+		private final byte[] _bytes;
+		private final List<String> _ids = new ArrayList<String>();
+		private final List<Vote> _votes = new ArrayList<Vote>();
+		private final List<VoteProof> _proofs = new ArrayList<VoteProof>();
+
+		/**
+		 * @param bytes - the ballot as received, kept for error reporting.
+		 */
+		public Ballot(byte[] bytes){
+			_bytes = bytes;
+		}
+
+		/**
+		 * Adds a race group to this ballot.
+		 * @param id - the election-id of the race group
+		 * @param vote - the encrypted counters of the race group
+		 * @param proof - the proof that vote is well-formed
+		 */
+		public void add(String id, Vote vote, VoteProof proof){
+			_ids.add(id);
+			_votes.add(vote);
+			_proofs.add(proof);
+		}
+
+		/**
+		 * @return the number of race groups on this ballot.
+		 */
+		public int size(){
+			return _ids.size();
+		}
+
+		public String getId(int i){
+			return _ids.get(i);
+		}
+
+		public Vote getVote(int i){
+			return _votes.get(i);
+		}
+
+		public VoteProof getProof(int i){
+			return _proofs.get(i);
+		}
+	}
+
+	public static final int DEFAULT_BATCH_SIZE = 32;
+
+	private final PublicKey _publicKey;
+	private final Mode _mode;
+	private final int _batchSize;
+	private final IVerifiedBallotHandler _handler;
+	private final ExecutorService _pool;
+
+	private List<Ballot> _pending = new ArrayList<Ballot>();
+	private final List<Future<?>> _outstanding = new ArrayList<Future<?>>();
+
+	private int _accepted = 0;
+	private int _rejected = 0;
+	private int _mismatches = 0;
+
+	/**
+	 * Constructor.
+	 * @param publicKey - the final PublicKey ballots were encrypted with.
+	 * @param mode - how to check proofs.
+	 * @param threads - number of worker threads, or 0 for one per processor.
+	 * @param batchSize - number of ballots to group together in BATCH mode.
+	 * @param handler - receives every ballot that passes.
+	 */
+	public NIZKVerifier(PublicKey publicKey, Mode mode, int threads, int batchSize, IVerifiedBallotHandler handler){
+		if(threads <= 0)
+			threads = Runtime.getRuntime().availableProcessors();
+
+		_publicKey = publicKey;
+		_mode = mode;
+		_batchSize = (mode == Mode.BATCH) ? Math.max(1, batchSize) : 1;
+		_handler = handler;
+		_pool = Executors.newFixedThreadPool(threads, new ThreadFactory(){
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "NIZKVerifier");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Queues a ballot for verification.  Returns immediately.
+	 * @param ballot - the ballot to verify.
+	 */
+	public synchronized void submit(Ballot ballot){
+		_pending.add(ballot);
+
+		if(_pending.size() >= _batchSize)
+			dispatch();
+	}
+
+	/**
+	 * Blocks until every ballot submitted so far has been verified and, if it
+	 * passed, handed to the handler.
+	 */
+	public void drain(){
+		List<Future<?>> outstanding;
+
+		synchronized(this){
+			dispatch();
+			outstanding = new ArrayList<Future<?>>(_outstanding);
+			_outstanding.clear();
+		}
+
+		for(Future<?> future : outstanding){
+			try{
+				future.get();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				return;
+			}catch(ExecutionException e){
+				Bugout.err("NIZK verification task failed: "+e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Stops the worker threads.  Ballots not yet verified are discarded.
+	 */
+	public void shutdown(){
+		_pool.shutdownNow();
+	}
+
+	/**
+	 * @return the number of ballots accepted so far.
+	 */
+	public synchronized int getAcceptedCount(){
+		return _accepted;
+	}
+
+	/**
+	 * @return the number of ballots rejected so far.
+	 */
+	public synchronized int getRejectedCount(){
+		return _rejected;
+	}
+
+	/**
+	 * @return the number of ballots on which the serial and batched checks
+	 *         disagreed (only counted in COMPARE mode).
+	 */
+	public synchronized int getMismatchCount(){
+		return _mismatches;
+	}
+
+	/**
+	 * Hands the pending ballots to the pool as one task.  Caller holds the lock.
+	 */
+	private void dispatch(){
+		if(_pending.isEmpty())
+			return;
+
+		final List<Ballot> batch = _pending;
+		_pending = new ArrayList<Ballot>();
+
+		_outstanding.add(_pool.submit(new Runnable(){
+			public void run() {
+				verify(batch);
+			}
+		}));
+	}
+
+	/**
+	 * Verifies a group of ballots according to the mode, passing each good
+	 * ballot to the handler.
+	 */
+	private void verify(List<Ballot> batch){
+		switch(_mode){
+		case SERIAL:
+			for(Ballot ballot : batch)
+				finish(ballot, verifySerial(ballot));
+			break;
+		case BATCH:
+			BatchVerifier verifier = new BatchVerifier(_publicKey);
+			List<Ballot> batched = new ArrayList<Ballot>();
+			List<Ballot> unbatchable = new ArrayList<Ballot>();
+
+			for(Ballot ballot : batch){
+				if(addToBatch(verifier, ballot))
+					batched.add(ballot);
+				else
+					unbatchable.add(ballot);
+			}
+
+			if(verifier.verify()){
+				for(Ballot ballot : batched)
+					finish(ballot, true);
+			}else{
+				unbatchable.addAll(batched);
+			}
+
+			for(Ballot ballot : unbatchable)
+				finish(ballot, verifySerial(ballot));
+			break;
+		case COMPARE:
+			for(Ballot ballot : batch){
+				boolean serial = verifySerial(ballot);
+				BatchVerifier single = new BatchVerifier(_publicKey);
+
+				if(addToBatch(single, ballot) && single.verify() != serial){
+					Bugout.err("!!!Serial and batched NIZK checks disagree (serial: "+serial+") on ballot:\n"+new String(ballot._bytes));
+
+					synchronized(this){
+						_mismatches++;
+					}
+				}
+
+				finish(ballot, serial);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Adds every race group of a ballot to the batch, all or nothing.
+	 * @return false if the ballot has to be checked serially instead.
+	 */
+	private boolean addToBatch(BatchVerifier verifier, Ballot ballot){
+		try{
+			return verifier.add(ballot._proofs, ballot._votes, 0, 1);
+		}catch(Exception e){
+			return false;
+		}
+	}
+
+	/**
+	 * Checks every proof on a ballot, one at a time.
+	 */
+	private boolean verifySerial(Ballot ballot){
+		try{
+			for(int i = 0; i < ballot.size(); i++)
+				if(!ballot.getProof(i).verify(ballot.getVote(i), _publicKey, 0, 1))
+					return false;
+
+			return true;
+		}catch(Exception e){
+			Bugout.err("Malformed NIZK <"+e.getMessage()+">");
+			return false;
+		}
+	}
+
+	private void finish(Ballot ballot, boolean passed){
+		if(passed){
+			_handler.verified(ballot);
+		}else{
+			Bugout.err("!!!Ballot failed NIZK test!!!");
+			Bugout.err("Rejected ballot:\n"+new String(ballot._bytes));
+		}
+
+		synchronized(this){
+			if(passed)
+				_accepted++;
+			else
+				_rejected++;
+		}
+	}
+}
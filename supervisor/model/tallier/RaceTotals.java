@@ -0,0 +1,165 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package supervisor.model.tallier;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import auditorium.Bugout;
+
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.Election;
+
+/**
+ * The running Election for every election-id a NIZK tallier has counted a
+ * vote in.  Each Election keeps only a running total, spread across a number
+ * of stripes, and may record every vote it counts to a file picked by an
+ * {@link IAuditRecordLocator}.
+ *
+ * @author Montrose
+ */
+public class RaceTotals {
+	/**
+	 * Decides where the votes counted for each election-id are recorded.
+	 */
+	public interface IAuditRecordLocator {
+		/**
+		 * @param electionId - the election-id whose votes are to be recorded.
+		 * @return the file to record them in, or null to not record them.
+		 */
+		public File getRecordFile(String electionId);
+	}
+
+	private final AdderInteger _p;
+	private final int _stripes;
+	private final IAuditRecordLocator _locator;
+
+	private final Map<String, Election> _elections = new HashMap<String, Election>();
+
+	/**
+	 * Constructor.
+	 * @param p - the prime of the key votes are encrypted under.
+	 * @param stripes - number of running totals each election is spread across.
+	 * @param locator - picks the audit record of each election-id, or null to not record votes.
+	 */
+	public RaceTotals(AdderInteger p, int stripes, IAuditRecordLocator locator){
+		_p = p;
+		_stripes = Math.max(1, stripes);
+		_locator = locator;
+	}
+
+	/**
+	 * Records each election-id's votes in its own file in the given directory,
+	 * named after the election-id.  A record left by an earlier tally of the
+	 * same election-id is replaced.
+	 *
+	 * @param directory - the directory to record votes in, created if need be.
+	 * @return the locator.
+	 */
+	public static IAuditRecordLocator inDirectory(final File directory){
+		return new IAuditRecordLocator(){
+			public File getRecordFile(String electionId) {
+				return new File(directory, "election-"+electionId.replaceAll("[^A-Za-z0-9,_-]", "_")+".votes");
+			}
+		};
+	}
+
+	/**
+	 * @return the running Election for the given election-id, creating it if need be.
+	 */
+	public synchronized Election get(String electionId){
+		Election election = _elections.get(electionId);
+
+		if(election == null){
+			election = new Election(_p, _stripes, openAuditRecord(electionId));
+			_elections.put(electionId, election);
+		}
+
+		return election;
+	}
+
+	/**
+	 * @return every election-id counted so far, with its Election.
+	 */
+	public synchronized Map<String, Election> getElections(){
+		return new HashMap<String, Election>(_elections);
+	}
+
+	/**
+	 * Flushes and closes the audit record of every election.  Votes counted
+	 * afterwards still count, but are no longer recorded.
+	 */
+	public synchronized void closeAuditRecords(){
+		for(String electionId : _elections.keySet()){
+			try{
+				_elections.get(electionId).closeAudit();
+			}catch(IOException e){
+				Bugout.err("Could not close vote record for election-id \""+electionId+"\": "+e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Opens the file to record the votes counted for an election-id in.
+	 * The first line of the file is the election-id, and every line after it one encrypted vote.
+	 *
+	 * @return the record, or null if votes are not being recorded.
+	 */
+	private Writer openAuditRecord(String electionId){
+		if(_locator == null)
+			return null;
+
+		File file = _locator.getRecordFile(electionId);
+
+		if(file == null)
+			return null;
+
+		Writer out = null;
+
+		try{
+			if(file.getParentFile() != null)
+				file.getParentFile().mkdirs();
+
+			out = new BufferedWriter(new FileWriter(file));
+			out.write(electionId+"\n");
+			out.flush();
+
+			return out;
+		}catch(IOException e){
+			Bugout.err("Could not open vote record for election-id \""+electionId+"\": "+e.getMessage());
+
+			if(out != null){
+				try{
+					out.close();
+				}catch(IOException e2){}
+			}
+
+			return null;
+		}
+	}
+}
@@ -129,4 +129,8 @@ public class Tallier implements ITallier{
 	public void confirmed(ASExpression nonce) {
 		throw new RuntimeException("Tallier.confirmed NOT IMPLEMENTED");
 	}
+
+	public void close() {
+		//Nothing is kept open
+	}
 }
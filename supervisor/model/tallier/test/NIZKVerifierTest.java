@@ -0,0 +1,232 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package supervisor.model.tallier.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import supervisor.model.tallier.NIZKVerifier;
+import votebox.crypto.interop.AdderKeyManipulator;
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.BatchVerifier;
+import edu.uconn.cse.adder.ElgamalCiphertext;
+import edu.uconn.cse.adder.PublicKey;
+import edu.uconn.cse.adder.Vote;
+import edu.uconn.cse.adder.VoteProof;
+
+public class NIZKVerifierTest extends TestCase {
+
+	private static final int CANDIDATES = 3;
+
+	private PublicKey _finalKey;
+
+	/**
+	 * Collects the ballots the verifier accepts.
+	 */
+	private static class Collector implements NIZKVerifier.IVerifiedBallotHandler {
+		private final List<NIZKVerifier.Ballot> _ballots = Collections.synchronizedList(new ArrayList<NIZKVerifier.Ballot>());
+
+		public void verified(NIZKVerifier.Ballot ballot){
+			_ballots.add(ballot);
+		}
+	}
+
+	protected void setUp() throws Exception {
+		PublicKey key = PublicKey.makePartialKey(128);
+		key.genKeyPair();
+		_finalKey = AdderKeyManipulator.generateFinalPublicKey(key);
+	}
+
+	private List<AdderInteger> choices(int pick){
+		List<AdderInteger> choices = new ArrayList<AdderInteger>();
+		for(int i = 0; i < CANDIDATES; i++)
+			choices.add(i == pick ? AdderInteger.ONE : AdderInteger.ZERO);
+		return choices;
+	}
+
+	private VoteProof prove(Vote vote, List<AdderInteger> choices){
+		VoteProof proof = new VoteProof();
+		proof.compute(vote, _finalKey, choices, 0, 1);
+		return proof;
+	}
+
+	/**
+	 * @return a ballot of two race groups with honest proofs.
+	 */
+	private NIZKVerifier.Ballot ballot(String name){
+		NIZKVerifier.Ballot ballot = new NIZKVerifier.Ballot(name.getBytes());
+		for(int race = 0; race < 2; race++){
+			List<AdderInteger> choices = choices(race);
+			Vote vote = _finalKey.encrypt(choices);
+			ballot.add("race"+race, vote, prove(vote, choices));
+		}
+		return ballot;
+	}
+
+	/**
+	 * @return a ballot whose second race group carries the proof of a
+	 *         different vote, so it passes every check short of the proof
+	 *         equations.
+	 */
+	private NIZKVerifier.Ballot tampered(String name){
+		NIZKVerifier.Ballot ballot = new NIZKVerifier.Ballot(name.getBytes());
+		List<AdderInteger> choices = choices(0);
+		Vote vote = _finalKey.encrypt(choices);
+		ballot.add("race0", vote, prove(vote, choices));
+
+		Vote other = _finalKey.encrypt(choices);
+		ballot.add("race1", _finalKey.encrypt(choices), prove(other, choices));
+		return ballot;
+	}
+
+	/**
+	 * Negates each ciphertext of an honest vote, which moves it out of the
+	 * subgroup of quadratic residues, then proves it with the original
+	 * randomness.  The real branch of each membership proof then checks out
+	 * only when its challenge is even, so keep proving until every one is:
+	 * the serial check passes while the batched check, which tests subgroup
+	 * membership, does not.
+	 *
+	 * @return a ballot the serial and batched checks disagree on.
+	 */
+	private NIZKVerifier.Ballot outsideSubgroup(String name){
+		AdderInteger p = _finalKey.getP();
+		List<AdderInteger> choices = choices(1);
+		List<ElgamalCiphertext> negated = new ArrayList<ElgamalCiphertext>();
+		for(ElgamalCiphertext cipher : _finalKey.encrypt(choices).getCipherList())
+			negated.add(new ElgamalCiphertext(p.subtract(cipher.getG()), p.subtract(cipher.getH()), cipher.getR(), p));
+		Vote vote = new Vote(negated);
+
+		for(int attempt = 0; attempt < 1000; attempt++){
+			VoteProof proof = prove(vote, choices);
+			if(proof.verify(vote, _finalKey, 0, 1)){
+				NIZKVerifier.Ballot ballot = new NIZKVerifier.Ballot(name.getBytes());
+				ballot.add("race0", vote, proof);
+				return ballot;
+			}
+		}
+
+		fail("could not prove a vote outside the subgroup");
+		return null;
+	}
+
+	private static boolean batch(PublicKey key, NIZKVerifier.Ballot... ballots){
+		BatchVerifier verifier = new BatchVerifier(key);
+		for(NIZKVerifier.Ballot ballot : ballots)
+			for(int i = 0; i < ballot.size(); i++)
+				assertTrue(verifier.add(ballot.getProof(i), ballot.getVote(i), 0, 1));
+		return verifier.verify();
+	}
+
+	private static boolean serial(PublicKey key, NIZKVerifier.Ballot ballot){
+		for(int i = 0; i < ballot.size(); i++)
+			if(!ballot.getProof(i).verify(ballot.getVote(i), key, 0, 1))
+				return false;
+		return true;
+	}
+
+	public void testBatchOfValidBallots() {
+		NIZKVerifier.Ballot[] ballots = new NIZKVerifier.Ballot[8];
+		for(int i = 0; i < ballots.length; i++)
+			ballots[i] = ballot("good"+i);
+
+		assertTrue(batch(_finalKey, ballots));
+		assertTrue(batch(_finalKey));
+	}
+
+	public void testTamperedProofFailsBatch() {
+		NIZKVerifier.Ballot bad = tampered("bad");
+
+		assertFalse(serial(_finalKey, bad));
+		assertFalse(batch(_finalKey, ballot("good0"), bad, ballot("good1")));
+	}
+
+	public void testOutsideSubgroupFailsBatch() {
+		NIZKVerifier.Ballot odd = outsideSubgroup("odd");
+
+		assertTrue(serial(_finalKey, odd));
+		assertFalse(batch(_finalKey, odd));
+	}
+
+	public void testValidBallotsAccepted() {
+		for(NIZKVerifier.Mode mode : NIZKVerifier.Mode.values()){
+			Collector collector = new Collector();
+			NIZKVerifier verifier = new NIZKVerifier(_finalKey, mode, 2, 4, collector);
+			for(int i = 0; i < 10; i++)
+				verifier.submit(ballot("good"+i));
+			verifier.drain();
+			verifier.shutdown();
+
+			assertEquals(mode.toString(), 10, verifier.getAcceptedCount());
+			assertEquals(mode.toString(), 0, verifier.getRejectedCount());
+			assertEquals(mode.toString(), 0, verifier.getMismatchCount());
+			assertEquals(mode.toString(), 10, collector._ballots.size());
+		}
+	}
+
+	public void testTamperedBallotRejectedAlone() {
+		for(NIZKVerifier.Mode mode : NIZKVerifier.Mode.values()){
+			Collector collector = new Collector();
+			NIZKVerifier.Ballot bad = tampered("bad");
+			List<NIZKVerifier.Ballot> good = new ArrayList<NIZKVerifier.Ballot>();
+
+			// One batch holds the bad ballot, so every good ballot in it is
+			// only accepted by the per-ballot fallback.
+			NIZKVerifier verifier = new NIZKVerifier(_finalKey, mode, 1, 6, collector);
+			for(int i = 0; i < 5; i++){
+				NIZKVerifier.Ballot ballot = ballot("good"+i);
+				good.add(ballot);
+				verifier.submit(ballot);
+				if(i == 2)
+					verifier.submit(bad);
+			}
+			verifier.drain();
+			verifier.shutdown();
+
+			assertEquals(mode.toString(), 5, verifier.getAcceptedCount());
+			assertEquals(mode.toString(), 1, verifier.getRejectedCount());
+			assertEquals(mode.toString(), 0, verifier.getMismatchCount());
+			assertFalse(mode.toString(), collector._ballots.contains(bad));
+			assertTrue(mode.toString(), collector._ballots.containsAll(good));
+		}
+	}
+
+	public void testCompareCountsMismatches() {
+		Collector collector = new Collector();
+		NIZKVerifier verifier = new NIZKVerifier(_finalKey, NIZKVerifier.Mode.COMPARE, 2, 1, collector);
+		verifier.submit(ballot("good0"));
+		verifier.submit(outsideSubgroup("odd"));
+		verifier.submit(tampered("bad"));
+		verifier.submit(ballot("good1"));
+		verifier.drain();
+		verifier.shutdown();
+
+		// The serial result is the one counted.
+		assertEquals(1, verifier.getMismatchCount());
+		assertEquals(3, verifier.getAcceptedCount());
+		assertEquals(1, verifier.getRejectedCount());
+	}
+}
@@ -0,0 +1,343 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import sexpression.*;
+
+/**
+ * This layer handles signatures. If it is given verifier threads, the host can
+ * hand it announcements with {@link #verifyAhead(ASExpression)} as soon as
+ * they come off the network, and their signatures are checked on those
+ * threads while earlier announcements are being processed. The check done
+ * when the announcement reaches {@link #receiveAnnouncement(ASExpression)}
+ * then only waits for, or reuses, that result.<br>
+ * <br>
+ * Announcements made together with
+ * {@link #makeAnnouncements(java.util.List)} share one signature, over the
+ * root of a {@link MerkleTree} of their payloads. Each is sent as
+ * (batch-signed-message [cert] [signature over the root] [inclusion proof]
+ * [payload]), so it can still be checked by itself, and once the first of a
+ * batch is checked the rest find the signature in RSACrypto's cache.
+ * 
+ * @author kyle
+ * 
+ */
+public class AuditoriumIntegrityLayer extends AAuditoriumLayer {
+
+    public static final ASExpression PATTERN = new ListExpression(
+            StringExpression.makeString( "signed-message" ),
+            Wildcard.SINGLETON, Wildcard.SINGLETON );
+    public static final ASExpression BATCH_PATTERN = new ListExpression(
+            StringExpression.makeString( "batch-signed-message" ),
+            Wildcard.SINGLETON, Wildcard.SINGLETON, Wildcard.SINGLETON,
+            Wildcard.SINGLETON );
+
+    private final String _nodeID;
+    private final IKeyStore _keystore;
+    private Cert _mycert;
+    private final ExecutorService _verifiers;
+    private final ConcurrentHashMap<ASExpression, Future<ASExpression>> _inflight;
+
+    // / All certificate authority keys are expected to be annotated thusly
+    public static final String CA_ANNOTATION = "ca";
+
+    /**
+     * @param child
+     *            This new instance is a parent of this given instance.
+     * @param host
+     *            This is the host that is using this stack.
+     * @param keystore
+     *            This is the keystore to use for locating keys to perform cryptographic operations.
+     */
+    public AuditoriumIntegrityLayer(AAuditoriumLayer child,
+            IAuditoriumHost host, IKeyStore keystore) {
+        this( child, host, keystore, 0 );
+    }
+
+    /**
+     * @param child
+     *            This new instance is a parent of this given instance.
+     * @param host
+     *            This is the host that is using this stack.
+     * @param keystore
+     *            This is the keystore to use for locating keys to perform cryptographic operations.
+     * @param verifyThreads
+     *            This many threads check signatures handed to verifyAhead().
+     *            If 0, signatures are only checked when received.
+     */
+    public AuditoriumIntegrityLayer(AAuditoriumLayer child,
+            IAuditoriumHost host, IKeyStore keystore, int verifyThreads) {
+        super( child, host );
+        _nodeID = host.getNodeId();
+        _keystore = keystore;
+        _inflight = new ConcurrentHashMap<ASExpression, Future<ASExpression>>();
+        if (verifyThreads > 0)
+            _verifiers = Executors.newFixedThreadPool( verifyThreads,
+                new ThreadFactory() {
+
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread( r, "AuditoriumVerifier" );
+                        t.setDaemon( true );
+                        return t;
+                    }
+                } );
+        else
+            _verifiers = null;
+
+        if (keystore == null)
+            Bugout
+                    .msg( "warning: keystore is NULL in AuditoriumIntegrityLayer()" );
+
+        try {
+            init();
+        }
+        catch (Exception e) {
+            throw new FatalNetworkException(
+                    "Can't perform necessary cryptographic operations", e );
+        }
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#makeAnnouncement(sexpression.ASExpression)
+     */
+    public ASExpression makeAnnouncement(ASExpression datum) {
+        // Make new datum
+        ASExpression newdatum;
+
+        try {
+            newdatum = new ListExpression( StringExpression
+                    .makeString( "signed-message" ), _mycert.toASE(),
+                    RSACrypto.SINGLETON.sign( datum, _keystore.loadKey( _nodeID ) )
+                            .toASE() );
+        }
+        catch (AuditoriumCryptoException e) {
+            throw new FatalNetworkException(
+                    "Couldn't make an announcement because of a crypto error.",
+                    e );
+        }
+
+        // Decorated method call.
+        return getChild().makeAnnouncement( newdatum );
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#makeAnnouncements(java.util.List)
+     */
+    @Override
+    public List<ASExpression> makeAnnouncements(List<ASExpression> announcements) {
+        if (announcements.size() < 2)
+            return super.makeAnnouncements( announcements );
+
+        MerkleTree tree = new MerkleTree( announcements );
+        ASExpression signature;
+        try {
+            signature = RSACrypto.SINGLETON.sign( tree.getRoot(),
+                _keystore.loadKey( _nodeID ) ).toASE();
+        }
+        catch (AuditoriumCryptoException e) {
+            throw new FatalNetworkException(
+                    "Couldn't make an announcement because of a crypto error.",
+                    e );
+        }
+
+        ArrayList<ASExpression> data = new ArrayList<ASExpression>();
+        for (int i = 0; i < announcements.size(); i++)
+            data.add( new ListExpression( StringExpression
+                    .makeString( "batch-signed-message" ), _mycert.toASE(),
+                    signature, tree.getProof( i ), announcements.get( i ) ) );
+
+        // Decorated method call.
+        return getChild().makeAnnouncements( data );
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#makeJoin(sexpression.ASExpression)
+     */
+    public ASExpression makeJoin(ASExpression datum) {
+        return getChild().makeJoin( datum );
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#makeJoinReply(sexpression.ASExpression,
+     *      sexpression.ASExpression)
+     */
+    public ASExpression makeJoinReply(ASExpression datum) {
+        return getChild().makeJoinReply( datum );
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#receiveAnnouncement(sexpression.ASExpression)
+     */
+    public ASExpression receiveAnnouncement(ASExpression datum)
+            throws IncorrectFormatException {
+        Future<ASExpression> ahead = _inflight.get( datum );
+        if (ahead != null) {
+            try {
+                return ahead.get();
+            }
+            catch (InterruptedException e) {
+                throw new FatalNetworkException(
+                        "Interrupted while waiting for a signature check.", e );
+            }
+            catch (ExecutionException e) {
+                // Check it again here so the failure is reported the same way.
+            }
+        }
+
+        return verify( datum );
+    }
+
+    /**
+     * Start checking the signatures on an announcement on one of the verifier
+     * threads, if there are any. This doesn't block.
+     * 
+     * @param datum
+     *            This is the announcement, as it will later be given to
+     *            receiveAnnouncement().
+     */
+    public void verifyAhead(final ASExpression datum) {
+        if (_verifiers == null || _inflight.containsKey( datum ))
+            return;
+
+        FutureTask<ASExpression> task = new FutureTask<ASExpression>(
+                new Callable<ASExpression>() {
+
+                    public ASExpression call() throws Exception {
+                        try {
+                            return verify( datum );
+                        }
+                        finally {
+                            // Once it's done, a later check is a cache hit.
+                            _inflight.remove( datum );
+                        }
+                    }
+                } );
+        if (_inflight.putIfAbsent( datum, task ) == null)
+            _verifiers.execute( task );
+    }
+
+    /**
+     * Stop the verifier threads.
+     */
+    public void shutdown() {
+        if (_verifiers != null)
+            _verifiers.shutdownNow();
+    }
+
+    /**
+     * Check the signature on an announcement and on the certificate that came
+     * with it.
+     * 
+     * @return This method returns the announcement's payload.
+     */
+    private ASExpression verify(ASExpression datum)
+            throws IncorrectFormatException {
+        try {
+            // Decorated method call
+            ASExpression below = getChild().receiveAnnouncement( datum );
+            ASExpression matchresult = PATTERN.match( below );
+            ASExpression payload = null;
+            if (matchresult == NoMatch.SINGLETON) {
+                matchresult = BATCH_PATTERN.match( below );
+                if (matchresult == NoMatch.SINGLETON)
+                    throw new IncorrectFormatException( datum, new Exception(
+                            datum + " doesn't match the pattern:" + PATTERN ) );
+                payload = ((ListExpression) matchresult).get( 3 );
+            }
+            ListExpression matchlist = (ListExpression) matchresult;
+
+            Cert cer = new Cert( matchlist.get( 0 ) );
+            Signature sig = new Signature( matchlist.get( 1 ) );
+            if (payload != null
+                    && !MerkleTree.isRoot( MerkleTree.computeRoot( payload,
+                        matchlist.get( 2 ) ), sig.getPayload() ))
+                throw new IncorrectFormatException( datum, new Exception(
+                        "The payload isn't in the batch that was signed." ) );
+            RSACrypto.SINGLETON.verify( sig, cer );
+
+            String signingKeyId = cer.getSignature().getId(); // the ID of the key that signed the *certificate*
+            Cert signingCert = _keystore.loadCert( signingKeyId ); // the cert that signed the certificate
+            if (signingCert.getKey().getAnnotation().equals( CA_ANNOTATION )) {
+            	// verify that the signature on the certificate itself is correct
+                RSACrypto.SINGLETON.verify( cer.getSignature(), signingCert );
+            }
+            else {
+            	throw new SignerValidityException("Certificate on message signature was signed by non-authoritative key '"
+                        + signingKeyId + "' (annotation: '"
+                        + signingCert.getKey().getAnnotation() + "')");
+            }
+
+            // Send the rest upwards.
+            return payload != null ? payload : sig.getPayload();
+        }
+        catch (AuditoriumCryptoException e) {
+            throw new IncorrectFormatException( datum, e );
+        } catch (SignerValidityException e) {
+			throw new IncorrectFormatException( datum, e );
+		}
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#receiveJoinReply(sexpression.ASExpression)
+     */
+    public ASExpression receiveJoinReply(ASExpression datum)
+            throws IncorrectFormatException {
+        return getChild().receiveJoinReply( datum );
+    }
+
+    /**
+     * @see auditorium.IAuditoriumLayer#receiveJoin(sexpression.ASExpression)
+     */
+    public ASExpression receiveJoin(ASExpression datum)
+            throws IncorrectFormatException {
+        return datum;
+    }
+
+    /**
+     * Run some initial tests to make sure that this host can do all the
+     * cryptographic things it needs to be able to do.
+     */
+    private void init() throws Exception {
+        StringExpression message = StringExpression.makeString( "test" );
+
+        // load my cert
+        _mycert = _keystore.loadCert( _nodeID );
+
+        // Make a test signature and verify it. (Check that "my" cert and key
+        // are on disk)
+        Signature sig = RSACrypto.SINGLETON.sign( message, _keystore
+                .loadKey( _nodeID ) );
+        RSACrypto.SINGLETON.verify( sig, _mycert );
+    }
+}
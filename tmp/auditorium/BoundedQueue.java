@@ -0,0 +1,453 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed-capacity FIFO queue that any number of threads may push to and pop
+ * from, with the same push/pop/releaseThreads contract as
+ * {@link SynchronizedQueue}. Pushes and pops that find room or an element
+ * never take a lock: each slot of a ring buffer carries a sequence number
+ * that says whether it is free to be written or ready to be read, and
+ * producers and consumers claim slots with a compare-and-set on the tail or
+ * head counter. A lock is only taken to sleep, when a pop finds the queue
+ * empty or a push finds it full, and by the other side to wake a sleeper.<br>
+ * <br>
+ * What a push does when the queue is full is set by its {@link Policy}.
+ * Counters for drops and for the time pushes spend waiting for room are kept
+ * so the cost of the bound can be watched. Only pushes that find the queue
+ * full are timed, since reading the clock costs more than a push that
+ * doesn't wait.
+ *
+ * @author Montrose
+ */
+public class BoundedQueue<T> {
+
+    /**
+     * What push does when the queue is full.
+     */
+    public enum Policy {
+        /** Wait for room, however long it takes. */
+        BLOCK,
+        /** Discard the new element at once. */
+        DROP,
+        /** Wait for room, but discard the new element if none is made soon. */
+        BACKPRESSURE;
+
+        /**
+         * @param name
+         *            "block", "drop" or "backpressure", in any case.
+         * @return This method returns the matching policy, or BLOCK if the
+         *         name isn't recognized.
+         */
+        public static Policy parse(String name) {
+            for (Policy policy : values())
+                if (policy.name().equalsIgnoreCase( name ))
+                    return policy;
+
+            Bugout.err( "Unknown queue policy \"" + name + "\", using block" );
+            return BLOCK;
+        }
+    }
+
+    /**
+     * How long a push waits for room under {@link Policy#BACKPRESSURE}.
+     */
+    public static final long BACKPRESSURE_WAIT_MILLIS = 100;
+
+    private final int _mask;
+    private final AtomicReferenceArray<T> _elements;
+    private final AtomicLongArray _sequences;
+    private final AtomicLong _head = new AtomicLong();
+    private final AtomicLong _tail = new AtomicLong();
+    private final Policy _policy;
+    private volatile boolean _release = false;
+
+    // Only used to sleep and wake.
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final Condition _notEmpty = _lock.newCondition();
+    private final Condition _notFull = _lock.newCondition();
+    private final AtomicInteger _waitingConsumers = new AtomicInteger();
+    private final AtomicInteger _waitingProducers = new AtomicInteger();
+
+    // Statistics
+    private final AtomicLong _waited = new AtomicLong();
+    private final AtomicLong _dropped = new AtomicLong();
+    private final AtomicLong _waitNanos = new AtomicLong();
+    private final AtomicLong _maxWaitNanos = new AtomicLong();
+
+    /**
+     * Construct a new, empty queue.
+     *
+     * @param capacity
+     *            The queue holds at least this many elements. It is rounded
+     *            up to a power of two, and to no less than two, since a slot's
+     *            sequence number can't tell full from free in a ring of one.
+     * @param policy
+     *            This is what push does when the queue is full.
+     */
+    public BoundedQueue(int capacity, Policy policy) {
+        if (capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException( "bad queue capacity: "
+                    + capacity );
+
+        int size = Math.max( 2, Integer.highestOneBit( capacity ) );
+        if (size < capacity)
+            size <<= 1;
+
+        _mask = size - 1;
+        _elements = new AtomicReferenceArray<T>( size );
+        _sequences = new AtomicLongArray( size );
+        for (int i = 0; i < size; i++)
+            _sequences.set( i, i );
+        _policy = policy;
+    }
+
+    /**
+     * Call this method to add a new element to the queue. If the queue is
+     * full, what happens depends on the queue's policy.
+     *
+     * @param exp
+     *            This is the element that wants to be added to the queue.
+     * @return This method returns true if the add was a success, or false if
+     *         the element was dropped.
+     */
+    public boolean push(T exp) {
+        boolean pushed = offer( exp );
+
+        if (!pushed && _policy != Policy.DROP) {
+            long start = System.nanoTime();
+            pushed = awaitRoom( exp, start );
+
+            long elapsed = System.nanoTime() - start;
+            _waited.incrementAndGet();
+            _waitNanos.addAndGet( elapsed );
+            long max;
+            while (elapsed > (max = _maxWaitNanos.get()))
+                if (_maxWaitNanos.compareAndSet( max, elapsed ))
+                    break;
+        }
+
+        if (!pushed) {
+            _dropped.incrementAndGet();
+            return false;
+        }
+
+        if (_waitingConsumers.get() > 0)
+            wake( _notEmpty );
+        return true;
+    }
+
+    /**
+     * Call this method to remove the least recently added element from the
+     * queue. If the queue is empty, this blocks until something is pushed.
+     *
+     * @return This method returns the least recently added element.
+     * @throws ReleasedQueueException
+     *             This method throws if it deems it cannot ever get any input.
+     *             This determination is made if another thread calls
+     *             releaseThreads().
+     */
+    public T pop() throws ReleasedQueueException {
+        return take( -1 );
+    }
+
+    /**
+     * Call this method to remove the least recently added element from the
+     * queue, waiting no longer than the given time for one to be pushed if
+     * the queue is empty.
+     *
+     * @param timeout
+     *            Wait this long.
+     * @param unit
+     *            This is the unit of the timeout.
+     * @return This method returns the least recently added element, or null
+     *         if none was pushed in time.
+     * @throws ReleasedQueueException
+     *             This method throws if it deems it cannot ever get any input.
+     *             This determination is made if another thread calls
+     *             releaseThreads().
+     */
+    public T pop(long timeout, TimeUnit unit) throws ReleasedQueueException {
+        return take( Math.max( 0, unit.toNanos( timeout ) ) );
+    }
+
+    /**
+     * Get the number of elements that are in the queue.
+     *
+     * @return This method returns the number of elements that are in the queue.
+     */
+    public int size() {
+        long size = _tail.get() - _head.get();
+        return (int) Math.max( 0, Math.min( size, _mask + 1 ) );
+    }
+
+    /**
+     * @return This method returns the most elements the queue can hold.
+     */
+    public int capacity() {
+        return _mask + 1;
+    }
+
+    /**
+     * If any threads are waiting on a pop or push operation, release them.
+     * This operation is not recoverable (subsequent pop operations will not
+     * block, and subsequent pushes to a full queue fail).
+     */
+    public void releaseThreads() {
+        _release = true;
+        _lock.lock();
+        try {
+            _notEmpty.signalAll();
+            _notFull.signalAll();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * @return This method returns the number of elements pushed so far.
+     */
+    public long getPushCount() {
+        return _tail.get();
+    }
+
+    /**
+     * @return This method returns the number of elements dropped so far
+     *         because the queue was full.
+     */
+    public long getDropCount() {
+        return _dropped.get();
+    }
+
+    /**
+     * @return This method returns the number of pushes so far that found the
+     *         queue full and waited for room, whether or not they got it.
+     */
+    public long getWaitCount() {
+        return _waited.get();
+    }
+
+    /**
+     * @return This method returns the average time, in nanoseconds, that a
+     *         push which found the queue full spent waiting for room.
+     */
+    public long getAverageWaitNanos() {
+        long waited = _waited.get();
+        return waited == 0 ? 0 : _waitNanos.get() / waited;
+    }
+
+    /**
+     * @return This method returns the longest time, in nanoseconds, that a
+     *         push spent waiting for room.
+     */
+    public long getMaxWaitNanos() {
+        return _maxWaitNanos.get();
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "depth " + size() + "/" + capacity() + ", pushed "
+                + getPushCount() + ", dropped " + getDropCount() + ", waited "
+                + getWaitCount() + " (avg " + getAverageWaitNanos()
+                + "ns, max " + getMaxWaitNanos() + "ns)";
+    }
+
+    /**
+     * Claim the tail slot and fill it, without blocking.
+     *
+     * @return false if the queue is full.
+     */
+    private boolean offer(T exp) {
+        long pos = _tail.get();
+        int index;
+        while (true) {
+            index = (int) (pos & _mask);
+            long diff = _sequences.get( index ) - pos;
+            if (diff == 0) {
+                if (_tail.compareAndSet( pos, pos + 1 ))
+                    break;
+                pos = _tail.get();
+            }
+            else if (diff < 0)
+                return false;
+            else
+                pos = _tail.get();
+        }
+
+        _elements.set( index, exp );
+        _sequences.set( index, pos + 1 );
+        return true;
+    }
+
+    /**
+     * Claim the head slot and empty it, without blocking.
+     *
+     * @return null if the queue is empty.
+     */
+    private T poll() {
+        long pos = _head.get();
+        int index;
+        while (true) {
+            index = (int) (pos & _mask);
+            long diff = _sequences.get( index ) - (pos + 1);
+            if (diff == 0) {
+                if (_head.compareAndSet( pos, pos + 1 ))
+                    break;
+                pos = _head.get();
+            }
+            else if (diff < 0)
+                return null;
+            else
+                pos = _head.get();
+        }
+
+        T exp = _elements.get( index );
+        _elements.set( index, null );
+        _sequences.set( index, pos + _mask + 1 );
+        // Let a full queue drain to half before waking producers, so they
+        // refill it in a burst instead of trading places with the consumer
+        // on every element.
+        if (_waitingProducers.get() > 0 && size() <= (_mask + 1) / 2)
+            wakeAll( _notFull );
+        return exp;
+    }
+
+    /**
+     * Pop, waiting at most the given time for an element, or for as long as
+     * it takes if the time is negative.
+     *
+     * @return null if the time ran out.
+     */
+    private T take(long nanos) throws ReleasedQueueException {
+        boolean forever = nanos < 0;
+        if (!_release) {
+            T exp = poll();
+            if (exp != null)
+                return exp;
+
+            _lock.lock();
+            try {
+                _waitingConsumers.incrementAndGet();
+                try {
+                    // Checked again now that producers can see us waiting.
+                    while (!_release && (exp = poll()) == null) {
+                        if (forever)
+                            _notEmpty.await();
+                        else if (nanos <= 0)
+                            return null;
+                        else
+                            nanos = _notEmpty.awaitNanos( nanos );
+                    }
+                }
+                finally {
+                    _waitingConsumers.decrementAndGet();
+                }
+            }
+            catch (InterruptedException e) {
+                throw new FatalNetworkException(
+                        "Couldn't wait on the bounded queue.", e );
+            }
+            finally {
+                _lock.unlock();
+            }
+
+            if (exp != null)
+                return exp;
+        }
+
+        throw ReleasedQueueException.SINGLETON;
+    }
+
+    /**
+     * Wait for room in a full queue, for as long as the policy allows.
+     *
+     * @return false if the element couldn't be added.
+     */
+    private boolean awaitRoom(T exp, long start) {
+        long deadline = start
+                + TimeUnit.MILLISECONDS.toNanos( BACKPRESSURE_WAIT_MILLIS );
+
+        _lock.lock();
+        try {
+            _waitingProducers.incrementAndGet();
+            try {
+                while (!_release) {
+                    if (offer( exp ))
+                        return true;
+
+                    if (_policy == Policy.BLOCK)
+                        _notFull.await();
+                    else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0)
+                            return false;
+                        _notFull.awaitNanos( remaining );
+                    }
+                }
+                return false;
+            }
+            finally {
+                _waitingProducers.decrementAndGet();
+            }
+        }
+        catch (InterruptedException e) {
+            throw new FatalNetworkException(
+                    "Couldn't wait on the bounded queue.", e );
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+    private void wake(Condition condition) {
+        _lock.lock();
+        try {
+            condition.signal();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+    private void wakeAll(Condition condition) {
+        _lock.lock();
+        try {
+            condition.signalAll();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+}
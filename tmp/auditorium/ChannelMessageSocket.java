@@ -0,0 +1,284 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEFrameDecoder;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+/**
+ * A message socket over a non-blocking channel. Reads and writes are done by
+ * the event loop of the {@link ChannelTransport} that made it, so
+ * {@link #send(Message)} never blocks: the message is queued and written when
+ * the channel can take it.<br>
+ * <br>
+ * Until a {@link Link} is attached, incoming messages are held for
+ * {@link #receive()}, which is how the join handshake is done. Once a link is
+ * attached they are handed straight to it from the event loop, and no thread
+ * is spent waiting on the socket.
+ *
+ * @author Montrose
+ */
+public class ChannelMessageSocket implements IMessageSocket {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final ChannelTransport _transport;
+    private final SocketChannel _channel;
+    private final ChannelTransport.IConnectionHandler _handler;
+    private final ASEFrameDecoder _decoder;
+    private final ByteBuffer _readBuffer;
+    private final ConcurrentLinkedQueue<ByteBuffer> _outbound;
+    private final AtomicBoolean _flushScheduled;
+    private final SynchronizedQueue<ASExpression> _inbox;
+
+    // Only touched by the event loop.
+    private SelectionKey _key;
+    private Link _link;
+    private boolean _handshaken;
+
+    private volatile String _failure;
+
+    /**
+     * @param transport
+     *            This is the transport whose event loop services the channel.
+     * @param channel
+     *            This is the connected channel, already non-blocking.
+     * @param handler
+     *            The first message received is given to this handler instead of
+     *            to receive(), or null if it shouldn't be.
+     */
+    ChannelMessageSocket(ChannelTransport transport, SocketChannel channel,
+            ChannelTransport.IConnectionHandler handler) {
+        _transport = transport;
+        _channel = channel;
+        _handler = handler;
+        _decoder = new ASEFrameDecoder();
+        _readBuffer = ByteBuffer.allocate( READ_BUFFER_SIZE );
+        _outbound = new ConcurrentLinkedQueue<ByteBuffer>();
+        _flushScheduled = new AtomicBoolean( false );
+        _inbox = new SynchronizedQueue<ASExpression>();
+        _handshaken = handler == null;
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#send(auditorium.Message)
+     */
+    public void send(Message msg) throws NetworkException {
+        if (_failure != null)
+            throw new NetworkException( "Couldn't send " + msg + ": "
+                    + _failure, null );
+
+        _outbound.add( ByteBuffer.wrap( msg.toASE().toVerbatim() ) );
+        if (_flushScheduled.compareAndSet( false, true ))
+            _transport.execute( new Runnable() {
+
+                public void run() {
+                    flush();
+                }
+            } );
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#receive()
+     */
+    public Message receive() throws NetworkException, IncorrectFormatException {
+        try {
+            return new Message( _inbox.pop() );
+        }
+        catch (ReleasedQueueException e) {
+            throw new NetworkException( "while receiving:" + _failure, e );
+        }
+    }
+
+    /**
+     * @see auditorium.IMessageSocket#close()
+     */
+    public void close() throws IOException {
+        if (_failure == null)
+            _failure = "socket closed";
+        _inbox.releaseThreads();
+        _channel.close();
+    }
+
+    /**
+     * Hand every message received from now on, and any that were received but
+     * not yet taken by receive(), to the given link.
+     *
+     * @param link
+     *            This is the link that owns this socket.
+     */
+    void attach(final Link link) {
+        _transport.execute( new Runnable() {
+
+            public void run() {
+                if (_failure != null) {
+                    link.failed( _failure );
+                    return;
+                }
+
+                _link = link;
+                try {
+                    while (_inbox.size() > 0)
+                        deliver( _inbox.pop() );
+                }
+                catch (ReleasedQueueException e) {}
+            }
+        } );
+    }
+
+    /**
+     * Register the channel with the event loop's selector. Called by the event
+     * loop.
+     */
+    void register(Selector selector) {
+        try {
+            _key = _channel.register( selector, SelectionKey.OP_READ, this );
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+        }
+    }
+
+    /**
+     * Read what has arrived and dispatch every message it completes. Called by
+     * the event loop.
+     */
+    void readReady() {
+        List<ASExpression> decoded;
+        try {
+            _readBuffer.clear();
+            if (_channel.read( _readBuffer ) < 0) {
+                fail( "End of stream" );
+                return;
+            }
+            _readBuffer.flip();
+            decoded = _decoder.decode( _readBuffer );
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+            return;
+        }
+        catch (InvalidVerbatimStreamException e) {
+            fail( e.getMessage() );
+            return;
+        }
+
+        for (ASExpression expression : decoded) {
+            if (_failure != null)
+                return;
+            dispatch( expression );
+        }
+    }
+
+    /**
+     * Write as much of the outbound queue as the channel will take, and ask
+     * to be told when it will take more if anything is left. Called by the
+     * event loop.
+     */
+    void flush() {
+        _flushScheduled.set( false );
+        if (_key == null || !_key.isValid())
+            return;
+
+        try {
+            ByteBuffer buffer;
+            while ((buffer = _outbound.peek()) != null) {
+                _channel.write( buffer );
+                if (buffer.hasRemaining())
+                    break;
+                _outbound.poll();
+            }
+        }
+        catch (IOException e) {
+            fail( e.getMessage() );
+            return;
+        }
+
+        _key.interestOps( _outbound.isEmpty() ? SelectionKey.OP_READ
+                : SelectionKey.OP_READ | SelectionKey.OP_WRITE );
+    }
+
+    /**
+     * Close the channel after an error and tell whoever is waiting on it.
+     * Called by the event loop.
+     */
+    void fail(String reason) {
+        if (_failure != null)
+            return;
+
+        _failure = reason;
+        try {
+            close();
+        }
+        catch (IOException e) {}
+
+        if (_link != null)
+            _link.failed( reason );
+    }
+
+    private void dispatch(ASExpression expression) {
+        if (_link != null) {
+            deliver( expression );
+            return;
+        }
+
+        if (!_handshaken) {
+            _handshaken = true;
+            try {
+                _handler.connected( this, new Message( expression ) );
+            }
+            catch (IncorrectFormatException e) {
+                Bugout.err( "Listen: " + e.getMessage() );
+                try {
+                    close();
+                }
+                catch (IOException e1) {}
+            }
+            return;
+        }
+
+        _inbox.push( expression );
+    }
+
+    private void deliver(ASExpression expression) {
+        if (!_link.running())
+            return;
+
+        try {
+            _link.received( new Message( expression ) );
+        }
+        catch (IncorrectFormatException e) {
+            _link.malformed( e );
+        }
+    }
+}
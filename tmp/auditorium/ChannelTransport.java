@@ -0,0 +1,272 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A single event loop that does all of the network reads and writes for one
+ * auditorium host. Every {@link ChannelMessageSocket} it makes, whether by
+ * accepting a connection or by {@link #connect(HostPointer, int)}, is serviced
+ * by the one selector thread, so a host with many links doesn't need a thread
+ * for each of them.<br>
+ * <br>
+ * Work that has to touch the selector or a socket's state from another thread
+ * is handed to the loop with {@link #execute(Runnable)} and run there in the
+ * order it was given.
+ *
+ * @author Montrose
+ */
+public class ChannelTransport {
+
+    /**
+     * Told about each connection accepted on a listening port once its first
+     * message has arrived. Called from the event loop, so it must not block.
+     */
+    public interface IConnectionHandler {
+
+        /**
+         * @param socket
+         *            This is the socket the connection was accepted on.
+         * @param first
+         *            This is the first message received on it.
+         */
+        public void connected(ChannelMessageSocket socket, Message first);
+    }
+
+    private final Selector _selector;
+    private final ConcurrentLinkedQueue<Runnable> _tasks;
+    private volatile boolean _running;
+
+    /**
+     * Construct a new transport. The event loop doesn't run until
+     * {@link #start()} is called.
+     *
+     * @throws NetworkException
+     *             This method throws if a selector can't be opened.
+     */
+    public ChannelTransport() throws NetworkException {
+        try {
+            _selector = Selector.open();
+        }
+        catch (IOException e) {
+            throw new NetworkException( "couldn't open selector", e );
+        }
+        _tasks = new ConcurrentLinkedQueue<Runnable>();
+        _running = false;
+    }
+
+    /**
+     * Start the event loop.
+     */
+    public void start() {
+        Bugout.msg( "Transport: STARTING" );
+        _running = true;
+        Thread t = new Thread( new Runnable() {
+
+            public void run() {
+                eventLoop();
+            }
+        }, "ChannelTransport" );
+        t.setPriority( Thread.currentThread().getPriority() + 1 );
+        t.start();
+    }
+
+    /**
+     * Stop the event loop and close every connection it is servicing.
+     */
+    public void stop() {
+        Bugout.msg( "Transport: STOPPING" );
+        _running = false;
+        _selector.wakeup();
+    }
+
+    /**
+     * Accept connections on the given port.
+     *
+     * @param port
+     *            Listen on this port.
+     * @param handler
+     *            Give each accepted connection to this handler once its first
+     *            message arrives.
+     * @throws NetworkException
+     *             This method throws if the port can't be bound.
+     */
+    public void listen(int port, final IConnectionHandler handler)
+            throws NetworkException {
+        final ServerSocketChannel server;
+        try {
+            server = ServerSocketChannel.open();
+            server.socket().bind( new InetSocketAddress( port ) );
+            server.configureBlocking( false );
+        }
+        catch (IOException e) {
+            throw new NetworkException( "couldn't bind port " + port, e );
+        }
+
+        execute( new Runnable() {
+
+            public void run() {
+                try {
+                    server.register( _selector, SelectionKey.OP_ACCEPT, handler );
+                }
+                catch (IOException e) {
+                    Bugout.err( "Listen: " + e.getMessage() );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Connect to the given host, but timeout the connection after a given
+     * period of time. The connect itself blocks the caller; everything after
+     * it is done by the event loop.
+     *
+     * @param host
+     *            Connect to this host.
+     * @param timeout
+     *            Only wait this long for the connection to succeed.
+     * @return This method returns the connected socket.
+     * @throws NetworkException
+     *             This method throws if there is a problem connecting.
+     */
+    public ChannelMessageSocket connect(HostPointer host, int timeout)
+            throws NetworkException {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.socket().connect(
+                    new InetSocketAddress( host.getIP(), host.getPort() ),
+                    timeout );
+            channel.configureBlocking( false );
+        }
+        catch (IOException e) {
+            if (channel != null)
+                try {
+                    channel.close();
+                }
+                catch (IOException e1) {}
+            throw new NetworkException( "couldn't create socket", e );
+        }
+
+        final ChannelMessageSocket socket = new ChannelMessageSocket( this,
+                channel, null );
+        execute( new Runnable() {
+
+            public void run() {
+                socket.register( _selector );
+            }
+        } );
+        return socket;
+    }
+
+    /**
+     * Run the given task on the event loop.
+     *
+     * @param task
+     *            Run this.
+     */
+    void execute(Runnable task) {
+        _tasks.add( task );
+        _selector.wakeup();
+    }
+
+    private void eventLoop() {
+        Bugout.msg( "Transport: THREAD START" );
+        while (_running) {
+            Runnable task;
+            while ((task = _tasks.poll()) != null)
+                task.run();
+
+            try {
+                _selector.select();
+            }
+            catch (IOException e) {
+                Bugout.err( "Transport: " + e.getMessage() );
+                break;
+            }
+
+            Iterator<SelectionKey> keys = _selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                try {
+                    if (key.isAcceptable()) {
+                        accept( key );
+                        continue;
+                    }
+
+                    ChannelMessageSocket socket = (ChannelMessageSocket) key
+                            .attachment();
+                    if (key.isReadable())
+                        socket.readReady();
+                    if (key.isValid() && key.isWritable())
+                        socket.flush();
+                }
+                catch (CancelledKeyException e) {}
+            }
+        }
+
+        // Close everything that was registered.
+        for (SelectionKey key : _selector.keys()) {
+            try {
+                if (key.attachment() instanceof ChannelMessageSocket)
+                    ((ChannelMessageSocket) key.attachment()).close();
+                else
+                    key.channel().close();
+            }
+            catch (IOException e) {}
+        }
+        try {
+            _selector.close();
+        }
+        catch (IOException e) {}
+        Bugout.msg( "Transport: THREAD END" );
+    }
+
+    private void accept(SelectionKey key) {
+        SocketChannel channel;
+        try {
+            channel = ((ServerSocketChannel) key.channel()).accept();
+            if (channel == null)
+                return;
+            channel.configureBlocking( false );
+        }
+        catch (IOException e) {
+            Bugout.err( "Listen: " + e.getMessage() );
+            return;
+        }
+
+        Bugout.msg( "Listen: connection received." );
+        new ChannelMessageSocket( this, channel,
+                (IConnectionHandler) key.attachment() ).register( _selector );
+    }
+}
@@ -0,0 +1,67 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.io.IOException;
+
+/**
+ * A connection to another auditorium host over which messages are sent and
+ * received. {@link MessageSocket} does this with a blocking socket;
+ * {@link ChannelMessageSocket} does it with a non-blocking channel serviced by
+ * a {@link ChannelTransport}.
+ *
+ * @author Montrose
+ */
+public interface IMessageSocket {
+
+    /**
+     * Send a message.
+     *
+     * @param msg
+     *            Send this message.
+     * @throws NetworkException
+     *             This method throws if the message can't be sent.
+     */
+    public void send(Message msg) throws NetworkException;
+
+    /**
+     * Receive a message, blocking until one arrives.
+     *
+     * @return This method returns the message that is received.
+     * @throws NetworkException
+     *             This method throws if the connection fails or is closed, or
+     *             if what arrives isn't s-expressions.
+     * @throws IncorrectFormatException
+     *             This method throws if the incoming s-exp isn't formatted as a
+     *             message.
+     */
+    public Message receive() throws NetworkException, IncorrectFormatException;
+
+    /**
+     * Close the connection.
+     *
+     * @throws IOException
+     *             This method throws if the underlying close throws.
+     */
+    public void close() throws IOException;
+}
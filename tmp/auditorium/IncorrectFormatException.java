@@ -0,0 +1,48 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import sexpression.ASExpression;
+
+/**
+ * This exception is thrown when Auditorium expects an s-expression to be
+ * formatted a particular way, but it isn't.
+ * 
+ * @author kyle
+ * 
+ */
+public class IncorrectFormatException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final ASExpression _ase;
+
+    public IncorrectFormatException(ASExpression message, Throwable exception) {
+        super( message.toString() + " incorrectly formatted: "
+                + exception.getMessage(), exception );
+        _ase = message;
+    }
+
+    public ASExpression getOffender() {
+        return _ase;
+    }
+}
@@ -0,0 +1,197 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import sexpression.*;
+
+/**
+ * A hash tree over a batch of expressions, so that one signature over its root
+ * vouches for every expression in the batch, and each one can still be checked
+ * on its own. Any one expression's place in the tree is proven by the hashes
+ * of its siblings on the path to the root, which is carried in an inclusion
+ * proof of the form (proof [index] [count] ([sibling hash] ...)).<br>
+ * <br>
+ * Leaves are the SHA-1 of (merkle-leaf [expression]) and inner nodes the SHA-1
+ * of (merkle-node [left] [right]), so a leaf can't pass for an inner node. A
+ * node without a sibling is carried up to the next level unchanged.
+ *
+ * @author Montrose
+ */
+public class MerkleTree {
+
+    public static final ASExpression PROOF_PATTERN = new ListExpression(
+            StringExpression.makeString( "proof" ), StringWildcard.SINGLETON,
+            StringWildcard.SINGLETON, new ListWildcard(
+                    StringWildcard.SINGLETON ) );
+
+    private static final StringExpression LEAF = StringExpression
+            .makeString( "merkle-leaf" );
+    private static final StringExpression NODE = StringExpression
+            .makeString( "merkle-node" );
+
+    // _levels.get(0) holds the leaf hashes, the last level holds the root.
+    private final ArrayList<StringExpression[]> _levels;
+
+    /**
+     * @param leaves
+     *            Build the tree over these expressions, in this order. There
+     *            must be at least one.
+     */
+    public MerkleTree(List<ASExpression> leaves) {
+        if (leaves.isEmpty())
+            throw new IllegalArgumentException( "a tree needs a leaf" );
+
+        _levels = new ArrayList<StringExpression[]>();
+        StringExpression[] level = new StringExpression[leaves.size()];
+        for (int i = 0; i < level.length; i++)
+            level[i] = hashLeaf( leaves.get( i ) );
+        _levels.add( level );
+
+        while (level.length > 1) {
+            StringExpression[] next = new StringExpression[(level.length + 1) / 2];
+            for (int i = 0; i < next.length; i++)
+                next[i] = 2 * i + 1 < level.length ? hashNode( level[2 * i],
+                    level[2 * i + 1] ) : level[2 * i];
+            _levels.add( next );
+            level = next;
+        }
+    }
+
+    /**
+     * @return This method returns the hash at the root of the tree.
+     */
+    public StringExpression getRoot() {
+        return _levels.get( _levels.size() - 1 )[0];
+    }
+
+    /**
+     * Get the inclusion proof for one of the leaves.
+     *
+     * @param index
+     *            Get the proof for the leaf at this position.
+     * @return This method returns (proof [index] [count] ([sibling hash] ...)).
+     */
+    public ASExpression getProof(int index) {
+        ArrayList<ASExpression> siblings = new ArrayList<ASExpression>();
+        int position = index;
+        for (int l = 0; l < _levels.size() - 1; l++) {
+            StringExpression[] level = _levels.get( l );
+            int sibling = position ^ 1;
+            if (sibling < level.length)
+                siblings.add( level[sibling] );
+            position >>= 1;
+        }
+
+        return new ListExpression( StringExpression.makeString( "proof" ),
+                StringExpression.makeString( Integer.toString( index ) ),
+                StringExpression.makeString( Integer
+                        .toString( _levels.get( 0 ).length ) ),
+                new ListExpression( siblings ) );
+    }
+
+    /**
+     * Compute the root of the tree that an inclusion proof says an expression
+     * is a leaf of. If the result matches a root that is trusted, the
+     * expression was one of that tree's leaves.
+     *
+     * @param leaf
+     *            This is the expression.
+     * @param proof
+     *            This is its proof, as made by getProof().
+     * @return This method returns the root hash.
+     * @throws IncorrectFormatException
+     *             This method throws if the proof is malformed or doesn't
+     *             have the right number of hashes.
+     */
+    public static StringExpression computeRoot(ASExpression leaf,
+            ASExpression proof) throws IncorrectFormatException {
+        ASExpression result = PROOF_PATTERN.match( proof );
+        if (result == NoMatch.SINGLETON)
+            throw new IncorrectFormatException( proof, new Exception( proof
+                    + " doesn't match the pattern: " + PROOF_PATTERN ) );
+        ListExpression matchlist = (ListExpression) result;
+
+        int position;
+        int count;
+        try {
+            position = Integer.parseInt( matchlist.get( 0 ).toString() );
+            count = Integer.parseInt( matchlist.get( 1 ).toString() );
+        }
+        catch (NumberFormatException e) {
+            throw new IncorrectFormatException( proof, e );
+        }
+        if (position < 0 || position >= count)
+            throw new IncorrectFormatException( proof, new Exception(
+                    "leaf index out of range" ) );
+
+        ListExpression siblings = (ListExpression) matchlist.get( 2 );
+        StringExpression hash = hashLeaf( leaf );
+        int used = 0;
+        for (int width = count; width > 1; width = (width + 1) / 2) {
+            if ((position & 1) == 1 || position + 1 < width) {
+                if (used == siblings.size())
+                    throw new IncorrectFormatException( proof, new Exception(
+                            "too few sibling hashes" ) );
+                StringExpression sibling = (StringExpression) siblings
+                        .get( used++ );
+                hash = (position & 1) == 1 ? hashNode( sibling, hash )
+                        : hashNode( hash, sibling );
+            }
+            position >>= 1;
+        }
+        if (used != siblings.size())
+            throw new IncorrectFormatException( proof, new Exception(
+                    "too many sibling hashes" ) );
+
+        return hash;
+    }
+
+    /**
+     * @param root
+     *            This is a root, as computed by computeRoot().
+     * @param signed
+     *            This is what was signed.
+     * @return This method returns true if what was signed is the given root.
+     */
+    public static boolean isRoot(StringExpression root, ASExpression signed) {
+        // StringExpression.equals compares as text, which a hash isn't.
+        return signed instanceof StringExpression
+                && Arrays.equals( root.getBytes(),
+                    ((StringExpression) signed).getBytes() );
+    }
+
+    private static StringExpression hashLeaf(ASExpression leaf) {
+        return StringExpression.makeString( new ListExpression( LEAF, leaf )
+                .getSHA1() );
+    }
+
+    private static StringExpression hashNode(StringExpression left,
+            StringExpression right) {
+        return StringExpression.makeString( new ListExpression( NODE, left,
+                right ).getSHA1() );
+    }
+}
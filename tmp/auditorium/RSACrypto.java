@@ -0,0 +1,223 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.RSAPrivateKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sexpression.*;
+
+/**
+ * Crypto primitives used in auditorium are wrapped here.<br>
+ * <br>
+ * Keys are converted to their java.security form once and kept, and each
+ * thread keeps its own java.security.Signature objects, so signing and
+ * verifying don't go through the provider lookup every time. A signature
+ * that has verified is remembered, by the hash of the signature and its
+ * payload together with the key, so the same signature checked against the
+ * same key again (a certificate attached to every message from a host, or a
+ * message received over several links) isn't checked again.
+ * 
+ * @author kyle
+ * 
+ */
+public class RSACrypto {
+
+    public static final RSACrypto SINGLETON = new RSACrypto();
+
+    /**
+     * The number of verified signatures remembered.
+     */
+    public static final int VERIFIED_CACHE_SIZE = 4096;
+
+    private static final String ALGORITHM = "SHA1withRSA";
+
+    private final Map<List<BigInteger>, PublicKey> _publicKeys = new ConcurrentHashMap<List<BigInteger>, PublicKey>();
+    private final Map<List<BigInteger>, PrivateKey> _privateKeys = new ConcurrentHashMap<List<BigInteger>, PrivateKey>();
+    private final ThreadLocal<java.security.Signature> _signature = new ThreadLocal<java.security.Signature>();
+
+    // Least recently used entries are dropped first.
+    private final Map<List<BigInteger>, Boolean> _verified = new LinkedHashMap<List<BigInteger>, Boolean>(
+            16, 0.75f, true ) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<List<BigInteger>, Boolean> eldest) {
+            return size() > VERIFIED_CACHE_SIZE;
+        }
+    };
+
+    // Statistics
+    private final AtomicLong _verifies = new AtomicLong();
+    private final AtomicLong _verifyHits = new AtomicLong();
+    private final AtomicLong _verifyNanos = new AtomicLong();
+
+    private RSACrypto() {}
+
+    /**
+     * Create an RSA digital signature.
+     * 
+     * @param data
+     *            Sign this expression's verbatim form.
+     * @param key
+     *            Use this key to create the signature.
+     * @return This method returns the signature data.
+     */
+    public Signature sign(ASExpression data, Key key)
+            throws AuditoriumCryptoException {
+        try {
+            List<BigInteger> id = Arrays.asList( key.getMod(), key.getKey() );
+            PrivateKey privkey = _privateKeys.get( id );
+            if (privkey == null) {
+                privkey = KeyFactory.getInstance( "RSA" ).generatePrivate(
+                    new RSAPrivateKeySpec( key.getMod(), key.getKey() ) );
+                _privateKeys.put( id, privkey );
+            }
+
+            java.security.Signature sig = getSignature();
+            sig.initSign( privkey );
+            sig.update( data.toVerbatim() );
+            return new Signature( key.getId(),
+                    StringExpression.makeString( sig.sign() ), data );
+        }
+        catch (Exception e) {
+            throw new AuditoriumCryptoException( "sign", e );
+        }
+    }
+
+    /**
+     * Verify that an RSA digital signature (possibly created by the sign
+     * function) came from a particular host.
+     * 
+     * @param signature
+     *            This is the digital signature, itself.
+     * @param host
+     *            This is the certificate of the host that supposedly signed the
+     *            message.
+     */
+    public void verify(Signature signature, Cert host)
+            throws AuditoriumCryptoException {
+        long start = System.nanoTime();
+        _verifies.incrementAndGet();
+        try {
+            BigInteger mod = host.getKey().getMod();
+            BigInteger exp = host.getKey().getKey();
+            List<BigInteger> verified = Arrays.asList( new BigInteger( 1,
+                    signature.toASE().getSHA1() ), mod, exp );
+            synchronized (_verified) {
+                if (_verified.containsKey( verified )) {
+                    _verifyHits.incrementAndGet();
+                    return;
+                }
+            }
+
+            List<BigInteger> id = Arrays.asList( mod, exp );
+            PublicKey pubkey = _publicKeys.get( id );
+            if (pubkey == null) {
+                pubkey = KeyFactory.getInstance( "RSA" ).generatePublic(
+                    new RSAPublicKeySpec( mod, exp ) );
+                _publicKeys.put( id, pubkey );
+            }
+
+            java.security.Signature sig = getSignature();
+            sig.initVerify( pubkey );
+            sig.update( signature.getPayload().toVerbatim() );
+            if (!sig.verify( signature.getSigData().getBytesCopy() ))
+                throw new AuditoriumCryptoException( "verify signature",
+                        new Exception( "Verification failure: " + signature
+                                + " not signed by " + host ) );
+
+            synchronized (_verified) {
+                _verified.put( verified, Boolean.TRUE );
+            }
+        }
+        catch (Exception e) {
+            throw new AuditoriumCryptoException( "verify signature", e );
+        }
+        finally {
+            _verifyNanos.addAndGet( System.nanoTime() - start );
+        }
+    }
+
+    /**
+     * @return This method returns the number of calls to verify so far.
+     */
+    public long getVerifyCount() {
+        return _verifies.get();
+    }
+
+    /**
+     * @return This method returns the fraction of calls to verify that were
+     *         answered from the cache of verified signatures.
+     */
+    public double getVerifyHitRate() {
+        long verifies = _verifies.get();
+        return verifies == 0 ? 0 : (double) _verifyHits.get() / verifies;
+    }
+
+    /**
+     * @return This method returns the average time, in nanoseconds, that a
+     *         call to verify took, counting cache hits.
+     */
+    public long getAverageVerifyNanos() {
+        long verifies = _verifies.get();
+        return verifies == 0 ? 0 : _verifyNanos.get() / verifies;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "RSACrypto: " + getVerifyCount() + " verifies, "
+                + Math.round( getVerifyHitRate() * 100 ) + "% cached, avg "
+                + getAverageVerifyNanos() / 1000 + "us";
+    }
+
+    /**
+     * Get this thread's signature engine, making it if this is the thread's
+     * first use.
+     */
+    private java.security.Signature getSignature()
+            throws GeneralSecurityException {
+        java.security.Signature sig = _signature.get();
+        if (sig == null) {
+            sig = java.security.Signature.getInstance( ALGORITHM );
+            _signature.set( sig );
+        }
+        return sig;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import auditorium.BoundedQueue;
+import auditorium.ReleasedQueueException;
+
+public class BoundedQueueTest {
+
+    // Elements come out in the order they went in, and capacity rounds up.
+    @Test
+    public void fifo() throws Exception {
+        BoundedQueue<Integer> q = new BoundedQueue<Integer>( 5,
+                BoundedQueue.Policy.DROP );
+        assertEquals( 8, q.capacity() );
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 8; i++)
+                assertTrue( q.push( i ) );
+            assertEquals( 8, q.size() );
+            for (int i = 0; i < 8; i++)
+                assertEquals( new Integer( i ), q.pop() );
+            assertEquals( 0, q.size() );
+        }
+        assertEquals( 24, q.getPushCount() );
+    }
+
+    // A full queue with the drop policy refuses new elements at once.
+    @Test
+    public void drop() throws Exception {
+        BoundedQueue<Integer> q = new BoundedQueue<Integer>( 2,
+                BoundedQueue.Policy.DROP );
+        assertTrue( q.push( 1 ) );
+        assertTrue( q.push( 2 ) );
+        assertFalse( q.push( 3 ) );
+        assertEquals( 1, q.getDropCount() );
+        assertEquals( new Integer( 1 ), q.pop() );
+        assertTrue( q.push( 4 ) );
+        assertEquals( new Integer( 2 ), q.pop() );
+        assertEquals( new Integer( 4 ), q.pop() );
+    }
+
+    // A full queue with the backpressure policy waits a while, then drops.
+    @Test
+    public void backpressure() throws Exception {
+        final BoundedQueue<Integer> q = new BoundedQueue<Integer>( 2,
+                BoundedQueue.Policy.BACKPRESSURE );
+        assertTrue( q.push( 1 ) );
+        assertTrue( q.push( 2 ) );
+
+        long start = System.currentTimeMillis();
+        assertFalse( q.push( 3 ) );
+        assertTrue( System.currentTimeMillis() - start >= BoundedQueue.BACKPRESSURE_WAIT_MILLIS - 10 );
+        assertEquals( 1, q.getDropCount() );
+        assertEquals( 1, q.getWaitCount() );
+
+        new Thread( new Runnable() {
+
+            public void run() {
+                try {
+                    Thread.sleep( 20 );
+                    q.pop();
+                }
+                catch (Exception e) {}
+            }
+        } ).start();
+        assertTrue( q.push( 4 ) );
+        assertEquals( new Integer( 2 ), q.pop() );
+        assertEquals( new Integer( 4 ), q.pop() );
+    }
+
+    // releaseThreads() wakes blocked consumers and producers.
+    @Test
+    public void release() throws Exception {
+        final BoundedQueue<Integer> empty = new BoundedQueue<Integer>( 2,
+                BoundedQueue.Policy.BLOCK );
+        final BoundedQueue<Integer> full = new BoundedQueue<Integer>( 2,
+                BoundedQueue.Policy.BLOCK );
+        final AtomicBoolean popReleased = new AtomicBoolean();
+        final AtomicBoolean pushReleased = new AtomicBoolean();
+        full.push( 1 );
+        full.push( 2 );
+
+        Thread popper = new Thread( new Runnable() {
+
+            public void run() {
+                try {
+                    empty.pop();
+                }
+                catch (ReleasedQueueException e) {
+                    popReleased.set( true );
+                }
+            }
+        } );
+        Thread pusher = new Thread( new Runnable() {
+
+            public void run() {
+                pushReleased.set( !full.push( 3 ) );
+            }
+        } );
+        popper.start();
+        pusher.start();
+        Thread.sleep( 100 );
+
+        empty.releaseThreads();
+        full.releaseThreads();
+        popper.join( 1000 );
+        pusher.join( 1000 );
+        assertTrue( popReleased.get() );
+        assertTrue( pushReleased.get() );
+
+        try {
+            full.pop();
+            fail();
+        }
+        catch (ReleasedQueueException e) {}
+    }
+
+    // Many producers and consumers through a small queue: everything pushed
+    // is popped exactly once.
+    @Test
+    public void contended() throws Exception {
+        final int producers = 4, consumers = 3, each = 20000;
+        final BoundedQueue<Integer> q = new BoundedQueue<Integer>( 16,
+                BoundedQueue.Policy.BLOCK );
+        final AtomicIntegerArray seen = new AtomicIntegerArray( producers
+                * each );
+        Thread[] threads = new Thread[producers + consumers];
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * each;
+            threads[p] = new Thread( new Runnable() {
+
+                public void run() {
+                    for (int i = 0; i < each; i++)
+                        q.push( base + i );
+                }
+            } );
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread( new Runnable() {
+
+                public void run() {
+                    try {
+                        while (true)
+                            seen.incrementAndGet( q.pop() );
+                    }
+                    catch (ReleasedQueueException e) {}
+                }
+            } );
+        }
+        for (Thread t : threads)
+            t.start();
+        for (int p = 0; p < producers; p++)
+            threads[p].join();
+        while (q.size() > 0)
+            Thread.sleep( 10 );
+        Thread.sleep( 50 );
+        q.releaseThreads();
+        for (int c = 0; c < consumers; c++)
+            threads[producers + c].join( 1000 );
+
+        for (int i = 0; i < producers * each; i++)
+            assertEquals( "element " + i, 1, seen.get( i ) );
+        assertEquals( 0, q.getDropCount() );
+    }
+}
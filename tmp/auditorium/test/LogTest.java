@@ -0,0 +1,212 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package auditorium.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import sexpression.*;
+import sexpression.stream.ASEInputStreamReader;
+
+import auditorium.*;
+
+/**
+ * Tests for the Log class.
+ * 
+ * @author kyle
+ * 
+ */
+public class LogTest {
+
+    private Log _log;
+
+    @Before
+    public void setup() throws Exception {
+        _log = new Log( new File( "temp" ) );
+    }
+
+    @After
+    public void tear() throws Exception {
+        _log.close();
+        new File( "temp" ).delete();
+        new File( "temp.idx" ).delete();
+        new File( "temp.last" ).delete();
+        for (int lcv = 1; new File( "temp." + lcv ).delete(); lcv++)
+            ;
+    }
+
+    private Message message(int sequence, ASExpression... predecessors) {
+        return new Message( "announcement", new HostPointer( "test-node",
+                "192.168.1.100", 9000 ), Integer.toString( sequence ),
+                new ListExpression( StringExpression.makeString( "succeeds" ),
+                        new ListExpression( predecessors ), StringExpression
+                                .makeString( "test" + sequence ) ) );
+    }
+
+    // ** logAnnouncement(Message) tests
+
+    @Test
+    public void log_announcement_1() throws Exception {
+        Message msg1 = new Message( "announcement", new HostPointer(
+                "test-node", "192.168.1.100", 9000 ), "0",
+                StringExpression.makeString( "test" ) );
+        MessagePointer pointer1 = new MessagePointer( msg1 );
+        Message msg2 = new Message( "announcement", new HostPointer(
+                "test-node", "192.168.1.100", 9000 ), "1",
+                StringExpression.makeString( "test2" ) );
+        MessagePointer pointer2 = new MessagePointer( msg2 );
+
+        assertFalse( _log.TESTgetSetCopy().contains( pointer1 ) );
+        assertFalse( _log.TESTgetSetCopy().contains( pointer2 ) );
+        assertEquals( 0, _log.getLast().length );
+
+        _log.logAnnouncement( msg1 );
+
+        ArrayList<MessagePointer> last = new ArrayList<MessagePointer>();
+        for (MessagePointer p : _log.TESTgetLast())
+            last.add( p );
+        assertEquals( 1, _log.TESTgetSetCopy().size() );
+        assertTrue( _log.TESTgetSetCopy().contains( pointer1 ) );
+        assertFalse( _log.TESTgetSetCopy().contains( pointer2 ) );
+        assertEquals( 1, last.size() );
+        assertTrue( last.contains( pointer1 ) );
+        assertFalse( last.contains( pointer2 ) );
+        assertFalse( _log.logAnnouncement( msg1 ) );
+
+        _log.logAnnouncement( msg2 );
+
+        last = new ArrayList<MessagePointer>();
+        for (MessagePointer p : _log.TESTgetLast())
+            last.add( p );
+        assertEquals( 2, _log.TESTgetSetCopy().size() );
+        assertTrue( _log.TESTgetSetCopy().contains( pointer1 ) );
+        assertTrue( _log.TESTgetSetCopy().contains( pointer2 ) );
+        assertEquals( 2, last.size() );
+        assertTrue( last.contains( pointer1 ) );
+        assertTrue( last.contains( pointer2 ) );
+        assertFalse( _log.logAnnouncement( msg1 ) );
+        assertFalse( _log.logAnnouncement( msg2 ) );
+    }
+
+    // ** recovery tests
+
+    // Reopening a log remembers what was heard, and what was last.
+    @Test
+    public void recover_1() throws Exception {
+        Message msg0 = message( 0 );
+        Message msg1 = message( 1, new MessagePointer( msg0 ).toASE() );
+        Message msg2 = message( 2 );
+        assertTrue( _log.logAnnouncement( msg0 ) );
+        assertTrue( _log.logAnnouncement( msg1 ) );
+        assertTrue( _log.logAnnouncement( msg2 ) );
+        _log.removeFromLast( new MessagePointer( msg2 ) );
+        List<MessagePointer> before = _log.TESTgetLast();
+        _log.close();
+
+        _log = new Log( new File( "temp" ) );
+        assertFalse( _log.logAnnouncement( msg0 ) );
+        assertFalse( _log.logAnnouncement( msg1 ) );
+        assertFalse( _log.logAnnouncement( msg2 ) );
+        assertEquals( 3, _log.TESTgetSetCopy().size() );
+        assertEquals( before, _log.TESTgetLast() );
+        _log.close();
+
+        // Without the saved last list, it is rebuilt from what points to what.
+        new File( "temp.last" ).delete();
+        _log = new Log( new File( "temp" ) );
+        List<MessagePointer> last = _log.TESTgetLast();
+        assertEquals( 2, last.size() );
+        assertTrue( last.contains( new MessagePointer( msg1 ) ) );
+        assertTrue( last.contains( new MessagePointer( msg2 ) ) );
+    }
+
+    // Messages spill into new segments, which read back as one stream.
+    @Test
+    public void recover_2() throws Exception {
+        _log.close();
+        _log = new Log( new File( "temp" ), 1024, 0 );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertTrue( _log.logAnnouncement( message( lcv ) ) );
+        _log.close();
+        assertTrue( new File( "temp.2" ).exists() );
+
+        ASEInputStreamReader reader = new ASEInputStreamReader( Log
+                .open( new File( "temp" ) ) );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertEquals( message( lcv ).toASE(), reader.read() );
+
+        LogReader logReader = new LogReader( new File( "temp" ) );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertEquals( message( lcv ).toASE(), logReader.read() );
+        try {
+            logReader.read();
+            fail( "the log should have ended" );
+        }
+        catch (EOFException e) {}
+
+        _log = new Log( new File( "temp" ), 1024, 0 );
+        for (int lcv = 0; lcv < 100; lcv++)
+            assertFalse( _log.logAnnouncement( message( lcv ) ) );
+        assertTrue( _log.logAnnouncement( message( 100 ) ) );
+    }
+
+    // A message torn off the end, and one that was never indexed, are
+    // recovered as well as can be.
+    @Test
+    public void recover_3() throws Exception {
+        assertTrue( _log.logAnnouncement( message( 0 ) ) );
+        _log.close();
+        _log = new Log( new File( "temp" ) );
+        _log.close();
+
+        // Append one message whole, and half of another, behind the index's
+        // back.
+        byte[] whole = message( 1 ).toASE().toVerbatim();
+        byte[] torn = message( 2 ).toASE().toVerbatim();
+        FileOutputStream out = new FileOutputStream( "temp", true );
+        out.write( whole );
+        out.write( torn, 0, torn.length / 2 );
+        out.close();
+
+        _log = new Log( new File( "temp" ) );
+        assertFalse( _log.logAnnouncement( message( 0 ) ) );
+        assertFalse( _log.logAnnouncement( message( 1 ) ) );
+        assertTrue( _log.logAnnouncement( message( 2 ) ) );
+        _log.close();
+
+        ASEInputStreamReader reader = new ASEInputStreamReader( Log
+                .open( new File( "temp" ) ) );
+        for (int lcv = 0; lcv < 3; lcv++)
+            assertEquals( message( lcv ).toASE(), reader.read() );
+        assertEquals( new File( "temp" ).length(), 
+                message( 0 ).toASE().toVerbatim().length + whole.length
+                        + torn.length );
+    }
+}
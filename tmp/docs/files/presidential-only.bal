@@ -0,0 +1,97 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<Ballot>
+<Language name="English"/>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democractic"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Dixiecrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DIXIE"/>
+</LocalizedString>
+</Party>
+<Card type="Presidential Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="United States President, 1948"/>
+</LocalizedString>
+</Module>
+<Module name="TopOfTicket" type="TextFieldModule">
+<Property name="label" type="String" value="Top Of Ticket"/>
+<LocalizedString name="Data"/>
+</Module>
+<Module name="BottomOfTicket" type="TextFieldModule">
+<Property name="label" type="String" value="Bottom Of Ticket"/>
+<LocalizedString name="Data"/>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Running Mate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Harry S. Truman"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Alben W. Barkley"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democractic"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Thomas E. Dewey"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Earl Warren"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Strom Thurmond"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Fielding L. Wright"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Dixiecrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DIXIE"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+</Ballot>
@@ -0,0 +1,104 @@
+package edu.uconn.cse.adder;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Solves <tt>f<sup>x</sup> = target</tt> for small <tt>x</tt> with the
+ * baby-step giant-step method.  The baby steps <tt>f<sup>0</sup></tt>
+ * through <tt>f<sup>m-1</sup></tt> are kept in a table, so after the first
+ * search every later one against the same base costs at most <tt>m</tt>
+ * multiplications and lookups; the table only grows, one multiplication per
+ * entry, when a search needs a larger bound than any before it.
+ *
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @see Election#getFinalSum
+ * @since 0.0.1
+ */
+public class DiscreteLog {
+    private final BigInteger f;
+    private final BigInteger p;
+    private final Map<BigInteger, Integer> babySteps;
+    private BigInteger nextBabyStep;
+    private BigInteger giantStep;
+    private int m;
+
+    /**
+     * Creates a new solver for powers of the given base.
+     *
+     * @param f the base
+     * @param p the prime
+     */
+    public DiscreteLog(AdderInteger f, AdderInteger p) {
+        this.f = f.bigintValue();
+        this.p = p.bigintValue();
+        this.babySteps = new HashMap<BigInteger, Integer>();
+        this.nextBabyStep = BigInteger.ONE;
+        this.giantStep = BigInteger.ONE;
+        this.m = 0;
+    }
+
+    /**
+     * Finds <tt>x</tt> such that <tt>f<sup>x</sup> = target</tt> and
+     * <tt>0 &lt;= x &lt;= bound</tt>.
+     *
+     * @param  target the power of <tt>f</tt> to look for
+     * @param  bound  the largest exponent to consider
+     * @return <tt>x</tt>, or <tt>-1</tt> if there is no such <tt>x</tt>
+     */
+    public synchronized long solve(AdderInteger target, long bound) {
+        if (bound < 0) {
+            return -1;
+        }
+
+        grow(bound);
+
+        BigInteger gamma = target.bigintValue().mod(p);
+
+        for (long i = 0; i * m <= bound; i++) {
+            Integer j = babySteps.get(gamma);
+
+            if (j != null) {
+                long x = i * m + j.intValue();
+
+                return (x <= bound) ? x : -1;
+            }
+
+            gamma = gamma.multiply(giantStep).mod(p);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Makes sure the baby-step table is big enough to search up to the
+     * given bound in at most <tt>m</tt> giant steps.
+     *
+     * @param bound the largest exponent to be searched for
+     */
+    private void grow(long bound) {
+        long wanted = (long) Math.ceil(Math.sqrt((double) bound + 1));
+
+        if (wanted <= m) {
+            return;
+        }
+
+        if (wanted > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("bound too large: " + bound);
+        }
+
+        while (babySteps.size() < wanted) {
+            /* Stop at a repeat; f has a smaller order than the bound. */
+            if (babySteps.containsKey(nextBabyStep)) {
+                break;
+            }
+
+            babySteps.put(nextBabyStep, Integer.valueOf(babySteps.size()));
+            nextBabyStep = nextBabyStep.multiply(f).mod(p);
+        }
+
+        m = babySteps.size();
+        giantStep = nextBabyStep.modInverse(p);
+    }
+}
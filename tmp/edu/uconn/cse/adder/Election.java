@@ -0,0 +1,284 @@
+package edu.uconn.cse.adder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents an election.
+ *
+ * An election either keeps every vote cast and multiplies them together when
+ * asked for the sum, or, if created with a number of stripes, keeps only a
+ * running product of the votes cast so far.  In the latter case votes are
+ * spread across the stripes so that threads casting at the same time rarely
+ * wait on one another, the stripes are multiplied together by
+ * {@link #sumVotes}, and the individual votes can be written to an audit
+ * record, one per line, instead of being held in memory.
+ *
+ * @author David Walluck
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @since 0.0.1
+ */
+public class Election {
+    private AdderInteger p;
+    private List<Vote> votes;
+    private Vote[] totals;
+    private int[] counts;
+    private Object[] locks;
+    private AtomicInteger nextStripe;
+    private Writer audit;
+    private List<Long> decodeTimes;
+
+    /**
+     * Creates a new election.
+     *
+     * @param p the prime
+     */
+    public Election(AdderInteger p) {
+        this.p = p;
+        this.votes = new ArrayList<Vote>();
+        this.decodeTimes = new ArrayList<Long>();
+    }
+
+    /**
+     * Creates a new election that keeps a running total of its votes rather
+     * than the votes themselves.
+     *
+     * @param p       the prime
+     * @param stripes the number of running totals to spread votes across
+     * @param audit   where to record each vote as it is cast, or
+     *                <tt>null</tt> to not record them
+     */
+    public Election(AdderInteger p, int stripes, Writer audit) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+
+        this.p = p;
+        this.totals = new Vote[stripes];
+        this.counts = new int[stripes];
+        this.locks = new Object[stripes];
+        this.nextStripe = new AtomicInteger();
+        this.audit = audit;
+        this.decodeTimes = new ArrayList<Long>();
+
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Gets the votes of this election.  An election keeping a running total
+     * does not hold on to its votes, and returns an empty list.
+     *
+     * @return the voes
+     */
+    public List<Vote> getVotes() {
+        if (votes == null) {
+            return Collections.emptyList();
+        }
+
+        return votes;
+    }
+
+    /**
+     * Gets the number of votes cast in this election.
+     *
+     * @return the number of votes
+     */
+    public int getVoteCount() {
+        if (votes != null) {
+            return votes.size();
+        }
+
+        int count = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            synchronized (locks[i]) {
+                count += counts[i];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the time spent finding each total in the last call to
+     * {@link #getFinalSum}, in the same order as the totals.
+     *
+     * @return the decode times, in nanoseconds
+     */
+    public List<Long> getDecodeTimes() {
+        return decodeTimes;
+    }
+
+    /**
+     * Casts the given vote in this election.
+     *
+     * @param vote the vote
+     */
+    public void castVote(Vote vote) {
+        if (votes != null) {
+            votes.add(vote);
+            return;
+        }
+
+        if (audit != null) {
+            String line = vote.toString();
+
+            synchronized (audit) {
+                try {
+                    audit.write(line);
+                    audit.write('\n');
+                    audit.flush();
+                } catch (IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+        }
+
+        int stripe = (nextStripe.getAndIncrement() & Integer.MAX_VALUE)
+                     % totals.length;
+
+        synchronized (locks[stripe]) {
+            if (totals[stripe] == null) {
+                totals[stripe] = vote;
+            } else {
+                totals[stripe] = vote.multiply(totals[stripe]);
+            }
+
+            counts[stripe]++;
+        }
+    }
+
+    /**
+     * Sums the votes cast in this election.
+     * This is the product of the votes modulo <tt>p</tt>).
+     *
+     * @return a vote representing the total of the given list of votes
+     */
+    public Vote sumVotes() {
+        if (votes == null) {
+            return sumTotals();
+        }
+
+        Vote vote = (Vote) votes.get(0);
+        int size = vote.getCipherList().size();
+        List<ElgamalCiphertext> initList = new 
+            ArrayList<ElgamalCiphertext>(size);
+
+        for (int i = 0; i < size; i++) {
+            ElgamalCiphertext ciphertext
+                = new ElgamalCiphertext(AdderInteger.ONE, AdderInteger.ONE,
+                                        p);
+            initList.add(ciphertext);
+        }
+
+        Vote total = new Vote(initList);
+
+        /*for (Vote vote : votes) {*/
+        for (Iterator it = votes.iterator(); it.hasNext();) {
+            Vote vote2 = (Vote) it.next();
+            total = vote2.multiply(total);
+        }
+
+        return total;
+    }
+
+    /**
+     * Multiplies the running totals of the stripes together.
+     *
+     * @return a vote representing the total of every vote cast so far
+     */
+    private Vote sumTotals() {
+        Vote total = null;
+
+        for (int i = 0; i < totals.length; i++) {
+            Vote stripeTotal;
+
+            synchronized (locks[i]) {
+                stripeTotal = totals[i];
+            }
+
+            if (stripeTotal == null) {
+                continue;
+            }
+
+            total = (total == null) ? stripeTotal : stripeTotal.multiply(total);
+        }
+
+        if (total == null) {
+            throw new IndexOutOfBoundsException("no votes cast");
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the final sum given the partial sums, the coefficients, the vote
+     * representing the sum, and the master public key.
+     *
+     * @param  partialSums the partial sums
+     * @param  coeffs      the coefficients
+     * @param  sum         the sum
+     * @param  masterKey   the master public key
+     * @return the final vote tally
+     */
+    public List<AdderInteger>
+                    getFinalSum(List<List<AdderInteger>> partialSums,
+                    List<AdderInteger> coeffs, Vote sum,
+                    PublicKey masterKey) {
+        AdderInteger p = masterKey.getP();
+        AdderInteger q = masterKey.getQ();
+        AdderInteger f = masterKey.getF();
+        AdderInteger g = masterKey.getG();
+        DiscreteLog log = masterKey.getDiscreteLog();
+
+        Polynomial poly = new Polynomial(p, g, f, coeffs);
+        List<AdderInteger> lagrangeCoeffs = poly.lagrange();
+        int lsize = lagrangeCoeffs.size();
+
+        List<ElgamalCiphertext> cipherList = sum.getCipherList();
+        int csize = cipherList.size();
+        List<AdderInteger> productList
+            = new ArrayList<AdderInteger>(csize);
+        List<AdderInteger> results
+            = new ArrayList<AdderInteger>(csize);
+
+        decodeTimes = new ArrayList<Long>(csize);
+
+        for (int i = 0; i < csize; i++) {
+            productList.add(new AdderInteger(AdderInteger.ONE, p));
+
+            for (int j = 0; j < lsize; j++) {
+                AdderInteger pli = (AdderInteger) productList.get(i);
+                List ps = (List) partialSums.get(j);
+                AdderInteger psi = (AdderInteger) ps.get(i);
+                AdderInteger lcj = (AdderInteger) lagrangeCoeffs.get(j);
+                AdderInteger product = psi.pow(lcj).multiply(pli);
+                productList.set(i, product);
+            }
+
+            AdderInteger bigH = ((ElgamalCiphertext) cipherList.get(i)).getH();
+            AdderInteger target = bigH.divide((AdderInteger) productList.get(i));
+            int numVotes = getVoteCount();
+            long start = System.nanoTime();
+            long k = log.solve(target, numVotes);
+
+            decodeTimes.add(Long.valueOf(System.nanoTime() - start));
+
+            if (k < 0) {
+                throw new SearchSpaceExhaustedException("Error searching for "
+                                                        + target);
+            }
+
+            results.add(new AdderInteger((int) k, q));
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,214 @@
+package edu.uconn.cse.adder;
+
+import java.math.BigInteger;
+
+/**
+ * Precomputed powers of a fixed base, used to speed up exponentiation of
+ * the same base to many different exponents.  The exponent is split into
+ * windows of {@link #WINDOW} bits; row <tt>i</tt> of the table holds
+ * <tt>base<sup>j * 2<sup>WINDOW * i</sup></sup></tt> for every window value
+ * <tt>j</tt>, so an exponentiation costs one modular multiplication per
+ * window and no squarings.
+ *
+ * Rows are computed on demand, so a base that is only ever raised to small
+ * exponents (such as the message base <tt>f</tt>) only ever gets a single
+ * row.  The size of each table can be capped with
+ * {@link #setMemoryLimit(long)}; exponents that need more rows than the cap
+ * allows finish the remaining high-order bits with an ordinary modular
+ * exponentiation.
+ *
+ * @version $LastChangedRevision$ $LastChangedDate$
+ * @see PublicKey
+ * @since 0.0.1
+ */
+public final class FixedBaseTable {
+    /**
+     * The number of exponent bits consumed by each row.
+     */
+    static final int WINDOW = 6;
+
+    private static final int ROW_SIZE = 1 << WINDOW;
+
+    private static volatile long memoryLimit = Long.MAX_VALUE;
+
+    private final BigInteger base;
+    private final BigInteger modulus;
+    private final BigInteger mu;
+    private final int shift;
+    private final long entryBytes;
+    private volatile Rows rows;
+
+    /**
+     * An immutable snapshot of the rows computed so far, along with the base
+     * of the next row.
+     */
+    private static final class Rows {
+        private final BigInteger[][] table;
+        private final BigInteger next;
+
+        private Rows(BigInteger[][] table, BigInteger next) {
+            this.table = table;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Creates an empty table for the given base and modulus.
+     *
+     * @param base the base
+     * @param modulus the modulus
+     */
+    FixedBaseTable(AdderInteger base, AdderInteger modulus) {
+        this.base = base.bigintValue();
+        this.modulus = modulus.bigintValue();
+        this.shift = this.modulus.bitLength();
+        this.mu = BigInteger.ONE.shiftLeft(2 * shift).divide(this.modulus);
+        this.entryBytes = this.modulus.bitLength() / 8 + 48;
+        this.rows = new Rows(new BigInteger[0][], this.base);
+    }
+
+    /**
+     * Sets the largest number of bytes any single table may use.  Tables
+     * that have already grown past the limit keep their rows but stop
+     * growing.  The default is no limit.
+     *
+     * @param bytes the limit in bytes, or zero to disable precomputation
+     */
+    public static void setMemoryLimit(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("negative memory limit");
+        }
+
+        memoryLimit = bytes;
+    }
+
+    /**
+     * Returns the largest number of bytes any single table may use.
+     *
+     * @return the limit in bytes
+     */
+    public static long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * Returns <tt>base<sup>exponent</sup> mod modulus</tt>.  The result is
+     * the same as {@link AdderInteger#pow(AdderInteger)} on the base.
+     *
+     * @param exponent the exponent
+     * @return the power, reduced by the modulus
+     */
+    AdderInteger pow(AdderInteger exponent) {
+        BigInteger e = exponent.bigintValue();
+
+        if (e.signum() <= 0) {
+            return new AdderInteger(base.modPow(e, modulus), modulus);
+        }
+
+        int needed = (e.bitLength() + WINDOW - 1) / WINDOW;
+        Rows snapshot = rows;
+
+        if (snapshot.table.length < needed) {
+            snapshot = grow(needed);
+        }
+
+        BigInteger[][] table = snapshot.table;
+        int usable = Math.min(needed, table.length);
+        BigInteger result = BigInteger.ONE;
+
+        for (int i = 0; i < usable; i++) {
+            int digit = 0;
+            int offset = i * WINDOW;
+
+            for (int b = WINDOW - 1; b >= 0; b--) {
+                digit <<= 1;
+
+                if (e.testBit(offset + b)) {
+                    digit |= 1;
+                }
+            }
+
+            if (digit != 0) {
+                result = reduce(result.multiply(table[i][digit]));
+            }
+        }
+
+        if (usable < needed) {
+            BigInteger rest = e.shiftRight(usable * WINDOW);
+            result = result.multiply(snapshot.next.modPow(rest, modulus))
+                           .mod(modulus);
+        }
+
+        return new AdderInteger(result, modulus);
+    }
+
+    /**
+     * Extends the table to the given number of rows, or as far as the memory
+     * limit allows.
+     *
+     * @param needed the number of rows wanted
+     * @return the new snapshot
+     */
+    private synchronized Rows grow(int needed) {
+        Rows current = rows;
+        int have = current.table.length;
+
+        long rowBytes = (ROW_SIZE - 1) * entryBytes;
+        long allowed = memoryLimit / rowBytes;
+        int target = (int) Math.min(needed, Math.max(allowed, 0));
+
+        if (target <= have) {
+            return current;
+        }
+
+        BigInteger[][] table = new BigInteger[target][];
+        System.arraycopy(current.table, 0, table, 0, have);
+        BigInteger rowBase = current.next;
+
+        for (int i = have; i < target; i++) {
+            BigInteger[] row = new BigInteger[ROW_SIZE];
+            row[0] = BigInteger.ONE;
+            row[1] = rowBase;
+
+            for (int j = 2; j < ROW_SIZE; j++) {
+                row[j] = reduce(row[j - 1].multiply(rowBase));
+            }
+
+            table[i] = row;
+            rowBase = reduce(row[ROW_SIZE - 1].multiply(rowBase));
+        }
+
+        rows = new Rows(table, rowBase);
+
+        return rows;
+    }
+
+    /**
+     * Reduces a product of two residues by the modulus using Barrett's
+     * method, which replaces the long division done by
+     * {@link BigInteger#mod(BigInteger)} with two multiplications.
+     *
+     * @param x a non-negative number less than the square of the modulus
+     * @return <tt>x mod modulus</tt>
+     */
+    private BigInteger reduce(BigInteger x) {
+        BigInteger estimate = x.shiftRight(shift - 1).multiply(mu)
+                               .shiftRight(shift + 1);
+        BigInteger r = x.subtract(estimate.multiply(modulus));
+
+        while (r.compareTo(modulus) >= 0) {
+            r = r.subtract(modulus);
+        }
+
+        return r;
+    }
+
+    /**
+     * Returns the approximate number of bytes used by this table.
+     *
+     * @return the size of the table in bytes
+     */
+    long size() {
+        return (long) rows.table.length * (ROW_SIZE - 1) * entryBytes;
+    }
+}
@@ -0,0 +1,6 @@
+#!/bin/bash
+
+export CLASSPATH=.
+
+java verifier.Verifier rule=rules/node.rules log=logdata/e4-supervisor.log config=config
+
@@ -0,0 +1,43 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package preptool.model.layout.manager;
+
+import preptool.model.language.Language;
+
+/**
+ * A factory for making a LayoutManager with a given language
+ * @author cshaw
+ */
+public interface ILayoutManagerFactory {
+
+	/**
+	 * Constructs a new LayoutManager with the given language
+	 * @param language the language
+	 * @param numCardsPerReviewPage number of cards per review page
+	 * @param fontSize size of font to use
+	 * @param commitChallenge whether or not to use the challenge-commit model when generating the ballot layour.
+	 * @return the LayoutManager
+	 */
+	public ILayoutManager makeLayoutManager(Language language, int numCardsPerReviewPage, int fontSize, boolean commitChallenge);
+
+}
@@ -0,0 +1,7 @@
+#!/bin/bash
+
+export CLASSPATH=.
+
+time /usr/java/jdk1.5.0_06/bin/java verifier.Verifier rule=rules/voting2.rules log=logdata/e4-dup.log config=config
+
+time /usr/java/jdk1.5.0_06/bin/java verifier.Verifier rule=rules/voting2-q.rules log=logdata/e4-dup.log config=config
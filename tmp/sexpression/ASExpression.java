@@ -0,0 +1,384 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import java.io.CharArrayReader;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import sexpression.lexer.*;
+import sexpression.parser.*;
+import sexpression.stream.ASEBufferReader;
+import sexpression.stream.ASEBufferWriter;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+/**
+ * From <a href="http://theory.lcs.mit.edu/~rivest/sexp.html">MIT</a>,
+ * "S-expressions are a data structure for representing complex data. They are a
+ * variation on LISP S-expressions. (Lisp was invented by John McCarthy)."<br>
+ * <br>
+ * 
+ * Here, my purpose is to accurately represent the notion of an S-expression in
+ * a java class hierarchy.<br>
+ * <br>
+ * 
+ * An SExpression is either a byte-string or a list of simpler SExpressions.<br>
+ * <br>
+ * 
+ * ASExpression also has a hook method for invoking visitors. This conforms with
+ * the visitor design pattern.
+ * 
+ * @author Kyle
+ * 
+ */
+public abstract class ASExpression {
+
+    /**
+     * Parse a String into an expression. This method utilizes the s-expression
+     * parser.<br>
+     * <br>
+     * NB: For now, this method constructs an array which represents the string,
+     * a reader for this array, a lexer for this reader, and a parser for this
+     * lexer. Because all this allocation is unwise, this might be optimized
+     * later.
+     * 
+     * @param expression
+     *            Parse this string into an s-expression. This can be any string
+     *            generated by ASExpression.toString().
+     * @return This method returns the s-expression which represents the string.
+     * @see sexpression.parser.Parser
+     */
+    public static ASExpression make(String expression) {
+        return new Parser( new Lexer( new CharArrayReader( expression
+                .toCharArray() ) ) ).read();
+    }
+
+    /**
+     * Parse a verbatim string into an expression. This method utilizes the
+     * verbatim stream parser.
+     * 
+     * @param bytes
+     *            Parse this stream of bytes into an expression.
+     * @return This method returns the s-expression which represents the given
+     *         stream of bytes.
+     * @throws InvalidVerbatimStreamException
+     * @throws
+     * @see sexpression.stream.ASEBufferReader
+     */
+    public static ASExpression makeVerbatim(byte[] bytes)
+            throws InvalidVerbatimStreamException {
+        ASExpression expression = new ASEBufferReader( ByteBuffer
+                .wrap( bytes ) ).read();
+        if (expression == null)
+            throw new InvalidVerbatimStreamException( "read: the bytes end "
+                    + "before the expression does" );
+        return expression;
+    }
+
+    // Looking up a digest costs more than hashing most strings with it. Whoever
+    // takes this thread's digest must be done with it before hashing anything
+    // else.
+    static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance( "SHA" );
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(
+                        "SHA-1 not supported on this platform" );
+            }
+        }
+    };
+
+    /**
+     * Compute the sha-1 hash of a given byte array.
+     * 
+     * @param expression
+     *            Compute the hash of this byte string.
+     * @return This method returns the SHA-1 hash of the given byte array.
+     */
+    public static byte[] computeSHA1(byte[] expression) {
+        MessageDigest md = DIGEST.get();
+        md.update( expression );
+        return md.digest();
+    }
+
+    /**
+     * Compute the sha-1 hash of the bytes in a buffer, without copying them
+     * out of it.
+     * 
+     * @param bytes
+     *            Compute the hash of the bytes from this buffer's position to
+     *            its limit. Its position is not changed.
+     * @return This method returns the SHA-1 hash of the bytes.
+     */
+    public static byte[] computeSHA1(ByteBuffer bytes) {
+        MessageDigest md = DIGEST.get();
+        md.update( bytes.duplicate() );
+        return md.digest();
+    }
+
+    // lazy eval save
+    private byte[] _hash = null;
+    private byte[] _structuralHash = null;
+    private byte[] _verbatim = null;
+    private String _string = null;
+
+    /**
+     * Treat this ASExpression as a pattern and attempt to match another
+     * expression against it.
+     * 
+     * @param target
+     *            The target expression to be matched.
+     * @return If target does not match the pattern, NoMatch.SINGLETON is
+     *         returned. If target matches the pattern, a ListExpression is
+     *         returned. If pattern has no wildcards, the returned list is
+     *         empty. If pattern contains wildcards, the returned list contains,
+     *         in order of inorder traversal, the subexpressions of target that
+     *         were matched by those wildcards.
+     * @see sexpression.Wildcard
+     * @see sexpression.ListWildcard
+     * @see sexpression.StringWildcard
+     */
+    public abstract ASExpression match(ASExpression target);
+
+    /**
+     * In order to make the process of creating a verbatim string more
+     * efficient, each type must define a representative ordered set of byte
+     * arrays. Copying this into all into a single byte array will open happen
+     * once per call to toVerbatim().
+     * 
+     * @return This method returns the verbatim byte-string representation of
+     *         this ASExpression.
+     * @throws IncorrectUseException
+     *             This method throws if this has objects composing it that make
+     *             it unable to be converted into a format that can be
+     *             serialized.
+     */
+    public abstract ByteArrayBuffer toVerbatimHelp();
+
+    /**
+     * In order to make toString more efficient, each class of ASExpression must
+     * define a toStringHelp which returns a string buffer, rather than an
+     * actual string. This will make the construction of a representative string
+     * much more efficient.
+     * 
+     * @return This method returns a string buffer which represents this
+     *         expression.
+     */
+    public abstract StringBuffer toStringHelp();
+
+    /**
+     * Get the size of this expression. For lists, this is the number of
+     * elements. For strings, this is the number of bytes. For anything else,
+     * this will return 0.
+     * 
+     * @return This method returns the size of this expression.
+     */
+    public abstract int size();
+
+    /**
+     * Treat this ASExpression as a pattern and attempt to match against another
+     * expression. This operation differs from match in that it only hands back
+     * subexpressions which match named patterns.
+     * 
+     * @param target
+     *            Treat "this" as a pattern and match against target.
+     * @return This method returns a mapping (name->subexpression) where for
+     *         every named pattern in the pattern expression with name "x",
+     *         there exists a mapping x->y where "y" is the subexpression in the
+     *         target that matches the named pattern x.
+     * @throws IncorrectUseException
+     * @see sexpression.NamedPattern
+     */
+    public HashMap<String, ASExpression> namedMatch(ASExpression target) {
+        if (match( target ) == NoMatch.SINGLETON)
+            return NamedNoMatch.SINGLETON;
+        return new HashMap<String, ASExpression>();
+    }
+
+    /**
+     * Match target against this pattern the way match does, but add what the
+     * wildcards matched to the end of a list that the caller passes down,
+     * instead of building a list at every level of the pattern.
+     * 
+     * @param target
+     *            Treat "this" as a pattern and match against target.
+     * @param out
+     *            The matched subexpressions are added to this list. If the
+     *            match fails, some may have been added anyway.
+     * @return This method returns true if target matches the pattern.
+     */
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        ASExpression result = match( target );
+        if (result == NoMatch.SINGLETON)
+            return false;
+        for (ASExpression ase : (ListExpression) result)
+            out.add( ase );
+        return true;
+    }
+
+    /**
+     * Match target against this pattern the way namedMatch does, but put the
+     * mappings into a map that the caller passes down.
+     * 
+     * @param target
+     *            Treat "this" as a pattern and match against target.
+     * @param out
+     *            The mappings are put into this map. If the match fails, some
+     *            may have been put there anyway.
+     * @return This method returns true if target matches the pattern.
+     */
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return match( target ) != NoMatch.SINGLETON;
+    }
+
+    /**
+     * Convert this s-expression into Rivest verbatim format:<br>
+     * String: "[len]:[bytes]"<br>
+     * List: "([elt] ...)"<br>
+     * 
+     * @return
+     * @throws IncorrectUseException
+     */
+    public byte[] toVerbatim() {
+        if (_verbatim == null) {
+            ASEBufferWriter writer = new ASEBufferWriter();
+            writer.write( this );
+            _verbatim = writer.toByteArray();
+        }
+        return _verbatim;
+    }
+
+    /**
+     * This method computes the SHA1 hash of the verbatim representation of this
+     * S-Expression. This is the hash that goes on the wire and into logs (in
+     * message pointers, for instance), so it can't change. The verbatim form
+     * is fed to the digest as the expression is walked, and isn't built unless
+     * it already has been.
+     * 
+     * @return This method returns the SHA1 hash of this sexpression.
+     * @throws IncorrectUseException
+     *             This method throws if "This" cannot be converted into a
+     *             verbatim string.
+     * @see #getStructuralHash()
+     */
+    public byte[] getSHA1() {
+        if (_hash == null) {
+            MessageDigest md = DIGEST.get();
+            digestVerbatim( md );
+            _hash = md.digest();
+        }
+        return _hash;
+    }
+
+    /**
+     * Feed the verbatim representation of this expression to a digest.
+     * 
+     * @param md
+     *            Update this digest.
+     */
+    void digestVerbatim(MessageDigest md) {
+        if (_verbatim != null)
+            md.update( _verbatim );
+        else
+            digestVerbatimHelp( md );
+    }
+
+    /**
+     * Feed the verbatim representation of this expression to a digest,
+     * without building it if possible. Types that can should override this.
+     * 
+     * @param md
+     *            Update this digest.
+     */
+    void digestVerbatimHelp(MessageDigest md) {
+        md.update( toVerbatim() );
+    }
+
+    /**
+     * Get a hash of this expression that is built up from the hashes of its
+     * parts, the way a Merkle tree is: a list's hash covers the hashes of its
+     * elements rather than their bytes. Every expression keeps its own hash
+     * once it has been computed, so hashing a list whose elements have been
+     * hashed before (interned strings, for instance) only hashes the list
+     * itself.<br>
+     * <br>
+     * This is not the same as getSHA1(), and must not be used where the hash
+     * has to agree with other hosts or with a log; it is for telling
+     * expressions apart within this process.
+     * 
+     * @return This method returns the structural hash of this expression.
+     */
+    public byte[] getStructuralHash() {
+        if (_structuralHash == null)
+            _structuralHash = computeStructuralHash();
+        return _structuralHash;
+    }
+
+    /**
+     * Compute the structural hash of this expression. Types other than
+     * strings and lists are hashed by their verbatim form.
+     * 
+     * @return This method returns the structural hash of this expression.
+     */
+    byte[] computeStructuralHash() {
+        byte[] verbatim = toVerbatim();
+        MessageDigest md = DIGEST.get();
+        md.update( OTHER_TAG );
+        md.update( verbatim );
+        return md.digest();
+    }
+
+    // The first byte hashed for each kind of expression, so that no two kinds
+    // can hash alike.
+    static final byte STRING_TAG = 0;
+    static final byte LIST_TAG = 1;
+    static final byte OTHER_TAG = 2;
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        if (_string == null)
+            _string = toStringHelp().toString();
+
+        return _string;
+    }
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        byte[] sha = getStructuralHash();
+        return (((int) sha[0]) << 24) | (((int) sha[1]) << 16)
+                | (((int) sha[2]) << 8) | (int) sha[3];
+    }
+}
@@ -0,0 +1,197 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+
+/**
+ * The table of interned {@link StringExpression}s, which makes sure there is
+ * only ever one live expression for any given string of bytes. It is split
+ * into stripes, each with its own lock and hash chains, so that threads
+ * parsing at the same time rarely wait on one another.<br>
+ * <br>
+ * Strings are found by a 64-bit hash of their bytes, and the bytes are only
+ * compared when the hashes match. The table only holds its strings weakly:
+ * once nothing else refers to a string, its entry is dropped the next time
+ * its stripe is used.
+ *
+ * @author Montrose
+ */
+class InternTable {
+
+    private static final int STRIPE_BITS = 6;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final class Entry extends WeakReference<StringExpression> {
+        final long _hash;
+        Entry _next;
+
+        Entry(StringExpression string, long hash,
+                ReferenceQueue<StringExpression> queue, Entry next) {
+            super( string, queue );
+            _hash = hash;
+            _next = next;
+        }
+    }
+
+    private static final class Stripe {
+        final ReferenceQueue<StringExpression> _queue = new ReferenceQueue<StringExpression>();
+        Entry[] _table = new Entry[INITIAL_CAPACITY];
+        int _count = 0;
+    }
+
+    private final Stripe[] _stripes;
+
+    /**
+     * Construct an empty table.
+     */
+    public InternTable() {
+        _stripes = new Stripe[1 << STRIPE_BITS];
+        for (int i = 0; i < _stripes.length; i++)
+            _stripes[i] = new Stripe();
+    }
+
+    /**
+     * Find the interned expression for a string, or intern a new one.
+     *
+     * @param bytes
+     *            This is the string, from the buffer's position to its limit.
+     *            The buffer's position is not changed.
+     * @param owned
+     *            If not null, this array holds the same bytes and may become
+     *            the new expression's. Otherwise the bytes are copied out of
+     *            the buffer if a new expression is needed.
+     * @return This method returns the interned expression.
+     */
+    public StringExpression intern(ByteBuffer bytes, byte[] owned) {
+        long hash = hash( bytes );
+        Stripe stripe = _stripes[(int) (hash >>> (64 - STRIPE_BITS))];
+
+        synchronized (stripe) {
+            expunge( stripe );
+
+            Entry[] table = stripe._table;
+            int index = (int) hash & (table.length - 1);
+            for (Entry e = table[index]; e != null; e = e._next) {
+                if (e._hash != hash)
+                    continue;
+                StringExpression string = e.get();
+                if (string != null && same( string.getBytes(), bytes ))
+                    return string;
+            }
+
+            if (owned == null) {
+                owned = new byte[bytes.remaining()];
+                bytes.duplicate().get( owned );
+            }
+            StringExpression string = new StringExpression( owned, true );
+            table[index] = new Entry( string, hash, stripe._queue,
+                    table[index] );
+            if (++stripe._count > table.length - table.length / 4)
+                grow( stripe );
+            return string;
+        }
+    }
+
+    /**
+     * @return This method returns the number of strings in the table. Some of
+     *         them may no longer be referred to.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : _stripes)
+            synchronized (stripe) {
+                expunge( stripe );
+                size += stripe._count;
+            }
+        return size;
+    }
+
+    /**
+     * Drop the entries of strings that have been collected.
+     */
+    private static void expunge(Stripe stripe) {
+        Object ref;
+        while ((ref = stripe._queue.poll()) != null) {
+            Entry entry = (Entry) ref;
+            int index = (int) entry._hash & (stripe._table.length - 1);
+            Entry prev = null;
+            for (Entry e = stripe._table[index]; e != null; prev = e, e = e._next) {
+                if (e != entry)
+                    continue;
+                if (prev == null)
+                    stripe._table[index] = e._next;
+                else
+                    prev._next = e._next;
+                stripe._count--;
+                break;
+            }
+        }
+    }
+
+    private static void grow(Stripe stripe) {
+        Entry[] old = stripe._table;
+        Entry[] table = new Entry[old.length * 2];
+        for (Entry head : old) {
+            Entry e = head;
+            while (e != null) {
+                Entry next = e._next;
+                int index = (int) e._hash & (table.length - 1);
+                e._next = table[index];
+                table[index] = e;
+                e = next;
+            }
+        }
+        stripe._table = table;
+    }
+
+    private static boolean same(byte[] string, ByteBuffer bytes) {
+        int start = bytes.position();
+        if (string.length != bytes.limit() - start)
+            return false;
+        for (int i = 0; i < string.length; i++)
+            if (string[i] != bytes.get( start + i ))
+                return false;
+        return true;
+    }
+
+    /**
+     * FNV-1a over the bytes, with the bits mixed afterwards so that both the
+     * top (which pick the stripe) and the bottom (which pick the chain) are
+     * spread out.
+     */
+    private static long hash(ByteBuffer bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = bytes.position(); i < bytes.limit(); i++)
+            h = (h ^ (bytes.get( i ) & 0xff)) * 0x100000001b3L;
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
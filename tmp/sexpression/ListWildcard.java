@@ -0,0 +1,136 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * An instance of this class represents a list wildcard that constrains slightly
+ * more the contents of the list. Each element in the list much match a
+ * particular pattern.
+ * 
+ * @author kyle
+ * 
+ */
+public class ListWildcard extends AWildcard {
+
+    private final ASExpression _pattern;
+
+    public ListWildcard(ASExpression pattern) {
+        _pattern = pattern;
+    }
+
+    /**
+     * @see sexpression.ASExpression#match(sexpression.ASExpression)
+     */
+    @Override
+    public ASExpression match(ASExpression target) {
+        if (!elementsMatch( target ))
+            return NoMatch.SINGLETON;
+
+        return new ListExpression( target );
+    }
+
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        if (!elementsMatch( target ))
+            return false;
+        out.add( target );
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return elementsMatch( target );
+    }
+
+    /**
+     * @return true if target is a list whose every element matches the
+     *         pattern.
+     */
+    private boolean elementsMatch(ASExpression target) {
+        if (!(target instanceof ListExpression))
+            return false;
+
+        // What the elements matched is thrown away, so one list will do.
+        ArrayList<ASExpression> ignored = new ArrayList<ASExpression>();
+        for (ASExpression ase : (ListExpression) target) {
+            if (!_pattern.matchInto( ase, ignored ))
+                return false;
+            ignored.clear();
+        }
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#toStringHelp()
+     */
+    @Override
+    public StringBuffer toStringHelp() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append( "#list:" );
+        buffer.append( _pattern.toStringHelp() );
+        buffer.append( "" );
+        return buffer;
+    }
+
+    /**
+     * @see sexpression.ASExpression#size()
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    /**
+     * @see sexpression.ASExpression#toVerbatimHelp()
+     */
+    @Override
+    public ByteArrayBuffer toVerbatimHelp() {
+        ByteArrayBuffer ba = new ByteArrayBuffer();
+        ba.append( (byte) '#' );
+        ba.append( (byte) 'l' );
+        ba.append( _pattern.toVerbatimHelp() );
+        return ba;
+    }
+
+    /**
+     * @see sexpression.ASpecialExpression#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ListWildcard))
+            return false;
+
+        return ((ListWildcard) o)._pattern.equals( _pattern );
+    }
+}
@@ -0,0 +1,71 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+/**
+ * Special value returned by match() when the target expression does not match
+ * the pattern.
+ */
+public class NoMatch extends ASExpression {
+
+    public static final NoMatch SINGLETON = new NoMatch();
+
+    private NoMatch() {}
+
+    /**
+     * @see sexpression.ASExpression#match(sexpression.ASExpression)
+     */
+    @Override
+    public ASExpression match(ASExpression target) {
+        if (target == SINGLETON)
+            return new ListExpression( SINGLETON );
+        return NoMatch.SINGLETON;
+    }
+
+    /**
+     * @see sexpression.ASExpression#size()
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    /**
+     * @see sexpression.ASExpression#toStringHelp()
+     */
+    @Override
+    public StringBuffer toStringHelp() {
+        return new StringBuffer( "#nomatch" );
+    }
+
+    /**
+     * @see sexpression.ASExpression#toVerbatimHelp()
+     */
+    @Override
+    public ByteArrayBuffer toVerbatimHelp() {
+        ByteArrayBuffer ba = new ByteArrayBuffer();
+        ba.append( (byte) '#' );
+        ba.append( (byte) 'f' );
+        return ba;
+    }
+}
@@ -0,0 +1,348 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import sexpression.ByteArrayBuffer.ByteArray;
+import sexpression.stream.Base64;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A ByteStringExpression is an SExpression. In particular, a
+ * ByteStringExpression is, simply, an ordering of ASCII characters.
+ * 
+ * @author Kyle
+ */
+public class StringExpression extends ASExpression {
+
+    public static final StringExpression EMPTY = new StringExpression();
+    private static final InternTable INTERNED = new InternTable();
+
+    /**
+     * Ask for an expression that represents the given string. This method
+     * checks if one has already been interned, and if it has, returns it, other
+     * wise constructs a new one and adds it to the intern map.
+     * 
+     * @param string
+     *            Make an expression that represents this string.
+     * @return This method returns the interned expression that represents the
+     *         given string.
+     */
+    public static StringExpression makeString(String string) {
+        if (string.equals(""))
+            return EMPTY;
+        return makeString(string.getBytes());
+    }
+
+    /**
+     * Ask for an expression that represents the given byte array. This method
+     * checks if one has already been interned, and if it has, returns it,
+     * otherwise constructs a new one and adds it to the intern map.
+     * 
+     * @param bytes
+     *            Make an expression that represents this set of bytes as a string.
+     * @return This method returns the interned expression that represents the
+     *         given byte string.
+     */
+    public static StringExpression makeString(byte[] bytes) {
+        return makeString(bytes, true);
+    }
+
+    /**
+     * Ask for an expression that represents the given byte array, interned or
+     * not. An expression that isn't interned still matches an equal string,
+     * but matching it has to compare bytes, and it doesn't share its bytes
+     * with other copies of the same string. Parsers that read a lot of strings
+     * which are never seen twice can save the table lookups this way.
+     * 
+     * @param bytes
+     *            Make an expression that represents this set of bytes as a
+     *            string. It may become the expression's own, so don't change
+     *            it afterwards.
+     * @param intern
+     *            If true, return the interned expression, as makeString(byte[])
+     *            does.
+     * @return This method returns an expression that represents the given
+     *         byte string.
+     */
+    public static StringExpression makeString(byte[] bytes, boolean intern) {
+        if (bytes.length == 0)
+            return EMPTY;
+        if (!intern)
+            return new StringExpression(bytes, false);
+        return INTERNED.intern(ByteBuffer.wrap(bytes), bytes);
+    }
+
+    /**
+     * Ask for an expression that represents the bytes in the given buffer, from
+     * its position to its limit. If one has already been interned it is
+     * returned without the bytes being copied out of the buffer; otherwise they
+     * are copied into a new expression, so the buffer may be reused or unmapped
+     * afterwards. The buffer's position is not changed.
+     * 
+     * @param bytes
+     *            Make an expression that represents the remaining bytes of
+     *            this buffer as a string.
+     * @return This method returns the interned expression that represents the
+     *         given byte string.
+     */
+    public static StringExpression makeString(ByteBuffer bytes) {
+        return makeString(bytes, true);
+    }
+
+    /**
+     * Ask for an expression that represents the bytes in the given buffer,
+     * interned or not (see {@link #makeString(byte[], boolean)}). The
+     * buffer's position is not changed.
+     * 
+     * @param bytes
+     *            Make an expression that represents the remaining bytes of
+     *            this buffer as a string.
+     * @param intern
+     *            If true, return the interned expression, as
+     *            makeString(ByteBuffer) does.
+     * @return This method returns an expression that represents the given
+     *         byte string.
+     */
+    public static StringExpression makeString(ByteBuffer bytes, boolean intern) {
+        if (!bytes.hasRemaining())
+            return EMPTY;
+        if (intern)
+            return INTERNED.intern(bytes, null);
+
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.duplicate().get(copy);
+        return new StringExpression(copy, false);
+    }
+
+    private final byte[] _bytes;
+    private final boolean _interned;
+
+    /**
+     * Construct a string sexp that is empty.
+     */
+    private StringExpression() {
+        _bytes = new byte[0];
+        _interned = true;
+    }
+
+    /**
+     * This is a constructor for ByteStringExpression
+     * 
+     * @param bytes
+     * @param interned
+     *            True if this is the one interned expression for its bytes.
+     */
+    StringExpression(byte[] bytes, boolean interned) {
+        _bytes = bytes;
+        _interned = interned;
+    }
+
+    /**
+     * For byte strings, return the string that represents the byte string. Use
+     * java.lang.String's constructor.
+     * 
+     * 
+     * @see sexpression.ASExpression#toString()
+     */
+    public StringBuffer toStringHelp() {
+        StringBuffer buffer = new StringBuffer();
+        for (byte b : _bytes)
+            if ((b > 32 && b < 127) || Character.isWhitespace((char) b))
+                buffer.append((char) b);
+            else
+                return toPrettifiedString();
+        return buffer;
+    }
+
+    /**
+     * This is a helper method for toString. Surround the byte values in '[]'.
+     * Call this method if the byte values don't really work as characters.
+     * 
+     * @return This method returns the string with byte values surrounded in
+     *         brackets.
+     */
+    private StringBuffer toPrettifiedString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("{");
+        buffer.append(Base64.encodeBytes(_bytes));
+        buffer.append("}");
+        return buffer;
+    }
+
+    /**
+     * A string, x, is represented in verbatim by the string "len(x):x"
+     * 
+     * 
+     * @see sexpression.ASExpression#toVerbatim()
+     */
+    public ByteArrayBuffer toVerbatimHelp() {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        ByteArray length = new ByteArray(Integer.toString(_bytes.length)
+                .getBytes());
+        buf.append(length);
+        buf.append((byte) ':');
+        buf.append(new ByteArray(_bytes));
+        return buf;
+    }
+
+    /**
+     * @see sexpression.ASExpression#digestVerbatimHelp(java.security.MessageDigest)
+     */
+    @Override
+    void digestVerbatimHelp(MessageDigest md) {
+        byte[] length = new byte[11];
+        int at = length.length;
+        length[--at] = ':';
+        int n = _bytes.length;
+        do {
+            length[--at] = (byte) ('0' + n % 10);
+            n /= 10;
+        } while (n > 0);
+        md.update(length, at, length.length - at);
+        md.update(_bytes);
+    }
+
+    /**
+     * A string hashes its bytes.
+     * 
+     * @see sexpression.ASExpression#computeStructuralHash()
+     */
+    @Override
+    byte[] computeStructuralHash() {
+        MessageDigest md = DIGEST.get();
+        md.update(STRING_TAG);
+        md.update(_bytes);
+        return md.digest();
+    }
+
+    /**
+     * @see sexpression.ASExpression#match(sexpression.ASExpression)
+     */
+    @Override
+    public ASExpression match(ASExpression target) {
+        if (same(target))
+            return ListExpression.EMPTY;
+        return NoMatch.SINGLETON;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatch(sexpression.ASExpression)
+     */
+    @Override
+    public HashMap<String, ASExpression> namedMatch(ASExpression target) {
+        if (same(target))
+            return new HashMap<String, ASExpression>();
+        return NamedNoMatch.SINGLETON;
+    }
+
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        return same(target);
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return same(target);
+    }
+
+    /**
+     * @return true if the target is this string. Two interned expressions are
+     *         only the same string if they are the same expression.
+     */
+    private boolean same(ASExpression target) {
+        if (this == target)
+            return true;
+        if (!(target instanceof StringExpression))
+            return false;
+
+        StringExpression other = (StringExpression) target;
+        if (_interned && other._interned)
+            return false;
+        return Arrays.equals(_bytes, other._bytes);
+    }
+
+    /**
+     * This method returns a copy of the bytes. Because s-expressions are
+     * immutable, we do not wish to return the actual data.
+     * 
+     * @return This method returns a copy of the byte string.
+     */
+    public byte[] getBytesCopy() {
+        byte[] returnarray = new byte[_bytes.length];
+        System.arraycopy(_bytes, 0, returnarray, 0, _bytes.length);
+        return returnarray;
+    }
+
+    /**
+     * Do not use this unless you know what you're doing!
+     * 
+     * @return This returns a ref to the actual byte array that backs the string
+     *         expression. DO NOT MUTATE THIS.
+     */
+    public byte[] getBytes() {
+        return _bytes;
+    }
+
+    /**
+     * Call this method to get a given byte from the string.
+     * 
+     * @param index
+     *            This is the index of the wanted byte.
+     * @return This method returns the indexth byte from the string.
+     */
+    public byte get(int index) {
+        return _bytes[index];
+    }
+
+    /**
+     * Return the number of bytes in this string.
+     * 
+     * @return This method returns the number of bytes in this string.
+     */
+    public int size() {
+        return _bytes.length;
+    }
+
+    /**
+     * Two strings are equal if they have the same bytes.
+     */
+    @Override
+    public boolean equals(Object o){
+    	if(!(o instanceof StringExpression))
+    		return false;
+    	
+    	return same((StringExpression) o);
+    }
+}
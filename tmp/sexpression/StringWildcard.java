@@ -0,0 +1,97 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * This pattern expression represents any string expression.
+ * 
+ * @author kyle
+ * 
+ */
+public class StringWildcard extends AWildcard {
+
+    public static final StringWildcard SINGLETON = new StringWildcard();
+
+    private StringWildcard() {}
+
+    /**
+     * @see sexpression.ASExpression#match(sexpression.ASExpression)
+     */
+    @Override
+    public ASExpression match(ASExpression target) {
+        if (target instanceof StringExpression)
+            return new ListExpression( target );
+        return NoMatch.SINGLETON;
+    }
+
+    /**
+     * @see sexpression.ASExpression#matchInto(sexpression.ASExpression,
+     *      java.util.ArrayList)
+     */
+    @Override
+    boolean matchInto(ASExpression target, ArrayList<ASExpression> out) {
+        if (!(target instanceof StringExpression))
+            return false;
+        out.add( target );
+        return true;
+    }
+
+    /**
+     * @see sexpression.ASExpression#namedMatchInto(sexpression.ASExpression,
+     *      java.util.HashMap)
+     */
+    @Override
+    boolean namedMatchInto(ASExpression target, HashMap<String, ASExpression> out) {
+        return target instanceof StringExpression;
+    }
+
+    /**
+     * @see sexpression.ASExpression#size()
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    /**
+     * @see sexpression.ASExpression#toStringHelp()
+     */
+    @Override
+    public StringBuffer toStringHelp() {
+        return new StringBuffer( "#string" );
+    }
+
+    /**
+     * @see sexpression.ASExpression#toVerbatimHelp()
+     */
+    @Override
+    public ByteArrayBuffer toVerbatimHelp() {
+        ByteArrayBuffer ba = new ByteArrayBuffer();
+        ba.append( (byte) '#' );
+        ba.append( (byte) 's' );
+        return ba;
+    }
+}
@@ -0,0 +1,196 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import sexpression.*;
+
+/**
+ * The ASEBufferWriter serializes ASExpressions in verbatim form into one
+ * growable buffer, which can be reused from expression to expression. Strings
+ * and lists are written straight into the buffer as the expression is walked,
+ * so no intermediate arrays are made along the way. The bytes can then be
+ * handed to a channel or stream, or taken as an array.
+ *
+ * @author Montrose
+ *
+ */
+public class ASEBufferWriter {
+
+    /**
+     * A buffer that grows past this is let go of when the writer is cleared.
+     */
+    private static final int RETAINED_CAPACITY = 64 * 1024;
+
+    private final int _initialCapacity;
+    private ByteBuffer _buffer;
+
+    /**
+     * Construct a writer with a small buffer.
+     */
+    public ASEBufferWriter() {
+        this( 256 );
+    }
+
+    /**
+     * @param capacity
+     *            Start with a buffer of this many bytes.
+     */
+    public ASEBufferWriter(int capacity) {
+        _initialCapacity = capacity;
+        _buffer = ByteBuffer.allocate( capacity );
+    }
+
+    /**
+     * Append the verbatim form of an expression to what has been written.
+     *
+     * @param expression
+     *            Write this expression.
+     */
+    public void write(ASExpression expression) {
+        if (expression instanceof StringExpression) {
+            StringExpression string = (StringExpression) expression;
+            ensureCapacity( 11 + string.size() );
+            putLength( string.size() );
+            _buffer.put( (byte) ':' );
+            _buffer.put( string.getBytes() );
+        }
+        else if (expression instanceof ListExpression) {
+            ensureCapacity( 1 );
+            _buffer.put( (byte) '(' );
+            for (ASExpression element : ((ListExpression) expression)
+                    .getArray())
+                write( element );
+            ensureCapacity( 1 );
+            _buffer.put( (byte) ')' );
+        }
+        else {
+            // Patterns are rare enough to go the long way.
+            byte[] bytes = expression.toVerbatimHelp().getBytes();
+            ensureCapacity( bytes.length );
+            _buffer.put( bytes );
+        }
+    }
+
+    /**
+     * @return This method returns the number of bytes written since the writer
+     *         was last cleared.
+     */
+    public int size() {
+        return _buffer.position();
+    }
+
+    /**
+     * @return This method returns a buffer over the bytes written since the
+     *         writer was last cleared. It shares the writer's storage, so it is
+     *         only good until the next write or clear.
+     */
+    public ByteBuffer getBuffer() {
+        ByteBuffer view = _buffer.duplicate();
+        view.flip();
+        return view;
+    }
+
+    /**
+     * @return This method returns a copy of the bytes written since the writer
+     *         was last cleared.
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[_buffer.position()];
+        System.arraycopy( _buffer.array(), 0, bytes, 0, bytes.length );
+        return bytes;
+    }
+
+    /**
+     * Write everything written so far to the given channel, and clear the
+     * writer.
+     *
+     * @param channel
+     *            Write to this channel. If it is non-blocking, this method
+     *            spins until it takes all of the bytes.
+     * @throws IOException
+     *             This method throws if the channel does.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer view = getBuffer();
+        while (view.hasRemaining())
+            channel.write( view );
+        clear();
+    }
+
+    /**
+     * Write everything written so far to the given stream, flush it, and clear
+     * the writer.
+     *
+     * @param out
+     *            Write to this stream.
+     * @throws IOException
+     *             This method throws if the stream does.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write( _buffer.array(), 0, _buffer.position() );
+        out.flush();
+        clear();
+    }
+
+    /**
+     * Forget everything written so far.
+     */
+    public void clear() {
+        if (_buffer.capacity() > RETAINED_CAPACITY)
+            _buffer = ByteBuffer.allocate( _initialCapacity );
+        else
+            _buffer.clear();
+    }
+
+    /**
+     * Write a string length in decimal without making a String of it.
+     */
+    private void putLength(int length) {
+        int digits = 1;
+        for (int n = length; n >= 10; n /= 10)
+            digits++;
+
+        int end = _buffer.position() + digits;
+        for (int at = end - 1; at >= _buffer.position(); at--) {
+            _buffer.put( at, (byte) ('0' + length % 10) );
+            length /= 10;
+        }
+        _buffer.position( end );
+    }
+
+    private void ensureCapacity(int n) {
+        if (_buffer.remaining() >= n)
+            return;
+
+        ByteBuffer buffer = ByteBuffer.allocate( Math.max(
+            _buffer.capacity() * 2, _buffer.position() + n ) );
+        _buffer.flip();
+        buffer.put( _buffer );
+        _buffer = buffer;
+    }
+}
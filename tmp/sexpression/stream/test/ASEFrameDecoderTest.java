@@ -0,0 +1,139 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.stream.test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import sexpression.ASExpression;
+import sexpression.stream.ASEFrameDecoder;
+import sexpression.stream.ASEInputStreamReader;
+import sexpression.stream.InvalidVerbatimStreamException;
+
+import junit.framework.TestCase;
+
+/**
+ * This class tests that ASEFrameDecoder finds the same expressions as
+ * ASEInputStreamReader, no matter where the input is split.
+ * 
+ * @author Montrose
+ * 
+ */
+public class ASEFrameDecoderTest extends TestCase {
+
+    private static final String[] EXPRESSIONS = { "3:abc", "0:", "(3:abc2:ab)",
+            "(()(3:abc2:ab))", "(1:a#l(1:b)%1:n#s#a)", "#l#l()", "%1:n(#w#n)",
+            "{KDEwOkRlYXIgS3lsZTooNTpzLWV4cCgxOmYxOnQxOncpMTohKCkpKQ==}",
+            "(12:(not a list))" };
+
+    private static String read(String verbatim) throws Exception {
+        return new ASEInputStreamReader( new ByteArrayInputStream( verbatim
+                .getBytes( "us-ascii" ) ) ).read().toString();
+    }
+
+    /**
+     * Decode the given bytes, handing them to the decoder in pieces of the
+     * given size.
+     */
+    private static List<String> decode(byte[] bytes, int piece)
+            throws InvalidVerbatimStreamException {
+        ASEFrameDecoder decoder = new ASEFrameDecoder();
+        List<String> decoded = new ArrayList<String>();
+
+        for (int i = 0; i < bytes.length; i += piece) {
+            ByteBuffer buffer = ByteBuffer.wrap( bytes, i, Math.min( piece,
+                bytes.length - i ) );
+            for (ASExpression e : decoder.decode( buffer ))
+                decoded.add( e.toString() );
+            assertFalse( buffer.hasRemaining() );
+        }
+
+        assertEquals( 0, decoder.buffered() );
+        return decoded;
+    }
+
+    /**
+     * Each expression, on its own, split at every possible size.
+     */
+    public void test_single() throws Exception {
+        for (String test : EXPRESSIONS) {
+            byte[] bytes = test.getBytes( "us-ascii" );
+            for (int piece = 1; piece <= bytes.length; piece++) {
+                List<String> decoded = decode( bytes, piece );
+                assertEquals( test, 1, decoded.size() );
+                assertEquals( test, read( test ), decoded.get( 0 ) );
+            }
+        }
+    }
+
+    /**
+     * All of the expressions back to back, split at every possible size.
+     */
+    public void test_backToBack() throws Exception {
+        StringBuffer all = new StringBuffer();
+        List<String> expected = new ArrayList<String>();
+        for (String test : EXPRESSIONS) {
+            all.append( test );
+            expected.add( read( test ) );
+        }
+
+        byte[] bytes = all.toString().getBytes( "us-ascii" );
+        for (int piece = 1; piece <= bytes.length; piece++)
+            assertEquals( expected, decode( bytes, piece ) );
+    }
+
+    /**
+     * A partial expression is held until the rest arrives.
+     */
+    public void test_partial() throws Exception {
+        ASEFrameDecoder decoder = new ASEFrameDecoder();
+
+        assertEquals( 0, decoder.decode(
+            ByteBuffer.wrap( "(3:abc(2:a".getBytes( "us-ascii" ) ) ).size() );
+        assertEquals( 10, decoder.buffered() );
+
+        List<ASExpression> decoded = decoder.decode( ByteBuffer.wrap( "b))3:x"
+                .getBytes( "us-ascii" ) ) );
+        assertEquals( 1, decoded.size() );
+        assertEquals( "(abc (ab))", decoded.get( 0 ).toString() );
+        assertEquals( 3, decoder.buffered() );
+    }
+
+    /**
+     * Bytes that can't start an expression are rejected as soon as they are
+     * seen.
+     */
+    public void test_invalid() throws Exception {
+        String[] tests = { "??", ")", "(3:abc)x", "3x:abc", "#z", "(1:a{)" };
+
+        for (String test : tests) {
+            try {
+                decode( test.getBytes( "iso-8859-1" ), 1 );
+                fail( test );
+            }
+            catch (InvalidVerbatimStreamException e) {}
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import sexpression.*;
+
+public class HashTest {
+
+    private static final String[] EXPRESSIONS = { "foo", "()", "(foo bar)",
+            "(foo (bar baz) () (()))", "(#any #string (#list:#string))" };
+
+    // getSHA1 is still the hash of the verbatim form, whether or not that has
+    // been built.
+    @Test
+    public void sha1_is_of_verbatim() throws Exception {
+        for (String test : EXPRESSIONS) {
+            ASExpression streamed = ASExpression.make( test );
+            ASExpression built = ASExpression.make( test );
+            byte[] verbatim = built.toVerbatim();
+            assertArrayEquals( test, ASExpression.computeSHA1( verbatim ),
+                streamed.getSHA1() );
+            assertArrayEquals( test, ASExpression.computeSHA1( verbatim ),
+                built.getSHA1() );
+        }
+
+        StringExpression big = StringExpression.makeString( new byte[12345] );
+        assertArrayEquals( ASExpression.computeSHA1( big.toVerbatim() ), big
+                .getSHA1() );
+    }
+
+    @Test
+    public void structural() throws Exception {
+        for (String test : EXPRESSIONS) {
+            ASExpression e1 = ASExpression.make( test );
+            ASExpression e2 = ASExpression.make( test );
+            assertArrayEquals( test, e1.getStructuralHash(), e2
+                    .getStructuralHash() );
+            assertEquals( test, e1, e2 );
+            assertEquals( test, e1.hashCode(), e2.hashCode() );
+            assertFalse( test, Arrays.equals( e1.getSHA1(), e1
+                    .getStructuralHash() ) );
+        }
+
+        // Nothing hashes like anything with a different shape.
+        String[] different = { "(ab)", "(a b)", "((a) b)", "(a (b))", "()",
+                "(())" };
+        for (int i = 0; i < different.length; i++)
+            for (int j = i + 1; j < different.length; j++)
+                assertFalse( different[i] + " " + different[j], Arrays.equals(
+                    ASExpression.make( different[i] ).getStructuralHash(),
+                    ASExpression.make( different[j] ).getStructuralHash() ) );
+        assertFalse( Arrays.equals( StringExpression.makeString( "()" )
+                .getStructuralHash(), ListExpression.EMPTY.getStructuralHash() ) );
+    }
+
+    @Test
+    public void string_equality() throws Exception {
+        StringExpression interned = StringExpression.makeString( "foo" );
+        StringExpression copy = StringExpression.makeString( "foo".getBytes(),
+            false );
+
+        assertEquals( interned, copy );
+        assertEquals( copy, interned );
+        assertEquals( interned.hashCode(), copy.hashCode() );
+        assertFalse( interned.equals( StringExpression.makeString( "fo" ) ) );
+    }
+}
@@ -0,0 +1,188 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import sexpression.*;
+import sexpression.stream.ASEBufferReader;
+
+/**
+ * Has several threads parse the auditorium logs captured in logdata/ at once,
+ * interning their strings the way StringExpression used to (one lock around a
+ * map keyed by SHA-1), through the striped table it uses now, and not at all.
+ * Not part of the suite; run it on its own from the top of the tree.
+ */
+public class InternPerformanceTest {
+    public static final String[] CAPTURES = { "logdata/log.out",
+            "logdata/20070929-superlog.out", "logdata/e3-supervisor.log",
+            "logdata/e4-supervisor.log" };
+    public static final int[] THREADS = { 1, 2, 4, 8, 16 };
+    public static final int PASSES = 4;
+
+    // How the table used to work, for comparison.
+    private static final HashMap<String, WeakReference<byte[]>> OLD = new HashMap<String, WeakReference<byte[]>>();
+
+    private static byte[] oldIntern(byte[] bytes) {
+        String hash = new String( ASExpression.computeSHA1( bytes ) );
+        synchronized (OLD) {
+            if (OLD.containsKey( hash ) && OLD.get( hash ).get() != null)
+                return OLD.get( hash ).get();
+            OLD.put( new String( ASExpression.computeSHA1( bytes ) ),
+                new WeakReference<byte[]>( bytes ) );
+            return bytes;
+        }
+    }
+
+    private interface Parse {
+        public int parse(ByteBuffer capture) throws Exception;
+    }
+
+    private static final Parse OLD_TABLE = new Parse() {
+
+        public int parse(ByteBuffer capture) throws Exception {
+            // The same walk ASEBufferReader does, but handing each string to
+            // the old table.
+            ByteBuffer buffer = capture.duplicate();
+            int strings = 0;
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (!Character.isDigit( b ))
+                    continue;
+                int length = b - '0';
+                while ((b = buffer.get()) != ':')
+                    length = length * 10 + (b - '0');
+                byte[] bytes = new byte[length];
+                buffer.get( bytes );
+                oldIntern( bytes );
+                strings++;
+            }
+            return strings;
+        }
+    };
+
+    private static Parse reader(final boolean intern) {
+        return new Parse() {
+
+            public int parse(ByteBuffer capture) throws Exception {
+                ASEBufferReader reader = new ASEBufferReader( capture
+                        .duplicate(), intern );
+                int expressions = 0;
+                while (reader.read() != null)
+                    expressions++;
+                return expressions;
+            }
+        };
+    }
+
+    private static List<ByteBuffer> load() throws Exception {
+        ArrayList<ByteBuffer> captures = new ArrayList<ByteBuffer>();
+        for (String capture : CAPTURES) {
+            RandomAccessFile raf = new RandomAccessFile( new File( capture ),
+                    "r" );
+            try {
+                captures.add( raf.getChannel().map(
+                    FileChannel.MapMode.READ_ONLY, 0, raf.length() ) );
+            }
+            finally {
+                raf.close();
+            }
+        }
+        return captures;
+    }
+
+    /**
+     * Have each thread parse every capture PASSES times.
+     *
+     * @return elapsed milliseconds until they have all finished
+     */
+    private static long run(final Parse parse, final List<ByteBuffer> captures,
+            int threads) throws Exception {
+        final Exception[] failure = new Exception[1];
+        Thread[] parsers = new Thread[threads];
+
+        long start = System.currentTimeMillis();
+        for (int t = 0; t < threads; t++) {
+            parsers[t] = new Thread( new Runnable() {
+
+                public void run() {
+                    try {
+                        for (int pass = 0; pass < PASSES; pass++)
+                            for (ByteBuffer capture : captures)
+                                assertTrue( parse.parse( capture ) > 0 );
+                    }
+                    catch (Exception e) {
+                        failure[0] = e;
+                    }
+                }
+            } );
+            parsers[t].start();
+        }
+        for (Thread t : parsers)
+            t.join();
+        long stop = System.currentTimeMillis();
+
+        if (failure[0] != null)
+            throw failure[0];
+        return stop - start;
+    }
+
+    private static void compare(List<ByteBuffer> captures, int threads)
+            throws Exception {
+        long old = run( OLD_TABLE, captures, threads );
+        long striped = run( reader( true ), captures, threads );
+        long off = run( reader( false ), captures, threads );
+
+        System.out.println( threads + " thread(s): old table " + old
+                + "ms, striped table " + striped + "ms, not interned " + off
+                + "ms" );
+    }
+
+    @Test
+    public void threads() throws Exception {
+        List<ByteBuffer> captures = load();
+
+        // Warm up each way before timing.
+        run( OLD_TABLE, captures, 1 );
+        run( reader( true ), captures, 1 );
+        run( reader( false ), captures, 1 );
+
+        for (int threads : THREADS)
+            compare( captures, threads );
+    }
+
+    public static void main(String[] args) throws Exception {
+        new InternPerformanceTest().threads();
+    }
+}
@@ -0,0 +1,107 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package sexpression.test;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import sexpression.*;
+import sexpression.stream.ASEBufferReader;
+
+public class InternTest {
+
+    @Test
+    public void same_string_same_expression() throws Exception {
+        StringExpression s1 = StringExpression.makeString( "foo" );
+        StringExpression s2 = StringExpression.makeString( "foo".getBytes() );
+        StringExpression s3 = StringExpression.makeString( ByteBuffer
+                .wrap( "xfooy".getBytes(), 1, 3 ) );
+        ByteBuffer direct = ByteBuffer.allocateDirect( 3 );
+        direct.put( "foo".getBytes() );
+        direct.flip();
+        StringExpression s4 = StringExpression.makeString( direct );
+
+        assertSame( s1, s2 );
+        assertSame( s1, s3 );
+        assertSame( s1, s4 );
+        assertEquals( 0, direct.position() );
+        assertNotSame( s1, StringExpression.makeString( "fob" ) );
+        assertSame( StringExpression.EMPTY, StringExpression
+                .makeString( new byte[0] ) );
+    }
+
+    @Test
+    public void uninterned_still_match() throws Exception {
+        StringExpression interned = StringExpression.makeString( "foo" );
+        StringExpression u1 = StringExpression.makeString( "foo".getBytes(),
+            false );
+        StringExpression u2 = StringExpression.makeString( "foo".getBytes(),
+            false );
+
+        assertNotSame( interned, u1 );
+        assertNotSame( u1, u2 );
+        assertNotSame( NoMatch.SINGLETON, interned.match( u1 ) );
+        assertNotSame( NoMatch.SINGLETON, u1.match( interned ) );
+        assertNotSame( NoMatch.SINGLETON, u1.match( u2 ) );
+        assertSame( NoMatch.SINGLETON, u1.match( StringExpression
+                .makeString( "bar" ) ) );
+
+        ASExpression pattern = ASExpression.make( "(foo #string)" );
+        ASExpression target = new ASEBufferReader( ByteBuffer.wrap( "(3:foo3:bar)"
+                .getBytes() ), false ).read();
+        assertNotSame( NoMatch.SINGLETON, pattern.match( target ) );
+        assertNotSame( NamedNoMatch.SINGLETON, new ListExpression(
+                StringExpression.makeString( "foo" ), new NamedPattern( "x",
+                        StringWildcard.SINGLETON ) ).namedMatch( target ) );
+    }
+
+    @Test
+    public void many_threads() throws Exception {
+        final int count = 10000;
+        final List<List<StringExpression>> made = new ArrayList<List<StringExpression>>();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final List<StringExpression> mine = new ArrayList<StringExpression>();
+            made.add( mine );
+            threads[t] = new Thread( new Runnable() {
+
+                public void run() {
+                    for (int i = 0; i < count; i++)
+                        mine.add( StringExpression.makeString( "many-" + i ) );
+                }
+            } );
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+
+        for (List<StringExpression> list : made)
+            for (int i = 0; i < count; i++)
+                assertSame( made.get( 0 ).get( i ), list.get( i ) );
+    }
+}
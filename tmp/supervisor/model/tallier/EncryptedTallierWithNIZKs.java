@@ -0,0 +1,308 @@
+package supervisor.model.tallier;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import auditorium.Bugout;
+
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.Election;
+import edu.uconn.cse.adder.PrivateKey;
+import edu.uconn.cse.adder.PublicKey;
+import edu.uconn.cse.adder.Vote;
+import edu.uconn.cse.adder.VoteProof;
+
+import sexpression.ASExpression;
+import sexpression.ListExpression;
+import sexpression.stream.ASEInputStreamReader;
+import votebox.crypto.interop.AdderKeyManipulator;
+
+/**
+ * Tallier for elections run with NIZKs but without the commit-challenge model enabled.
+ * @author Montrose
+ *
+ */
+public class EncryptedTallierWithNIZKs implements ITallier, NIZKVerifier.IVerifiedBallotHandler {
+	private PrivateKey _privateKey = null;
+	private PublicKey _publicKey = null;
+	private PublicKey _finalPublicKey = null;
+	private PrivateKey _finalPrivateKey = null;
+	
+	private Map<String, Election> _results = new HashMap<String, Election>();
+	private Map<String, Long> _decodeTimes = new HashMap<String, Long>();
+	
+	private NIZKVerifier.Mode _verificationMode = NIZKVerifier.Mode.BATCH;
+	private int _verificationThreads = 0;
+	private int _batchSize = NIZKVerifier.DEFAULT_BATCH_SIZE;
+	private NIZKVerifier _verifier = null;
+	
+	private int _stripes = 1;
+	private File _auditDirectory = null;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param pub - The PublicKey used to encrypt votes to be tallied.
+	 * @param priv - The PrivateKey to be used to decrypt the totals.
+	 */
+	public EncryptedTallierWithNIZKs(PublicKey pub, PrivateKey priv){
+		_privateKey = priv;
+		_publicKey = pub;
+		
+		//_finalPublicKey = AdderKeyManipulator.generateFinalPublicKey(_publicKey);
+		//_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
+	}
+	
+	/**
+	 * Constructor.
+	 * @param pub - The PublicKey used to encrypt votes to be tallied.
+	 * @param priv - The PrivateKey to be used to decrypt the totals.
+	 * @param mode - How ballot NIZKs are checked, see {@link NIZKVerifier.Mode}.
+	 * @param threads - Number of threads to check NIZKs on, 0 for one per processor.
+	 * @param batchSize - Number of ballots checked together in batch mode.
+	 * @param stripes - Number of running totals each race is spread across.
+	 * @param auditDirectory - Directory to record each counted vote in, or null to not record them.
+	 */
+	public EncryptedTallierWithNIZKs(PublicKey pub, PrivateKey priv, NIZKVerifier.Mode mode, int threads, int batchSize, int stripes, File auditDirectory){
+		this(pub, priv);
+		
+		_verificationMode = mode;
+		_verificationThreads = threads;
+		_batchSize = batchSize;
+		_stripes = Math.max(1, stripes);
+		_auditDirectory = auditDirectory;
+	}
+	
+	public void challenged(ASExpression nonce) {
+		throw new RuntimeException("EncryptedTallierWithNIZKs.challenged NOT IMPLEMENTED");
+	}
+
+	public void confirmed(ASExpression nonce) {
+		throw new RuntimeException("EncryptedTallierWithNIZKs.confirmed NOT IMPLEMENTED");
+	}
+
+	public Map<String, BigInteger> getReport() {
+		//Every ballot received so far must be checked before it can be counted
+		if(_verifier != null)
+			_verifier.drain();
+		
+		return tally();
+	}
+	
+	/**
+	 * @return the time spent decoding each candidate's total in the last
+	 *         report, in nanoseconds.
+	 */
+	public synchronized Map<String, Long> getDecodeTimes(){
+		return new HashMap<String, Long>(_decodeTimes);
+	}
+	
+	/**
+	 * Decrypts the totals of every ballot verified so far.
+	 */
+	@SuppressWarnings("unchecked")
+	private synchronized Map<String, BigInteger> tally() {
+		_finalPrivateKey = AdderKeyManipulator.generateFinalPrivateKey(_publicKey, _privateKey);
+		Map<String, BigInteger> report = new HashMap<String, BigInteger>();
+		
+		for(String group : _results.keySet()){
+			System.out.println("Decrypting election-id \""+group+"\"");
+			
+			Election election = _results.get(group);
+			
+			Vote cipherSum = election.sumVotes();
+			List<AdderInteger> partialSum = (List<AdderInteger>)_finalPrivateKey.partialDecrypt(cipherSum);
+			AdderInteger coeff = new AdderInteger(0);
+
+			List<List<AdderInteger>> partialSums = new ArrayList<List<AdderInteger>>();
+			partialSums.add(partialSum);
+
+			List<AdderInteger> coeffs = new ArrayList<AdderInteger>();
+			coeffs.add(coeff);
+
+			List<AdderInteger> results = election.getFinalSum(partialSums, coeffs, cipherSum, _finalPublicKey);
+			String[] ids = group.split(",");
+			
+			System.out.println("\tresults size: "+results.size());
+			System.out.println("\tids count: "+ids.length);
+			
+			List<Long> times = election.getDecodeTimes();
+			
+			for(int i = 0; i < ids.length; i++){
+				report.put(ids[i], results.get(i).bigintValue());
+				_decodeTimes.put(ids[i], times.get(i));
+				
+				System.out.println("\t"+ids[i]+": "+results.get(i)+" (decoded in "+(times.get(i) / 1000)+" us)");
+			}
+		}//for
+		
+		return report;
+	}
+
+	public void recordVotes(byte[] ballotBytes, ASExpression nonce) {
+		if(_finalPublicKey == null)
+			_finalPublicKey = AdderKeyManipulator.generateFinalPublicKey(_publicKey);
+		else{
+			PublicKey copy = AdderKeyManipulator.generateFinalPublicKey(_publicKey);
+			
+			if(!_finalPublicKey.equals(copy))
+				//throw new RuntimeException("Final public key changed!\n"+_finalPublicKey+"\n\n"+copy);
+				Bugout.err("Final public key changed!\n"+_finalPublicKey+"\n\n"+copy);
+		}
+		
+		System.out.println("EncryptedTallierWithNIZKs.recordVotes(..., "+nonce+")");
+		
+		ASEInputStreamReader in = new ASEInputStreamReader(
+				new ByteArrayInputStream(ballotBytes));
+		
+		try {
+			ASExpression sexp = in.read();
+			//Check that the ballot is well-formed
+			ListExpression ballot = (ListExpression)sexp;
+			NIZKVerifier.Ballot toVerify = new NIZKVerifier.Ballot(ballotBytes);
+				
+			for(int i = 0; i < ballot.size(); i++){
+				ListExpression raceGroup = (ListExpression)ballot.get(i);
+				ListExpression voteE = (ListExpression)raceGroup.get(0);
+				ListExpression voteIdsE = (ListExpression)raceGroup.get(1);
+				ListExpression proofE = (ListExpression)raceGroup.get(2);
+				ListExpression publicKeyE = (ListExpression)raceGroup.get(3);
+				
+				confirmValid(voteE, voteIdsE, proofE, publicKeyE);
+				
+				//Vote vote = Vote.fromString(voteE.get(1).toString());
+				Vote vote = Vote.fromASE(voteE.get(1));
+				List<String> voteIds = new ArrayList<String>();
+				for(int j = 0; j < ((ListExpression)voteIdsE.get(1)).size(); j++)
+					voteIds.add(((ListExpression)voteIdsE.get(1)).get(j).toString());
+				
+				//VoteProof voteProof = VoteProof.fromString(proofE.get(1).toString());
+				VoteProof voteProof = VoteProof.fromASE(proofE.get(1));
+				
+				//PublicKey suppliedPublicKey = PublicKey.fromString(publicKeyE.get(1).toString());
+				PublicKey suppliedPublicKey = PublicKey.fromASE(publicKeyE.get(1));
+				
+				if(!(suppliedPublicKey.toString().trim().equals(_finalPublicKey.toString().trim()))){
+					Bugout.err("!!!Expected supplied final PublicKey to match generated\nSupplied: "+suppliedPublicKey+"\nGenerated: "+_finalPublicKey+"!!!");
+					return;
+				}
+				
+				toVerify.add(makeId(voteIds), vote, voteProof);
+			}//for
+			
+			//Proofs are checked off of this thread; the ballot is only counted once they all pass
+			getVerifier().submit(toVerify);
+		}catch(Exception e){
+			Bugout.err("Malformed ballot received <"+e.getMessage()+">");
+			Bugout.err("Rejected ballot:\n"+new String(ballotBytes));
+		}
+	}
+
+	/**
+	 * Counts a ballot whose NIZKs have all been verified.
+	 * @see supervisor.model.tallier.NIZKVerifier.IVerifiedBallotHandler#verified(supervisor.model.tallier.NIZKVerifier.Ballot)
+	 */
+	public void verified(NIZKVerifier.Ballot ballot){
+		for(int i = 0; i < ballot.size(); i++){
+			String subElectionId = ballot.getId(i);
+			
+			System.out.println("Updating election-id \""+subElectionId+"\"");
+			
+			getElection(subElectionId).castVote(ballot.getVote(i));
+		}//for
+	}
+	
+	/**
+	 * @return the running Election for the given election-id, creating it if need be.
+	 */
+	private synchronized Election getElection(String subElectionId){
+		Election election = _results.get(subElectionId);
+		
+		if(election == null){
+			election = new Election(_publicKey.getP(), _stripes, openAuditRecord(subElectionId));
+			_results.put(subElectionId, election);
+		}
+		
+		return election;
+	}
+	
+	/**
+	 * Opens a new file in the audit directory to record the votes counted for an election-id in.
+	 * The first line of the file is the election-id, and every line after it one encrypted vote.
+	 * 
+	 * @return the record, or null if votes are not being recorded.
+	 */
+	private Writer openAuditRecord(String subElectionId){
+		if(_auditDirectory == null)
+			return null;
+		
+		try{
+			_auditDirectory.mkdirs();
+			
+			File file = File.createTempFile("election-", ".votes", _auditDirectory);
+			Writer out = new BufferedWriter(new FileWriter(file));
+			out.write(subElectionId+"\n");
+			out.flush();
+			
+			return out;
+		}catch(IOException e){
+			Bugout.err("Could not open vote record for election-id \""+subElectionId+"\": "+e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * @return the NIZKVerifier for ballots under the final public key, creating it if need be.
+	 */
+	private NIZKVerifier getVerifier(){
+		if(_verifier == null)
+			_verifier = new NIZKVerifier(_finalPublicKey, _verificationMode, _verificationThreads, _batchSize, this);
+		
+		return _verifier;
+	}
+	
+	/**
+	 * Using nizks imposes structure on our race format we haven't had before.
+	 * This method is 
+	 * @param voteIds
+	 * @return
+	 */
+	private String makeId(List<String> voteIds){
+		String str = voteIds.get(0);
+		for(int i = 1; i < voteIds.size(); i++)
+			str+=","+voteIds.get(i);
+		
+		return str;
+	}
+	
+	/**
+	 * Confirms that the vote, voteIds, proof, and publicKey fields pulled out of a ballot are well-formed.
+	 * 
+	 * @param vote
+	 * @param voteIds
+	 * @param proof
+	 * @param publicKey
+	 */
+	private void confirmValid(ListExpression vote, ListExpression voteIds, ListExpression proof, ListExpression publicKey){
+		if(!vote.get(0).toString().equals("vote"))
+			throw new RuntimeException("Missing \"vote\"");
+		
+		if(!voteIds.get(0).toString().equals("vote-ids"))
+			throw new RuntimeException("Missing \"vote-ids\"");
+		
+		if(!proof.get(0).toString().equals("proof"))
+			throw new RuntimeException("Missing \"proof\"");
+		
+		if(!publicKey.get(0).toString().equals("public-key"))
+			throw new RuntimeException("Missing \"public-key\"");
+	}
+}
@@ -0,0 +1,100 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast;
+
+import sexpression.*;
+import verifier.*;
+import verifier.value.*;
+
+/**
+ * This AST represents any identifier or number.
+ * 
+ * @author kyle
+ * 
+ */
+public class Constant extends AST {
+
+	public static final ASTFactory FACTORY = new ASTFactory() {
+
+		@Override
+		public String getName() {
+			throw new RuntimeException(
+					"the constant factory should be in the primitive table");
+		}
+
+		@Override
+		public String getPattern() {
+			return "#string";
+		}
+
+		@Override
+		public AST make(ASExpression from, ListExpression matchresult,
+				ASTParser parser) {
+			return new Constant(from, matchresult.get(0).toString());
+		}
+	};
+
+	private final String _value;
+
+	private Constant(ASExpression from, String string) {
+		super(from);
+		_value = string;
+	}
+
+	/**
+	 * @see verifier.ast.AST#eval(verifier.ActivationRecord)
+	 */
+	@Override
+	public Value eval(ActivationRecord environment) {
+		try {
+			return new IntValue(Integer.parseInt(_value));
+		} catch (NumberFormatException e) {
+			if (_value.equals("true"))
+				return True.SINGLETON;
+			else if (_value.equals("false"))
+				return False.SINGLETON;
+			else
+				return environment.lookup(_value);
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuffer sb = new StringBuffer();
+		sb.append("{");
+		sb.append(_value);
+		sb.append("}");
+		return sb.toString();
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return (o instanceof Constant) && ((Constant) o)._value.equals(_value);
+	}
+}
@@ -0,0 +1,55 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast;
+
+import sexpression.ASExpression;
+import verifier.value.*;
+
+public class Greater extends Comparison {
+
+	public static final ASTFactory FACTORY = new ComparisonFactory(
+			new IConstructor() {
+
+				public AST make(ASExpression from, AST... args) {
+					return new Greater(from, args[0], args[1]);
+				}
+			}) {
+
+		@Override
+		public String getName() {
+			return ">";
+		}
+	};
+
+	protected Greater(ASExpression from, AST left, AST right) {
+		super(from, left, right);
+	}
+
+	@Override
+	public Value compare(int left, int right) {
+		if (left > right)
+			return True.SINGLETON;
+		return False.SINGLETON;
+	}
+
+}
@@ -0,0 +1,98 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.value;
+
+import sexpression.*;
+
+/**
+ * This class represents the s-expression verifier value. Any arbitrary
+ * s-expression can be represented.
+ * 
+ * @author kyle
+ * 
+ */
+public class Expression extends Value implements Comparable {
+
+	private final ASExpression _ase;
+
+	/**
+	 * @param ase
+	 *            The SExpression represented by this Expression object.
+	 */
+	public Expression(ASExpression ase) {
+		super(true);
+		_ase = ase;
+	}
+
+	/**
+	 * @see verifier.value.Value#execute(verifier.value.IValueVisitor)
+	 */
+	public Value execute(IValueVisitor visitor) {
+		return visitor.forExpression(this);
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof Expression))
+			return false;
+		return _ase.equals(((Expression) o)._ase);
+	}
+
+	/**
+	 * @return This method returns the s-expression that this value represents.
+	 */
+	public ASExpression getASE() {
+		return _ase;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return _ase.hashCode();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return _ase.toString();
+	}
+
+	/**
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	public int compareTo(Object arg0) {
+		return toString().compareTo(arg0.toString());
+	}
+
+	@Override
+	public ASExpression toASE() {
+		return new ListExpression(StringExpression.make("quote"), _ase);
+	}
+}
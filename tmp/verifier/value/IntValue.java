@@ -0,0 +1,85 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.value;
+
+import sexpression.*;
+
+/**
+ * Instances of this class represent integer values in the verifier.
+ * 
+ * @author kyle
+ * 
+ */
+public class IntValue extends Value {
+
+	private final int _value;
+
+	/**
+	 * @param value
+	 *            Construct the instance to represent this integer value.
+	 */
+	public IntValue(int value) {
+		super(true);
+		_value = value;
+	}
+
+	/**
+	 * @return This method returns the integer value that this instance
+	 *         represents.
+	 */
+	public int get() {
+		return _value;
+	}
+
+	/**
+	 * @see verifier.value.Value#execute(verifier.value.IValueVisitor)
+	 */
+	@Override
+	public Value execute(IValueVisitor visitor) {
+		return visitor.forInt(this);
+	}
+
+	/**
+	 * @see verifier.value.Value#toASE()
+	 */
+	@Override
+	public ASExpression toASE() {
+		return StringExpression.make(toString());
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return (o instanceof IntValue) && ((IntValue) o)._value == _value;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Integer.toString(_value);
+	}
+}
@@ -0,0 +1,99 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.auditoriumverifierplugins;
+
+import auditorium.*;
+import sexpression.*;
+import verifier.*;
+import verifier.ast.*;
+import verifier.value.*;
+
+/**
+ * (batch-signature-verify cert signature proof payload) is true if the
+ * signature is over the root of a batch that the proof shows the payload is in,
+ * and was made with the key in the cert. These are the four parts of a
+ * batch-signed-message, as made by {@link AuditoriumIntegrityLayer}.
+ */
+public class BatchSignatureVerify extends AST {
+
+	public static final ASTFactory FACTORY = new PrimFactory(4,
+			new IConstructor() {
+
+				public AST make(ASExpression from, AST... args) {
+					return new BatchSignatureVerify(from, args[0], args[1],
+							args[2], args[3]);
+				}
+			}) {
+
+		@Override
+		public String getName() {
+			return "batch-signature-verify";
+		}
+	};
+
+	private final AST _cert;
+	private final AST _signature;
+	private final AST _proof;
+	private final AST _payload;
+
+	private BatchSignatureVerify(ASExpression from, AST cert, AST signature,
+			AST proof, AST payload) {
+		super(from);
+		_cert = cert;
+		_signature = signature;
+		_proof = proof;
+		_payload = payload;
+	}
+
+	@Override
+	public Value eval(ActivationRecord environment) {
+		ASExpression cert = expression(_cert.eval(environment));
+		ASExpression sig = expression(_signature.eval(environment));
+		ASExpression proof = expression(_proof.eval(environment));
+		ASExpression payload = expression(_payload.eval(environment));
+
+		try {
+			Cert c = new Cert(cert);
+			Signature s = new Signature(sig);
+			if (!MerkleTree.isRoot(MerkleTree.computeRoot(payload, proof), s
+					.getPayload()))
+				return False.SINGLETON;
+			RSACrypto.SINGLETON.verify(s, c);
+			return True.SINGLETON;
+		} catch (IncorrectFormatException e) {
+			return False.SINGLETON;
+		} catch (AuditoriumCryptoException e) {
+			return False.SINGLETON;
+		}
+	}
+
+	private static ASExpression expression(Value value) {
+		return ((Expression) value.execute(new AValueVisitor() {
+
+			@Override
+			public Value forExpression(Expression expression) {
+				return expression;
+			}
+		})).getASE();
+	}
+}
@@ -0,0 +1,46 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import auditorium.Key;
+
+/**
+ * This is a temporary placeholder for a key pair. It just generates a new one
+ * every time the JVM starts. This is mostly used for functionality testing.
+ * 
+ * @author kyle
+ * 
+ */
+public class STATICKEY {
+
+    public static final STATICKEY SINGLETON = new STATICKEY();
+
+    public final Key PRIVATE_KEY;
+    public final Key PUBLIC_KEY;
+
+    private STATICKEY() {
+        Pair<Key> pair = ElGamalCrypto.SINGLETON.generate("blah");
+        PUBLIC_KEY = pair.get1();
+        PRIVATE_KEY = pair.get2();
+    }
+}
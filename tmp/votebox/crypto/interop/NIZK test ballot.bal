@@ -0,0 +1,972 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<Ballot>
+<Language name="English"/>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Libritarian"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="LIB"/>
+</LocalizedString>
+</Party>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Independent"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="IND"/>
+</LocalizedString>
+</Party>
+<Card type="Presidential Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="President and Vice President of the United States"/>
+</LocalizedString>
+</Module>
+<Module name="TopOfTicket" type="TextFieldModule">
+<Property name="label" type="String" value="Top Of Ticket"/>
+<LocalizedString name="Data">
+<String language="English" text="President"/>
+</LocalizedString>
+</Module>
+<Module name="BottomOfTicket" type="TextFieldModule">
+<Property name="label" type="String" value="Bottom Of Ticket"/>
+<LocalizedString name="Data">
+<String language="English" text="Vice President"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Running Mate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Gordon Bearce"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Nathan Maclean"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Vernon Stanley Albury"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Richard Rigby"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Janette Froman"/>
+</LocalizedString>
+<LocalizedString name="Name1">
+<String language="English" text="Chris Aponte"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Libritarian"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="LIB"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="United States Senator"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Cecile Cadieux"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Fern Brzezinski"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Corey Dery"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Independent"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="IND"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="United States House of Representatives"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Pedro Brouse"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Robert Mettler"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Governor of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Glen Travis Lozier"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Rick Stickles"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Maurice Humble"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Independent"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="IND"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Lieutenant Governor of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Shane Terrio"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Cassie Principe"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Attorney General of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Tim Speight"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Rick Organ"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Comptroller of Public Accounts of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Therese Gustin"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Independent"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="IND"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Greg Converse"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Commissioner of General Land Office"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Sam Saddler"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Elise Ellzey"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Commissioner of Agriculture"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Polly Rylander"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Roberto Aron"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Railroad Commisioner of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Jillian Balas"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Zachary Minick"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="State Senator of Texas"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Ricardo Nigro"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Wesley Steven Millette"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="State Representative of Texas District 134"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Petra Bencomo"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Susanne Rael"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="State Board of Education District 2"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Peter Varga"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Mark Baber"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Presiding Judge on Texas Supreme Court"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Tim Grasty"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Presiding Judge on Court of Criminal Appeals"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Dan Plouffe"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Derrick Melgar"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="District Attorney of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Corey Behnke"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Jennifer A. Lundeed"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="County Treasurer of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Dean Caffee"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Gordon Kallas"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Sheriff of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Stanley Saari"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Jason Valle"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="County Tax Assessor of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Howard Grady"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Randy H. Clemons"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Justice of the Peace of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Deborah Kamps"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Clyde Gayton Jr."/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Race">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="County Judge of Harris County"/>
+</LocalizedString>
+</Module>
+<Module name="Candidates" type="CandidatesModule">
+<Column name="Candidate's Name"/>
+<Column name="Party"/>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Dan Atchley"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Republican"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="REP"/>
+</LocalizedString>
+</Party>
+</CardElement>
+<CardElement>
+<LocalizedString name="Name0">
+<String language="English" text="Lewis Shine"/>
+</LocalizedString>
+<Party>
+<LocalizedString name="Name">
+<String language="English" text="Democrat"/>
+</LocalizedString>
+<LocalizedString name="Abbrev">
+<String language="English" text="DEM"/>
+</LocalizedString>
+</Party>
+</CardElement>
+</Module>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 1"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Without raising taxes and in order to pay for public safety, public works, parks &#10;and recreation, health care, libraries, and other essential services, shall Harris&#10;County and the City of Houston be authorized to retain and spend all city and county&#10;tax revenues in excess of the constitutional limitation on total city and county&#10;fiscal year spending for ten fiscal years beinning with the 2008 fiscal year, and&#10;to retain and spend an amount of city and tax revenues in excess of such limitation&#10;for the 2018 fiscal year and for each succeeding fiscal year up to the excess city&#10;and county revenue cap, as defined by this measure?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 2"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Shall the Charter of Harris County be amended to authorize the City Council to review&#10;and approve certain intergovernmental agreements and revenue contracts entered into&#10;by the City; to permit the City Council to establish its meeting schedule by&#10;ordinance; to clarify the cirumstances in which the City Council may act by ordinance&#10;or resolution; to permit the City Council to adopt by ordinance procedures for the&#10;formation and administration of special assessment districts; to permit excused&#10;absences of council members for reasons other than sickness; and to make other &#10;conforming amendments related thereto in order to eliminate redundant or obsolete&#10;provisions of the charter?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 3"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Shall there be an amendment to the Texas constitution concerning recovery of damage&#10;relating to construction of real property improvements, and, in connection&#10;therewith, prohibiting laws that limit or impair a property owner's right to recover&#10;damages caused by a failure to construct an improvement in a good and workmanlike&#10;manner; defining &quot;good and workmanlike manner&quot; to include construction that is&#10;suitable for its intended purposes; and permitting exceptions for laws that limit&#10;punitive damages, afford governmental immunity, or impose time limits of specified&#10;minimum lengths on filing lawsuits?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 4"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Shall there be an amendment to the Texas revised statutes concerning renewable&#10;energy standards for large providers of retail electric service, and, in connection&#10;therewith, defining eligible renewable energy resources to include solar, wind, &#10;geothermal, small hydroelectricity, and hydrogen fuel cells; requiring that a &#10;percentage of retail electricity sales be derived from renewable sources, beginning&#10;with 3% in the year 2008 and increasing to 10% by 2018; requiring utilities to offer&#10;consumers a rebate of $2.00 per watt and other incentives for solar electric&#10;generation; providing incentives for utilities to invest in renewable energy resources&#10;to 50 center per month for residential customers; requiring public utilities&#10;commision rules to establish major aspects of the measure; prohibiting utilities&#10;from using condemnation or eminent domain to acquire land for generating facilities&#10;used to meet the standards; requiring utilities with requirements contracts to address&#10;shortfalls from the standards; and specifying election procedures by which customers&#10;of a utility may opt out of the requirements of the amendment?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 5"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Shall there be an amendment to the Texas constitution concerning election day voter&#10;registration, and, in connection therewith, allowing an eligible citizen to register&#10;and vote on any day that a vote may be cast in any election beginning on January 1,&#10;2009; specifying election day voter registration locations; specifying that an eligible&#10;citizen who registers to vote on election day shall register in person and present a&#10;current and valid Texas driver's license or state identification card or other approved&#10;documentation; and direction the Texas general assembly, in implementing election day&#10;voter registration, to adopt necessary protections against election fraud?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+<Card type="Proposition">
+<Module name="Title" type="TextFieldModule">
+<Property name="label" type="String" value="Title"/>
+<LocalizedString name="Data">
+<String language="English" text="Proposition 6"/>
+</LocalizedString>
+</Module>
+<Module name="Description" type="TextAreaModule">
+<Property name="label" type="String" value="Description"/>
+<LocalizedString name="Data">
+<String language="English" text="Shall the Charter of Harris County concerning the powers of the City Council be amended&#10;in regard to the sale of city-owned property, to require the Council approval for the&#10;sale of personal property valued at $500,000 or more, and to clarify language requiring&#10;Council approval for any sale of real property?"/>
+</LocalizedString>
+</Module>
+<Module name="YesNoOpts" type="YesNoOptionsModule"/>
+</Card>
+</Ballot>
@@ -0,0 +1,126 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.events;
+
+import sexpression.*;
+
+/**
+ * Event that represents the assign-label message:<br>
+ * 
+ * <pre>
+ * (assign-label node-id new-label)
+ * </pre>
+ * 
+ * See <a href="https://sys.cs.rice.edu/votebox/trac/wiki/VotingMessages">
+ * https://sys.cs.rice.edu/votebox/trac/wiki/VotingMessages</a> for a complete
+ * list of messages.
+ * 
+ * @author cshaw
+ */
+public class AssignLabelEvent implements IAnnounceEvent {
+
+    private int serial;
+
+    private int node;
+
+    private int label;
+
+    /**
+     * Matcher for the AssignLabelEvent.
+     */
+    private static MatcherRule MATCHER = new MatcherRule() {
+        private ASExpression pattern = new ListExpression( StringExpression
+                .makeString( "assign-label" ), StringWildcard.SINGLETON,
+                StringWildcard.SINGLETON );
+
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
+        public IAnnounceEvent match(int serial, ASExpression sexp) {
+            ASExpression res = pattern.match( sexp );
+            if (res != NoMatch.SINGLETON) {
+                int node = Integer.parseInt( ((ListExpression) res).get( 0 )
+                        .toString() );
+                int label = Integer.parseInt( ((ListExpression) res).get( 1 )
+                        .toString() );
+                return new AssignLabelEvent( serial, node, label );
+            }
+            return null;
+        };
+    };
+
+    /**
+     * 
+     * @return a MatcherRule for parsing this event type.
+     */
+    public static MatcherRule getMatcher(){
+    	return MATCHER;
+    }//getMatcher
+    
+    /**
+     * Constructs a new AssignLabelEvent.
+     * 
+     * @param serial
+     *            the serial number of the sender
+     * @param node
+     *            the node id
+     * @param label
+     *            the new label
+     */
+    public AssignLabelEvent(int serial, int node, int label) {
+        this.serial = serial;
+        this.node = node;
+        this.label = label;
+    }
+
+    /**
+     * @return the new label
+     */
+    public int getLabel() {
+        return label;
+    }
+
+    /**
+     * @return the node
+     */
+    public int getNode() {
+        return node;
+    }
+
+    public int getSerial() {
+        return serial;
+    }
+
+    public void fire(VoteBoxEventListener l) {
+        l.assignLabel( this );
+    }
+
+    public ASExpression toSExp() {
+        return new ListExpression(
+                StringExpression.makeString( "assign-label" ), StringExpression
+                        .makeString( Integer.toString( node ) ),
+                StringExpression.makeString( Integer.toString( label ) ) );
+    }
+
+}
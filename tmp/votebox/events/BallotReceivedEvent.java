@@ -0,0 +1,135 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.events;
+
+import java.math.BigInteger;
+
+import sexpression.*;
+
+/**
+ * Event that represents the ballot-received message:<br>
+ * 
+ * <pre>
+ * (ballot-received node-id nonce)
+ * </pre>
+ * 
+ * See <a href="https://sys.cs.rice.edu/votebox/trac/wiki/VotingMessages">
+ * https://sys.cs.rice.edu/votebox/trac/wiki/VotingMessages</a> for a complete
+ * list of messages.
+ * 
+ * @author cshaw
+ */
+public class BallotReceivedEvent implements IAnnounceEvent {
+
+    private int serial;
+
+    private int node;
+
+    private byte[] nonce;
+
+    /**
+     * The matcher for the BallotReceivedEvent.
+     */
+    private static MatcherRule MATCHER = new MatcherRule() {
+        private ASExpression pattern = new ListExpression( StringExpression
+                .makeString( "ballot-received" ), StringWildcard.SINGLETON,
+                StringWildcard.SINGLETON );
+
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
+        public IAnnounceEvent match(int serial, ASExpression sexp) {
+            ASExpression res = pattern.match( sexp );
+            if (res != NoMatch.SINGLETON) {
+                int node = Integer.parseInt( ((ListExpression) res).get( 0 )
+                        .toString() );
+                /*byte[] nonce = ((StringExpression) ((ListExpression) res)
+                        .get( 1 )).getBytesCopy();*/
+                byte[] nonce = new BigInteger(((StringExpression) ((ListExpression) res)
+                        .get( 1 )).toString()).toByteArray();
+                return new BallotReceivedEvent( serial, node, nonce );
+            }
+            return null;
+        };
+    };
+
+    /**
+     * 
+     * @return a MatcherRule for parsing this event type.
+     */
+    public static MatcherRule getMatcher(){
+    	return MATCHER;
+    }//getMatcher
+    
+    /**
+     * Constructs a new BallotReceivedEvent.
+     * 
+     * @param serial
+     *            the serial number of the sender
+     * @param node
+     *            the node id
+     * @param nonce
+     *            the nonce
+     */
+    public BallotReceivedEvent(int serial, int node, byte[] nonce) {
+        this.serial = serial;
+        this.node = node;
+        this.nonce = nonce;
+    }
+
+    /**
+     * @return the node
+     */
+    public int getNode() {
+        return node;
+    }
+
+    /**
+     * @return the nonce
+     */
+    public byte[] getNonce() {
+        return nonce;
+    }
+
+    public int getSerial() {
+        return serial;
+    }
+
+    public void fire(VoteBoxEventListener l) {
+        l.ballotReceived( this );
+    }
+
+    public ASExpression toSExp() {
+        /*return new ListExpression( StringExpression
+                .makeString( "ballot-received" ), StringExpression
+                .makeString( Integer.toString( node ) ), StringExpression
+                .makeString( nonce ) );*/
+    	
+    	return new ListExpression( StringExpression
+                .makeString( "ballot-received" ), StringExpression
+                .makeString( Integer.toString( node ) ), StringExpression
+                .makeString( new BigInteger(nonce).toString() ) );
+    }
+
+}
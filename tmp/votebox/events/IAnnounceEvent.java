@@ -0,0 +1,52 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.events;
+
+import sexpression.ASExpression;
+
+/**
+ * An IAnnounceEvent is an event that is generated by an announcement heard on the
+ * auditorium network.  Most VoteBox events are announce events, but the joined and left
+ * events are not!
+ * @author cshaw
+ */
+public interface IAnnounceEvent {
+	
+    /**
+     * @return the serial number of the sender of this message
+     */
+    public int getSerial();
+    
+    /**
+     * Converts this event to an sexpression.
+     * @return the sexp
+     */
+    public ASExpression toSExp();
+    
+    /**
+     * Fires this event on a listener
+     * @param l the listener
+     */
+    public void fire(VoteBoxEventListener l);
+    
+}
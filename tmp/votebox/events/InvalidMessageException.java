@@ -0,0 +1,52 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.events;
+
+public class InvalidMessageException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidMessageException() {}
+
+    /**
+     * @param msg - message for this Exception
+     */
+    public InvalidMessageException(String msg) {
+        super( msg );
+    }
+
+    /**
+     * @param cause - cause of this Exception
+     */
+    public InvalidMessageException(Throwable cause) {
+        super( cause );
+    }
+
+    /**
+     * @param msg - message for this Exception
+     * @param cause - cause of this Exception
+     */
+    public InvalidMessageException(String msg, Throwable cause) {
+        super( msg, cause );
+    }
+
+}
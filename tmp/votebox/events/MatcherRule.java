@@ -0,0 +1,50 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.events;
+
+import sexpression.ASExpression;
+
+/**
+ * A MatcherRule checks to see if the given sexpression is a match, and then
+ * builds a corresponding event and returns it.
+ * @author cshaw
+ */
+public interface MatcherRule {
+
+    /**
+     * Checks to see if the sexpression is a match, and returns an corresponding
+     * event if so
+     * @param serial the serial to use in the event constructor
+     * @param sexp the sexpression to match
+     * @return an event if there was a match, null otherwise
+     */
+    public IAnnounceEvent match(int serial, ASExpression sexp);
+
+    /**
+     * @return the pattern a message has to match for this rule to make an
+     *         event of it. VoteBoxEventMatcher uses it to decide which rules
+     *         are worth trying.
+     */
+    public ASExpression getPattern();
+
+}
@@ -0,0 +1,12 @@
+
+package votebox.middle.datacollection.evil;
+
+import java.util.Observer;
+
+import votebox.middle.ballot.Ballot;
+import votebox.middle.driver.IAdapter;
+
+public interface EvilObserver extends Observer {
+	public void setAdapter(IAdapter ballotAdapter, IAdapter viewAdapter, Ballot ballot);
+}
+
@@ -0,0 +1,101 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.middle.view;
+
+public enum EventType {
+
+    /**
+     * The voter has pressed the cast ballot button.
+     */
+    CAST_BALLOT,
+
+    /**
+     * Kill the software.
+     */
+    KILL,
+
+    /**
+     * The voter has pressed the next page button
+     */
+    NEXT_PAGE,
+
+    /**
+     * The voter has pressed the previous page button.
+     */
+    PREV_PAGE,
+
+    /**
+     * The voter has pressed the select button
+     */
+    SELECT,
+
+    /**
+     * The boter has pressed the left arrow
+     */
+    LEFT,
+
+    /**
+     * The voter has pressed the right arrow.
+     */
+    RIGHT,
+
+    /**
+     * The voter has pressed the up arrow.
+     */
+    UP,
+
+    /**
+     * The voter has pressed the down arrow.
+     */
+    DOWN,
+
+    /**
+     * The voter has pressed the next arrow.
+     */
+    NEXT,
+
+    /**
+     * The voter has pressed the previous arrow.
+     */
+    PREVIOUS,
+
+    /**
+     * The voter has moved the mouse.
+     */
+    MOUSE_MOVE,
+
+    /**
+     * The voter has pressed the mouse buttong.
+     */
+    MOUSE_DOWN,
+    
+    /**
+     * VoteBox is redrawing or drawing a page for the first time. 
+     */
+   BEGIN_PAGE_REDRAW,
+   
+   /**
+    * VoteBox has finished drawing a complete page. 
+    */
+   END_PAGE_REDRAW
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.middle.view;
+
+/**
+ * Abstract interface for an image. A view should cast this to what it expects.
+ * 
+ * @author kyle
+ * 
+ */
+public interface IViewImage {
+
+    /**
+     * Get the image.
+     * 
+     * @return This method returns the image in the format that the current view
+     *         should expect. The view must cast the object that is returned to
+     *         what it expects. *Check the cast*
+     */
+    public Object getImage();
+
+    /**
+     * Get the width of this image.
+     * 
+     * @return This method returns the width of this image in pixels.
+     */
+    public int getWidth();
+
+    /**
+     * Get the height of this image.
+     * 
+     * @return This method returns the height of this image in pixels.
+     */
+    public int getHeight();
+}
@@ -0,0 +1,61 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.middle.view.widget;
+
+import votebox.middle.view.IViewImage;
+
+/**
+ * Buttons delegate to an instance of this state class. These methods are
+ * state-dependent.
+ */
+
+public abstract class AButtonState {
+
+    /**
+     * This method is called by the Button when it has been asked to focus
+     * itself.
+     * 
+     * @param context
+     *            This is the button that is delegating the behavior for focus.
+     */
+    public abstract void focus(Button context);
+
+    /**
+     * This method is called by the Button when it has been asked to unfocus
+     * itself.
+     * 
+     * @param context
+     *            This is the button that is delegating the behavior for unfocus
+     */
+    public abstract void unfocus(Button context);
+
+    /**
+     * This method is called by the Button when it has been asked to give its
+     * current image.
+     * 
+     * @param context
+     *            This is the button that is delegating the behavior for
+     *            getImage.
+     */
+    public abstract IViewImage getImage(Button context);
+}
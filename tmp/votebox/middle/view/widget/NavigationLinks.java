@@ -0,0 +1,62 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.middle.view.widget;
+
+import votebox.middle.view.IFocusable;
+
+/**
+ * This class encapsulates the links that a focusable uses to determine who gets
+ * the focus when it is pushed away from a focusable in any given direction.
+ */
+public class NavigationLinks {
+
+	/**
+	 * This is the element that is "above" this one.
+	 */
+	public IFocusable Up = null;
+
+	/**
+	 * This is the element that is "below" this one.
+	 */
+	public IFocusable Down = null;
+
+	/**
+	 * This is the element that is "left of" this one.
+	 */
+	public IFocusable Left = null;
+
+	/**
+	 * This is the element that is "right of" this one.
+	 */
+	public IFocusable Right = null;
+
+	/**
+	 * This is the element that is "next after" this one.
+	 */
+	public IFocusable Next = null;
+
+	/**
+	 * This is the element that is "before" this one.
+	 */
+	public IFocusable Previous = null;
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+/*
+ * SDL.i
+ *
+ */
+
+	%module SDL
+
+			%{
+				#include "vbWrapper.h"
+			%}
+
+			%include "vbWrapper.h"
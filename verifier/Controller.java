@@ -22,106 +22,321 @@
 
 package verifier;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 import sexpression.*;
-import sexpression.stream.*;
 import verifier.ast.*;
-import verifier.task.Barrier;
+import verifier.task.*;
 import verifier.value.*;
 
+/**
+ * The controller hands spawned tasks to a set of workers and realizes their
+ * futures with the results that come back.<br>
+ * <br>
+ * The workers come from a registry: a list of entries of the form host or
+ * host:port (the port defaults to Node.PORT), each naming a machine running
+ * the node primitive. The entry "loopback" instead starts a node in this
+ * process, on a port of its own, and connects to it like any other; a
+ * registry of loopback entries runs the whole distributed path on one
+ * machine. Without a registry there is one loopback worker per processor.<br>
+ * <br>
+ * Each task goes to the live worker with the fewest tasks outstanding. If a
+ * worker's connection breaks, its outstanding tasks go to the others; a task
+ * that has been handed out MAX_ATTEMPTS times, or that has nowhere left to
+ * go, fails its future instead.
+ * 
+ * @author kyle
+ * 
+ */
 public class Controller {
 
-	public static final String[] HOSTS = { "sysrack02", "sysrack03", "sysrack04", "sysrack05",
-			"sysrack06" };
+	public static final String LOOPBACK = "loopback";
+	public static final int MAX_ATTEMPTS = 3;
 	public static final Controller SINGLETON = new Controller();
 
-	private Controller() {
-		_out = new ArrayList<OutputStream>();
-		_sockets = new ArrayList<Socket>();
+	/**
+	 * A task that has been sent and not yet answered.
+	 */
+	private static final class Pending {
+		final Future _future;
+		final Task _task;
+		int _attempts;
+
+		Pending(Future future, Task task) {
+			_future = future;
+			_task = task;
+		}
+	}
+
+	/**
+	 * One connection to a node.
+	 */
+	private static final class Worker {
+		final String _name;
+		final Socket _socket;
+		final OutputStream _out;
+		final HashMap<Long, Pending> _outstanding = new HashMap<Long, Pending>();
+		boolean _alive = true;
+
+		Worker(String name, Socket socket) throws IOException {
+			_name = name;
+			_socket = socket;
+			_out = new BufferedOutputStream(socket.getOutputStream());
+		}
 	}
 
-	private final ArrayList<OutputStream> _out;
-	private final ArrayList<Socket> _sockets;
-	private int _num;
+	private ArrayList<String> _registry;
+	private final ArrayList<Worker> _workers;
+	private final ArrayList<NodeServer> _loopbacks;
 	private boolean _running = false;
 
-	private void start() {
-		_num = 0;
-		_running = true;
+	private Controller() {
+		_registry = new ArrayList<String>();
+		for (int lcv = 0; lcv < Runtime.getRuntime().availableProcessors(); lcv++)
+			_registry.add(LOOPBACK);
+		_workers = new ArrayList<Worker>();
+		_loopbacks = new ArrayList<NodeServer>();
+	}
+
+	/**
+	 * Read a worker registry. Each line is one entry; blank lines and lines
+	 * starting with ';' are skipped.
+	 * 
+	 * @param location
+	 *            Read the registry from this file.
+	 * @return This method returns the entries.
+	 * @throws IOException
+	 *             This method throws if the file can't be read.
+	 */
+	public static ArrayList<String> readWorkers(String location)
+			throws IOException {
+		ArrayList<String> workers = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(location));
+		try {
+			String s;
+			while ((s = reader.readLine()) != null) {
+				s = s.trim();
+				if (s.equals("") || s.startsWith(";"))
+					continue;
+				workers.add(s);
+			}
+		} finally {
+			reader.close();
+		}
+		return workers;
+	}
+
+	/**
+	 * Use a different set of workers. Any current connections are closed
+	 * first, and the new ones are made by the next spawn.
+	 * 
+	 * @param workers
+	 *            These are the registry entries.
+	 */
+	public synchronized void setWorkers(List<String> workers) {
+		stop();
+		_registry = new ArrayList<String>(workers);
+	}
 
-		_out.clear();
-		_sockets.clear();
+	/**
+	 * Send a task to a worker.
+	 * 
+	 * @param future
+	 *            Realize this future with the result.
+	 * @param task
+	 *            This is the task to run.
+	 */
+	public void submit(Future future, Task task) {
+		synchronized (this) {
+			if (!_running)
+				start();
+		}
+		assign(new Pending(future, task));
+	}
+
+	/**
+	 * Close every connection. Futures still outstanding fail.
+	 */
+	public void stop() {
+		ArrayList<Pending> orphans = new ArrayList<Pending>();
+		synchronized (this) {
+			if (!_running)
+				return;
+			_running = false;
+			for (Worker w : _workers) {
+				w._alive = false;
+				orphans.addAll(w._outstanding.values());
+				w._outstanding.clear();
+				close(w);
+			}
+			_workers.clear();
+			for (NodeServer server : _loopbacks)
+				server.close();
+			_loopbacks.clear();
+		}
+		for (Pending p : orphans)
+			p._future.fail(new RuntimeException("the controller stopped"));
+	}
 
-		final Barrier b = new Barrier(HOSTS.length + 1);
+	/**
+	 * @return This method returns the number of workers still connected.
+	 */
+	public synchronized int liveWorkers() {
+		int live = 0;
+		for (Worker w : _workers)
+			if (w._alive)
+				live++;
+		return live;
+	}
 
-		for (String s : HOSTS) {
+	private void start() {
+		_running = true;
+		for (String entry : _registry) {
 			try {
-				final String fs = s;
-				final Socket socket = new Socket(s, Node.PORT);
-				final OutputStream os = socket.getOutputStream();
-				final InputStream is = socket.getInputStream();
-				_sockets.add(socket);
-				_out.add(os);
-				new Thread(new Runnable() {
-
-					public void run() {
-						b.hit();
-						thread(is, fs);
-					}
-				}).start();
+				connect(entry);
 			} catch (IOException e) {
-				throw new RuntimeException(e);
+				System.err.println("Couldn't reach verification worker '"
+						+ entry + "': " + e);
 			}
+		}
+	}
 
+	private void connect(String entry) throws IOException {
+		String host = entry;
+		int port = Node.PORT;
+		if (entry.equals(LOOPBACK)) {
+			host = InetAddress.getLoopbackAddress().getHostAddress();
+			final NodeServer server = new NodeServer(new ServerSocket(0, 1,
+					InetAddress.getLoopbackAddress()), 1);
+			port = server.getPort();
+			_loopbacks.add(server);
+			Thread t = new Thread(new Runnable() {
+
+				public void run() {
+					try {
+						server.serve();
+					} catch (IOException e) {}
+				}
+			}, "loopback-node-" + port);
+			t.setDaemon(true);
+			t.start();
+		} else if (entry.indexOf(':') >= 0) {
+			host = entry.substring(0, entry.indexOf(':'));
+			port = Integer.parseInt(entry.substring(entry.indexOf(':') + 1));
 		}
-		b.hit();
+
+		final Worker w = new Worker(entry, new Socket(host, port));
+		_workers.add(w);
+		Thread t = new Thread(new Runnable() {
+
+			public void run() {
+				read(w);
+			}
+		}, "verification-worker-" + entry);
+		t.setDaemon(true);
+		t.start();
 	}
 
-	public void stop() {
-		_running = false;
+	/**
+	 * Hand a task to the least loaded live worker, or fail it if there is
+	 * none or it has been handed out too often.
+	 */
+	private void assign(Pending p) {
+		Worker least = null;
+		synchronized (this) {
+			p._attempts++;
+			if (p._attempts <= MAX_ATTEMPTS)
+				for (Worker w : _workers)
+					if (w._alive
+							&& (least == null || w._outstanding.size() < least._outstanding
+									.size()))
+						least = w;
+			if (least != null)
+				least._outstanding.put(p._future._id, p);
+		}
+
+		if (least == null) {
+			p._future.fail(new RuntimeException("Task for future "
+					+ p._future._id + " couldn't be run: "
+					+ (p._attempts > MAX_ATTEMPTS ? "too many workers died"
+							: "no verification workers are left")));
+			return;
+		}
+
 		try {
-			for (Socket s : _sockets)
-				s.close();
+			Frames.write(least._out, p._task.toASE());
 		} catch (IOException e) {
-			throw new RuntimeException(e);
+			died(least);
 		}
 	}
 
-	public OutputStream getOutbound() {
-		if (!_running)
-			start();
-
-		if (_out.size() == 0)
-			throw new RuntimeException("no connections!");
-
-		if (_num == _out.size())
-			_num = 0;
-		OutputStream ret = _out.get(_num);
-		_num++;
-		return ret;
+	/**
+	 * Take a worker out of service and give its tasks to the others.
+	 */
+	private void died(Worker w) {
+		ArrayList<Pending> orphans;
+		synchronized (this) {
+			if (!w._alive)
+				return;
+			w._alive = false;
+			orphans = new ArrayList<Pending>(w._outstanding.values());
+			w._outstanding.clear();
+			close(w);
+		}
+		System.err.println("Lost verification worker '" + w._name
+				+ "', reassigning " + orphans.size() + " tasks");
+		for (Pending p : orphans)
+			assign(p);
 	}
 
-	private void thread(InputStream is, String id) {
+	private void read(Worker w) {
 		ASTParser parser = new ASTParser(Verifier.getPrimitives(),
 				Constant.FACTORY);
 		try {
-			while (_running) {
-				ListExpression list = (ListExpression) new ASEInputStreamReader(
-						is).read();
-				Value v = parser.parse(list.get(1)).eval(ActivationRecord.END);
-				Future.fromID(Long.parseLong(list.get(0).toString()))
-						.realize(v);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(
+					w._socket.getInputStream()));
+			ASExpression ase;
+			while ((ase = Frames.read(in)) != null) {
+				ListExpression list = (ListExpression) ase;
+				long id = Long.parseLong(list.get(0).toString());
+				Pending p;
+				synchronized (this) {
+					p = w._outstanding.remove(id);
+				}
+				if (p == null)
+					continue;
+
+				if (list.size() == 3 && list.get(1).equals(Task.FAILED))
+					p._future.fail(new RuntimeException("Worker '" + w._name
+							+ "' failed a task: " + list.get(2)));
+				else
+					p._future.realize(parser.parse(list.get(1)).eval(
+							ActivationRecord.END));
 			}
 		} catch (IOException e) {
-			if (_running)
-				throw new RuntimeException(e);
-		} catch (InvalidVerbatimStreamException e) {
-			throw new RuntimeException(e);
+		} catch (RuntimeException e) {
+			System.err.println("Couldn't read a result from verification "
+					+ "worker '" + w._name + "': " + e);
+		}
+		died(w);
+	}
+
+	private static void close(Worker w) {
+		try {
+			w._socket.close();
+		} catch (IOException e) {
 		}
 	}
 }
@@ -53,6 +53,7 @@ public class IncrementalStepVerifier extends Verifier {
 		System.out.printf("# resetting all verifier state\n");
 
         v = new Verifier(argmap);
+        Memo.SINGLETON.clear();
 
 		timer.start();
     		plugin.init(v);
@@ -180,12 +181,20 @@ public class IncrementalStepVerifier extends Verifier {
 			timer.start();
 			    lastResult = v.eval( ((Reduction)lastResult).getAST() );
 			timer.stop();
-			System.out.println( "# RESULT = " + lastResult );
+			// A reduction is the whole of what's still pending, which is too
+			// big to print every round.
+			if (lastResult instanceof Reduction)
+				System.out.println( "# RESULT = (red ...)" );
+			else
+				System.out.println( "# RESULT = " + lastResult );
 			System.out.printf( "# ASSERTION FAILURES: %d\n",
 				Assert.FAILED_ASSERTIONS.size() );
 			for (AssertionFailure f : Assert.FAILED_ASSERTIONS)
 				System.out.printf( "#   --> %s\n", f.toString() );
 			System.out.printf("[TIME] eval: %d ms\n", timer.lookMilli());
+			System.out.printf("[MEMO] size: %d hits: %d misses: %d\n",
+				Memo.SINGLETON.size(), Memo.SINGLETON.getHits(),
+				Memo.SINGLETON.getMisses());
 		}
 		
 		System.out.printf("# processed %d events\n", totalCount);
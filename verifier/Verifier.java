@@ -129,7 +129,14 @@ public class Verifier {
 	 *            core verifier and to its plugins (A mapping of these
 	 *            parameters is given to all plugin instances upon
 	 *            construction). Variables that the core verifier will be
-	 *            looking for include "rule", "config", "out".
+	 *            looking for include "rule", "config", "out", "threads"
+	 *            (how many threads lspawn uses, one per processor by
+	 *            default), "stats" (print lspawn task statistics when set to
+	 *            true), "workers" (a file listing the workers spawn uses; see
+	 *            Controller), "port" (the port the node primitive listens
+	 *            on, and the default port of listed workers) and "memo" (how
+	 *            many reductions the incremental plugins remember, 0 to
+	 *            turn it off; see Memo).
 	 */
 	public static void main(String[] args) throws Exception {
 		HashMap<String, String> argmap = new HashMap<String, String>();
@@ -152,6 +159,11 @@ public class Verifier {
 		System.out.println("ASSERTION FAILURES:");
 		for (AssertionFailure f : Assert.FAILED_ASSERTIONS)
 			System.out.println(f);
+
+		if ("true".equals(argmap.get("stats"))) {
+			System.out.println("TASK STATISTICS:");
+			System.out.print(LSpawn.POOL.getStatistics());
+		}
 	}
 
 	protected static void argNotFound(String arg) {
@@ -225,6 +237,7 @@ public class Verifier {
 			throws InitException {
 		_args = args;
 		_factories = getPrimitives();
+		configure();
 
 		loadPlugins(cfglocation);
 	}
@@ -245,6 +258,7 @@ public class Verifier {
 	public Verifier(HashMap<String, String> args) {
 		_args = args;
 		_factories = getPrimitives();
+		configure();
 	}
 
 	/**
@@ -294,6 +308,20 @@ public class Verifier {
 		return _factories;
 	}
 
+	private void configure() {
+		if (_args.containsKey("threads"))
+			LSpawn.POOL.setThreads(Integer.parseInt(_args.get("threads")));
+		if (_args.containsKey("port"))
+			Node.PORT = Integer.parseInt(_args.get("port"));
+		if (_args.containsKey("workers"))
+			try {
+				Controller.SINGLETON.setWorkers(Controller
+						.readWorkers(_args.get("workers")));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+	}
+
 	private void loadPlugins(String cfglocation) throws InitException {
 		// open the plugin list file.
 		BufferedReader reader = null;
@@ -56,28 +56,45 @@ public class Constant extends AST {
 
 	private final String _value;
 
+	// The literal's value, if it is one; otherwise it is looked up.
+	private final Value _literal;
+
 	private Constant(ASExpression from, String string) {
 		super(from);
 		_value = string;
+		_literal = literal(string);
 	}
 
-	/**
-	 * @see verifier.ast.AST#eval(verifier.ActivationRecord)
-	 */
-	@Override
-	public Value eval(ActivationRecord environment) {
+	private static Value literal(String string) {
 		try {
-			return new IntValue(Integer.parseInt(_value));
+			return new IntValue(Integer.parseInt(string));
 		} catch (NumberFormatException e) {
-			if (_value.equals("true"))
+			if (string.equals("true"))
 				return True.SINGLETON;
-			else if (_value.equals("false"))
+			else if (string.equals("false"))
 				return False.SINGLETON;
-			else
-				return environment.lookup(_value);
+			return null;
 		}
 	}
 
+	/**
+	 * @return This method returns the name or literal this constant was
+	 *         written as.
+	 */
+	String getName() {
+		return _value;
+	}
+
+	/**
+	 * @see verifier.ast.AST#eval(verifier.ActivationRecord)
+	 */
+	@Override
+	public Value eval(ActivationRecord environment) {
+		if (_literal != null)
+			return _literal;
+		return environment.lookup(_value);
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
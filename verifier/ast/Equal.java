@@ -58,6 +58,14 @@ public class Equal extends AST {
 		_right = right;
 	}
 
+	AST getLeft() {
+		return _left;
+	}
+
+	AST getRight() {
+		return _right;
+	}
+
 	/**
 	 * @see verifier.ast.AST#eval(verifier.ActivationRecord)
 	 */
@@ -60,27 +60,24 @@ public class Filter extends AST {
 	@Override
 	public Value eval(ActivationRecord environment) {
 		final Value set = _set.eval(environment);
-		final Value pattern = _pattern.eval(environment);
+		final ASExpression[] patterns = LetMatch.patterns(_pattern
+				.eval(environment));
 
 		final ArrayList<Expression> lst = new ArrayList<Expression>();
 		set.execute(new AValueVisitor() {
 
 			@Override
-			public Value forSet(SetValue s) {
-				for (int lcv = 0; lcv < s.size(); lcv++) {
-					final Expression exp = s.get(lcv);
-					pattern.execute(new AValueVisitor() {
-
-						@Override
-						public Value forExpression(Expression pattern) {
-							ASExpression patternase = pattern.getASE();
-							ASExpression ase = exp.getASE();
-							if (patternase.match(ase) != NoMatch.SINGLETON)
-								lst.add(exp);
-							return null;
+			public Value forSet(final SetValue s) {
+				int[] candidates = s.candidates(patterns, 0);
+				int size = candidates == null ? s.size() : candidates.length;
+				for (int lcv = 0; lcv < size; lcv++) {
+					Expression exp = s.get(candidates == null ? lcv
+							: candidates[lcv]);
+					for (ASExpression pattern : patterns)
+						if (pattern.match(exp.getASE()) != NoMatch.SINGLETON) {
+							lst.add(exp);
+							break;
 						}
-
-					});
 				}
 				return null;
 
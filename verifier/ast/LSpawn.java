@@ -30,7 +30,7 @@ import verifier.value.*;
 
 public class LSpawn extends AST {
 
-	public static final Pool POOL = new Pool(3);
+	public static final Pool POOL = new Pool();
 
 	public static final ASTFactory FACTORY = new ASTFactory() {
 
@@ -47,15 +47,32 @@ public class LSpawn extends AST {
 		@Override
 		public AST make(ASExpression from, ListExpression matchresult,
 				ASTParser parser) {
-			return new LSpawn(parser.parse(matchresult.get(0)));
+			return new LSpawn(parser.parse(matchresult.get(0)),
+					name(matchresult.get(0)));
 		}
 	};
 
+	// How much of the spawned expression names its statistics.
+	private static final int NAME_LENGTH = 80;
+
+	private static String name(ASExpression body) {
+		String name = body.toString();
+		if (name.length() > NAME_LENGTH)
+			name = name.substring(0, NAME_LENGTH) + "...";
+		return name;
+	}
+
 	private final AST _body;
+	private final String _name;
 
-	private LSpawn(AST body) {
+	private LSpawn(AST body, String name) {
 		super(null);
 		_body = body;
+		_name = name;
+	}
+
+	AST getBody() {
+		return _body;
 	}
 
 	@Override
@@ -69,11 +86,9 @@ public class LSpawn extends AST {
 	@Override
 	public Value eval(ActivationRecord environment) {
 		Future f = new Future();
+		Memo.SINGLETON.unwatched();
 
-		if (POOL.running() == false)
-			POOL.start();
-
-		POOL.run(new LocalTask(f, _body, environment));
+		POOL.run(new LocalTask(f, _body, environment, _name));
 
 		return f;
 	}
@@ -60,45 +60,92 @@ public class LetMatch extends AST {
 		_failureBody = failureBody;
 	}
 
+	AST getPattern() {
+		return _pattern;
+	}
+
+	AST getTarget() {
+		return _target;
+	}
+
+	AST getBody() {
+		return _body;
+	}
+
+	AST getFailureBody() {
+		return _failureBody;
+	}
+
 	@Override
 	public Value eval(final ActivationRecord environment) {
-		final Value pattern = _pattern.eval(environment);
+		final ASExpression[] patterns = patterns(_pattern.eval(environment));
 		final Value target = _target.eval(environment);
 
-		return pattern.execute(new AValueVisitor() {
+		return target.execute(new AValueVisitor() {
 
 			@Override
-			public Value forExpression(final Expression patternexp) {
-				return target.execute(new AValueVisitor() {
-
-					@Override
-					public Value forExpression(Expression targetexp) {
-						HashMap<String, ASExpression> match = patternexp
-								.getASE().namedMatch(targetexp.getASE());
-
-						if (match == NamedNoMatch.SINGLETON) {
-							Value v = _failureBody.eval(environment);
-							if (v instanceof Reduction)
-								return new Reduction(new Let(((Reduction) v)
-										.getAST(), environment));
-							return v;
-						}
-
-						HashMap<String, Value> extension = new HashMap<String, Value>();
-						for (String s : match.keySet())
-							extension.put(s, new Expression(match.get(s)));
-						ActivationRecord env = environment.extend(extension);
-
-						Value v = _body.eval(env);
-						if (v instanceof Reduction)
-							return new Reduction(new Let(((Reduction) v)
-									.getAST(), env));
-						return v;
-					}
-
-				});
+			public Value forExpression(Expression targetexp) {
+				// The first pattern that matches is the one that binds.
+				HashMap<String, ASExpression> match = NamedNoMatch.SINGLETON;
+				for (int lcv = 0; lcv < patterns.length
+						&& match == NamedNoMatch.SINGLETON; lcv++)
+					match = match(patterns[lcv], targetexp.getASE());
+
+				if (match == NamedNoMatch.SINGLETON) {
+					Value v = _failureBody.eval(environment);
+					if (v instanceof Reduction)
+						return new Reduction(new Let(((Reduction) v)
+								.getAST(), environment));
+					return v;
+				}
+
+				HashMap<String, Value> extension = new HashMap<String, Value>();
+				for (String s : match.keySet())
+					extension.put(s, new Expression(match.get(s)));
+				ActivationRecord env = environment.extend(extension);
+
+				Value v = _body.eval(env);
+				if (v instanceof Reduction)
+					return new Reduction(new Let(((Reduction) v).getAST(),
+							env));
+				return v;
 			}
 
 		});
 	}
+
+	/**
+	 * A pattern is either one expression or a set of them, such as the single
+	 * and batched forms of a signed message. A set matches whatever one of
+	 * its patterns does.
+	 * 
+	 * @param pattern
+	 *            This is what the pattern evaluated to.
+	 * @return This method returns the patterns it stands for.
+	 */
+	static ASExpression[] patterns(Value pattern) {
+		if (pattern instanceof SetValue) {
+			SetValue set = (SetValue) pattern;
+			ASExpression[] patterns = new ASExpression[set.size()];
+			for (int lcv = 0; lcv < patterns.length; lcv++)
+				patterns[lcv] = set.get(lcv).getASE();
+			return patterns;
+		}
+		if (!(pattern instanceof Expression))
+			throw new UnexpectedTypeException(pattern,
+					"expression or set of expressions");
+		return new ASExpression[] { ((Expression) pattern).getASE() };
+	}
+
+	/**
+	 * @return This method returns the bindings target matches pattern with,
+	 *         or NamedNoMatch.SINGLETON if it doesn't.
+	 */
+	static HashMap<String, ASExpression> match(ASExpression pattern,
+			ASExpression target) {
+		// Most failed matches are told apart by their head.
+		if (!PatternTable.couldMatch(pattern, target))
+			return NamedNoMatch.SINGLETON;
+		return pattern.namedMatch(target);
+	}
 }
@@ -45,6 +45,10 @@ public abstract class ListArgConnective extends AST {
 		_args = args;
 	}
 
+	AST[] getArgs() {
+		return _args;
+	}
+
 	/**
 	 * @see verifier.ast.AST#toASE()
 	 */
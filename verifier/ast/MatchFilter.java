@@ -0,0 +1,271 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast;
+
+import java.util.HashSet;
+
+import sexpression.*;
+import verifier.*;
+import verifier.value.*;
+
+/**
+ * Work out from a quantifier's body which elements of its set are worth
+ * evaluating it for. A body of the form<br>
+ * <br>
+ * (let-match pattern x body skip)<br>
+ * <br>
+ * where x is the quantified variable and skip is the constant that doesn't
+ * decide the quantifier (true for forall, false for exists) gives skip for
+ * any element that doesn't match pattern. If body is itself a let-match of a
+ * name the pattern binds to #any, with the same skip, its pattern is folded
+ * in at that name, and so on down. The result is only used to look up
+ * candidates in a set's indexes, so all that matters is that every element it
+ * rules out would have given skip. If pattern is a set of patterns, each is
+ * folded the same way, and an element is worth evaluating the body for if it
+ * could match any of them.<br>
+ * <br>
+ * When skip is false, a body that is (= name value) or an and of such, with
+ * name bound to a #string by the pattern and value a string known from the
+ * environment, pins name to that string as well, since any element with
+ * another string there gives false.
+ * 
+ * @author kyle
+ * 
+ */
+final class MatchFilter {
+
+	private MatchFilter() {
+	}
+
+	/**
+	 * @param var
+	 *            This is the quantified variable.
+	 * @param body
+	 *            This is the quantifier's body.
+	 * @param environment
+	 *            The quantifier is evaluated in this environment.
+	 * @param skip
+	 *            This is the value that doesn't decide the quantifier.
+	 * @return This method returns patterns every element the body doesn't
+	 *         give skip for has to match one of, or null if there aren't any.
+	 */
+	static ASExpression[] find(String var, AST body,
+			ActivationRecord environment, Value skip) {
+		if (body instanceof LSpawn)
+			body = ((LSpawn) body).getBody();
+		if (!(body instanceof LetMatch))
+			return null;
+
+		LetMatch lm = (LetMatch) body;
+		if (!isName(lm.getTarget(), var)
+				|| !isConstant(lm.getFailureBody(), skip))
+			return null;
+		ASExpression[] patterns = evalPatterns(lm.getPattern(), var,
+				environment);
+		if (patterns == null)
+			return null;
+		for (int lcv = 0; lcv < patterns.length; lcv++)
+			patterns[lcv] = fold(var, patterns[lcv], lm.getBody(),
+					environment, skip);
+		return patterns;
+	}
+
+	/**
+	 * @return This method returns pattern with the let-matches and
+	 *         comparisons at the top of body folded in.
+	 */
+	private static ASExpression fold(String var, ASExpression pattern,
+			AST body, ActivationRecord environment, Value skip) {
+		HashSet<String> bound = new HashSet<String>();
+		bound.add(var);
+		bindings(pattern, bound);
+
+		for (LetMatch lm; body instanceof LetMatch; body = lm.getBody()) {
+			lm = (LetMatch) body;
+			if (!(lm.getTarget() instanceof Constant)
+					|| !isConstant(lm.getFailureBody(), skip))
+				break;
+			String name = ((Constant) lm.getTarget()).getName();
+			if (!bound.contains(name) || count(pattern, name) != 1)
+				break;
+			ASExpression inner = evalPattern(lm.getPattern(), bound,
+					environment);
+			if (inner == null)
+				break;
+			ASExpression folded = substitute(pattern, name, inner,
+					Wildcard.SINGLETON);
+			if (folded == null)
+				break;
+			pattern = folded;
+			bindings(inner, bound);
+		}
+
+		if (skip == False.SINGLETON) {
+			AST[] conjuncts = body instanceof And ? ((And) body).getArgs()
+					: new AST[] { body };
+			for (AST conjunct : conjuncts)
+				if (conjunct instanceof Equal)
+					pattern = pin(pattern, (Equal) conjunct, bound,
+							environment);
+		}
+		return pattern;
+	}
+
+	/**
+	 * @return This method returns pattern with the #string named by one side
+	 *         of equal replaced by the string the other side is, or pattern
+	 *         if equal isn't of that form.
+	 */
+	private static ASExpression pin(ASExpression pattern, Equal equal,
+			HashSet<String> bound, ActivationRecord environment) {
+		AST name = equal.getLeft(), value = equal.getRight();
+		if (!(name instanceof Constant && bound.contains(((Constant) name)
+				.getName()))) {
+			name = equal.getRight();
+			value = equal.getLeft();
+		}
+		if (!(name instanceof Constant))
+			return pattern;
+		String n = ((Constant) name).getName();
+		if (!bound.contains(n) || count(pattern, n) != 1)
+			return pattern;
+		ASExpression string = evalPattern(value, bound, environment);
+		if (!(string instanceof StringExpression))
+			return pattern;
+		ASExpression pinned = substitute(pattern, n, string,
+				StringWildcard.SINGLETON);
+		return pinned == null ? pattern : pinned;
+	}
+
+	private static boolean isName(AST ast, String name) {
+		return ast instanceof Constant
+				&& ((Constant) ast).getName().equals(name);
+	}
+
+	private static boolean isConstant(AST ast, Value v) {
+		return (v == True.SINGLETON && isName(ast, "true"))
+				|| (v == False.SINGLETON && isName(ast, "false"));
+	}
+
+	/**
+	 * @return This method returns the pattern ast names or quotes, or null if
+	 *         it might depend on the element.
+	 */
+	private static ASExpression evalPattern(AST ast, HashSet<String> bound,
+			ActivationRecord environment) {
+		if (ast instanceof Constant && bound.contains(((Constant) ast).getName()))
+			return null;
+		if (!(ast instanceof Constant) && !(ast instanceof Quote))
+			return null;
+
+		Value v;
+		try {
+			v = ast.eval(environment);
+		} catch (NotFoundException e) {
+			return null;
+		}
+		if (!(v instanceof Expression))
+			return null;
+		return ((Expression) v).getASE();
+	}
+
+	/**
+	 * @return This method returns the patterns ast names or quotes, which may
+	 *         be a set of them, or null if they might depend on the element.
+	 */
+	private static ASExpression[] evalPatterns(AST ast, String var,
+			ActivationRecord environment) {
+		if (isName(ast, var))
+			return null;
+		if (!(ast instanceof Constant) && !(ast instanceof Quote))
+			return null;
+
+		Value v;
+		try {
+			v = ast.eval(environment);
+		} catch (NotFoundException e) {
+			return null;
+		}
+		if (!(v instanceof Expression) && !(v instanceof SetValue))
+			return null;
+		return LetMatch.patterns(v);
+	}
+
+	/**
+	 * Add the names a match against pattern binds. Those are the named
+	 * patterns that aren't inside another named pattern or a #list.
+	 */
+	private static void bindings(ASExpression pattern, HashSet<String> bound) {
+		if (pattern instanceof NamedPattern)
+			bound.add(((NamedPattern) pattern).getName());
+		else if (pattern instanceof ListExpression)
+			for (ASExpression ase : (ListExpression) pattern)
+				bindings(ase, bound);
+	}
+
+	private static int count(ASExpression pattern, String name) {
+		if (pattern instanceof NamedPattern) {
+			NamedPattern np = (NamedPattern) pattern;
+			return (np.getName().equals(name) ? 1 : 0)
+					+ count(np.getPattern(), name);
+		}
+		int count = 0;
+		if (pattern instanceof ListExpression)
+			for (ASExpression ase : (ListExpression) pattern)
+				count += count(ase, name);
+		return count;
+	}
+
+	/**
+	 * @return This method returns pattern with the wildcard named name
+	 *         replaced by inner, or null if name doesn't name that wildcard.
+	 */
+	private static ASExpression substitute(ASExpression pattern, String name,
+			ASExpression inner, ASExpression wildcard) {
+		if (pattern instanceof NamedPattern) {
+			NamedPattern np = (NamedPattern) pattern;
+			if (np.getName().equals(name))
+				return np.getPattern() == wildcard ? new NamedPattern(name,
+						inner) : null;
+			ASExpression sub = substitute(np.getPattern(), name, inner,
+					wildcard);
+			return sub == null ? null : new NamedPattern(np.getName(), sub);
+		}
+		if (!(pattern instanceof ListExpression))
+			return null;
+
+		ListExpression list = (ListExpression) pattern;
+		ASExpression[] elts = new ASExpression[list.size()];
+		boolean found = false;
+		for (int lcv = 0; lcv < elts.length; lcv++) {
+			elts[lcv] = list.get(lcv);
+			if (!found && count(elts[lcv], name) > 0) {
+				elts[lcv] = substitute(elts[lcv], name, inner, wildcard);
+				if (elts[lcv] == null)
+					return null;
+				found = true;
+			}
+		}
+		return found ? new ListExpression(elts) : null;
+	}
+}
@@ -0,0 +1,318 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import sexpression.*;
+import verifier.*;
+import verifier.value.*;
+
+/**
+ * Reductions remembered between runs of an incremental verifier.<br>
+ * <br>
+ * While the log is still arriving, most of what a rule can't decide yet is a
+ * quantifier over the unsealed log, waiting for entries that haven't shown
+ * up: it reduces to a quantifier that picks up where it left off. Whenever
+ * evaluating a binding (an AST in an environment) gives a reduction, the memo
+ * records, under the reduced AST and the environment, what the quantifiers in
+ * it were waiting on: the set, the patterns (see MatchFilter) its new
+ * elements would have to match one of, and how far through the set they had
+ * got. When that reduction comes up for evaluation again and none of those
+ * sets has sealed or grown an element that could match, it could only reduce
+ * to itself, so it is carried over without being evaluated.<br>
+ * <br>
+ * The table holds at most a fixed number of entries and drops the least
+ * recently used; a dropped entry only costs evaluating its reduction again.
+ * It is off until an incremental plugin turns it on (see enable(Verifier)):
+ * checking a whole log at once never evaluates a reduction again, and would
+ * only pay for the table's lock on every binding.
+ * 
+ * @author kyle
+ * 
+ */
+public final class Memo {
+
+	/**
+	 * How many reductions incremental verification remembers unless told
+	 * otherwise.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+
+	public static final Memo SINGLETON = new Memo(0);
+
+	/**
+	 * Bindings are compared by identity: a reduction carried over keeps its
+	 * AST and environment objects, and nothing else needs to find it.
+	 */
+	private static final class Key {
+		private final AST _ast;
+		private final ActivationRecord _env;
+
+		Key(AST ast, ActivationRecord env) {
+			_ast = ast;
+			_env = env;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return (o instanceof Key) && ((Key) o)._ast == _ast
+					&& ((Key) o)._env == _env;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(_ast) * 31
+					+ System.identityHashCode(_env);
+		}
+	}
+
+	/**
+	 * What one quantifier that reduced was waiting on.
+	 */
+	private static final class Watch {
+		private final AST _set;
+		private final ActivationRecord _env;
+		private final ASExpression[] _filter;
+		private final int _index;
+
+		Watch(AST set, ActivationRecord env, ASExpression[] filter, int index) {
+			_set = set;
+			_env = env;
+			_filter = filter;
+			_index = index;
+		}
+
+		/**
+		 * @return This method returns true if the quantifier could now come
+		 *         out differently.
+		 */
+		boolean changed() {
+			Value v = _set.eval(_env);
+			if (!(v instanceof SetValue))
+				return true;
+			SetValue set = (SetValue) v;
+			if (set.isSealed())
+				return true;
+			if (set.size() <= _index)
+				return false;
+			if (_filter == null)
+				return true;
+			int[] candidates = set.candidates(_filter, _index);
+			return candidates == null || candidates.length > 0;
+		}
+	}
+
+	/**
+	 * The watches gathered while evaluating one binding.
+	 */
+	private static final class Frame {
+		final ArrayList<Watch> watches = new ArrayList<Watch>();
+		boolean unwatched;
+	}
+
+	private final ThreadLocal<ArrayList<Frame>> _frames = new ThreadLocal<ArrayList<Frame>>() {
+		@Override
+		protected ArrayList<Frame> initialValue() {
+			return new ArrayList<Frame>();
+		}
+	};
+
+	private LinkedHashMap<Key, Watch[]> _table;
+
+	private volatile int _capacity;
+
+	private long _hits;
+
+	private long _misses;
+
+	private Memo(int capacity) {
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Bound the table, forgetting everything in it.
+	 * 
+	 * @param capacity
+	 *            Keep at most this many reductions. 0 turns the memo off.
+	 */
+	public synchronized void setCapacity(final int capacity) {
+		_capacity = capacity;
+		_table = new LinkedHashMap<Key, Watch[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Watch[]> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Turn the memo on for incremental verification, at DEFAULT_CAPACITY
+	 * unless the verifier's "memo" argument says otherwise.
+	 * 
+	 * @param verifier
+	 *            The verifier being run incrementally.
+	 */
+	public static void enable(Verifier verifier) {
+		String capacity = verifier.getArgs().get("memo");
+		SINGLETON.setCapacity(capacity == null ? DEFAULT_CAPACITY : Integer
+				.parseInt(capacity));
+	}
+
+	/**
+	 * Forget every reduction, e.g. when the log is reloaded from scratch.
+	 */
+	public synchronized void clear() {
+		_table.clear();
+		_hits = 0;
+		_misses = 0;
+	}
+
+	/**
+	 * @return This method returns how many reductions are remembered.
+	 */
+	public synchronized int size() {
+		return _table.size();
+	}
+
+	/**
+	 * @return This method returns how many evaluations were skipped.
+	 */
+	public synchronized long getHits() {
+		return _hits;
+	}
+
+	/**
+	 * @return This method returns how many evaluations had to be done.
+	 */
+	public synchronized long getMisses() {
+		return _misses;
+	}
+
+	/**
+	 * Evaluate a binding, unless it is a reduction remembered here whose
+	 * inputs haven't changed.
+	 * 
+	 * @param ast
+	 *            Evaluate this AST...
+	 * @param environment
+	 *            ...in this environment.
+	 * @return This method returns the value, or a reduction to ast itself if
+	 *         it was carried over.
+	 */
+	public Value eval(AST ast, ActivationRecord environment) {
+		if (_capacity == 0)
+			return ast.eval(environment);
+
+		Key key = new Key(ast, environment);
+		Watch[] watches;
+		synchronized (this) {
+			watches = _table.get(key);
+		}
+		if (watches != null && !changed(watches)) {
+			synchronized (this) {
+				_hits++;
+			}
+			Frame parent = current();
+			if (parent != null)
+				for (Watch w : watches)
+					parent.watches.add(w);
+			return new Reduction(ast);
+		}
+
+		ArrayList<Frame> frames = _frames.get();
+		Frame frame = new Frame();
+		frames.add(frame);
+		Value v;
+		try {
+			v = ast.eval(environment);
+		} finally {
+			frames.remove(frames.size() - 1);
+		}
+
+		Frame parent = current();
+		if (parent != null) {
+			parent.watches.addAll(frame.watches);
+			parent.unwatched |= frame.unwatched;
+		}
+
+		synchronized (this) {
+			_misses++;
+			if (watches != null)
+				_table.remove(key);
+			if (v instanceof Reduction && !frame.unwatched
+					&& !frame.watches.isEmpty())
+				_table.put(new Key(((Reduction) v).getAST(), environment),
+						frame.watches.toArray(new Watch[0]));
+		}
+		return v;
+	}
+
+	/**
+	 * Called by a quantifier that reduced: record what it is waiting on in
+	 * the binding being evaluated.
+	 * 
+	 * @param set
+	 *            This is the quantifier's set...
+	 * @param environment
+	 *            ...which is evaluated in this environment.
+	 * @param filter
+	 *            Only elements matching one of these can change the outcome;
+	 *            null if any can.
+	 * @param index
+	 *            Elements before this position have been seen.
+	 */
+	public void watch(AST set, ActivationRecord environment,
+			ASExpression[] filter, int index) {
+		Frame frame = current();
+		if (frame != null)
+			frame.watches.add(new Watch(set, environment, filter, index));
+	}
+
+	/**
+	 * Called by anything that reduces for a reason no watch can capture (an
+	 * explicit red, or work handed to another thread), so that the binding
+	 * being evaluated is never carried over.
+	 */
+	public void unwatched() {
+		Frame frame = current();
+		if (frame != null)
+			frame.unwatched = true;
+	}
+
+	private Frame current() {
+		ArrayList<Frame> frames = _frames.get();
+		return frames.isEmpty() ? null : frames.get(frames.size() - 1);
+	}
+
+	private static boolean changed(Watch[] watches) {
+		for (Watch w : watches)
+			if (w.changed())
+				return true;
+		return false;
+	}
+}
@@ -22,14 +22,11 @@
 
 package verifier.ast;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.net.ServerSocket;
-import java.net.Socket;
 import java.net.SocketException;
 
 import sexpression.*;
-import sexpression.stream.*;
 import verifier.*;
 import verifier.task.*;
 import verifier.value.*;
@@ -57,44 +54,17 @@ public class Node extends AST {
 		}
 	};
 
-	private Pool _pool;
-	private ServerSocket _server;
-
 	private Node() {
 		super(null);
 	}
 
 	@Override
 	public Value eval(ActivationRecord environment) {
-		_pool = new Pool(NUM_THREADS);
-		_pool.start();
 		try {
-			_server = new ServerSocket(PORT);
-			try {
-
-				Socket s = _server.accept();
-				ASEInputStreamReader reader = new ASEInputStreamReader(s
-						.getInputStream());
-				try {
-					while (true) {
-						ASExpression ase = reader.read();
-						Task t = new Task(ase);
-						t.setOutbound(s.getOutputStream());
-						_pool.run(t);
-					}
-				} catch (EOFException e) {}
-				System.err.println();
-
-			} catch (SocketException e) {} catch (IOException e) {
-				throw new RuntimeException(e);
-			} catch (InvalidVerbatimStreamException e) {
-				throw new RuntimeException(e);
-			}
-
-		} catch (IOException e) {
+			new NodeServer(new ServerSocket(PORT), NUM_THREADS).serve();
+		} catch (SocketException e) {} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		_pool.stop();
 		return False.SINGLETON;
 	}
 }
@@ -23,7 +23,10 @@
 package verifier.ast;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import sexpression.*;
 import verifier.*;
@@ -85,6 +88,9 @@ public abstract class Quantifier extends AST {
 	@Override
 	public Value eval(final ActivationRecord environment) {
 		final Value set = _set.eval(environment);
+		final ASExpression[] filter = MatchFilter.find(_name, _body,
+				environment, decides(True.SINGLETON) ? False.SINGLETON
+						: True.SINGLETON);
 
 		final ArrayList<Binding<AST, ActivationRecord>> newUnknowns = new ArrayList<Binding<AST, ActivationRecord>>();
 		final Box<Boolean> box = new Box<Boolean>(false);
@@ -94,9 +100,16 @@ public abstract class Quantifier extends AST {
 
 			@Override
 			public Value forSet(SetValue setvalue) {
-				// construct a list for all computation
-				ArrayList<Binding<AST, ActivationRecord>> total = new ArrayList<Binding<AST, ActivationRecord>>();
+				// construct a list for all computation, skipping elements the
+				// set's indexes rule out
+				final ArrayList<Binding<AST, ActivationRecord>> total = new ArrayList<Binding<AST, ActivationRecord>>();
+				int[] candidates = filter == null ? null : setvalue
+						.candidates(filter, _index);
 				for (int lcv = _index; lcv < setvalue.size(); lcv++) {
+					if (candidates != null)
+						lcv = next(candidates, lcv);
+					if (lcv >= setvalue.size())
+						break;
 					HashMap<String, Value> extension = new HashMap<String, Value>();
 					extension.put(_name, setvalue.get(lcv));
 					total.add(new Binding<AST, ActivationRecord>(_body,
@@ -105,42 +118,109 @@ public abstract class Quantifier extends AST {
 				total.addAll(_unknowns);
 				newIndex.set(setvalue.size());
 
-				// Evaluate all unknowns
+				// Evaluate all unknowns. A future made by lspawn here is seen
+				// by nothing else, so once one of them decides the answer the
+				// rest are cancelled and no more are spawned.
 				Value[] values = new Value[total.size()];
+				final ArrayList<Future> spawned = new ArrayList<Future>();
+				final AtomicReference<Value> decisive = new AtomicReference<Value>();
 				for (int lcv = 0; lcv < total.size(); lcv++) {
+					if (decisive.get() != null)
+						break;
 					Binding<AST, ActivationRecord> binding = total.get(lcv);
-					values[lcv] = binding.var.eval(binding.val);
+					values[lcv] = Memo.SINGLETON.eval(binding.var, binding.val);
+					if (binding.var instanceof LSpawn
+							&& values[lcv] instanceof Future) {
+						final Future f = (Future) values[lcv];
+						synchronized (spawned) {
+							spawned.add(f);
+						}
+						f.whenRealized(new Runnable() {
+
+							public void run() {
+								Value v = f.peek();
+								if (decides(v) && decisive.compareAndSet(null, v))
+									cancel(spawned);
+							}
+						});
+					}
 				}
 
 				// Make the determination
 				for (int lcv = 0; lcv < values.length; lcv++) {
+					if (decisive.get() != null || box.get().booleanValue())
+						break;
 					final int flcv = lcv;
-					values[lcv].execute(new AValueVisitor() {
-
-						@Override
-						public Value forFalse(False f) {
-							forEvalFalse(box);
-							return null;
-						}
-
-						@Override
-						public Value forTrue(True t) {
-							forEvalTrue(box);
-							return null;
-						}
-
-						@Override
-						public Value forReduction(Reduction r) {
-							newUnknowns.add(_unknowns.get(flcv));
-							return null;
-						}
-
-					});
+					try {
+						values[lcv].execute(new AValueVisitor() {
+
+							@Override
+							public Value forFalse(False f) {
+								forEvalFalse(box);
+								return null;
+							}
+
+							@Override
+							public Value forTrue(True t) {
+								forEvalTrue(box);
+								return null;
+							}
+
+							@Override
+							public Value forReduction(Reduction r) {
+								newUnknowns.add(new Binding<AST, ActivationRecord>(
+										r.getAST(), total.get(flcv).val));
+								return null;
+							}
+
+						});
+					} catch (CancellationException e) {
+						if (decisive.get() == null)
+							throw e;
+					}
 				}
+				if (decisive.get() != null)
+					box.set(true);
+				if (box.get().booleanValue())
+					cancel(spawned);
 				return null;
 			}
 		});
 
-		return result(box, set.isSealed(), newUnknowns, newIndex);
+		Value result = result(box, set.isSealed(), newUnknowns, newIndex);
+		if (result instanceof Reduction)
+			Memo.SINGLETON.watch(_set, environment, filter, newIndex.get());
+		return result;
+	}
+
+	/**
+	 * @return This method returns true if v alone decides the quantifier, the
+	 *         way a false decides forall.
+	 */
+	private boolean decides(Value v) {
+		Box<Boolean> probe = new Box<Boolean>(false);
+		if (v instanceof True)
+			forEvalTrue(probe);
+		else if (v instanceof False)
+			forEvalFalse(probe);
+		return probe.get().booleanValue();
+	}
+
+	/**
+	 * @return This method returns the first of candidates at least from, or
+	 *         Integer.MAX_VALUE if there is none.
+	 */
+	private static int next(int[] candidates, int from) {
+		int at = Arrays.binarySearch(candidates, from);
+		if (at < 0)
+			at = -at - 1;
+		return at < candidates.length ? candidates[at] : Integer.MAX_VALUE;
+	}
+
+	private static void cancel(ArrayList<Future> spawned) {
+		synchronized (spawned) {
+			for (Future f : spawned)
+				f.cancel();
+		}
 	}
 }
@@ -56,6 +56,7 @@ public class Red extends AST {
 
 	@Override
 	public Value eval(ActivationRecord environment) {
+		Memo.SINGLETON.unwatched();
 		return new Reduction(_arg);
 	}
 
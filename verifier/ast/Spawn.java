@@ -22,9 +22,6 @@
 
 package verifier.ast;
 
-import java.io.IOException;
-import java.io.OutputStream;
-
 import sexpression.ASExpression;
 import sexpression.ListExpression;
 import verifier.*;
@@ -71,13 +68,8 @@ public class Spawn extends AST {
 	public Value eval(ActivationRecord environment) {
 		Future f = new Future();
 		Future.registerFuture(f);
-		try {
-			OutputStream os = Controller.SINGLETON.getOutbound();
-			os.write(new Task(f, _body, environment).toASE().toVerbatim());
-			os.flush();
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		Memo.SINGLETON.unwatched();
+		Controller.SINGLETON.submit(f, new Task(f, _body, environment));
 		return f;
 	}
 
@@ -0,0 +1,138 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import verifier.*;
+import verifier.value.*;
+import verifier.ast.*;
+
+import sexpression.*;
+
+/**
+ * Evaluate a rule against a set that grows between runs, the way
+ * IncrementalStepVerifier does, and check what the memo carries over.
+ * 
+ * @author kyle
+ * 
+ */
+public class IncrementalTest {
+
+	// Every cast's nonce is unique.
+	private static final String RULE = "(forall x log (let-match cast-fmt x "
+			+ "(let ((mine nonce)) (not (exists y log (let-match cast-fmt y "
+			+ "(and ((= nonce mine) (not (= x y)))) false)))) true))";
+
+	private final ASTParser _parser;
+
+	private SetValue _log;
+
+	private ActivationRecord _env;
+
+	public IncrementalTest() {
+		_parser = new ASTParser(Verifier.getPrimitives(), Constant.FACTORY);
+	}
+
+	@Before
+	public void setup() {
+		Memo.SINGLETON.setCapacity(Memo.DEFAULT_CAPACITY);
+		Memo.SINGLETON.clear();
+		_log = new SetValue(new Expression[0]);
+		_log.addIndex(0);
+		_log.addIndex(1);
+
+		HashMap<String, Value> bindings = new HashMap<String, Value>();
+		bindings.put("log", _log);
+		bindings.put("cast-fmt", new Expression(ASExpression
+				.make("(cast %nonce:#string #any)")));
+		_env = ActivationRecord.END.extend(bindings);
+	}
+
+	@After
+	public void tear() {
+		Memo.SINGLETON.setCapacity(0);
+	}
+
+	private void add(String... elements) {
+		for (String element : elements)
+			_log.add(new Expression(ASExpression.make(element)));
+	}
+
+	private Value again(Value last) {
+		assertTrue(last instanceof Reduction);
+		return ((Reduction) last).getAST().eval(_env);
+	}
+
+	@Test
+	public void carried_over() {
+		Value v = _parser.parse(RULE).eval(_env);
+		assertTrue(v instanceof Reduction);
+
+		add("(cast a 1)", "(cast b 1)", "(other c)");
+		v = again(v);
+		assertTrue(v instanceof Reduction);
+		assertEquals(0, Memo.SINGLETON.getHits());
+
+		// Nothing that could clash with a or b.
+		add("(other d)", "(cast c 1)");
+		v = again(v);
+		assertTrue(v instanceof Reduction);
+		assertEquals(2, Memo.SINGLETON.getHits());
+
+		_log.seal();
+		assertEquals(True.SINGLETON, again(v));
+	}
+
+	@Test
+	public void woken() {
+		Value v = _parser.parse(RULE).eval(_env);
+		add("(cast a 1)", "(cast b 1)");
+		v = again(v);
+		add("(other c)");
+		v = again(v);
+		assertTrue(v instanceof Reduction);
+
+		add("(cast b 2)");
+		assertEquals(False.SINGLETON, again(v));
+	}
+
+	@Test
+	public void off() {
+		Memo.SINGLETON.setCapacity(0);
+		Value v = _parser.parse(RULE).eval(_env);
+		add("(cast a 1)", "(cast b 1)");
+		v = again(v);
+		add("(other c)");
+		v = again(v);
+		assertEquals(0, Memo.SINGLETON.getHits());
+		_log.seal();
+		assertEquals(True.SINGLETON, again(v));
+	}
+}
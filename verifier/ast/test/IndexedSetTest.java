@@ -0,0 +1,167 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.ast.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import verifier.*;
+import verifier.value.*;
+import verifier.ast.*;
+
+import sexpression.*;
+
+/**
+ * Quantifiers and filters over sets with indexes should give the same
+ * answers as over sets without.
+ * 
+ * @author kyle
+ * 
+ */
+public class IndexedSetTest {
+
+	private static final String[] ELEMENTS = { "(msg a (vote 1))",
+			"(msg b (vote 2))", "(msg a (vote 3))", "(msg b (veto 2))",
+			"(other a (vote 2))" };
+
+	private final ASTParser _parser;
+
+	public IndexedSetTest() {
+		_parser = new ASTParser(Verifier.getPrimitives(), Constant.FACTORY);
+	}
+
+	private SetValue set(boolean indexed) {
+		Expression[] elts = new Expression[ELEMENTS.length];
+		for (int lcv = 0; lcv < elts.length; lcv++)
+			elts[lcv] = new Expression(ASExpression.make(ELEMENTS[lcv]));
+		SetValue set = new SetValue(elts);
+		if (indexed) {
+			set.addIndex(0);
+			set.addIndex(1);
+			set.addIndex(2, 0);
+		}
+		set.seal();
+		return set;
+	}
+
+	private Value test(String expression, boolean indexed) {
+		HashMap<String, Value> bindings = new HashMap<String, Value>();
+		bindings.put("all", set(indexed));
+		bindings.put("msg-fmt", new Expression(ASExpression
+				.make("(msg %from:#string %body:#any)")));
+		bindings.put("vote-fmt", new Expression(ASExpression
+				.make("(vote %n:#string)")));
+		return _parser.parse(expression).eval(
+				ActivationRecord.END.extend(bindings));
+	}
+
+	private void same(Value expected, String expression) {
+		assertEquals(expected, test(expression, false));
+		assertEquals(expected, test(expression, true));
+	}
+
+	@Test
+	public void candidates() {
+		SetValue set = set(true);
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, set.candidates(ASExpression
+				.make("(msg #string #any)")));
+		assertArrayEquals(new int[] { 0, 2 }, set.candidates(ASExpression
+				.make("(msg a #any)")));
+		assertArrayEquals(new int[] { 1 }, set.candidates(ASExpression
+				.make("(msg %x:b (vote #string))")));
+		assertArrayEquals(new int[0], set.candidates(ASExpression
+				.make("(msg c #any)")));
+		assertNull(set.candidates(ASExpression.make("(#string #string #any)")));
+		assertNull(set(false).candidates(ASExpression.make("(msg a #any)")));
+	}
+
+	@Test
+	public void growing() {
+		SetValue set = new SetValue(new Expression[0]);
+		set.addIndex(0);
+		set.addIndex(1);
+		assertArrayEquals(new int[0], set.candidates(ASExpression
+				.make("(msg a #any)")));
+		for (String element : ELEMENTS)
+			set.add(new Expression(ASExpression.make(element)));
+
+		assertEquals(ELEMENTS.length, set.size());
+		assertTrue(set.isMember(new Expression(ASExpression
+				.make("(msg b (veto 2))"))));
+		assertArrayEquals(new int[] { 0, 2 }, set.candidates(ASExpression
+				.make("(msg a #any)")));
+		assertArrayEquals(new int[] { 2 }, set.candidates(ASExpression
+				.make("(msg a #any)"), 1));
+		assertArrayEquals(new int[] { 3 }, set.candidates(ASExpression
+				.make("(msg b #any)"), 2));
+		assertArrayEquals(new int[0], set.candidates(ASExpression
+				.make("(msg a #any)"), 3));
+
+		set.seal();
+		try {
+			set.add(new Expression(ASExpression.make("(msg c (vote 4))")));
+			fail("added to a sealed set");
+		} catch (RuntimeException e) {
+		}
+	}
+
+	@Test
+	public void exists() {
+		same(True.SINGLETON,
+				"(exists x all (let-match msg-fmt x (let-match vote-fmt body (= n (quote 2)) false) false))");
+		same(False.SINGLETON,
+				"(exists x all (let-match msg-fmt x (let-match vote-fmt body (= n (quote 4)) false) false))");
+		same(True.SINGLETON,
+				"(exists x all (lspawn (let-match msg-fmt x (let-match vote-fmt body (= from (quote b)) false) false)))");
+		same(False.SINGLETON,
+				"(exists x all (let-match msg-fmt x (let-match vote-fmt body (and ((= n (quote 2)) (= from (quote a)))) false) false))");
+		same(True.SINGLETON,
+				"(exists x all (let-match msg-fmt x (let-match vote-fmt body (and ((= (quote 3) n) (= from (quote a)))) false) false))");
+		// The failure branch decides exists, so nothing can be skipped.
+		same(True.SINGLETON,
+				"(exists x all (let-match msg-fmt x (let-match vote-fmt body false true) false))");
+	}
+
+	@Test
+	public void forall() {
+		same(True.SINGLETON,
+				"(forall x all (let-match msg-fmt x (let-match vote-fmt body (not (= n (quote 4))) true) true))");
+		same(False.SINGLETON,
+				"(forall x all (let-match msg-fmt x (let-match vote-fmt body (= from (quote a)) true) true))");
+		same(False.SINGLETON,
+				"(forall x all (let-match msg-fmt x true false))");
+	}
+
+	@Test
+	public void filter() {
+		assertEquals(3, ((SetValue) test(
+				"(filter all (quote (msg #string (vote #string))))", true))
+				.size());
+		assertEquals(3, ((SetValue) test(
+				"(filter all (quote (msg #string (vote #string))))", false))
+				.size());
+	}
+}
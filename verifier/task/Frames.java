@@ -0,0 +1,108 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.task;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import sexpression.*;
+import sexpression.stream.*;
+
+/**
+ * Tasks and their results go between the controller and its workers as
+ * frames: a four byte big-endian length, then that many bytes of the
+ * expression in verbatim form. A reader knows how much to read before it
+ * parses anything, and a frame that doesn't parse costs only that frame.
+ * 
+ * @author kyle
+ * 
+ */
+public class Frames {
+
+	/**
+	 * No frame is allowed to claim more than this many bytes.
+	 */
+	public static final int MAX_LENGTH = 64 * 1024 * 1024;
+
+	private Frames() {
+	}
+
+	/**
+	 * Write one frame and flush it. Writers on different threads can share a
+	 * stream; each frame goes out whole.
+	 * 
+	 * @param out
+	 *            Write to this stream.
+	 * @param ase
+	 *            Frame this expression.
+	 * @throws IOException
+	 *             This method throws if the stream does.
+	 */
+	public static void write(OutputStream out, ASExpression ase)
+			throws IOException {
+		byte[] verbatim = ase.toVerbatim();
+		byte[] frame = new byte[4 + verbatim.length];
+		ByteBuffer.wrap(frame).putInt(verbatim.length).put(verbatim);
+		synchronized (out) {
+			out.write(frame);
+			out.flush();
+		}
+	}
+
+	/**
+	 * Read one frame.
+	 * 
+	 * @param in
+	 *            Read from this stream.
+	 * @return This method returns the framed expression, or null if the stream
+	 *         ended cleanly between frames.
+	 * @throws IOException
+	 *             This method throws if the stream does, if it ends inside a
+	 *             frame or if the frame doesn't hold one whole expression.
+	 */
+	public static ASExpression read(DataInputStream in) throws IOException {
+		int length;
+		try {
+			length = in.readInt();
+		} catch (EOFException e) {
+			return null;
+		}
+		if (length < 0 || length > MAX_LENGTH)
+			throw new IOException("bad frame length " + length);
+
+		byte[] frame = new byte[length];
+		in.readFully(frame);
+		ByteBuffer buffer = ByteBuffer.wrap(frame);
+		try {
+			ASExpression ase = new ASEBufferReader(buffer).read();
+			if (ase == null || buffer.hasRemaining())
+				throw new IOException("frame doesn't hold one expression");
+			return ase;
+		} catch (InvalidVerbatimStreamException e) {
+			throw new IOException("frame doesn't hold one expression", e);
+		}
+	}
+}
@@ -22,6 +22,8 @@
 
 package verifier.task;
 
+import java.util.concurrent.ForkJoinTask;
+
 import sexpression.*;
 import verifier.*;
 import verifier.ast.*;
@@ -37,6 +39,7 @@ import verifier.value.*;
 public class LocalTask extends Task {
 
 	private final Future _future;
+	private final String _name;
 
 	/**
 	 * @param future
@@ -47,8 +50,48 @@ public class LocalTask extends Task {
 	 *            Evaluate the ast in this environment.
 	 */
 	public LocalTask(Future future, AST ast, ActivationRecord environment) {
+		this(future, ast, environment, "local-task");
+	}
+
+	/**
+	 * @param future
+	 *            Realize this future with the result of the task.
+	 * @param ast
+	 *            Evaluate this ast.
+	 * @param environment
+	 *            Evaluate the ast in this environment.
+	 * @param name
+	 *            Keep statistics for this task under this name.
+	 */
+	public LocalTask(Future future, AST ast, ActivationRecord environment,
+			String name) {
 		super(null, ast, environment);
 		_future = future;
+		_name = name;
+	}
+
+	/**
+	 * @see verifier.task.Task#getName()
+	 */
+	@Override
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * @see verifier.task.Task#scheduled(java.util.concurrent.ForkJoinTask)
+	 */
+	@Override
+	public void scheduled(ForkJoinTask<?> job) {
+		_future.setJob(job);
+	}
+
+	/**
+	 * @see verifier.task.Task#fail(java.lang.RuntimeException)
+	 */
+	@Override
+	public void fail(RuntimeException e) {
+		_future.fail(e);
 	}
 
 	/**
@@ -0,0 +1,124 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.task;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import sexpression.*;
+
+/**
+ * The worker end of distributed verification. A node server takes one
+ * controller connection, runs the tasks framed on it in a pool and frames
+ * each result back, until the controller hangs up. The node primitive runs
+ * one of these on its port; loopback workers run one in the controller's own
+ * process.
+ * 
+ * @author kyle
+ * 
+ */
+public class NodeServer {
+
+	private final ServerSocket _server;
+	private final int _threads;
+	private volatile Socket _socket;
+
+	/**
+	 * @param server
+	 *            Take the controller's connection on this socket.
+	 * @param threads
+	 *            Run this many tasks at a time.
+	 */
+	public NodeServer(ServerSocket server, int threads) {
+		_server = server;
+		_threads = threads;
+	}
+
+	/**
+	 * @return This method returns the port the server listens on.
+	 */
+	public int getPort() {
+		return _server.getLocalPort();
+	}
+
+	/**
+	 * Take one controller connection and serve it until it closes. The server
+	 * socket is closed when this returns.
+	 * 
+	 * @throws IOException
+	 *             This method throws if the connection breaks in a way other
+	 *             than the controller hanging up.
+	 */
+	public void serve() throws IOException {
+		Pool pool = new Pool(_threads);
+		Socket socket = null;
+		try {
+			socket = _server.accept();
+			_socket = socket;
+			DataInputStream in = new DataInputStream(new BufferedInputStream(
+					socket.getInputStream()));
+			OutputStream out = new BufferedOutputStream(socket
+					.getOutputStream());
+
+			ASExpression ase;
+			while ((ase = Frames.read(in)) != null) {
+				Task t;
+				try {
+					t = new Task(ase);
+				} catch (RuntimeException e) {
+					// Only this task is bad; the connection is fine.
+					if (ase instanceof ListExpression
+							&& ((ListExpression) ase).size() > 0)
+						Task.writeFailure(out, ((ListExpression) ase).get(0)
+								.toString(), e);
+					continue;
+				}
+				t.setOutbound(out);
+				pool.run(t);
+			}
+		} finally {
+			pool.stop();
+			if (socket != null)
+				socket.close();
+			_server.close();
+		}
+	}
+
+	/**
+	 * Stop serving. A serve in progress ends with an exception.
+	 */
+	public void close() {
+		try {
+			_server.close();
+			Socket socket = _socket;
+			if (socket != null)
+				socket.close();
+		} catch (IOException e) {
+		}
+	}
+}
@@ -22,105 +22,144 @@
 
 package verifier.task;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Use a job pool to compute a task in parallel. The parallelism comes from
  * tasks which are dependent on any task given. (Any dependent tasks can be
- * computed in parallel.)
+ * computed in parallel.)<br>
+ * <br>
+ * Tasks run on a work-stealing ForkJoinPool. A worker that waits on a
+ * future whose task hasn't started yet runs that task itself, and a worker
+ * that has to wait anyway is replaced while it waits, so tasks that spawn and
+ * wait on other tasks don't starve the pool. A task that throws only fails
+ * that task; the pool keeps going.
  * 
  * @author kyle
  * 
  */
 public class Pool {
 
-	private final int _threads;
-	private final Queue<Task> _ready;
-	private volatile boolean _running = false;
+	private int _threads;
+	private volatile ForkJoinPool _pool;
+	private final TaskStatistics _statistics = new TaskStatistics();
+
+	/**
+	 * Use one thread per processor.
+	 */
+	public Pool() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
 
 	/**
 	 * @param threads
 	 *            Use this number of threads in parallel to execute tasks.
 	 */
 	public Pool(int threads) {
+		setThreads(threads);
+	}
+
+	/**
+	 * @param threads
+	 *            Use this number of threads the next time the pool starts.
+	 */
+	public synchronized void setThreads(int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("A pool needs at least one thread");
 		_threads = threads;
-		_ready = new LinkedList<Task>();
 	}
 
 	/**
 	 * Start the threads.
 	 */
 	public synchronized void start() {
-		if (_running)
+		if (_pool != null)
 			return;
-		_running = true;
-		for (int lcv = 0; lcv < _threads; lcv++) {
-			new Thread(new Runnable() {
-
-				public void run() {
-					try {
-						thread();
-					} catch (Exception e) {
-						e.printStackTrace();
-						System.exit(1);
-					}
-				}
-			}).start();
-		}
+		_pool = new ForkJoinPool(_threads);
 	}
 
 	/**
-	 * Stop the threads.
+	 * Stop the threads. Tasks already scheduled still run; new ones start the
+	 * pool again.
 	 */
 	public synchronized void stop() {
-		_running = false;
-		notifyAll();
+		if (_pool == null)
+			return;
+		_pool.shutdown();
+		_pool = null;
 	}
 
 	/**
 	 * @param task
-	 *            Schedule this task to run.
+	 *            Schedule this task to run. This starts the pool if it isn't
+	 *            running.
 	 */
-	public synchronized void run(Task task) {
-		_ready.add(task);
-		notify();
+	public void run(Task task) {
+		ForkJoinPool pool;
+		synchronized (this) {
+			start();
+			pool = _pool;
+		}
+
+		Job job = new Job(task, _statistics.get(task.getName()));
+		task.scheduled(job);
+		pool.execute(job);
 	}
 
 	/**
-	 * Dequeue a task. If no task is available, this call will block until one
-	 * becomes available.
-	 * 
-	 * @return This method returns the dequeued task.
+	 * @return This method returns true if the pool is running
 	 */
-	public synchronized Task getJob() {
-		while (_running && _ready.size() == 0)
-			try {
-				wait();
-			} catch (InterruptedException e) {
-				throw new RuntimeException(e);
-			}
-		return _ready.poll();
-
+	public boolean running() {
+		return _pool != null;
 	}
 
 	/**
-	 * @return This method returns true if the pool is running
+	 * @return This method returns the counts and times of the tasks run by
+	 *         this pool so far, by task name.
 	 */
-	public boolean running() {
-		return _running;
+	public TaskStatistics getStatistics() {
+		return _statistics;
 	}
 
-	private void thread() {
-		while (_running) {
-			Task job = getJob();
-			if (job != null)
-				try {
-					job.run();
-				} catch (RuntimeException e) {
-					stop();
-				}
+	/**
+	 * A scheduled task, with what it needs to record its own statistics.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Job extends RecursiveAction {
+
+		private final Task _task;
+		private final TaskStatistics.Entry _entry;
+		private final long _scheduled;
+
+		Job(Task task, TaskStatistics.Entry entry) {
+			_task = task;
+			_entry = entry;
+			_scheduled = System.nanoTime();
+			entry.scheduled();
+		}
+
+		@Override
+		protected void compute() {
+			long start = System.nanoTime();
+			try {
+				_task.run();
+				_entry.completed(start - _scheduled, System.nanoTime() - start);
+			} catch (RuntimeException e) {
+				_entry.failed(start - _scheduled, System.nanoTime() - start);
+				_task.fail(e);
+			}
+		}
 
+		/**
+		 * @see java.util.concurrent.ForkJoinTask#cancel(boolean)
+		 */
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled)
+				_entry.cancelled();
+			return cancelled;
 		}
 	}
 }
@@ -24,6 +24,7 @@ package verifier.task;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.ForkJoinTask;
 
 import sexpression.*;
 import verifier.*;
@@ -40,6 +41,13 @@ import verifier.ast.*;
  */
 public class Task {
 
+	/**
+	 * A result frame of the form (future failed message) means the task threw
+	 * instead of giving a value.
+	 */
+	public static final StringExpression FAILED = StringExpression
+			.makeString("failed");
+
 	public final Long _future;
 	protected final AST _ast;
 	protected final ActivationRecord _environment;
@@ -95,12 +103,65 @@ public class Task {
 				_environment.toASE());
 	}
 
+	/**
+	 * @return This method returns the name the pool keeps statistics for this
+	 *         task under.
+	 */
+	public String getName() {
+		return "task";
+	}
+
+	/**
+	 * The pool calls this just before the task is queued.
+	 * 
+	 * @param job
+	 *            This is what the pool will run. Cancelling it before it
+	 *            starts keeps the task from running.
+	 */
+	public void scheduled(ForkJoinTask<?> job) {
+	}
+
+	/**
+	 * The pool calls this instead of stopping when run throws. The controller
+	 * is told, so the future doesn't wait forever, and reports the failure
+	 * when the future is read.
+	 * 
+	 * @param e
+	 *            This is what run threw.
+	 */
+	public void fail(RuntimeException e) {
+		if (_outbound != null)
+			writeFailure(_outbound, Long.toString(_future), e);
+		else
+			System.err.println("Verification task for future " + _future
+					+ " failed with no controller to tell: " + e);
+	}
+
+	/**
+	 * Tell the controller that a task failed.
+	 * 
+	 * @param out
+	 *            Write the failure to this stream.
+	 * @param future
+	 *            This is the ID of the task's future.
+	 * @param e
+	 *            This is why it failed.
+	 */
+	public static void writeFailure(OutputStream out, String future,
+			RuntimeException e) {
+		try {
+			Frames.write(out, new ListExpression(StringExpression
+					.make(future), FAILED, StringExpression.make(String
+					.valueOf(e))));
+		} catch (IOException ioe) {
+		}
+	}
+
 	public void run() {
 		Value v = _ast.eval(_environment);
 		try {
-			_outbound.write(new ListExpression(StringExpression.make(Long
-					.toString(_future)), v.toASE()).toVerbatim());
-			_outbound.flush();
+			Frames.write(_outbound, new ListExpression(StringExpression
+					.make(Long.toString(_future)), v.toASE()));
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
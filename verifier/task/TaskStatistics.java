@@ -0,0 +1,189 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts and times the tasks a pool runs, kept separately for each task name.
+ * For lspawn the name is the start of the spawned expression, which is
+ * usually enough to tell which rule it belongs to.
+ * 
+ * @author kyle
+ * 
+ */
+public class TaskStatistics {
+
+	/**
+	 * The counts and times for one name. Times are in nanoseconds.
+	 */
+	public static final class Entry {
+		private final AtomicLong _scheduled = new AtomicLong();
+		private final AtomicLong _completed = new AtomicLong();
+		private final AtomicLong _failed = new AtomicLong();
+		private final AtomicLong _cancelled = new AtomicLong();
+		private final AtomicLong _waitTime = new AtomicLong();
+		private final AtomicLong _runTime = new AtomicLong();
+		private final AtomicLong _maxRunTime = new AtomicLong();
+
+		void scheduled() {
+			_scheduled.incrementAndGet();
+		}
+
+		void completed(long wait, long run) {
+			_completed.incrementAndGet();
+			ran(wait, run);
+		}
+
+		void failed(long wait, long run) {
+			_failed.incrementAndGet();
+			ran(wait, run);
+		}
+
+		void cancelled() {
+			_cancelled.incrementAndGet();
+		}
+
+		private void ran(long wait, long run) {
+			_waitTime.addAndGet(wait);
+			_runTime.addAndGet(run);
+			long max = _maxRunTime.get();
+			while (run > max && !_maxRunTime.compareAndSet(max, run))
+				max = _maxRunTime.get();
+		}
+
+		/**
+		 * @return This method returns the number of tasks scheduled.
+		 */
+		public long getScheduled() {
+			return _scheduled.get();
+		}
+
+		/**
+		 * @return This method returns the number of tasks that ran to the end.
+		 */
+		public long getCompleted() {
+			return _completed.get();
+		}
+
+		/**
+		 * @return This method returns the number of tasks that threw.
+		 */
+		public long getFailed() {
+			return _failed.get();
+		}
+
+		/**
+		 * @return This method returns the number of tasks cancelled before
+		 *         they started.
+		 */
+		public long getCancelled() {
+			return _cancelled.get();
+		}
+
+		/**
+		 * @return This method returns the total time tasks spent between being
+		 *         scheduled and starting.
+		 */
+		public long getWaitTime() {
+			return _waitTime.get();
+		}
+
+		/**
+		 * @return This method returns the total time tasks spent running.
+		 */
+		public long getRunTime() {
+			return _runTime.get();
+		}
+
+		/**
+		 * @return This method returns the longest any one task ran.
+		 */
+		public long getMaxRunTime() {
+			return _maxRunTime.get();
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			long ran = getCompleted() + getFailed();
+			return "scheduled=" + getScheduled() + " completed="
+					+ getCompleted() + " failed=" + getFailed()
+					+ " cancelled=" + getCancelled() + " mean-wait-ms="
+					+ (ran == 0 ? 0 : getWaitTime() / ran / 1000000)
+					+ " mean-run-ms="
+					+ (ran == 0 ? 0 : getRunTime() / ran / 1000000)
+					+ " max-run-ms=" + getMaxRunTime() / 1000000;
+		}
+	}
+
+	private final ConcurrentHashMap<String, Entry> _entries = new ConcurrentHashMap<String, Entry>();
+
+	/**
+	 * @param name
+	 *            Get the entry for tasks with this name.
+	 * @return This method returns the entry, making it if there isn't one yet.
+	 */
+	public Entry get(String name) {
+		Entry entry = _entries.get(name);
+		if (entry == null) {
+			Entry made = new Entry();
+			entry = _entries.putIfAbsent(name, made);
+			if (entry == null)
+				entry = made;
+		}
+		return entry;
+	}
+
+	/**
+	 * @return This method returns the names that have entries, sorted.
+	 */
+	public ArrayList<String> getNames() {
+		ArrayList<String> names = new ArrayList<String>(_entries.keySet());
+		Collections.sort(names);
+		return names;
+	}
+
+	/**
+	 * Forget every entry.
+	 */
+	public void clear() {
+		_entries.clear();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (String name : getNames())
+			sb.append(name).append(": ").append(_entries.get(name)).append('\n');
+		return sb.toString();
+	}
+}
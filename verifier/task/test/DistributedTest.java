@@ -0,0 +1,126 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.task.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+import verifier.*;
+import verifier.ast.*;
+import verifier.value.*;
+
+public class DistributedTest {
+
+	private static final AValueVisitor TRUTH = new AValueVisitor() {
+
+		@Override
+		public Value forTrue(True t) {
+			return t;
+		}
+
+		@Override
+		public Value forFalse(False f) {
+			return f;
+		}
+	};
+
+	private final ASTParser _parser = new ASTParser(Verifier.getPrimitives(),
+			Constant.FACTORY);
+
+	private Value test(String expression) {
+		return _parser.parse(expression).eval(ActivationRecord.END);
+	}
+
+	@After
+	public void stop() {
+		Controller.SINGLETON.stop();
+	}
+
+	@Test
+	public void loopback_quantifiers() {
+		Controller.SINGLETON.setWorkers(Arrays.asList(Controller.LOOPBACK,
+				Controller.LOOPBACK));
+
+		assertEquals(True.SINGLETON,
+				test("(forall x (list->set (quote (1 1 1 1 1))) (spawn (= x (quote 1))))"));
+		assertEquals(False.SINGLETON,
+				test("(forall x (list->set (quote (1 2 3))) (spawn (= x (quote 1))))"));
+		assertEquals(True.SINGLETON,
+				test("(exists x (list->set (quote (1 2 3))) (spawn (= x (quote 3))))"));
+		assertEquals(2, Controller.SINGLETON.liveWorkers());
+	}
+
+	@Test
+	public void dead_worker_tasks_are_reassigned() throws Exception {
+		// A worker that hangs up as soon as the controller connects.
+		final ServerSocket dying = new ServerSocket(0, 1, InetAddress
+				.getLoopbackAddress());
+		Thread t = new Thread(new Runnable() {
+
+			public void run() {
+				try {
+					Socket s = dying.accept();
+					Thread.sleep(200);
+					s.close();
+					dying.close();
+				} catch (Exception e) {
+				}
+			}
+		});
+		t.start();
+
+		Controller.SINGLETON.setWorkers(Arrays.asList("127.0.0.1:"
+				+ dying.getLocalPort(), Controller.LOOPBACK));
+
+		ArrayList<Future> futures = new ArrayList<Future>();
+		for (int lcv = 0; lcv < 10; lcv++)
+			futures.add((Future) test("(spawn (= (quote 1) (quote 1)))"));
+		for (Future f : futures)
+			assertEquals(True.SINGLETON, f.execute(TRUTH));
+		t.join();
+		assertEquals(1, Controller.SINGLETON.liveWorkers());
+	}
+
+	@Test
+	public void no_workers() throws IOException {
+		ServerSocket closed = new ServerSocket(0);
+		int port = closed.getLocalPort();
+		closed.close();
+		Controller.SINGLETON.setWorkers(Arrays.asList("127.0.0.1:" + port));
+
+		try {
+			((Future) test("(spawn true)")).execute(TRUTH);
+			fail("nothing should have run the task");
+		} catch (RuntimeException e) {
+		}
+	}
+}
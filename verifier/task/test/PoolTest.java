@@ -0,0 +1,166 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.task.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import verifier.*;
+import verifier.ast.*;
+import verifier.task.*;
+import verifier.value.*;
+
+public class PoolTest {
+
+	private static final AValueVisitor TRUTH = new AValueVisitor() {
+
+		@Override
+		public Value forTrue(True t) {
+			return t;
+		}
+
+		@Override
+		public Value forFalse(False f) {
+			return f;
+		}
+	};
+
+	private final ASTParser _parser = new ASTParser(Verifier.getPrimitives(),
+			Constant.FACTORY);
+
+	private Value test(String expression) {
+		return _parser.parse(expression).eval(ActivationRecord.END);
+	}
+
+	/**
+	 * An AST that waits for a latch, then evaluates to true.
+	 */
+	private static AST waitFor(final CountDownLatch latch) {
+		return new AST(null) {
+
+			@Override
+			public Value eval(ActivationRecord environment) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				return True.SINGLETON;
+			}
+		};
+	}
+
+	@Test
+	public void lspawn_quantifiers() {
+		assertEquals(True.SINGLETON,
+				test("(forall x (list->set (quote (1 1 1))) (lspawn (= x (quote 1))))"));
+		assertEquals(False.SINGLETON,
+				test("(forall x (list->set (quote (1 2 3))) (lspawn (= x (quote 1))))"));
+		assertEquals(True.SINGLETON,
+				test("(exists x (list->set (quote (1 2 3))) (lspawn (= x (quote 3))))"));
+		assertEquals(False.SINGLETON,
+				test("(exists x (list->set (quote (1 2 3))) (lspawn (= x (quote 4))))"));
+		LSpawn.POOL.stop();
+	}
+
+	@Test
+	public void failure_keeps_pool_running() {
+		Pool pool = new Pool(1);
+		Future failed = new Future();
+		pool.run(new LocalTask(failed, new AST(null) {
+
+			@Override
+			public Value eval(ActivationRecord environment) {
+				throw new IllegalStateException("boom");
+			}
+		}, ActivationRecord.END, "fails"));
+
+		try {
+			failed.execute(TRUTH);
+			fail("a failed future should throw");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+
+		Future ok = new Future();
+		pool.run(new LocalTask(ok, _parser.parse("true"), ActivationRecord.END,
+				"works"));
+		assertEquals(True.SINGLETON, ok.execute(TRUTH));
+
+		assertEquals(1, pool.getStatistics().get("fails").getFailed());
+		assertEquals(1, pool.getStatistics().get("works").getCompleted());
+		pool.stop();
+	}
+
+	@Test
+	public void cancel_before_start() {
+		Pool pool = new Pool(1);
+		CountDownLatch latch = new CountDownLatch(1);
+		Future first = new Future();
+		Future second = new Future();
+		pool.run(new LocalTask(first, waitFor(latch), ActivationRecord.END,
+				"first"));
+		pool.run(new LocalTask(second, _parser.parse("true"),
+				ActivationRecord.END, "second"));
+
+		assertTrue(second.cancel());
+		assertTrue(second.isRealized());
+		latch.countDown();
+		assertEquals(True.SINGLETON, first.execute(TRUTH));
+
+		try {
+			second.execute(TRUTH);
+			fail("a cancelled future should throw");
+		} catch (CancellationException e) {
+		}
+		assertFalse(first.cancel());
+		assertEquals(1, pool.getStatistics().get("second").getCancelled());
+		assertEquals(0, pool.getStatistics().get("second").getCompleted());
+		pool.stop();
+	}
+
+	@Test
+	public void when_realized() {
+		final AtomicInteger calls = new AtomicInteger();
+		Runnable count = new Runnable() {
+
+			public void run() {
+				calls.incrementAndGet();
+			}
+		};
+
+		Future f = new Future();
+		f.whenRealized(count);
+		assertEquals(0, calls.get());
+		f.realize(True.SINGLETON);
+		assertEquals(1, calls.get());
+		f.whenRealized(count);
+		assertEquals(2, calls.get());
+		assertSame(True.SINGLETON, f.peek());
+	}
+}
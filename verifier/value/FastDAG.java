@@ -31,6 +31,8 @@ import java.util.*;
  * Note that this fails if the input data can not be divided into a number of
  * intersecting, totally-ordered timelines.
  * 
+ * When given a ReachabilityIndex, precedes is answered from its vector clocks
+ * instead and the search structures below are never built.
  */
 public class FastDAG extends DAGValue {
 	private boolean _useCache = false;
@@ -107,18 +109,36 @@ public class FastDAG extends DAGValue {
 	// / mapping of ptr-->(listof predecessor ptrs)
 	private final Map<Expression, List<Expression>> _predecessors;
 
+	// / precomputed vector clocks, or null to search
+	private final ReachabilityIndex _index;
+
 	public void enableCache() { _useCache = true; }
 	public void disableCache() { _useCache = false; }
 
 	public FastDAG(Map<Expression, Expression> messageToPtrMap,
 			Map<Expression, List<Expression>> predecessors,
 			Map<String, Map<Integer, Expression>> hostTimelines)
+	{
+		this(messageToPtrMap, predecessors, hostTimelines, null);
+	}
+
+	public FastDAG(Map<Expression, Expression> messageToPtrMap,
+			Map<Expression, List<Expression>> predecessors,
+			Map<String, Map<Integer, Expression>> hostTimelines,
+			ReachabilityIndex index)
 	{
 		_messageToPtr = messageToPtrMap;
 		_predecessors = predecessors;
 		_timelines = hostTimelines;
+		_index = index;
 		_projections = new HashMap<Expression, MessageProjection>();
 
+		if (_index != null) {
+			_ptrToHost = null;
+			_cache = null;
+			return;
+		}
+
 		// create the inverted index
 		/*
 		 * _ptrToMessage = new HashMap<Expression, Expression>(); for
@@ -151,10 +171,14 @@ public class FastDAG extends DAGValue {
 	 *            Compute if this expression precedes r.
 	 * @param rightMessage
 	 *            Compute if l precedes this expression.
-	 * @return This method returns true in O(1) if it results in a cache hit.
+	 * @return This method returns true in O(1) if it results in a cache hit,
+	 *         or always when there is an index.
 	 * @throws IncorrectFormatException
 	 */
 	public boolean precedes(Expression leftMessage, Expression rightMessage) {
+		if (_index != null)
+			return _index.precedes(leftMessage, rightMessage);
+
 		Expression finish = _messageToPtr.get(leftMessage);
 		Expression start = _messageToPtr.get(rightMessage);
 
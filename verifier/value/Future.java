@@ -23,14 +23,23 @@
 package verifier.value;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import sexpression.*;
 
 /**
  * A future represents a value being computed in parallel by another worker
  * thread. If a future's visitor execute method is called before this value is
- * computed, the calling thread will block until the value is realized.
+ * computed, the calling thread will block until the value is realized.<br>
+ * <br>
+ * A future made by lspawn knows the pool job computing it. Waiting on it from
+ * a pool thread runs the job right there if it hasn't started, and otherwise
+ * lets the pool add a thread while this one waits. Code that doesn't want to
+ * wait at all can ask to be called back when the value is realized instead.
  * 
  * @author derrley
  * 
@@ -72,13 +81,19 @@ public class Future extends Value {
 
 	public Future() {
 		super(true);
-		_id = ID;
-		ID++;
+		synchronized (Future.class) {
+			_id = ID;
+			ID++;
+		}
 	}
 
 	public final long _id;
 
+	private volatile boolean _done;
 	private Value _value;
+	private RuntimeException _failure;
+	private ForkJoinTask<?> _job;
+	private ArrayList<Runnable> _callbacks;
 
 	/**
 	 * Realize the value for this future.
@@ -86,23 +101,144 @@ public class Future extends Value {
 	 * @param v
 	 *            Make the target future represent this value.
 	 */
-	public synchronized void realize(Value v) {
-		_value = v;
-		notifyAll();
+	public void realize(Value v) {
+		complete(v, null);
+	}
+
+	/**
+	 * Realize this future with a failure instead of a value.
+	 * 
+	 * @param e
+	 *            Anyone who executes this future gets this, wrapped.
+	 */
+	public void fail(RuntimeException e) {
+		complete(null, e);
+	}
+
+	/**
+	 * @param job
+	 *            This is the pool job that will realize this future.
+	 */
+	public synchronized void setJob(ForkJoinTask<?> job) {
+		_job = job;
+	}
+
+	/**
+	 * Keep the job computing this future from starting, if it hasn't yet. A
+	 * cancelled future throws CancellationException when executed, so only
+	 * cancel futures nothing else is going to look at.
+	 * 
+	 * @return This method returns true if the job won't run.
+	 */
+	public boolean cancel() {
+		ForkJoinTask<?> job;
+		synchronized (this) {
+			if (_done)
+				return false;
+			job = _job;
+		}
+		if (job == null || !job.cancel(false))
+			return false;
+		fail(new CancellationException("future " + _id + " was cancelled"));
+		return true;
+	}
+
+	/**
+	 * @return This method returns true if this future has been realized,
+	 *         failed or cancelled.
+	 */
+	public boolean isRealized() {
+		return _done;
+	}
+
+	/**
+	 * @return This method returns the value this future was realized with, or
+	 *         null if it hasn't been or it failed. It never waits.
+	 */
+	public synchronized Value peek() {
+		return _value;
+	}
+
+	/**
+	 * Run something once this future is realized, without waiting for it.
+	 * 
+	 * @param callback
+	 *            Run this on the thread that realizes the future, or right
+	 *            away on this thread if it already has been.
+	 */
+	public void whenRealized(Runnable callback) {
+		synchronized (this) {
+			if (!_done) {
+				if (_callbacks == null)
+					_callbacks = new ArrayList<Runnable>();
+				_callbacks.add(callback);
+				return;
+			}
+		}
+		callback.run();
+	}
+
+	private void complete(Value v, RuntimeException e) {
+		ArrayList<Runnable> callbacks;
+		synchronized (this) {
+			if (_done)
+				return;
+			_value = v;
+			_failure = e;
+			_done = true;
+			callbacks = _callbacks;
+			_callbacks = null;
+			notifyAll();
+		}
+		if (callbacks != null)
+			for (Runnable r : callbacks)
+				r.run();
 	}
 
 	/**
 	 * @see verifier.value.Value#execute(verifier.value.IValueVisitor)
 	 */
 	@Override
-	public synchronized Value execute(IValueVisitor visitor) {
-		while (_value == null)
-			try {
-				wait();
-			} catch (InterruptedException e) {
-				throw new RuntimeException(e);
-			}
-		return _value.execute(visitor);
+	public Value execute(IValueVisitor visitor) {
+		await();
+		synchronized (this) {
+			if (_failure instanceof CancellationException)
+				throw new CancellationException(_failure.getMessage());
+			if (_failure != null)
+				throw new RuntimeException(_failure);
+		}
+		return peek().execute(visitor);
+	}
+
+	private void await() {
+		if (_done)
+			return;
+
+		ForkJoinTask<?> job;
+		synchronized (this) {
+			job = _job;
+		}
+		if (job != null)
+			job.quietlyJoin();
+
+		try {
+			ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+				public boolean block() throws InterruptedException {
+					synchronized (Future.this) {
+						while (!_done)
+							Future.this.wait();
+					}
+					return true;
+				}
+
+				public boolean isReleasable() {
+					return _done;
+				}
+			});
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
 	}
 
 	/**
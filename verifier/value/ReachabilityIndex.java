@@ -0,0 +1,274 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.value;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reachability index for a DAG whose messages fall on a number of
+ * intersecting, totally-ordered host timelines (the same assumption FastDAG
+ * makes). Each host timeline is one chain of the decomposition, so the index
+ * is a vector clock per message: entry h of a message's clock is one more than
+ * the highest sequence number on host h that the message follows (0 if it
+ * follows nothing there). Whether l precedes r is then a single array lookup.
+ * 
+ * The index is built as messages are added. A predecessor that has not been
+ * added yet only contributes its own position; when it does arrive, its clock
+ * is pushed forward into everything already added that succeeds it.
+ */
+public class ReachabilityIndex {
+
+	// / ptr --> id, for every pointer seen as a message or as a predecessor
+	private final HashMap<Expression, Integer> _ids;
+
+	// / message --> id, for the messages that have been added
+	private final HashMap<Expression, Integer> _messages;
+
+	// / host --> index into the clocks
+	private final HashMap<String, Integer> _hosts;
+
+	private int _size;
+
+	// / id --> host index
+	private int[] _host;
+
+	// / id --> sequence number on its host
+	private int[] _seq;
+
+	// / id --> vector clock, or null if the id has not been added
+	private int[][] _clocks;
+
+	// / id --> ids that list it as a predecessor (the first _succCount[id])
+	private int[][] _succ;
+	private int[] _succCount;
+
+	public ReachabilityIndex() {
+		_ids = new HashMap<Expression, Integer>();
+		_messages = new HashMap<Expression, Integer>();
+		_hosts = new HashMap<String, Integer>();
+		_host = new int[64];
+		_seq = new int[64];
+		_clocks = new int[64][];
+		_succ = new int[64][];
+		_succCount = new int[64];
+	}
+
+	/**
+	 * Look up the id of a message pointer, assigning a new one if it has not
+	 * been seen before.
+	 * 
+	 * @param ptr
+	 *            The message pointer.
+	 * @param host
+	 *            The host the message was sent from.
+	 * @param seq
+	 *            The message's sequence number on that host.
+	 * @return This method returns the id of the pointer.
+	 */
+	public int declare(Expression ptr, String host, int seq) {
+		Integer id = _ids.get( ptr );
+		if (id != null)
+			return id;
+
+		if (_size == _host.length) {
+			int capacity = _size * 2;
+			int[] host2 = new int[capacity];
+			int[] seq2 = new int[capacity];
+			int[][] clocks2 = new int[capacity][];
+			int[][] succ2 = new int[capacity][];
+			int[] succCount2 = new int[capacity];
+			System.arraycopy( _host, 0, host2, 0, _size );
+			System.arraycopy( _seq, 0, seq2, 0, _size );
+			System.arraycopy( _clocks, 0, clocks2, 0, _size );
+			System.arraycopy( _succ, 0, succ2, 0, _size );
+			System.arraycopy( _succCount, 0, succCount2, 0, _size );
+			_host = host2;
+			_seq = seq2;
+			_clocks = clocks2;
+			_succ = succ2;
+			_succCount = succCount2;
+		}
+
+		Integer h = _hosts.get( host );
+		if (h == null) {
+			h = _hosts.size();
+			_hosts.put( host, h );
+		}
+
+		_host[_size] = h;
+		_seq[_size] = seq;
+		_ids.put( ptr, _size );
+		return _size++;
+	}
+
+	/**
+	 * Add a message to the index.
+	 * 
+	 * @param message
+	 *            The message, as it will be passed to precedes.
+	 * @param ptr
+	 *            Its pointer.
+	 * @param host
+	 *            The host it was sent from.
+	 * @param seq
+	 *            Its sequence number on that host.
+	 * @param preds
+	 *            The ids (see declare) of the messages it directly succeeds.
+	 */
+	public void add(Expression message, Expression ptr, String host, int seq,
+			int[] preds) {
+		int id = declare( ptr, host, seq );
+		_messages.put( message, id );
+		if (_clocks[id] != null)
+			return;
+
+		int[] clock = new int[_hosts.size()];
+		for (int p : preds) {
+			addSuccessor( p, id );
+			if (_clocks[p] != null)
+				clock = join( clock, _clocks[p] );
+			else
+				clock = join( clock, _host[p], _seq[p] );
+		}
+		clock = join( clock, _host[id], _seq[id] );
+		_clocks[id] = clock;
+
+		if (_succCount[id] > 0)
+			propagate( id );
+	}
+
+	/**
+	 * @param leftMessage
+	 *            Compute if this message precedes r.
+	 * @param rightMessage
+	 *            Compute if l precedes this message.
+	 * @return This method returns true if rightMessage follows leftMessage,
+	 *         either on the same host or through a chain of predecessors.
+	 *         Messages that have not been added precede nothing and are
+	 *         preceded by nothing.
+	 */
+	public boolean precedes(Expression leftMessage, Expression rightMessage) {
+		Integer left = _messages.get( leftMessage );
+		Integer right = _messages.get( rightMessage );
+		if (left == null || right == null || left.intValue() == right.intValue())
+			return false;
+
+		int[] clock = _clocks[right];
+		int host = _host[left];
+		return host < clock.length && clock[host] > _seq[left];
+	}
+
+	/**
+	 * @return This method returns the number of messages added.
+	 */
+	public int size() {
+		return _messages.size();
+	}
+
+	private void addSuccessor(int pred, int succ) {
+		int[] list = _succ[pred];
+		int count = _succCount[pred];
+		if (list == null)
+			list = _succ[pred] = new int[4];
+		else if (count == list.length) {
+			int[] list2 = new int[count * 2];
+			System.arraycopy( list, 0, list2, 0, count );
+			list = _succ[pred] = list2;
+		}
+		list[count] = succ;
+		_succCount[pred] = count + 1;
+	}
+
+	/**
+	 * A message's clock grew (or it was just added after some of its
+	 * successors), so fold it into every successor that has been added, and so
+	 * on outwards until nothing changes.
+	 */
+	private void propagate(int from) {
+		int[] work = new int[16];
+		int top = 0;
+		work[top++] = from;
+		while (top > 0) {
+			int id = work[--top];
+			int[] clock = _clocks[id];
+			for (int i = 0; i < _succCount[id]; i++) {
+				int succ = _succ[id][i];
+				int[] old = _clocks[succ];
+				if (old == null || !ahead( clock, old ))
+					continue;
+				_clocks[succ] = join( old, clock );
+				if (top == work.length) {
+					int[] work2 = new int[top * 2];
+					System.arraycopy( work, 0, work2, 0, top );
+					work = work2;
+				}
+				work[top++] = succ;
+			}
+		}
+	}
+
+	/**
+	 * @return This method returns true if clock is ahead of other on some host,
+	 *         i.e. join(other, clock) would change other.
+	 */
+	private static boolean ahead(int[] clock, int[] other) {
+		for (int h = 0; h < clock.length; h++)
+			if (clock[h] > (h < other.length ? other[h] : 0))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Raise into to at least from everywhere, in place if it is long enough.
+	 * 
+	 * @return This method returns into, or a longer copy of it.
+	 */
+	private static int[] join(int[] into, int[] from) {
+		if (from.length > into.length) {
+			int[] into2 = new int[from.length];
+			System.arraycopy( into, 0, into2, 0, into.length );
+			into = into2;
+		}
+		for (int h = 0; h < from.length; h++)
+			if (from[h] > into[h])
+				into[h] = from[h];
+		return into;
+	}
+
+	/**
+	 * Record that into follows message seq on host.
+	 * 
+	 * @return This method returns into, or a longer copy of it.
+	 */
+	private static int[] join(int[] into, int host, int seq) {
+		if (host >= into.length) {
+			int[] into2 = new int[host + 1];
+			System.arraycopy( into, 0, into2, 0, into.length );
+			into = into2;
+		}
+		if (seq + 1 > into[host])
+			into[host] = seq + 1;
+		return into;
+	}
+}
@@ -22,23 +22,68 @@
 
 package verifier.value;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 
 import sexpression.*;
 
 /**
- * Instances of this class represent internal set values.
+ * Instances of this class represent internal set values.<br>
+ * <br>
+ * A set can be indexed by paths into its elements. A path is a list of
+ * positions, one per level of nested lists, that ends at a string; the index
+ * maps each string found there to the elements that have it. When a pattern
+ * has a literal string at an indexed path, only the elements with that string
+ * there can match it, and candidates hands back just those. Indexes are built
+ * the first time they are needed.<br>
+ * <br>
+ * Until it is sealed, a set can grow at the end with add, which is how a log
+ * that is still arriving is verified incrementally.
  * 
  * @author kyle
  * 
  */
 public class SetValue extends Value {
 
-	private final Expression[] _list;
+	private Expression[] _list;
+
+	// Elements are only ever appended, and only below _size are visible.
+	private volatile int _size;
 
 	private final HashSet<Expression> _set;
 
+	private final ArrayList<int[]> _paths = new ArrayList<int[]>();
+
+	private ArrayList<HashMap<ASExpression, Postings>> _indexes;
+
+	/**
+	 * The positions of the elements with one string at an indexed path, in
+	 * increasing order.
+	 */
+	private static class Postings {
+		int[] ids = new int[4];
+		int size;
+
+		void add(int id) {
+			if (size == ids.length)
+				ids = Arrays.copyOf(ids, size * 2);
+			ids[size++] = id;
+		}
+
+		/**
+		 * @return This method returns the postings at least from, as an array
+		 *         of their own.
+		 */
+		int[] from(int from) {
+			int at = Arrays.binarySearch(ids, 0, size, from);
+			if (at < 0)
+				at = -at - 1;
+			return Arrays.copyOfRange(ids, at, size);
+		}
+	}
+
 	/**
 	 * @param elts
 	 *            Construct a new set value that has these elements.
@@ -46,12 +91,33 @@ public class SetValue extends Value {
 	public SetValue(Expression[] elts) {
 		super(false);
 		_list = elts;
+		_size = elts.length;
 		_set = new HashSet<Expression>();
 
 		for (Expression e : elts)
 			_set.add(e);
 	}
 
+	/**
+	 * Add an element to the end of an unsealed set, e.g. as more of a log
+	 * arrives. Positions already handed out stay the same, and any indexes
+	 * are kept up to date.
+	 * 
+	 * @param exp
+	 *            Add this expression.
+	 */
+	public synchronized void add(Expression exp) {
+		if (isSealed())
+			throw new RuntimeException("cannot add to a sealed set");
+		if (_size == _list.length)
+			_list = Arrays.copyOf(_list, Math.max(16, _size * 2));
+		_list[_size] = exp;
+		_set.add(exp);
+		if (_indexes != null)
+			index(_size);
+		_size++;
+	}
+
 	/**
 	 * @param exp
 	 *            Test if this expression is a member of the target set.
@@ -66,7 +132,7 @@ public class SetValue extends Value {
 	 * @return This method returns the number of elements in this set.
 	 */
 	public int size() {
-		return _list.length;
+		return _size;
 	}
 
 	/**
@@ -80,6 +146,166 @@ public class SetValue extends Value {
 		return _list[index];
 	}
 
+	/**
+	 * Index this set by the string at a path into its elements.
+	 * 
+	 * @param path
+	 *            Descend into nested lists at these positions to find the
+	 *            string.
+	 */
+	public synchronized void addIndex(int... path) {
+		_paths.add(path.clone());
+		_indexes = null;
+	}
+
+	/**
+	 * Find the elements that could match a pattern, using this set's indexes.
+	 * 
+	 * @param pattern
+	 *            This is the pattern.
+	 * @return This method returns the indices of the elements that have the
+	 *         pattern's strings at every indexed path where the pattern has
+	 *         one, in increasing order. They may still not match. If the
+	 *         pattern has no string at any indexed path, this method returns
+	 *         null, and any element could match.
+	 */
+	public int[] candidates(ASExpression pattern) {
+		return candidates(pattern, 0);
+	}
+
+	/**
+	 * Find the elements at or after a position that could match a pattern.
+	 * 
+	 * @param pattern
+	 *            This is the pattern.
+	 * @param from
+	 *            Leave out elements before this position.
+	 * @return This method returns what candidates(pattern) does, less the
+	 *         elements before from.
+	 */
+	public synchronized int[] candidates(ASExpression pattern, int from) {
+		if (_paths.isEmpty())
+			return null;
+		if (_indexes == null)
+			buildIndexes();
+
+		int[] result = null;
+		for (int lcv = 0; lcv < _paths.size(); lcv++) {
+			ASExpression key = follow(pattern, _paths.get(lcv), true);
+			if (!(key instanceof StringExpression))
+				continue;
+			Postings matches = _indexes.get(lcv).get(key);
+			if (matches == null)
+				return new int[0];
+			int[] tail = matches.from(from);
+			result = result == null ? tail : intersect(result, tail);
+		}
+		return result;
+	}
+
+	/**
+	 * Find the elements at or after a position that could match any of
+	 * several patterns.
+	 * 
+	 * @param patterns
+	 *            These are the patterns.
+	 * @param from
+	 *            Leave out elements before this position.
+	 * @return This method returns the union of what candidates(pattern, from)
+	 *         does for each pattern, or null if that is null for any of them.
+	 */
+	public int[] candidates(ASExpression[] patterns, int from) {
+		int[] result = new int[0];
+		for (ASExpression pattern : patterns) {
+			int[] more = candidates(pattern, from);
+			if (more == null)
+				return null;
+			result = union(result, more);
+		}
+		return result;
+	}
+
+	private void buildIndexes() {
+		_indexes = new ArrayList<HashMap<ASExpression, Postings>>();
+		for (int lcv = 0; lcv < _paths.size(); lcv++)
+			_indexes.add(new HashMap<ASExpression, Postings>());
+		for (int lcv = 0; lcv < _size; lcv++)
+			index(lcv);
+	}
+
+	/**
+	 * Add the element at position to every index.
+	 */
+	private void index(int position) {
+		for (int lcv = 0; lcv < _paths.size(); lcv++) {
+			ASExpression key = follow(_list[position].getASE(), _paths
+					.get(lcv), false);
+			if (!(key instanceof StringExpression))
+				continue;
+			HashMap<ASExpression, Postings> index = _indexes.get(lcv);
+			Postings list = index.get(key);
+			if (list == null) {
+				list = new Postings();
+				index.put(key, list);
+			}
+			list.add(position);
+		}
+	}
+
+	/**
+	 * @return This method returns what is at path in ase, or null if ase
+	 *         doesn't have that shape. If ase is a pattern, the names of named
+	 *         patterns along the way are looked through.
+	 */
+	private static ASExpression follow(ASExpression ase, int[] path,
+			boolean pattern) {
+		for (int step : path) {
+			while (pattern && ase instanceof NamedPattern)
+				ase = ((NamedPattern) ase).getPattern();
+			if (!(ase instanceof ListExpression)
+					|| ((ListExpression) ase).size() <= step)
+				return null;
+			ase = ((ListExpression) ase).get(step);
+		}
+		while (pattern && ase instanceof NamedPattern)
+			ase = ((NamedPattern) ase).getPattern();
+		return ase;
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] out = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j])
+				i++;
+			else if (a[i] > b[j])
+				j++;
+			else {
+				out[k++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(out, k);
+	}
+
+	private static int[] union(int[] a, int[] b) {
+		int[] out = new int[a.length + b.length];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length || j < b.length) {
+			if (j == b.length || (i < a.length && a[i] < b[j]))
+				out[k++] = a[i++];
+			else if (i == a.length || b[j] < a[i])
+				out[k++] = b[j++];
+			else {
+				out[k++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(out, k);
+	}
+
 	/**
 	 * @see verifier.value.Value#execute(verifier.value.IValueVisitor)
 	 */
@@ -93,8 +319,8 @@ public class SetValue extends Value {
 	 *         represent entries added to the set earlier in time.
 	 */
 	public ListExpression toList() {
-		ASExpression[] lst = new ASExpression[_list.length];
-		for (int lcv = 0; lcv < _list.length; lcv++)
+		ASExpression[] lst = new ASExpression[_size];
+		for (int lcv = 0; lcv < lst.length; lcv++)
 			lst[lcv] = _list[lcv].getASE();
 		return new ListExpression(lst);
 	}
@@ -108,12 +334,16 @@ public class SetValue extends Value {
 			return false;
 		SetValue ov = (SetValue) o;
 
-		if (ov._list.length != _list.length)
+		if (ov._size != _size)
 			return false;
 
-		Arrays.sort(ov._list);
-		Arrays.sort(_list);
-		return Arrays.equals(_list, ((SetValue) o)._list);
+		// Sort copies: the order of _list is what indexes and quantifiers'
+		// positions refer to.
+		Expression[] mine = Arrays.copyOf(_list, _size);
+		Expression[] theirs = Arrays.copyOf(ov._list, ov._size);
+		Arrays.sort(mine);
+		Arrays.sort(theirs);
+		return Arrays.equals(mine, theirs);
 	}
 
 	/**
@@ -123,7 +353,7 @@ public class SetValue extends Value {
 	 */
 	@Override
 	public ASExpression toASE() {
-		ASExpression[] lst = new ASExpression[_list.length];
+		ASExpression[] lst = new ASExpression[_size];
 		for (int lcv = 0; lcv < lst.length; lcv++)
 			lst[lcv] = _list[lcv].toASE();
 		return new ListExpression(StringExpression.make("list->set"),
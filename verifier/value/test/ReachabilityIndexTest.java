@@ -0,0 +1,101 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package verifier.value.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import sexpression.StringExpression;
+import verifier.value.Expression;
+import verifier.value.ReachabilityIndex;
+
+public class ReachabilityIndexTest {
+
+    private static Expression msg(String host, int seq) {
+        return new Expression( StringExpression.makeString( "msg-" + host
+                + "-" + seq ) );
+    }
+
+    private static Expression ptr(String host, int seq) {
+        return new Expression( StringExpression.makeString( "ptr-" + host
+                + "-" + seq ) );
+    }
+
+    private static void add(ReachabilityIndex index, String host, int seq,
+            String... preds) {
+        int[] ids = new int[preds.length / 2];
+        for (int i = 0; i < ids.length; i++) {
+            String h = preds[2 * i];
+            int s = Integer.parseInt( preds[2 * i + 1] );
+            ids[i] = index.declare( ptr( h, s ), h, s );
+        }
+        index.add( msg( host, seq ), ptr( host, seq ), host, seq, ids );
+    }
+
+    @Test
+    public void timeline() {
+        ReachabilityIndex index = new ReachabilityIndex();
+        add( index, "a", 0 );
+        add( index, "a", 1, "a", "0" );
+        add( index, "b", 0 );
+
+        assertTrue( index.precedes( msg( "a", 0 ), msg( "a", 1 ) ) );
+        assertFalse( index.precedes( msg( "a", 1 ), msg( "a", 0 ) ) );
+        assertFalse( index.precedes( msg( "a", 0 ), msg( "a", 0 ) ) );
+        assertFalse( index.precedes( msg( "a", 0 ), msg( "b", 0 ) ) );
+        assertFalse( index.precedes( msg( "b", 0 ), msg( "a", 1 ) ) );
+        assertFalse( index.precedes( msg( "a", 0 ), msg( "c", 0 ) ) );
+        assertEquals( 3, index.size() );
+    }
+
+    @Test
+    public void transitive() {
+        ReachabilityIndex index = new ReachabilityIndex();
+        add( index, "a", 0 );
+        add( index, "b", 0, "a", "0" );
+        add( index, "c", 0, "b", "0" );
+        add( index, "a", 1, "a", "0", "c", "0" );
+
+        assertTrue( index.precedes( msg( "a", 0 ), msg( "c", 0 ) ) );
+        assertTrue( index.precedes( msg( "b", 0 ), msg( "a", 1 ) ) );
+        assertFalse( index.precedes( msg( "c", 0 ), msg( "b", 0 ) ) );
+    }
+
+    @Test
+    public void out_of_order() {
+        ReachabilityIndex index = new ReachabilityIndex();
+        add( index, "c", 0, "b", "0" );
+        add( index, "d", 0, "c", "0" );
+        assertFalse( index.precedes( msg( "a", 0 ), msg( "d", 0 ) ) );
+
+        // b/0 arrives late, and brings a/0 along with it.
+        add( index, "b", 0, "a", "0" );
+        add( index, "a", 0 );
+
+        assertTrue( index.precedes( msg( "b", 0 ), msg( "d", 0 ) ) );
+        assertTrue( index.precedes( msg( "a", 0 ), msg( "c", 0 ) ) );
+        assertTrue( index.precedes( msg( "a", 0 ), msg( "d", 0 ) ) );
+        assertFalse( index.precedes( msg( "d", 0 ), msg( "a", 0 ) ) );
+    }
+}
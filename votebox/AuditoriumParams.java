@@ -113,6 +113,54 @@ public class AuditoriumParams implements IAuditoriumParams,
     
     public static final boolean DEFAULT_ALLOW_UI_SCALING = true;
     
+    //By default, ballot NIZKs are checked in batches, falling back to serial checks on failure
+    public static final String NIZK_VERIFICATION_MODE = "batch";
+    
+    //By default, NIZKs are checked on one thread per processor
+    public static final int NIZK_VERIFICATION_THREADS = 0;
+    
+    //Number of ballots checked together in batch NIZK verification
+    public static final int NIZK_BATCH_SIZE = 32;
+    
+    //Cap on each Adder fixed-base table, in KB (-1 for no limit)
+    public static final int ADDER_TABLE_LIMIT = -1;
+    
+    //Number of running totals per race in the encrypted tally
+    public static final int TALLY_STRIPES = 1;
+    
+    //Directory encrypted votes are recorded in as they are counted (null for none)
+    public static final String TALLY_AUDIT_DIRECTORY = null;
+    
+    //Number of powers precomputed for decrypting ElGamal tallies
+    public static final int DECRYPTION_TABLE_SIZE = 65536;
+    
+    //Number of encryptions' worth of randomness a booth computes ahead of time (0 for none)
+    public static final int RANDOMNESS_POOL_SIZE = 256;
+    
+    //Network transport used by auditorium, "blocking" or "nio"
+    public static final String AUDITORIUM_TRANSPORT = "blocking";
+    
+    //Capacity of each of auditorium's message queues
+    public static final int AUDITORIUM_QUEUE_CAPACITY = 8192;
+    
+    //What to do when an auditorium queue is full, "block", "drop" or "backpressure"
+    public static final String AUDITORIUM_QUEUE_POLICY = "block";
+    
+    //Threads checking auditorium signatures ahead of processing (0 for none)
+    public static final int AUDITORIUM_VERIFY_THREADS = 0;
+    
+    //Milliseconds to gather announcements into one signed batch (0 for no batching)
+    public static final int AUDITORIUM_BATCH_WINDOW = 0;
+    
+    //Most announcements in one signed batch
+    public static final int AUDITORIUM_BATCH_SIZE = 64;
+    
+    //Bytes at which the auditorium log starts a new segment file
+    public static final int LOG_SEGMENT_SIZE = 67108864;
+    
+    //Milliseconds between forcing the auditorium log to disk (0 to force only in batches)
+    public static final int LOG_SYNC_INTERVAL = 100;
+    
     private final HashMap<String, String> _config;
 
     /**
@@ -353,6 +401,118 @@ public class AuditoriumParams implements IAuditoriumParams,
     	return DEFAULT_ALLOW_UI_SCALING;
     }
 	
+    public String getNIZKVerificationMode(){
+    	if(_config.containsKey("NIZK_VERIFICATION_MODE"))
+    		return _config.get("NIZK_VERIFICATION_MODE");
+    	
+    	return NIZK_VERIFICATION_MODE;
+    }
+    
+    public int getNIZKVerificationThreads(){
+    	if(_config.containsKey("NIZK_VERIFICATION_THREADS"))
+    		return Integer.parseInt(_config.get("NIZK_VERIFICATION_THREADS"));
+    	
+    	return NIZK_VERIFICATION_THREADS;
+    }
+    
+    public int getNIZKBatchSize(){
+    	if(_config.containsKey("NIZK_BATCH_SIZE"))
+    		return Integer.parseInt(_config.get("NIZK_BATCH_SIZE"));
+    	
+    	return NIZK_BATCH_SIZE;
+    }
+    
+    public int getAdderTableLimit(){
+    	if(_config.containsKey("ADDER_TABLE_LIMIT"))
+    		return Integer.parseInt(_config.get("ADDER_TABLE_LIMIT"));
+    	
+    	return ADDER_TABLE_LIMIT;
+    }
+    
+    public int getTallyStripes(){
+    	if(_config.containsKey("TALLY_STRIPES"))
+    		return Integer.parseInt(_config.get("TALLY_STRIPES"));
+    	
+    	return TALLY_STRIPES;
+    }
+    
+    public String getTallyAuditDirectory(){
+    	if(_config.containsKey("TALLY_AUDIT_DIRECTORY"))
+    		return _config.get("TALLY_AUDIT_DIRECTORY");
+    	
+    	return TALLY_AUDIT_DIRECTORY;
+    }
+    
+    public int getDecryptionTableSize(){
+    	if(_config.containsKey("DECRYPTION_TABLE_SIZE"))
+    		return Integer.parseInt(_config.get("DECRYPTION_TABLE_SIZE"));
+    	
+    	return DECRYPTION_TABLE_SIZE;
+    }
+    
+    public int getRandomnessPoolSize(){
+    	if(_config.containsKey("RANDOMNESS_POOL_SIZE"))
+    		return Integer.parseInt(_config.get("RANDOMNESS_POOL_SIZE"));
+    	
+    	return RANDOMNESS_POOL_SIZE;
+    }
+    
+    public String getAuditoriumTransport(){
+    	if(_config.containsKey("AUDITORIUM_TRANSPORT"))
+    		return _config.get("AUDITORIUM_TRANSPORT");
+    	
+    	return AUDITORIUM_TRANSPORT;
+    }
+    
+    public int getAuditoriumQueueCapacity(){
+    	if(_config.containsKey("AUDITORIUM_QUEUE_CAPACITY"))
+    		return Integer.parseInt(_config.get("AUDITORIUM_QUEUE_CAPACITY"));
+    	
+    	return AUDITORIUM_QUEUE_CAPACITY;
+    }
+    
+    public String getAuditoriumQueuePolicy(){
+    	if(_config.containsKey("AUDITORIUM_QUEUE_POLICY"))
+    		return _config.get("AUDITORIUM_QUEUE_POLICY");
+    	
+    	return AUDITORIUM_QUEUE_POLICY;
+    }
+    
+    public int getAuditoriumVerifyThreads(){
+    	if(_config.containsKey("AUDITORIUM_VERIFY_THREADS"))
+    		return Integer.parseInt(_config.get("AUDITORIUM_VERIFY_THREADS"));
+    	
+    	return AUDITORIUM_VERIFY_THREADS;
+    }
+    
+    public int getAuditoriumBatchWindow(){
+    	if(_config.containsKey("AUDITORIUM_BATCH_WINDOW"))
+    		return Integer.parseInt(_config.get("AUDITORIUM_BATCH_WINDOW"));
+    	
+    	return AUDITORIUM_BATCH_WINDOW;
+    }
+    
+    public int getAuditoriumBatchSize(){
+    	if(_config.containsKey("AUDITORIUM_BATCH_SIZE"))
+    		return Integer.parseInt(_config.get("AUDITORIUM_BATCH_SIZE"));
+    	
+    	return AUDITORIUM_BATCH_SIZE;
+    }
+    
+    public int getLogSegmentSize(){
+    	if(_config.containsKey("LOG_SEGMENT_SIZE"))
+    		return Integer.parseInt(_config.get("LOG_SEGMENT_SIZE"));
+    	
+    	return LOG_SEGMENT_SIZE;
+    }
+    
+    public int getLogSyncInterval(){
+    	if(_config.containsKey("LOG_SYNC_INTERVAL"))
+    		return Integer.parseInt(_config.get("LOG_SYNC_INTERVAL"));
+    	
+    	return LOG_SYNC_INTERVAL;
+    }
+    
     /**
      * Read from the configuration file.
      */
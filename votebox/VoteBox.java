@@ -35,6 +35,7 @@ import java.util.Observer;
 
 import javax.swing.Timer;
 
+import edu.uconn.cse.adder.FixedBaseTable;
 import edu.uconn.cse.adder.PublicKey;
 
 import sexpression.*;
@@ -102,6 +103,9 @@ public class VoteBox {
     public VoteBox(int serial) {
         _constants = new AuditoriumParams("vb.conf");
         
+        if(_constants.getAdderTableLimit() >= 0)
+        	FixedBaseTable.setMemoryLimit(_constants.getAdderTableLimit() * 1024L);
+        
         if(serial != -1)
         	mySerial = serial;
         else
@@ -666,6 +670,39 @@ public class VoteBox {
 		}
 	}*/
 	
+	/**
+	 * Starts computing encryption randomness for the election key in the
+	 * background, while the booth is idle, so committing a ballot is mostly
+	 * multiplications.  With NIZKs on, the key ballots are encrypted with
+	 * isn't known until the supervisor sends it, see
+	 * startPrecomputation(PublicKey).
+	 */
+	private void startPrecomputation(){
+		if(!_constants.getCastBallotEncryptionEnabled() || _constants.getRandomnessPoolSize() <= 0)
+			return;
+		if(_constants.getEnableNIZKs())
+			return;
+		
+		try{
+			BallotEncrypter.SINGLETON.precompute(_constants.getKeyStore().loadKey("public"), _constants.getRandomnessPoolSize());
+		}catch(AuditoriumCryptoException e){
+			Bugout.err("Crypto error trying to precompute encryption randomness: "+e.getMessage());
+		}
+	}
+	
+	/**
+	 * Starts computing encryption randomness for the final Adder key the
+	 * supervisor sent, or restarts it if the key changed.
+	 * 
+	 * @param finalPubKey - the key ballots will be encrypted with
+	 */
+	private void startPrecomputation(PublicKey finalPubKey){
+		if(!_constants.getCastBallotEncryptionEnabled() || _constants.getRandomnessPoolSize() <= 0)
+			return;
+		
+		BallotEncrypter.SINGLETON.precompute(finalPubKey, _constants.getRandomnessPoolSize());
+	}
+	
 	/**
      * Starts Auditorium, registers the listener, and connects to the network.
      */
@@ -676,6 +713,8 @@ public class VoteBox {
         	inactiveUI = new VoteBoxInactiveUI(this);
         
         inactiveUI.setVisible(true);
+        
+        startPrecomputation();
 
         try {
             auditorium = new VoteBoxAuditoriumConnector(mySerial,
@@ -768,6 +807,11 @@ public class VoteBox {
              * the VoteBox runtime. Also announce the new status.
              */
             public void authorizedToCast(AuthorizedToCastEvent e) {
+            	// Every authorization carries the final key, whichever
+            	// booth it is for, so the pool starts with the first one.
+            	if (e instanceof AuthorizedToCastWithNIZKsEvent)
+            		startPrecomputation(((AuthorizedToCastWithNIZKsEvent) e).getFinalPubKey());
+            	
                 if (e.getNode() == mySerial) {
                     if (voting || currentDriver != null && killVBTimer == null)
                         throw new RuntimeException(
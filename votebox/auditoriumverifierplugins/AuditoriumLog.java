@@ -24,7 +24,6 @@ package votebox.auditoriumverifierplugins;
 
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -54,12 +53,14 @@ public class AuditoriumLog implements IVerifierPlugin {
 
 	/**
 	 * @param verifier
-	 *            This method registers the signature-verify primitive on this
-	 *            verifier.
+	 *            This method registers the signature-verify and
+	 *            batch-signature-verify primitives on this verifier.
 	 */
 	private void registerFactories(Verifier verifier) {
 		verifier.getPrimitiveFactories().put("signature-verify",
 				SignatureVerify.FACTORY);
+		verifier.getPrimitiveFactories().put("batch-signature-verify",
+				BatchSignatureVerify.FACTORY);
 	}
 
 	/**
@@ -76,8 +77,8 @@ public class AuditoriumLog implements IVerifierPlugin {
 		ArrayList<Expression> set = new ArrayList<Expression>();
 
 		try {
-			ASEInputStreamReader in = new ASEInputStreamReader(
-					new FileInputStream(new File(verifier.getArgs().get("log"))));
+			LogReader in = new LogReader(new File(verifier.getArgs().get(
+					"log")));
 
 			while (true) {
 				Message msg = new Message(in.read());
@@ -95,6 +96,7 @@ public class AuditoriumLog implements IVerifierPlugin {
 
 		HashMap<String, Value> bindings = new HashMap<String, Value>();
 		SetValue sv = new SetValue(set.toArray(new Expression[0]));
+		LogIndexes.index(sv);
 		DAGValue dv = dag.toDAG();
 		sv.seal();
 		dv.seal();
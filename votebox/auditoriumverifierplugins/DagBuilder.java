@@ -55,17 +55,32 @@ public class DagBuilder {
                             new ListWildcard( MessagePointer.PATTERN ),
                             Wildcard.SINGLETON ) ) );
 
+    /*
+     * The same for a message signed as part of a batch: [0]: cert [1]:
+     * signature over the batch's root [2]: inclusion proof [3]: list of
+     * pointers that preceed [4]: data
+     */
+    private static final ASExpression BATCH_PATTERN = new ListExpression(
+            StringExpression.makeString( "batch-signed-message" ),
+            Wildcard.SINGLETON, Wildcard.SINGLETON, Wildcard.SINGLETON,
+            new ListExpression( StringExpression.makeString( "succeeds" ),
+                    new ListWildcard( MessagePointer.PATTERN ),
+                    Wildcard.SINGLETON ) );
+
     /// mapping of ptr-->(listof predecessor ptrs)  
     private HashMap<Expression, ArrayList<Expression>> _predecessors;
     /// mapping of ptr-->full-message
     private HashMap<Expression, Expression> _ptrToMsg;
     /// mapping of message-->its own ptr
     private HashMap<Expression, Expression> _msgToPtr;
+    /// mapping of (node seq batch-signature)-->ptr, for batch-signed messages
+    private HashMap<ASExpression, Expression> _batchMates;
 
     public DagBuilder() {
         _predecessors = new HashMap<Expression, ArrayList<Expression>>();
         _ptrToMsg = new HashMap<Expression, Expression>();
         _msgToPtr = new HashMap<Expression, Expression>();
+        _batchMates = new HashMap<ASExpression, Expression>();
     }
 
     /**
@@ -87,26 +102,85 @@ public class DagBuilder {
         	_ptrToMsg.put( ptr, expr );
             _msgToPtr.put( expr, ptr );
 
-            ASExpression matchresult = PATTERN.match( message.getDatum() );
-            if (matchresult == NoMatch.SINGLETON)
-                throw new FormatException( message.getDatum(), new Exception(
-                        "didn't match pattern for an Auditorium message: "
-                		+ PATTERN ) );
-            ListExpression matchlist = (ListExpression) matchresult;
-
             ArrayList<Expression> ptrlst = new ArrayList<Expression>();
-            for (ASExpression ptrexp : (ListExpression) matchlist.get( 3 )) {
+            for (ASExpression ptrexp : getPredecessors( message )) {
                 ptrlst.add( new Expression( 
                 		new MessagePointer( ptrexp ).toASE() ) );
             }
             
             _predecessors.put( ptr, ptrlst );
+
+            // A message can't point to the one signed before it in the same
+            // batch, but the signed root fixes their order, so the edge
+            // between them is implied. The host's messages stay one chain.
+            ASExpression signature = getBatchSignature( message );
+            if (signature != null) {
+                MessagePointer own = new MessagePointer( message );
+                int seq = Integer.parseInt( own.getNumber() );
+                _batchMates.put( batchMate( own.getNodeId(), seq, signature ),
+                    ptr );
+
+                Expression before = _batchMates.get( batchMate( own
+                        .getNodeId(), seq - 1, signature ) );
+                if (before != null && !ptrlst.contains( before ))
+                    ptrlst.add( before );
+
+                Expression after = _batchMates.get( batchMate( own
+                        .getNodeId(), seq + 1, signature ) );
+                if (after != null && !_predecessors.get( after ).contains( ptr ))
+                    _predecessors.get( after ).add( ptr );
+            }
         }
         catch (IncorrectFormatException e) {
             throw new FormatException( message.getDatum(), e );
         }
     }
 
+    private static ASExpression batchMate(String node, int seq,
+            ASExpression signature) {
+        return new ListExpression( StringExpression.makeString( node ),
+                StringExpression.makeString( Integer.toString( seq ) ),
+                signature );
+    }
+
+    /**
+     * Find the signature over the root of the batch a message was signed in.
+     * 
+     * @param message
+     *            Look in this message's datum.
+     * @return This method returns the signature, which every message of the
+     *         batch shares, or null if the message was signed by itself.
+     */
+    static ASExpression getBatchSignature(Message message) {
+        ASExpression matchresult = BATCH_PATTERN.match( message.getDatum() );
+        if (matchresult == NoMatch.SINGLETON)
+            return null;
+        return ((ListExpression) matchresult).get( 1 );
+    }
+
+    /**
+     * Find the pointers a message says precede it, whether it was signed by
+     * itself or as part of a batch.
+     * 
+     * @param message
+     *            Look in this message's datum.
+     * @return This method returns the list of pointers.
+     * @throws FormatException
+     *             This method throws if the datum is neither a
+     *             signed-message nor a batch-signed-message.
+     */
+    static ListExpression getPredecessors(Message message)
+            throws FormatException {
+        ASExpression matchresult = PATTERN.match( message.getDatum() );
+        if (matchresult == NoMatch.SINGLETON)
+            matchresult = BATCH_PATTERN.match( message.getDatum() );
+        if (matchresult == NoMatch.SINGLETON)
+            throw new FormatException( message.getDatum(), new Exception(
+                    "didn't match pattern for an Auditorium message: "
+                            + PATTERN + " or " + BATCH_PATTERN ) );
+        return (ListExpression) ((ListExpression) matchresult).get( 3 );
+    }
+
     /**
      * @return This method returns a dag which reflects the collection of
      *         messages that have been given so far.
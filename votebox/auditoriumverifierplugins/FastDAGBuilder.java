@@ -29,11 +29,6 @@ import java.util.Map;
 
 import sexpression.ASExpression;
 import sexpression.ListExpression;
-import sexpression.ListWildcard;
-import sexpression.NoMatch;
-import sexpression.StringExpression;
-import sexpression.StringWildcard;
-import sexpression.Wildcard;
 import verifier.FormatException;
 import verifier.value.*;
 import auditorium.IncorrectFormatException;
@@ -44,30 +39,31 @@ import auditorium.MessagePointer;
 
 public class FastDAGBuilder extends DagBuilder {
 
-    /*
-     * Matching against this pattern should yield the following: [0]: cert [1]:
-     * signer id [2]: sigdata [3]: list of pointers that preceed [4]: data
-     */
-    private static final ASExpression PATTERN = new ListExpression(
-            StringExpression.makeString( "signed-message" ),
-            Wildcard.SINGLETON, new ListExpression( StringExpression
-                    .makeString( "signature" ), StringWildcard.SINGLETON,
-                    StringWildcard.SINGLETON, new ListExpression(
-                            StringExpression.makeString( "succeeds" ),
-                            new ListWildcard( MessagePointer.PATTERN ),
-                            Wildcard.SINGLETON ) ) );
-
     /// mapping of ptr-->(listof predecessor ptrs)  
     private HashMap<Expression, List<Expression>> _predecessors;
     /// mapping of message-->its own ptr
     private HashMap<Expression, Expression> _msgToPtr;
     
     private Map<String, Map<Integer, Expression>> _timelines;
+
+    /// vector clocks for precedes, kept up to date as messages are added
+    private ReachabilityIndex _index;
     
     public FastDAGBuilder() {
+        this( true );
+    }
+
+    /**
+     * @param useIndex
+     *            If false, the dag this builds answers precedes by searching
+     *            back along the timelines instead of from a ReachabilityIndex.
+     */
+    public FastDAGBuilder(boolean useIndex) {
         _predecessors = new HashMap<Expression, List<Expression>>();
         _msgToPtr = new HashMap<Expression, Expression>();
         _timelines = new HashMap<String, Map<Integer, Expression>>();
+        if (useIndex)
+            _index = new ReachabilityIndex();
     }
 
 	
@@ -88,20 +84,22 @@ public class FastDAGBuilder extends DagBuilder {
             		new Integer(msgPtr.getNumber()),
             		ptr);
 
-            ASExpression matchresult = PATTERN.match( message.getDatum() );
-            if (matchresult == NoMatch.SINGLETON)
-                throw new FormatException( message.getDatum(), new Exception(
-                        "didn't match pattern for an Auditorium message: "
-                		+ PATTERN ) );
-            ListExpression matchlist = (ListExpression) matchresult;
-
+            ListExpression ptrexps = getPredecessors( message );
             ArrayList<Expression> ptrlst = new ArrayList<Expression>();
-            for (ASExpression ptrexp : (ListExpression) matchlist.get( 3 )) {
-                ptrlst.add( new Expression( 
-                		new MessagePointer( ptrexp ).toASE() ) );
+            int[] predIds = new int[ptrexps.size()];
+            for (ASExpression ptrexp : ptrexps) {
+                MessagePointer pred = new MessagePointer( ptrexp );
+                Expression predPtr = new Expression( pred.toASE() );
+                if (_index != null)
+                    predIds[ptrlst.size()] = _index.declare( predPtr, pred
+                            .getNodeId(), Integer.parseInt( pred.getNumber() ) );
+                ptrlst.add( predPtr );
             }
             
             _predecessors.put( ptr, ptrlst );
+            if (_index != null)
+                _index.add( expr, ptr, msgPtr.getNodeId(), Integer
+                        .parseInt( msgPtr.getNumber() ), predIds );
         }
         catch (IncorrectFormatException e) {
             throw new FormatException( message.getDatum(), e );
@@ -111,6 +109,7 @@ public class FastDAGBuilder extends DagBuilder {
     public DAGValue toDAG() {
     	return new FastDAG(_msgToPtr,
     			_predecessors,
-    			_timelines);
+    			_timelines,
+    			_index);
     }
 }
@@ -22,10 +22,10 @@
 
 package votebox.auditoriumverifierplugins;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 import verifier.*;
+import verifier.ast.Memo;
 import verifier.value.*;
 import auditorium.*;
 import sexpression.*;
@@ -33,7 +33,7 @@ import sexpression.*;
 /**
  * This verifier plugin maintains all-set and all-dag based on incremental log
  * data given via this API (rather than read from a file). It also registers the
- * signature-verify primitive.
+ * signature-verify and batch-signature-verify primitives.
  * 
  * @author kyle
  * 
@@ -41,7 +41,6 @@ import sexpression.*;
 public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 
 	private Verifier _verifier;
-	private ArrayList<Expression> _allset;
 	private SetValue _allsetValue;
 	private DagBuilder _alldag;
 	private DAGValue _alldagValue;
@@ -50,9 +49,11 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	 * @see verifier.IVerifierPlugin#init(verifier.Verifier)
 	 */
 	public void init(Verifier verifier) {
-		_allset = new ArrayList<Expression>();
+		_allsetValue = new SetValue(new Expression[0]);
+		LogIndexes.index(_allsetValue);
 		_alldag = new DagBuilder();
 		_verifier = verifier;
+		Memo.enable(verifier);
 
 		registerHandlers();
 		registerGlobals();
@@ -65,7 +66,7 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	 *            Message to append to the log.
 	 */
 	public void addLogData(Message entry) {
-		_allset.add(new Expression(entry.toASE()));
+		_allsetValue.add(new Expression(entry.toASE()));
 		_alldag.add(entry);
 		registerGlobals();
 	}
@@ -78,7 +79,7 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	 */
 	public void addLogData(ASExpression entry) throws InvalidLogEntryException {
 		try {
-			_allset.add(new Expression(entry));
+			_allsetValue.add(new Expression(entry));
 			_alldag.add(new Message(entry));
 			registerGlobals();
 		} catch (IncorrectFormatException e) {
@@ -94,7 +95,7 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	 */
 	public void addLogData(Expression entry) throws InvalidLogEntryException {
 		try {
-			_allset.add(entry);
+			_allsetValue.add(entry);
 			_alldag.add(new Message(entry.getASE()));
 			registerGlobals();
 		} catch (IncorrectFormatException e) {
@@ -115,7 +116,6 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	private void registerGlobals() {
 		HashMap<String, Value> bindings = new HashMap<String, Value>();
 
-		_allsetValue = new SetValue(_allset.toArray(new Expression[0]));
 		bindings.put("all-set", _allsetValue);
 		_alldagValue = _alldag.toDAG();
 
@@ -139,5 +139,7 @@ public class IncrementalAuditoriumLog implements IIncrementalPlugin {
 	private void registerHandlers() {
 		_verifier.getPrimitiveFactories().put("signature-verify",
 				SignatureVerify.FACTORY);
+		_verifier.getPrimitiveFactories().put("batch-signature-verify",
+				BatchSignatureVerify.FACTORY);
 	}
 }
@@ -22,10 +22,10 @@
 
 package votebox.auditoriumverifierplugins;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 import verifier.*;
+import verifier.ast.Memo;
 import verifier.value.*;
 import auditorium.*;
 import sexpression.*;
@@ -33,7 +33,7 @@ import sexpression.*;
 /**
  * This verifier plugin maintains all-set and all-dag based on incremental log
  * data given via this API (rather than read from a file). It also registers the
- * signature-verify primitive.
+ * signature-verify and batch-signature-verify primitives.
  * 
  * Uses the fast BFS implementation [10/04/2007 00:07 dsandler]
  * 
@@ -43,7 +43,6 @@ import sexpression.*;
 public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 
 	private Verifier _verifier;
-	private ArrayList<Expression> _allset;
 	private SetValue _allsetValue;
 	private DagBuilder _alldag;
 	private DAGValue _alldagValue;
@@ -52,9 +51,11 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 	 * @see verifier.IVerifierPlugin#init(verifier.Verifier)
 	 */
 	public void init(Verifier verifier) {
-		_allset = new ArrayList<Expression>();
+		_allsetValue = new SetValue(new Expression[0]);
+		LogIndexes.index(_allsetValue);
 		_alldag = new FastDAGBuilder();
 		_verifier = verifier;
+		Memo.enable(verifier);
 
 		registerHandlers();
 		registerGlobals();
@@ -67,9 +68,8 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 	 *            Message to append to the log.
 	 */
 	public void addLogData(Message entry) {
-		_allset.add(new Expression(entry.toASE()));
+		_allsetValue.add(new Expression(entry.toASE()));
 		_alldag.add(entry);
-		registerGlobals();
 	}
 
 	/**
@@ -80,9 +80,8 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 	 */
 	public void addLogData(ASExpression entry) throws InvalidLogEntryException {
 		try {
-			_allset.add(new Expression(entry));
+			_allsetValue.add(new Expression(entry));
 			_alldag.add(new Message(entry));
-			registerGlobals();
 		} catch (IncorrectFormatException e) {
 			throw new InvalidLogEntryException(e);
 		}
@@ -96,9 +95,8 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 	 */
 	public void addLogData(Expression entry) throws InvalidLogEntryException {
 		try {
-			_allset.add(entry);
+			_allsetValue.add(entry);
 			_alldag.add(new Message(entry.getASE()));
-			registerGlobals();
 		} catch (IncorrectFormatException e) {
 			throw new InvalidLogEntryException(e);
 		}
@@ -114,10 +112,13 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 		_alldagValue.seal();
 	}
 
+	/**
+	 * The set grows in place, and the dag answers from the builder's index as
+	 * it grows, so both are only bound once.
+	 */
 	private void registerGlobals() {
 		HashMap<String, Value> bindings = new HashMap<String, Value>();
 
-		_allsetValue = new SetValue(_allset.toArray(new Expression[0]));
 		bindings.put("all-set", _allsetValue);
 		_alldagValue = _alldag.toDAG();
 
@@ -137,5 +138,7 @@ public class IncrementalAuditoriumLogFast implements IIncrementalPlugin {
 	private void registerHandlers() {
 		_verifier.getPrimitiveFactories().put("signature-verify",
 				SignatureVerify.FACTORY);
+		_verifier.getPrimitiveFactories().put("batch-signature-verify",
+				BatchSignatureVerify.FACTORY);
 	}
 }
@@ -0,0 +1,106 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.auditoriumverifierplugins;
+
+import verifier.value.SetValue;
+
+/**
+ * The paths all-set is indexed by. Every entry in an auditorium log looks
+ * like<br>
+ * <br>
+ * (announce (host id addr port) seqno (signed-message cert (signature signer
+ * sigdata (succeeds preds payload))))<br>
+ * <br>
+ * or, if it was signed as part of a batch,<br>
+ * <br>
+ * (announce (host id addr port) seqno (batch-signed-message cert signature
+ * proof (succeeds preds payload)))<br>
+ * <br>
+ * so a rule that only wants messages from one host, with one sequence
+ * number, or with one kind of payload only looks at those. The first two
+ * payload arguments are indexed too; in voting messages the nonce is one of
+ * them, so looking for the messages about one ballot is also quick.
+ * 
+ * @author kyle
+ * 
+ */
+final class LogIndexes {
+
+	/**
+	 * The id of the host that sent the message.
+	 */
+	static final int[] HOST_ID = { 1, 1 };
+
+	/**
+	 * The message's sequence number.
+	 */
+	static final int[] SEQUENCE = { 2 };
+
+	/**
+	 * The leading symbol of the payload, like polls-open or cast-ballot.
+	 */
+	static final int[] PAYLOAD_TYPE = { 3, 2, 3, 2, 0 };
+
+	/**
+	 * The payload's first argument, like cast-ballot's nonce.
+	 */
+	static final int[] PAYLOAD_ARG1 = { 3, 2, 3, 2, 1 };
+
+	/**
+	 * The payload's second argument, like ballot-received's nonce.
+	 */
+	static final int[] PAYLOAD_ARG2 = { 3, 2, 3, 2, 2 };
+
+	/**
+	 * The leading symbol of a batched message's payload.
+	 */
+	static final int[] BATCH_PAYLOAD_TYPE = { 3, 4, 2, 0 };
+
+	/**
+	 * A batched message's first payload argument.
+	 */
+	static final int[] BATCH_PAYLOAD_ARG1 = { 3, 4, 2, 1 };
+
+	/**
+	 * A batched message's second payload argument.
+	 */
+	static final int[] BATCH_PAYLOAD_ARG2 = { 3, 4, 2, 2 };
+
+	private LogIndexes() {
+	}
+
+	/**
+	 * @param set
+	 *            Index this set of log entries.
+	 */
+	static void index(SetValue set) {
+		set.addIndex(HOST_ID);
+		set.addIndex(SEQUENCE);
+		set.addIndex(PAYLOAD_TYPE);
+		set.addIndex(PAYLOAD_ARG1);
+		set.addIndex(PAYLOAD_ARG2);
+		set.addIndex(BATCH_PAYLOAD_TYPE);
+		set.addIndex(BATCH_PAYLOAD_ARG1);
+		set.addIndex(BATCH_PAYLOAD_ARG2);
+	}
+}
@@ -0,0 +1,135 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.auditoriumverifierplugins.test;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.*;
+
+import sexpression.ASExpression;
+import auditorium.LogReader;
+import auditorium.Message;
+import auditorium.test.BatchedLog;
+
+import verifier.ActivationRecord;
+import verifier.Verifier;
+import verifier.ast.ASTParser;
+import verifier.ast.Constant;
+import verifier.value.*;
+import votebox.auditoriumverifierplugins.AuditoriumLog;
+import votebox.auditoriumverifierplugins.DagBuilder;
+import votebox.auditoriumverifierplugins.FastDAGBuilder;
+
+/**
+ * Loads a log written with announcement batching on, where most messages are
+ * batch-signed and a few signed on their own, and checks the voting rules
+ * hold over it.
+ */
+public class BatchedLogTest {
+    private static final File LOG = new File( "batched-verifier.log" );
+
+    private Verifier _verifier;
+    private int _written;
+
+    @Before
+    public void build() throws Exception {
+        _written = BatchedLog.election( LOG );
+        HashMap<String, String> args = new HashMap<String, String>();
+        args.put( "log", LOG.getPath() );
+        _verifier = new Verifier( args );
+        new AuditoriumLog().init( _verifier );
+    }
+
+    @After
+    public void delete() {
+        BatchedLog.delete( LOG );
+    }
+
+    private Value eval(ASExpression rule) {
+        return new ASTParser( _verifier.getPrimitiveFactories(),
+                Constant.FACTORY ).parse( rule ).eval( ActivationRecord.END );
+    }
+
+    @Test
+    public void voting_rules_hold() throws Exception {
+        assertEquals( True.SINGLETON,
+            eval( Verifier.readRule( "rules/voting2.rules" ) ) );
+    }
+
+    @Test
+    public void filter_by_either_form() {
+        String single = "(announce #any #string (signed-message #any #any))";
+        String batch = "(announce #any #string"
+                + " (batch-signed-message #any #any #any #any))";
+
+        assertEquals( new IntValue( _written ), eval( ASExpression
+                .make( "(len (filter all-set (list->set (quote (" + single
+                        + " " + batch + ")))))" ) ) );
+        assertEquals( new IntValue( 6 ), eval( ASExpression
+                .make( "(len (filter all-set (quote " + batch + ")))" ) ) );
+    }
+
+    @Test
+    public void dags_agree() throws Exception {
+        ArrayList<Message> messages = new ArrayList<Message>();
+        LogReader in = new LogReader( LOG );
+        try {
+            while (true)
+                messages.add( new Message( in.read() ) );
+        }
+        catch (EOFException e) {}
+        assertEquals( _written, messages.size() );
+
+        // Batch-mates can arrive in either order.
+        ArrayList<Message> reversed = new ArrayList<Message>( messages );
+        Collections.reverse( reversed );
+        DAGValue explicit = dag( new DagBuilder(), messages );
+        DAGValue backwards = dag( new DagBuilder(), reversed );
+        DAGValue timelines = dag( new FastDAGBuilder( false ), messages );
+        DAGValue indexed = dag( new FastDAGBuilder(), messages );
+
+        for (int l = 0; l < messages.size(); l++)
+            for (int r = 0; r < messages.size(); r++) {
+                Expression left = new Expression( messages.get( l ).toASE() );
+                Expression right = new Expression( messages.get( r ).toASE() );
+                String pair = l + " before " + r;
+                assertEquals( pair, l < r, explicit.precedes( left, right ) );
+                assertEquals( pair, l < r, backwards.precedes( left, right ) );
+                assertEquals( pair, l < r, timelines.precedes( left, right ) );
+                assertEquals( pair, l < r, indexed.precedes( left, right ) );
+            }
+    }
+
+    private static DAGValue dag(DagBuilder builder, ArrayList<Message> messages)
+            throws Exception {
+        for (Message message : messages)
+            builder.add( message );
+        return builder.toDAG();
+    }
+}
@@ -0,0 +1,149 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.auditoriumverifierplugins.test;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import auditorium.LogReader;
+import auditorium.Message;
+
+import verifier.value.DAGValue;
+import verifier.value.Expression;
+import votebox.auditoriumverifierplugins.DagBuilder;
+import votebox.auditoriumverifierplugins.FastDAGBuilder;
+
+/**
+ * Loads the supervisor logs captured in logdata/ into an ExplicitDAG, a FastDAG
+ * that searches and a FastDAG with a ReachabilityIndex, then times precedes on
+ * the same random pairs of messages in each. Not part of the suite; run it on
+ * its own from the top of the tree.
+ */
+public class DagPerformanceTest {
+    public static final String[] CAPTURES = { "logdata/e3-supervisor.log",
+            "logdata/e4-supervisor.log" };
+    public static final int PAIRS = 20000;
+
+    // Breadth-first search over the whole log is slow enough that the
+    // explicit dag only gets this many of the pairs.
+    public static final int EXPLICIT_PAIRS = 500;
+
+    private static List<Message> load(String capture) throws Exception {
+        ArrayList<Message> messages = new ArrayList<Message>();
+        LogReader in = new LogReader( new File( capture ) );
+        try {
+            while (true)
+                messages.add( new Message( in.read() ) );
+        }
+        catch (EOFException e) {}
+        return messages;
+    }
+
+    private static DAGValue build(DagBuilder builder, List<Message> messages,
+            long[] elapsed) throws Exception {
+        long start = System.nanoTime();
+        for (Message m : messages)
+            builder.add( m );
+        DAGValue dag = builder.toDAG();
+        elapsed[0] = (System.nanoTime() - start) / 1000000;
+        return dag;
+    }
+
+    /**
+     * @return a bitmap of the answers, so they can be compared across dags
+     */
+    private static boolean[] run(DAGValue dag, Expression[][] pairs, int count,
+            long[] elapsed) {
+        boolean[] answers = new boolean[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++)
+            answers[i] = dag.precedes( pairs[i][0], pairs[i][1] );
+        elapsed[0] = (System.nanoTime() - start) / 1000000;
+        return answers;
+    }
+
+    private static void compare(String capture) throws Exception {
+        List<Message> messages = load( capture );
+        Expression[] exprs = new Expression[messages.size()];
+        for (int i = 0; i < exprs.length; i++)
+            exprs[i] = new Expression( messages.get( i ).toASE() );
+
+        Random random = new Random( 0 );
+        Expression[][] pairs = new Expression[PAIRS][];
+        for (int i = 0; i < PAIRS; i++)
+            pairs[i] = new Expression[] { exprs[random.nextInt( exprs.length )],
+                    exprs[random.nextInt( exprs.length )] };
+
+        long[] explicitBuild = new long[1], searchBuild = new long[1], indexBuild = new long[1];
+        DAGValue explicit = build( new DagBuilder(), messages, explicitBuild );
+        DAGValue search = build( new FastDAGBuilder( false ), messages,
+            searchBuild );
+        DAGValue index = build( new FastDAGBuilder(), messages, indexBuild );
+
+        // Warm up each way before timing.
+        run( explicit, pairs, EXPLICIT_PAIRS / 10, new long[1] );
+        run( search, pairs, PAIRS / 10, new long[1] );
+        run( index, pairs, PAIRS / 10, new long[1] );
+
+        long[] explicitTime = new long[1], searchTime = new long[1], indexTime = new long[1];
+        boolean[] byExplicit = run( explicit, pairs, EXPLICIT_PAIRS,
+            explicitTime );
+        boolean[] bySearch = run( search, pairs, PAIRS, searchTime );
+        boolean[] byIndex = run( index, pairs, PAIRS, indexTime );
+
+        int preceding = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            assertEquals( "pair " + i, bySearch[i], byIndex[i] );
+            if (byIndex[i])
+                preceding++;
+        }
+        for (int i = 0; i < EXPLICIT_PAIRS; i++)
+            assertEquals( "pair " + i, byExplicit[i], byIndex[i] );
+
+        System.out.println( capture + ": " + messages.size() + " messages, "
+                + preceding + "/" + PAIRS + " pairs ordered" );
+        System.out.println( "  explicit: build " + explicitBuild[0] + "ms, "
+                + EXPLICIT_PAIRS + " queries " + explicitTime[0] + "ms" );
+        System.out.println( "  fast dag: build " + searchBuild[0] + "ms, "
+                + PAIRS + " queries " + searchTime[0] + "ms" );
+        System.out.println( "  indexed:  build " + indexBuild[0] + "ms, "
+                + PAIRS + " queries " + indexTime[0] + "ms" );
+    }
+
+    @Test
+    public void supervisor_logs() throws Exception {
+        for (String capture : CAPTURES)
+            compare( capture );
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DagPerformanceTest().supervisor_logs();
+    }
+}
@@ -31,6 +31,13 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 import edu.uconn.cse.adder.AdderInteger;
 import edu.uconn.cse.adder.Election;
@@ -56,9 +63,71 @@ public class BallotEncrypter {
     private ListExpression _recentBallot;
     
     private List<List<AdderInteger>> _adderRandom;
+    
+    //Randomness computed ahead of time, for the key it was computed for
+    private RandomnessPool<AdderInteger[]> _adderPool;
+    private PublicKey _adderPoolKey;
+    private RandomnessPool<BigInteger[]> _pool;
+    private Key _poolKey;
+    
+    //Race groups are encrypted on this, see getExecutor()
+    private Executor _executor;
+    private boolean _defaultExecutor = true;
 
     private BallotEncrypter() {
     }
+    
+    /**
+     * Start computing randomness in the background for encryptWithProof(...)
+     * with the given key, so that encrypting a ballot is mostly multiplications.
+     * Replaces any pool started before for a different key; a pool already
+     * started for this one is kept.
+     * 
+     * @param finalPubKey - the final Adder key ballots will be encrypted with,
+     *                      as the supervisor sent it
+     * @param capacity - the most encryptions' worth of randomness to hold
+     */
+    public synchronized void precompute(PublicKey finalPubKey, int capacity){
+    	if(_adderPool != null){
+    		if(finalPubKey.equals(_adderPoolKey))
+    			return;
+    		_adderPool.stop();
+    	}
+    	
+    	_adderPoolKey = finalPubKey;
+    	_adderPool = RandomnessPool.forKey(_adderPoolKey, capacity);
+    	_adderPool.start();
+    }
+    
+    /**
+     * Start computing randomness in the background for encrypt(...) with the
+     * given key.  Replaces any pool started before.
+     * 
+     * @param publicKey - the ElGamal key ballots will be encrypted with
+     * @param capacity - the most encryptions' worth of randomness to hold
+     */
+    public synchronized void precompute(Key publicKey, int capacity){
+    	if(_pool != null)
+    		_pool.stop();
+    	
+    	_poolKey = publicKey;
+    	_pool = RandomnessPool.forKey(publicKey, capacity);
+    	_pool.start();
+    }
+    
+    /**
+     * @return the pool of randomness for encryptWithProof(...), or null if there is none.
+     */
+    public RandomnessPool<AdderInteger[]> getAdderPool(){
+    	return _adderPool;
+    }
+    
+    /**
+     * @return the pool of randomness for encrypt(...), or null if there is none.
+     */
+    public RandomnessPool<BigInteger[]> getPool(){
+    	return _pool;
+    }
 
     /**
      * Takes an unencrypted ballot and encrypts it, while also generating a set of NIZKs to prove it is well formed.
@@ -69,8 +138,29 @@ public class BallotEncrypter {
      * @return a ListExpression in the form (((vote [vote]) (vote-ids ([id1], [id2], ...)) (proof [proof]) (public-key [key])) ...)
      */
     public ListExpression encryptWithProof(ListExpression ballot, List<List<String>> raceGroups, PublicKey pubKey){
-    	_adderRandom = new ArrayList<List<AdderInteger>>();
-    	List<ASExpression> subBallots = new ArrayList<ASExpression>();
+    	EncryptedBallot encrypted = encryptWithProof(ballot, raceGroups, pubKey, getExecutor());
+    	
+    	_adderRandom = new ArrayList<List<AdderInteger>>(encrypted.getRandom());
+    	_recentBallot = encrypted.getBallot();
+    	
+    	return _recentBallot;
+    }
+    
+    /**
+     * Takes an unencrypted ballot and encrypts it, while also generating a set of NIZKs to prove it is well formed.
+     * Unlike encryptWithProof(ballot, raceGroups, pubKey), this leaves the encrypter's state alone, so several threads
+     * may call it at once.  Each race group is encrypted and proven as its own task on the executor.  The calling
+     * thread takes any group no worker has started yet, so the call finishes even when the executor is busy.
+     * 
+     * @param ballot - Unencrypted ballot of the form ((race-id counter) ...) counter = {0, 1}
+     * @param raceGroups - a list of of groups of race-ids that are considered "together" in a well formed ballot.
+     * @param pubKey - the Adder PublicKey to use to encrypt the ballot and generate the NIZKs
+     * @param executor - runs the race groups, or null to encrypt them all on the calling thread
+     * @return the encrypted ballot, its race groups in the same order as raceGroups
+     */
+    public EncryptedBallot encryptWithProof(ListExpression ballot, List<List<String>> raceGroups, PublicKey pubKey, Executor executor){
+    	final PublicKey finalPubKey = AdderKeyManipulator.generateFinalPublicKey(pubKey);
+    	final RandomnessPool<AdderInteger[]> pool = poolFor(finalPubKey);
     	
     	Map<String, ListExpression> ballotMap = new HashMap<String, ListExpression>();
     	for(int i = 0; i < ballot.size(); i++){
@@ -79,18 +169,89 @@ public class BallotEncrypter {
     		ballotMap.put(id, vote);
     	}
     	
+    	List<FutureTask<EncryptedRace>> tasks = new ArrayList<FutureTask<EncryptedRace>>();
     	for(List<String> group : raceGroups){
     		List<ASExpression> races = new ArrayList<ASExpression>();
     		for(String raceId : group)
     			races.add(ballotMap.get(raceId));
     		
-    		ListExpression subBallot = new ListExpression(races);
-    		subBallots.add(encryptSublistWithProof(subBallot, pubKey));
+    		final ListExpression subBallot = new ListExpression(races);
+    		tasks.add(new FutureTask<EncryptedRace>(new Callable<EncryptedRace>(){
+    			public EncryptedRace call() {
+    				return encryptRace(subBallot, finalPubKey, pool);
+    			}
+    		}));
     	}
     	
-    	_recentBallot = new ListExpression(subBallots);
+    	if(pool != null)
+    		pool.pause();
     	
-    	return _recentBallot;
+    	try{
+    		if(executor != null){
+    			try{
+    				for(FutureTask<EncryptedRace> task : tasks)
+    					executor.execute(task);
+    			}catch(RejectedExecutionException e){
+    				//The rest are run below
+    			}
+    		}
+    		
+    		//Running a task a worker already started does nothing
+    		for(FutureTask<EncryptedRace> task : tasks)
+    			task.run();
+    		
+    		List<ASExpression> subBallots = new ArrayList<ASExpression>();
+    		List<Vote> votes = new ArrayList<Vote>();
+    		List<VoteProof> proofs = new ArrayList<VoteProof>();
+    		List<List<AdderInteger>> random = new ArrayList<List<AdderInteger>>();
+    		for(FutureTask<EncryptedRace> task : tasks){
+    			EncryptedRace race = task.get();
+    			subBallots.add(race.expression);
+    			votes.add(race.vote);
+    			proofs.add(race.proof);
+    			random.add(race.random);
+    		}
+    		
+    		return new EncryptedBallot(subBallots, votes, proofs, random);
+    	}catch(InterruptedException e){
+    		Thread.currentThread().interrupt();
+    		throw new RuntimeException("Interrupted while encrypting a ballot", e);
+    	}catch(ExecutionException e){
+    		throw new RuntimeException("Encrypting a race group failed", e.getCause());
+    	}finally{
+    		if(pool != null){
+    			pool.resume();
+    			Bugout.msg("Encryption randomness pool: "+pool);
+    		}
+    	}
+    }
+    
+    /**
+     * Sets the executor encryptWithProof(ballot, raceGroups, pubKey) encrypts race groups on.
+     * 
+     * @param executor - the executor, or null to encrypt on the calling thread
+     */
+    public synchronized void setExecutor(Executor executor){
+    	_executor = executor;
+    	_defaultExecutor = false;
+    }
+    
+    /**
+     * @return the executor encryptWithProof(ballot, raceGroups, pubKey) encrypts race groups on.
+     *         Unless setExecutor(...) was called, this is a pool with a daemon thread per processor.
+     */
+    public synchronized Executor getExecutor(){
+    	if(_executor == null && _defaultExecutor){
+    		_executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory(){
+    			public Thread newThread(Runnable r) {
+    				Thread t = new Thread(r, "BallotEncrypter");
+    				t.setDaemon(true);
+    				return t;
+    			}
+    		});
+    	}
+    	
+    	return _executor;
     }
     
     /**
@@ -102,8 +263,43 @@ public class BallotEncrypter {
      *          this is an Adder-style public key
      * @return An ListExpression of the form ((vote [vote]) (vote-ids ([id1], [id2], ...)) (proof [proof]) (public-key [key]))
      */
-    @SuppressWarnings("unchecked")
 	public ListExpression encryptSublistWithProof(ListExpression ballot, PublicKey pubKey){
+		PublicKey finalPubKey = AdderKeyManipulator.generateFinalPublicKey(pubKey);
+		EncryptedRace race = encryptRace(ballot, finalPubKey, poolFor(finalPubKey));
+		
+		_adderRandom.add(race.random);
+		
+		return race.expression;
+	}
+	
+	/**
+	 * @return the pool of randomness for the given final key, or null if there isn't one.
+	 */
+	private synchronized RandomnessPool<AdderInteger[]> poolFor(PublicKey finalPubKey){
+		return finalPubKey.equals(_adderPoolKey) ? _adderPool : null;
+	}
+	
+	/**
+	 * One encrypted race group.
+	 */
+	private static class EncryptedRace {
+		ListExpression expression;
+		Vote vote;
+		VoteProof proof;
+		List<AdderInteger> random;
+	}
+	
+	/**
+	 * Encrypt and prove one race group.  Touches nothing but its arguments, so
+	 * race groups may be encrypted on several threads at once.
+	 * 
+	 * @param ballot - the race group in the form ((race-id counter) ...)
+	 * @param finalPubKey - the final Adder key to encrypt with
+	 * @param pool - randomness computed ahead of time for finalPubKey, or null
+	 * @return the encrypted race group
+	 */
+    @SuppressWarnings("unchecked")
+	private static EncryptedRace encryptRace(ListExpression ballot, PublicKey finalPubKey, RandomnessPool<AdderInteger[]> pool){
     	List<AdderInteger> value = new ArrayList<AdderInteger>();
     	List<ASExpression> valueIds = new ArrayList<ASExpression>();
     	
@@ -112,10 +308,15 @@ public class BallotEncrypter {
     		value.add(new AdderInteger(choice.get(1).toString()));
     		valueIds.add(choice.get(0));
     	}//for
-    	
-    	PublicKey finalPubKey = AdderKeyManipulator.generateFinalPublicKey(pubKey);
 		
-		Vote vote = finalPubKey.encrypt(value);
+		Vote vote;
+		if(pool != null){
+			List<ElgamalCiphertext> encrypted = new ArrayList<ElgamalCiphertext>();
+			for(AdderInteger m : value)
+				encrypted.add(finalPubKey.encrypt(m, pool.take()));
+			vote = new Vote(encrypted);
+		}else
+			vote = finalPubKey.encrypt(value);
 		
 		List<ElgamalCiphertext> ciphers = (List<ElgamalCiphertext>)vote.getCipherList();
 		
@@ -123,8 +324,6 @@ public class BallotEncrypter {
 		for(ElgamalCiphertext cipher : ciphers)
 			subRandom.add(cipher.getR());
 		
-		_adderRandom.add(subRandom);
-		
 		VoteProof proof = new VoteProof();
 		proof.compute(vote, finalPubKey, value, 0, 1);
     	
@@ -140,9 +339,13 @@ public class BallotEncrypter {
 				//StringExpression.makeString(finalPubKey.toString()));
 				finalPubKey.toASE());
 		
-		ListExpression ret = new ListExpression(vList, idList, pList, kList);
+		EncryptedRace race = new EncryptedRace();
+		race.expression = new ListExpression(vList, idList, pList, kList);
+		race.vote = vote;
+		race.proof = proof;
+		race.random = subRandom;
 		
-		return ret;
+		return race;
     }
     
     /**
@@ -157,6 +360,43 @@ public class BallotEncrypter {
      *         ((race-id E(counter))...)
      */
     public ListExpression encrypt(ListExpression ballot, Key publicKey) {
+    	List<BigInteger> random = new ArrayList<BigInteger>();
+        _recentBallot = encrypt(ballot, publicKey, random);
+        _randomList = random;
+        return _recentBallot;
+    }
+    
+    /**
+     * Take an unencrypted ballot form and make it encrypted, like
+     * encrypt(ballot, publicKey), but without remembering it as the most
+     * recent ballot.  Several threads may call this at once.
+     * 
+     * @param ballot
+     *            This is the pre-encrypt ballot in the form ((race-id
+     *            counter)...)
+     * @param publicKey
+     * 			  this is the public ElGamal key used to encrypt the ballot
+     * @return This method returns the encrypted form of ballot in the form
+     *         ((race-id E(counter))...) and the random list in the form
+     *         ((race-id rvalue)...)
+     */
+    public Pair<ListExpression> encryptWithRandom(ListExpression ballot, Key publicKey) {
+    	List<BigInteger> random = new ArrayList<BigInteger>();
+    	ListExpression encrypted = encrypt(ballot, publicKey, random);
+    	return new Pair<ListExpression>(encrypted, toRandomList(encrypted, random));
+    }
+    
+    /**
+     * Encrypt a ballot, adding the randomness of each encryption to random.
+     */
+    private ListExpression encrypt(ListExpression ballot, Key publicKey, List<BigInteger> random) {
+    	RandomnessPool<BigInteger[]> pool;
+    	synchronized(this){
+    		pool = _pool;
+    		if(pool != null && !_poolKey.getKey().equals(publicKey.getKey()))
+    			pool = null;
+    	}
+    	
     	ElGamalCrypto.SINGLETON.clearRecentRandomness();
         ArrayList<ASExpression> encryptedpairs = new ArrayList<ASExpression>();
         for (ASExpression ase : ballot) {
@@ -167,7 +407,11 @@ public class BallotEncrypter {
                     publicKey, new BigInteger(count
                             .getBytes()));*/
             
-            Pair<BigInteger> cipher = ElGamalCrypto.SINGLETON.encrypt(publicKey, new BigInteger(count.toString()));
+            Pair<BigInteger> cipher;
+            if(pool != null)
+            	cipher = ElGamalCrypto.SINGLETON.encrypt(publicKey, new BigInteger(count.toString()), pool.take());
+            else
+            	cipher = ElGamalCrypto.SINGLETON.encrypt(publicKey, new BigInteger(count.toString()));
             /*ASExpression cipherase = new ListExpression(StringExpression
                     .makeString(cipher.get1().toByteArray()), StringExpression
                     .makeString(cipher.get2().toByteArray()));*/
@@ -175,10 +419,11 @@ public class BallotEncrypter {
             		StringExpression.makeString(cipher.get2().toString()));
             encryptedpairs.add(new ListExpression(id, cipherase));
         }
-        _recentBallot = new ListExpression(encryptedpairs);
-        _randomList = ElGamalCrypto.SINGLETON.getRecentRandomness();
-        ElGamalCrypto.SINGLETON.clearRecentRandomness();
-        return _recentBallot;
+        random.addAll(ElGamalCrypto.SINGLETON.getRecentRandomness());
+        if(pool != null)
+        	Bugout.msg("Encryption randomness pool: "+pool);
+        ElGamalCrypto.SINGLETON.clearRecentRandomness();
+        return new ListExpression(encryptedpairs);
     }
     
     /**
@@ -404,10 +649,19 @@ public class BallotEncrypter {
      * @return This method returns the random list in the form ((uid rvalue)...)
      */
     public ListExpression getRecentRandom() {
+        return toRandomList(_recentBallot, _randomList);
+    }
+    
+    /**
+     * Pair each race in an encrypted ballot with the randomness that encrypted it.
+     * 
+     * @return This method returns the random list in the form ((uid rvalue)...)
+     */
+    private static ListExpression toRandomList(ListExpression ballot, List<BigInteger> random) {
         ArrayList<ASExpression> pairs = new ArrayList<ASExpression>();
 
-        Iterator<ASExpression> ballotitr = _recentBallot.iterator();
-        Iterator<BigInteger> ritr = _randomList.iterator();
+        Iterator<ASExpression> ballotitr = ballot.iterator();
+        Iterator<BigInteger> ritr = random.iterator();
 
         while (ballotitr.hasNext()) {
             ListExpression ballotpair = (ListExpression) ballotitr.next();
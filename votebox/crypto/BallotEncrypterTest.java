@@ -0,0 +1,107 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+import sexpression.ASExpression;
+import sexpression.ListExpression;
+import sexpression.StringExpression;
+import votebox.crypto.interop.AdderKeyManipulator;
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.PublicKey;
+
+public class BallotEncrypterTest extends TestCase {
+
+	private static ListExpression race(String id, String count){
+		return new ListExpression(StringExpression.makeString(id), StringExpression.makeString(count));
+	}
+
+	private static List<String> group(String... ids){
+		List<String> group = new ArrayList<String>();
+		for(String id : ids)
+			group.add(id);
+		return group;
+	}
+
+	private static String ids(ASExpression encryptedRace){
+		return ((ListExpression)encryptedRace).get(1).toString();
+	}
+
+	public void testParallelMatchesSerial() throws Exception {
+		PublicKey key = PublicKey.makePartialKey(128);
+		key.genKeyPair();
+		PublicKey finalKey = AdderKeyManipulator.generateFinalPublicKey(key);
+
+		ListExpression ballot = new ListExpression(race("B0", "1"), race("B1", "0"), race("B2", "0"),
+				race("B3", "0"), race("B4", "1"), race("B5", "1"), race("B6", "0"));
+		List<List<String>> groups = new ArrayList<List<String>>();
+		groups.add(group("B3", "B4"));
+		groups.add(group("B0", "B1", "B2"));
+		groups.add(group("B6", "B5"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		EncryptedBallot parallel = BallotEncrypter.SINGLETON.encryptWithProof(ballot, groups, key, executor);
+		executor.shutdown();
+		EncryptedBallot serial = BallotEncrypter.SINGLETON.encryptWithProof(ballot, groups, key, null);
+
+		for(EncryptedBallot encrypted : new EncryptedBallot[]{ parallel, serial }){
+			assertEquals(groups.size(), encrypted.getBallot().size());
+			assertEquals(groups.size(), encrypted.getRandom().size());
+			for(int i = 0; i < groups.size(); i++){
+				assertEquals(ids(serial.getBallot().get(i)), ids(encrypted.getBallot().get(i)));
+				assertEquals(groups.get(i).size(), encrypted.getRandom().get(i).size());
+				assertTrue(encrypted.getProofs().get(i).verify(encrypted.getVotes().get(i), finalKey, 0, 1));
+			}
+
+			ListExpression decrypted = BallotEncrypter.SINGLETON.adderDecrypt(encrypted.getBallot(), encrypted.getRandom());
+			assertEquals(ballot.size(), decrypted.size());
+			for(ASExpression r : decrypted){
+				ListExpression pair = (ListExpression)r;
+				for(ASExpression original : ballot)
+					if(((ListExpression)original).get(0).equals(pair.get(0)))
+						assertEquals(new BigInteger(((ListExpression)original).get(1).toString()), AdderInteger.fromASE(pair.get(1)).bigintValue());
+			}
+		}
+	}
+
+	public void testLegacyStateStillRecorded() throws Exception {
+		PublicKey key = PublicKey.makePartialKey(128);
+		key.genKeyPair();
+
+		ListExpression ballot = new ListExpression(race("B0", "0"), race("B1", "1"));
+		List<List<String>> groups = new ArrayList<List<String>>();
+		groups.add(group("B0", "B1"));
+
+		ListExpression encrypted = BallotEncrypter.SINGLETON.encryptWithProof(ballot, groups, key);
+		assertEquals(encrypted, BallotEncrypter.SINGLETON.getRecentEncryptedBallot());
+		assertEquals(1, BallotEncrypter.SINGLETON.getRecentAdderRandom().size());
+		BallotEncrypter.SINGLETON.clear();
+	}
+}
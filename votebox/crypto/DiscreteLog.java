@@ -0,0 +1,140 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Takes discrete logs of small numbers to a fixed base by baby-step
+ * giant-step. The table holds base<sup>j</sup> for j below its size, keyed on
+ * the low 64 bits of each power, so finding log(y) takes log(y)/size
+ * multiplications plus one lookup each, instead of a modexp for every
+ * candidate. A table of size m answers anything below m in a single lookup.
+ * <br>
+ * <br>
+ * Tables are immutable once built and can be shared between threads. (Adder's
+ * {@link edu.uconn.cse.adder.DiscreteLog} instead grows under a lock to fit
+ * the bound it's asked for, and gives up past it.)
+ * 
+ * @author dwallach
+ * 
+ */
+public class DiscreteLog {
+
+    private final BigInteger _base;
+    private final BigInteger _mod;
+    private final int _size;
+
+    // base^-size, one giant step
+    private final BigInteger _giant;
+
+    // low 64 bits of base^j --> j, open addressed; -1 marks an empty slot
+    private final long[] _keys;
+    private final int[] _exps;
+
+    /**
+     * @param base
+     *            Take logs to this base.
+     * @param mod
+     *            Take logs modulo this prime.
+     * @param size
+     *            Precompute this many powers of the base (at least 1).
+     */
+    public DiscreteLog(BigInteger base, BigInteger mod, int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("table size " + size);
+
+        _base = base;
+        _mod = mod;
+        _size = size;
+
+        int capacity = Integer.highestOneBit(size) * 4;
+        _keys = new long[capacity];
+        _exps = new int[capacity];
+        Arrays.fill(_exps, -1);
+
+        BigInteger power = BigInteger.ONE;
+        for (int j = 0; j < size; j++) {
+            put(power.longValue(), j);
+            power = power.multiply(base).mod(mod);
+        }
+        _giant = power.modInverse(mod);
+    }
+
+    /**
+     * Find x such that base<sup>x</sup> = y.
+     * 
+     * @param y
+     *            Take the log of this value.
+     * @return This method returns the smallest such x. Like the search it
+     *         replaces, this method doesn't return if there is no such x.
+     */
+    public BigInteger log(BigInteger y) {
+        BigInteger gamma = y.mod(_mod);
+        for (long giant = 0; true; giant++) {
+            int j = find(gamma);
+            if (j >= 0)
+                return BigInteger.valueOf(giant * _size + j);
+            gamma = gamma.multiply(_giant).mod(_mod);
+        }
+    }
+
+    /**
+     * @return This method returns the number of powers precomputed.
+     */
+    public int size() {
+        return _size;
+    }
+
+    private void put(long key, int exp) {
+        int mask = _keys.length - 1;
+        int slot = slot(key, mask);
+        while (_exps[slot] != -1)
+            slot = (slot + 1) & mask;
+        _keys[slot] = key;
+        _exps[slot] = exp;
+    }
+
+    /**
+     * @return the exponent whose power is value, or -1 if it isn't in the
+     *         table. Two powers can share their low 64 bits, so a match is
+     *         checked against the full value.
+     */
+    private int find(BigInteger value) {
+        long key = value.longValue();
+        int mask = _keys.length - 1;
+        for (int slot = slot(key, mask); _exps[slot] != -1; slot = (slot + 1)
+                & mask) {
+            if (_keys[slot] == key
+                    && _base.modPow(BigInteger.valueOf(_exps[slot]), _mod)
+                            .equals(value))
+                return _exps[slot];
+        }
+        return -1;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
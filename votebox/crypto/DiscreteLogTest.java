@@ -0,0 +1,104 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import sexpression.ASExpression;
+import sexpression.ListExpression;
+import sexpression.StringExpression;
+import supervisor.model.tallier.EncryptedTallier;
+import auditorium.Key;
+
+public class DiscreteLogTest extends TestCase {
+
+	private static final BigInteger MOD = new BigInteger("1000000007");
+	private static final BigInteger BASE = new BigInteger("5");
+
+	public void testSmallTable() {
+		DiscreteLog log = new DiscreteLog(BASE, MOD, 16);
+
+		int[] xs = {0, 1, 15, 16, 17, 31, 32, 100, 1000, 12345};
+		for(int x : xs)
+			assertEquals(BigInteger.valueOf(x), log.log(BASE.modPow(BigInteger.valueOf(x), MOD)));
+	}
+
+	public void testTableOfOne() {
+		DiscreteLog log = new DiscreteLog(BASE, MOD, 1);
+
+		assertEquals(BigInteger.ZERO, log.log(BigInteger.ONE));
+		assertEquals(BigInteger.valueOf(77), log.log(BASE.modPow(BigInteger.valueOf(77), MOD)));
+	}
+
+	public void testElGamalTotals() {
+		ElGamalCrypto crypto = ElGamalCrypto.SINGLETON;
+		Pair<Key> keys = crypto.generate("test");
+
+		try{
+			// Totals past the table take giant steps.
+			int[] sizes = {7, 1 << 10};
+			for(int size : sizes){
+				crypto.setTableSize(size);
+
+				Pair<BigInteger> total = crypto.encrypt(keys.get1(), BigInteger.ZERO);
+				int expected = 0;
+				for(int vote = 1; vote <= 50; vote++){
+					total = crypto.mult(total, crypto.encrypt(keys.get1(), BigInteger.valueOf(vote)));
+					expected += vote;
+				}
+
+				assertEquals(BigInteger.valueOf(expected), crypto.decrypt(keys.get2(), total));
+			}
+		}finally{
+			crypto.setTableSize(ElGamalCrypto.DEFAULT_TABLE_SIZE);
+			crypto.clearRecentRandomness();
+		}
+	}
+
+	public void testEncryptedTallierReport() {
+		ElGamalCrypto crypto = ElGamalCrypto.SINGLETON;
+		Pair<Key> keys = crypto.generate("test");
+		EncryptedTallier tallier = new EncryptedTallier(keys.get2());
+
+		// Five races, each voted for by a different number of ballots.
+		for(int ballot = 0; ballot < 10; ballot++){
+			ASExpression[] votes = new ASExpression[5];
+			for(int race = 0; race < votes.length; race++){
+				Pair<BigInteger> vote = crypto.encrypt(keys.get1(), ballot < 2 * race ? BigInteger.ONE : BigInteger.ZERO);
+				votes[race] = new ListExpression(StringExpression.makeString("B" + race),
+						new ListExpression(StringExpression.makeString(vote.get1().toString()),
+								StringExpression.makeString(vote.get2().toString())));
+			}
+			tallier.recordVotes(new ListExpression(votes).toVerbatim(), null);
+		}
+		crypto.clearRecentRandomness();
+
+		Map<String, BigInteger> report = tallier.getReport();
+		assertEquals(5, report.size());
+		for(int race = 0; race < 5; race++)
+			assertEquals(BigInteger.valueOf(2 * race), report.get("B" + race));
+	}
+}
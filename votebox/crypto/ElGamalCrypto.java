@@ -24,8 +24,8 @@ package votebox.crypto;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import auditorium.Key;
 
@@ -55,16 +55,27 @@ public class ElGamalCrypto {
     private static final String PRIVATE_ANNOTATION = "ElGamalPrivate";
     private static final String PUBLIC_ANNOTATION = "ElGamalPublic";
 
-    // Precompute this many values for the member table (0 for now..)
-    private static final int TABLE_SIZE = 0;
+    /**
+     * Precompute this many powers of the member for decryption, unless
+     * setTableSize() says otherwise.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 1 << 16;
 
     // Member fields
     private final Modulus _modulusCls;
     private final BigInteger _mod;
     private final BigInteger _gen;
     private final BigInteger _member;
-    private final HashMap<BigInteger, BigInteger> _map;
-    private final ArrayList<BigInteger> _lastRandom;
+    // Each thread's encryptions are remembered separately, so several threads
+    // may encrypt at once
+    private final ThreadLocal<List<BigInteger>> _lastRandom;
+
+    // Discrete logs of decrypted values, built on first use
+    private int _tableSize = DEFAULT_TABLE_SIZE;
+    private volatile DiscreteLog _table;
+    // Set while a thread from precompute() is building the table. Not the
+    // monitor, which the build holds.
+    private final AtomicBoolean _building = new AtomicBoolean(false);
 
     private ElGamalCrypto() {
         _modulusCls = new Modulus(NUM_PRIME_BITS, PRIME_CONFIDENCE,
@@ -72,15 +83,61 @@ public class ElGamalCrypto {
         _mod = _modulusCls.getModulus();
         _gen = _modulusCls.getGenerator();
         _member = new BigInteger(MEMBER_STRING);
-        _map = new HashMap<BigInteger, BigInteger>();
-        _lastRandom = new ArrayList<BigInteger>();
-        initMap();
+        _lastRandom = new ThreadLocal<List<BigInteger>>() {
+            protected List<BigInteger> initialValue() {
+                return new ArrayList<BigInteger>();
+            }
+        };
+    }
+
+    /**
+     * Set how many powers of the member are precomputed for decryption. Any
+     * table already built is dropped, and the next decryption builds one of
+     * the new size. A table of n powers decrypts any total below n with one
+     * lookup; larger totals take one multiplication per further n.
+     * 
+     * @param size
+     *            Precompute this many powers (at least 1).
+     */
+    public synchronized void setTableSize(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("table size " + size);
+        _tableSize = size;
+        _table = null;
     }
 
-    private void initMap() {
-        for (int lcv = 0; lcv < TABLE_SIZE; lcv++) {
-            BigInteger blcv = new BigInteger(Integer.toString(lcv));
-            _map.put(_member.modPow(blcv, _mod), blcv);
+    /**
+     * Build the decryption table now, on a background thread, rather than
+     * during the first decryption. Decryptions that start before it's done
+     * wait for it. Does nothing if the table is built or being built.
+     */
+    public void precompute() {
+        if (_table != null || !_building.compareAndSet(false, true))
+            return;
+
+        Thread t = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    table();
+                }
+                finally {
+                    _building.set(false);
+                }
+            }
+        }, "ElGamalCrypto table");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private DiscreteLog table() {
+        DiscreteLog table = _table;
+        if (table != null)
+            return table;
+
+        synchronized (this) {
+            if (_table == null)
+                _table = new DiscreteLog(_member, _mod, _tableSize);
+            return _table;
         }
     }
 
@@ -111,15 +168,46 @@ public class ElGamalCrypto {
      * @return This method returns an ElGamal cipher Pair.
      */
     public Pair<BigInteger> encrypt(Key key, BigInteger plainText) {
+        return encrypt(key, plainText, precompute(key));
+    }
+
+    /**
+     * Pick the randomness for one encryption and compute its powers, which
+     * are the expensive part of encrypting. Done ahead of time, this leaves
+     * encrypt(key, plainText, precomputed) with multiplications only.
+     * 
+     * @param key
+     *            Encrypt with this key later.
+     * @return This method returns {r, g^r, key^r}.
+     */
+    public BigInteger[] precompute(Key key) {
+        BigInteger rnd = _modulusCls.getRandomValue();
+        return new BigInteger[] { rnd, _gen.modPow(rnd, _mod),
+                key.getKey().modPow(rnd, _mod) };
+    }
+
+    /**
+     * Perform an encryption with randomness from precompute(). The same
+     * randomness must never be used twice.
+     * 
+     * @param key
+     *            Encrypt with this key (the one given to precompute())
+     * @param plainText
+     *            Encrypt this plaintext.
+     * @param precomputed
+     *            This is {r, g^r, key^r}, from precompute().
+     * @return This method returns an ElGamal cipher Pair.
+     */
+    public Pair<BigInteger> encrypt(Key key, BigInteger plainText,
+            BigInteger[] precomputed) {
         if (plainText.compareTo(_mod) >= 0)
             throw new RuntimeException(
                     "Plaintext cannot be larger than modulus");
 
-        BigInteger rnd = _modulusCls.getRandomValue();
-        BigInteger c1 = _gen.modPow(rnd, _mod);
+        BigInteger c1 = precomputed[1];
         BigInteger c2 = _member.modPow(plainText, _mod).multiply(
-                key.getKey().modPow(rnd, _mod)).mod(_mod);
-        _lastRandom.add(rnd);
+                precomputed[2]).mod(_mod);
+        _lastRandom.get().add(precomputed[0]);
         return new Pair<BigInteger>(c1, c2);
     }
 
@@ -130,7 +218,8 @@ public class ElGamalCrypto {
      *            Decrypt with this key. (should be generated by generate())
      * @param cipherText
      *            Decrypt this cipher (should be generated by encrypt())
-     * @return This method returns the
+     * @return This method returns the plaintext. Several threads may
+     *         decrypt at once.
      */
     public BigInteger decrypt(Key key, Pair<BigInteger> cipherText) {
         return lookup(cipherText.get2().multiply(
@@ -155,29 +244,23 @@ public class ElGamalCrypto {
     }
 
     private BigInteger lookup(BigInteger i) {
-        if (_map.containsKey(i))
-            return _map.get(i);
-        else
-            for (int lcv = TABLE_SIZE; true; lcv++) {
-                BigInteger blcv = new BigInteger(Integer.toString(lcv));
-                if (_member.modPow(blcv, _mod).equals(i))
-                    return blcv;
-            }
+        return table().log(i);
     }
 
     /**
      * @return This method returns the most recent randomness used by the
-     *         encrypt method.
+     *         encrypt method on this thread.
      */
     public List<BigInteger> getRecentRandomness() {
-        return new ArrayList<BigInteger>(_lastRandom);
+        return new ArrayList<BigInteger>(_lastRandom.get());
     }
 
     /**
-     * Forget about the most recent randomness used by the encrypt method.
+     * Forget about the most recent randomness used by the encrypt method on
+     * this thread.
      */
     public void clearRecentRandomness() {
-        _lastRandom.clear();
+        _lastRandom.get().clear();
     }
 
     /**
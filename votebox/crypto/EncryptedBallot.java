@@ -0,0 +1,108 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import sexpression.ASExpression;
+import sexpression.ListExpression;
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.Vote;
+import edu.uconn.cse.adder.VoteProof;
+
+/**
+ * The result of encrypting one ballot with
+ * {@link BallotEncrypter#encryptWithProof(ListExpression, List, edu.uconn.cse.adder.PublicKey, java.util.concurrent.Executor)}:
+ * a vote, its proof and its randomness for each race group, in the order the
+ * race groups were given. Instances don't change once made, so they can be
+ * handed between threads freely.
+ * 
+ * @author Montrose
+ */
+public class EncryptedBallot {
+
+    private final ListExpression _ballot;
+    private final List<Vote> _votes;
+    private final List<VoteProof> _proofs;
+    private final List<List<AdderInteger>> _random;
+
+    /**
+     * @param groups
+     *            The encrypted race groups, in the form ((vote [vote])
+     *            (vote-ids ([id1], [id2], ...)) (proof [proof]) (public-key
+     *            [key])).
+     * @param votes
+     *            The vote of each race group.
+     * @param proofs
+     *            The proof of each race group's vote.
+     * @param random
+     *            The randomness each race group's counters were encrypted
+     *            with.
+     */
+    public EncryptedBallot(List<ASExpression> groups, List<Vote> votes,
+            List<VoteProof> proofs, List<List<AdderInteger>> random) {
+        _ballot = new ListExpression(groups);
+        _votes = Collections.unmodifiableList(new ArrayList<Vote>(votes));
+        _proofs = Collections.unmodifiableList(new ArrayList<VoteProof>(
+                proofs));
+
+        List<List<AdderInteger>> copy = new ArrayList<List<AdderInteger>>();
+        for (List<AdderInteger> group : random)
+            copy.add(Collections.unmodifiableList(new ArrayList<AdderInteger>(
+                    group)));
+        _random = Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * @return This method returns the ballot as it is sent, in the form
+     *         (((vote [vote]) (vote-ids ([id1], [id2], ...)) (proof [proof])
+     *         (public-key [key])) ...)
+     */
+    public ListExpression getBallot() {
+        return _ballot;
+    }
+
+    /**
+     * @return This method returns the vote of each race group.
+     */
+    public List<Vote> getVotes() {
+        return _votes;
+    }
+
+    /**
+     * @return This method returns the proof of each race group's vote.
+     */
+    public List<VoteProof> getProofs() {
+        return _proofs;
+    }
+
+    /**
+     * @return This method returns the randomness of each race group, which
+     *         decrypts the ballot if it's challenged.
+     */
+    public List<List<AdderInteger>> getRandom() {
+        return _random;
+    }
+}
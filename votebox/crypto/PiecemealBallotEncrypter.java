@@ -1,11 +1,21 @@
 package votebox.crypto;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
 import auditorium.Key;
 import sexpression.ASExpression;
@@ -17,44 +27,59 @@ import edu.uconn.cse.adder.PublicKey;
  * Wrapper around BallotEncrypter to allow for concealing
  * as much of the time spent encrypting as possible behind
  * VoteBox's UI actions.
+ * 
+ * Each card is encrypted as its own task, so independent cards are encrypted in parallel.
+ * Only the latest update of a card matters: updating it again cancels the earlier encryption,
+ * whether it has started or not.  Once the voter is done, the ballot is waiting on at most the
+ * cards changed since their last update was started.
  * @author Montrose
  */
 public class PiecemealBallotEncrypter {
 	public static PiecemealBallotEncrypter SINGELTON = new PiecemealBallotEncrypter();
 
-	private Map<String, ListExpression> _voteCache   = new HashMap<String, ListExpression>();
-	private Map<String, ListExpression> _randomCache = new HashMap<String, ListExpression>();
+	/**
+	 * One encrypted card.
+	 */
+	protected static class EncryptedCard {
+		public final ListExpression vote;
+		public final ListExpression random;
 
-	private boolean _adderMode = false;
-	private boolean _pureMode  = false;
+		public EncryptedCard(ListExpression vote, ListExpression random){
+			this.vote = vote;
+			this.random = random;
+		}
+	}
 
-	private List<Runnable> _pendingActions = new ArrayList<Runnable>();
-	
-	private Thread         _worker = new Thread(){
-		public void run(){
-			while(true){
-				List<Runnable> copy = null;
+	/**
+	 * The encryption of one card, which checks whether the ballot can be put
+	 * together whenever it finishes or is cancelled.
+	 */
+	private class CardTask extends FutureTask<EncryptedCard> {
+		public CardTask(Callable<EncryptedCard> encryption){
+			super(encryption);
+		}
 
-				synchronized(_pendingActions){
-					if(_pendingActions.size() == 0){
-						try {
-							_pendingActions.wait();
-						} catch (InterruptedException e) {}
-					}//if
+		protected void done(){
+			resolveWaiting();
+		}
+	}
 
-					copy = new ArrayList<Runnable>(_pendingActions);
-					_pendingActions.clear();
-				}
+	//card id -> the latest encryption of that card, finished or not
+	private Map<String, Future<EncryptedCard>> _cards = new HashMap<String, Future<EncryptedCard>>();
 
-				for(Runnable r : copy)
-					r.run();
-			}
-		}
-	};
+	//card id -> the latest update of that card, to encrypt it again if its encryption was abandoned
+	private Map<String, Callable<EncryptedCard>> _inputs = new HashMap<String, Callable<EncryptedCard>>();
 
-	private PiecemealBallotEncrypter(){
-		_worker.start();
-	}
+	//Ballots handed out by getEncryptedBallotFuture() that aren't resolved yet
+	private List<CompletableFuture<ListExpression>> _waiting = new ArrayList<CompletableFuture<ListExpression>>();
+
+	private boolean _adderMode = false;
+	private boolean _pureMode  = false;
+
+	//Cards are encrypted on this, see getExecutor()
+	private Executor _executor = null;
+
+	private PiecemealBallotEncrypter(){}
 
 	/**
 	 * Updates a piecemeal encryption of a ballot, if we're using Adder style ballots
@@ -64,42 +89,35 @@ public class PiecemealBallotEncrypter {
 	 * @param cardGroup - the grouping to provide a NIZK for (redundant, but helpful for debugging)
 	 * @param publicKey - the key to use to encrypt the ballot
 	 */
-	public void adderUpdate(final String id, final List<ASExpression> singleCard, final List<String> cardGroup, final PublicKey publicKey){
+	public synchronized void adderUpdate(final String id, final List<ASExpression> singleCard, final List<String> cardGroup, final PublicKey publicKey){
 		if(_pureMode)
 			throw new RuntimeException("Cannot mix Adder and VoteBox style ballots");
 
 		_adderMode = true;
 
-		Runnable r = new Runnable(){
-			public void run(){
-				adderUpdateImpl(id, new ListExpression(singleCard), cardGroup, publicKey);
+		submit(id, new Callable<EncryptedCard>(){
+			public EncryptedCard call(){
+				return adderUpdateImpl(id, new ListExpression(singleCard), cardGroup, publicKey);
 			}
-		};
-
-		synchronized(_pendingActions){
-			_pendingActions.add(r);
-			_pendingActions.notify();
-		}
+		});
 	}
 
 	/**
 	 * Actual implementation of  adderUpdate(...)
 	 * 
-	 * @see PiecemealBallotEncrypter#adderUpdate(String, ListExpression, List, PublicKey)
+	 * @see PiecemealBallotEncrypter#adderUpdate(String, List, List, PublicKey)
 	 */
-	protected void adderUpdateImpl(String id, ListExpression singleCard, List<String> cardGroup, PublicKey publicKey){
+	protected EncryptedCard adderUpdateImpl(String id, ListExpression singleCard, List<String> cardGroup, PublicKey publicKey){
 		List<List<String>> groups = new ArrayList<List<String>>();
 		groups.add(cardGroup);
 
-		_voteCache.put(id, BallotEncrypter.SINGLETON.encryptWithProof(singleCard, groups, publicKey));
+		EncryptedBallot encrypted = BallotEncrypter.SINGLETON.encryptWithProof(singleCard, groups, publicKey, null);
 
-		List<AdderInteger> randoms = BallotEncrypter.SINGLETON.getRecentAdderRandom().get(0);
 		List<ASExpression> randomExps = new ArrayList<ASExpression>();
-		for(AdderInteger r : randoms)
+		for(AdderInteger r : encrypted.getRandom().get(0))
 			randomExps.add(r.toASE());
 
-
-		_randomCache.put(id, new ListExpression(randomExps));
+		return new EncryptedCard(encrypted.getBallot(), new ListExpression(randomExps));
 	}
 
 	/**
@@ -108,32 +126,50 @@ public class PiecemealBallotEncrypter {
 	 * @param singleCard - the (id [counter]) pair list to encrypt.
 	 * @param publicKey - the key to use to encrypt the ballot.
 	 */
-	public void update(final String id, final List<ASExpression> singleCard, final Key publicKey){
+	public synchronized void update(final String id, final List<ASExpression> singleCard, final Key publicKey){
 		if(_adderMode)
 			throw new RuntimeException("Cannot mix Adder and VoteBox style ballots");
 
 		_pureMode = true;
 
-		Runnable r = new Runnable(){
-			public void run(){
-				updateImpl(id, new ListExpression(singleCard), publicKey);
+		submit(id, new Callable<EncryptedCard>(){
+			public EncryptedCard call(){
+				return updateImpl(id, new ListExpression(singleCard), publicKey);
 			}
-		};
-
-		synchronized(_pendingActions){
-			_pendingActions.add(r);
-			_pendingActions.notify();
-		}
+		});
 	}
 
 	/**
 	 * Actual implementation of  update(...)
 	 * 
-	 * @see PiecemealBallotEncrypter#update(String, ListExpression, Key)
+	 * @see PiecemealBallotEncrypter#update(String, List, Key)
 	 */
-	protected void updateImpl(String id, ListExpression singleCard, Key publicKey){
-		_voteCache.put(id, BallotEncrypter.SINGLETON.encrypt(singleCard, publicKey));
-		_randomCache.put(id, BallotEncrypter.SINGLETON.getRecentRandom());
+	protected EncryptedCard updateImpl(String id, ListExpression singleCard, Key publicKey){
+		Pair<ListExpression> encrypted = BallotEncrypter.SINGLETON.encryptWithRandom(singleCard, publicKey);
+		return new EncryptedCard(encrypted.get1(), encrypted.get2());
+	}
+
+	/**
+	 * Start encrypting a card, superseding any earlier encryption of it.
+	 */
+	private synchronized void submit(String id, Callable<EncryptedCard> encryption){
+		FutureTask<EncryptedCard> task = new CardTask(encryption);
+
+		Future<EncryptedCard> superseded = _cards.put(id, task);
+		_inputs.put(id, encryption);
+		if(superseded != null)
+			superseded.cancel(true);
+
+		getExecutor().execute(task);
+	}
+
+	/**
+	 * Encrypt a card again from its latest update, if its encryption was abandoned
+	 * and hasn't been superseded since.
+	 */
+	private synchronized void reencrypt(String id, Future<EncryptedCard> card){
+		if(_cards.get(id) == card)
+			submit(id, _inputs.get(id));
 	}
 
 	/**
@@ -141,10 +177,51 @@ public class PiecemealBallotEncrypter {
 	 * Call after concluding a voting session (following challenge/cast-commit, etc.)
 	 */
 	public void clear(){
-		_voteCache.clear();
-		_randomCache.clear();
-		_adderMode = false;
-		_pureMode = false;
+		List<Future<EncryptedCard>> cards;
+		List<CompletableFuture<ListExpression>> waiting;
+		synchronized(this){
+			cards = new ArrayList<Future<EncryptedCard>>(_cards.values());
+			waiting = new ArrayList<CompletableFuture<ListExpression>>(_waiting);
+
+			_cards.clear();
+			_inputs.clear();
+			_waiting.clear();
+			_adderMode = false;
+			_pureMode = false;
+		}
+
+		for(Future<EncryptedCard> card : cards)
+			card.cancel(true);
+
+		for(CompletableFuture<ListExpression> ballot : waiting)
+			ballot.cancel(true);
+	}
+
+	/**
+	 * Sets the executor cards are encrypted on.
+	 * 
+	 * @param executor - the executor
+	 */
+	public synchronized void setExecutor(Executor executor){
+		_executor = executor;
+	}
+
+	/**
+	 * @return the executor cards are encrypted on.
+	 *         Unless setExecutor(...) was called, this is a pool with a daemon thread per processor.
+	 */
+	public synchronized Executor getExecutor(){
+		if(_executor == null){
+			_executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory(){
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "PiecemealBallotEncrypter");
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+
+		return _executor;
 	}
 
 	/**
@@ -153,43 +230,134 @@ public class PiecemealBallotEncrypter {
 	 * @return the encrypted ballot, in a form dependent upon which update was called.
 	 */
 	public ListExpression getEncryptedBallot(){
-		final List<ListExpression> retVal = new ArrayList<ListExpression>();
+		return getEncryptedBallotImpl(awaitCards());
+	}
 
-		Runnable r = new Runnable(){
-			public void run(){
-				synchronized(retVal){
-					retVal.add(getEncryptedBallotImpl());
-					retVal.notify();
-				}
+	/**
+	 * A handle on the encrypted ballot, for callers that don't want to block right away.
+	 * It is resolved once the latest encryption of every card has finished, so cards
+	 * updated before then are included in their latest form.  If a card can't be
+	 * encrypted, it fails with the reason.
+	 * 
+	 * Cancelling it, when no other handle is waiting, cancels the card encryptions
+	 * still pending.  Those cards are encrypted again the next time the ballot is asked for.
+	 * Clearing the encrypter cancels every handle still waiting.
+	 * 
+	 * @return the encrypted ballot, in a form dependent upon which update was called.
+	 */
+	public CompletableFuture<ListExpression> getEncryptedBallotFuture(){
+		CompletableFuture<ListExpression> ballot = new CompletableFuture<ListExpression>(){
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+				if(cancelled)
+					abandon(this, mayInterruptIfRunning);
+
+				return cancelled;
 			}
 		};
 
-		synchronized(_pendingActions){
-			_pendingActions.add(r);
-			_pendingActions.notify();
+		synchronized(this){
+			_waiting.add(ballot);
+		}
+
+		resolveWaiting();
+		return ballot;
+	}
+
+	/**
+	 * Resolve every waiting ballot, if the latest encryption of every card has finished.
+	 */
+	private void resolveWaiting(){
+		List<CompletableFuture<ListExpression>> waiting = null;
+		Map<String, EncryptedCard> cards = new HashMap<String, EncryptedCard>();
+		Map<String, Future<EncryptedCard>> abandoned = new HashMap<String, Future<EncryptedCard>>();
+		Throwable failure = null;
+
+		synchronized(this){
+			if(_waiting.isEmpty())
+				return;
+
+			boolean pending = false;
+			for(Map.Entry<String, Future<EncryptedCard>> card : _cards.entrySet()){
+				if(card.getValue().isCancelled())
+					abandoned.put(card.getKey(), card.getValue());
+				else if(!card.getValue().isDone())
+					pending = true;
+			}
+
+			if(pending && abandoned.isEmpty())
+				return;
+
+			if(abandoned.isEmpty()){
+				for(Map.Entry<String, Future<EncryptedCard>> card : _cards.entrySet()){
+					try{
+						cards.put(card.getKey(), card.getValue().get());
+					}catch(ExecutionException e){
+						failure = e.getCause();
+					}catch(InterruptedException e){
+						//Can't happen, the card is done
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				waiting = new ArrayList<CompletableFuture<ListExpression>>(_waiting);
+				_waiting.clear();
+			}
 		}
 
-		synchronized(retVal){
-			try {
-				retVal.wait();
-			} catch (InterruptedException e) {}
+		//Abandoned while nothing waited on them, so encrypt them again; the ballot
+		//is resolved once they finish
+		if(!abandoned.isEmpty()){
+			for(Map.Entry<String, Future<EncryptedCard>> card : abandoned.entrySet())
+				reencrypt(card.getKey(), card.getValue());
+			return;
 		}
 
-		return retVal.get(0);
+		//Complete outside the lock, since whatever is chained on a ballot runs here
+		ListExpression ballot = failure == null ? getEncryptedBallotImpl(cards) : null;
+		for(CompletableFuture<ListExpression> future : waiting){
+			if(failure == null)
+				future.complete(ballot);
+			else
+				future.completeExceptionally(failure);
+		}
 	}
 
-	protected ListExpression getEncryptedBallotImpl(){
+	/**
+	 * Stop waiting on a cancelled ballot.  If nothing else is waiting, cancel the
+	 * encryptions of cards that haven't finished.  They stay in place, cancelled, so
+	 * they are encrypted again from their latest update when the ballot is next asked for.
+	 */
+	private void abandon(CompletableFuture<ListExpression> ballot, boolean mayInterruptIfRunning){
+		List<Future<EncryptedCard>> pending = new ArrayList<Future<EncryptedCard>>();
+
+		synchronized(this){
+			//Already resolved, or let go by clear()
+			if(!_waiting.remove(ballot) || !_waiting.isEmpty())
+				return;
+
+			for(Future<EncryptedCard> card : _cards.values())
+				if(!card.isDone())
+					pending.add(card);
+		}
+
+		for(Future<EncryptedCard> card : pending)
+			card.cancel(mayInterruptIfRunning);
+	}
+
+	protected ListExpression getEncryptedBallotImpl(Map<String, EncryptedCard> cards){
 		List<ASExpression> subBallots = new ArrayList<ASExpression>();
 
 		/*
 		 * Kind of a trick here.
 		 * Normal ballots are of the form ((id [counter]) (id [counter]) ...)
 		 * Adder ballots are of the form ((vote (lots of data for multiple counters...)) (vote (lots of data ...)))
-		 * This means that with Adder "on", _voteCache contains a bunch of single element lists
+		 * This means that with Adder "on", each card's vote is a single element list
 		 * This code handles both ballot types without any branching.
 		 */
-		for(String id : canonicalIdOrder()){
-			ListExpression exp = _voteCache.get(id);
+		for(String id : canonicalIdOrder(cards.keySet())){
+			ListExpression exp = cards.get(id).vote;
 			for(int i = 0; i < exp.size(); i++){
 				subBallots.add(exp.get(i));
 			}
@@ -199,15 +367,68 @@ public class PiecemealBallotEncrypter {
 	}
 
 	/**
-	 * Provides a canonical ordering of the ids found in _voteCache.
+	 * Wait for the latest encryption of every card.  A card updated while this waits
+	 * is waited on in its new form instead.
+	 * 
+	 * @return the encrypted cards, by id
+	 */
+	private Map<String, EncryptedCard> awaitCardsOrThrow() throws InterruptedException, ExecutionException {
+		List<String> ids;
+		synchronized(this){
+			ids = new ArrayList<String>(_cards.keySet());
+		}
+
+		Map<String, EncryptedCard> cards = new HashMap<String, EncryptedCard>();
+		for(String id : ids){
+			while(true){
+				Future<EncryptedCard> card;
+				synchronized(this){
+					card = _cards.get(id);
+				}
+
+				//Cleared while we waited
+				if(card == null)
+					break;
+
+				try{
+					cards.put(id, card.get());
+					break;
+				}catch(CancellationException e){
+					//Superseded, so wait for the update that replaced it,
+					//or abandoned, so encrypt it again
+					reencrypt(id, card);
+				}
+			}
+		}
+
+		return cards;
+	}
+
+	/**
+	 * Wait for the latest encryption of every card, turning failures into RuntimeExceptions.
+	 */
+	private Map<String, EncryptedCard> awaitCards(){
+		try{
+			return awaitCardsOrThrow();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the ballot to be encrypted", e);
+		}catch(ExecutionException e){
+			throw new RuntimeException("Encrypting a card failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Provides a canonical ordering of the ids of encrypted cards.
 	 * Necessary given the uncertainty of which order the ballot will be traversed in,
 	 * to say nothing of concurrency concerns and call orders.
 	 * 
-	 * @return the order to traverse the _voteCache in while building the final ballot and/or the random list
+	 * @param cardIds - the ids of the cards
+	 * @return the order to traverse the cards in while building the final ballot and/or the random list
 	 */
-	protected List<String> canonicalIdOrder(){
+	protected List<String> canonicalIdOrder(Collection<String> cardIds){
 		List<String> ids = new ArrayList<String>();
-		ids.addAll(_voteCache.keySet());
+		ids.addAll(cardIds);
 
 		Collections.sort(ids, new Comparator<String>(){
 			public int compare(String o1, String o2) {
@@ -233,33 +454,14 @@ public class PiecemealBallotEncrypter {
 	 * @return A ListExpression containing the random values used to encrypt the last ballot cast
 	 */
 	public ListExpression getRecentRandom(){
-		final List<ASExpression> randoms = new ArrayList<ASExpression>();
-
+		Map<String, EncryptedCard> cards = awaitCards();
 
-		Runnable r = new Runnable(){
-			public void run(){
-				synchronized(randoms){
-					for(String id : canonicalIdOrder()){
-						ListExpression exp = _randomCache.get(id);
-						for(int i = 0; i < exp.size(); i++){
-							randoms.add(exp.get(i));
-						}
-					}
-
-					randoms.notify();
-				}
+		List<ASExpression> randoms = new ArrayList<ASExpression>();
+		for(String id : canonicalIdOrder(cards.keySet())){
+			ListExpression exp = cards.get(id).random;
+			for(int i = 0; i < exp.size(); i++){
+				randoms.add(exp.get(i));
 			}
-		};
-
-		synchronized(_pendingActions){
-			_pendingActions.add(r);
-			_pendingActions.notify();
-		}
-
-		synchronized(randoms){
-			try {
-				randoms.wait();
-			} catch (InterruptedException e) {}
 		}
 
 		return new ListExpression(randoms);
@@ -269,35 +471,17 @@ public class PiecemealBallotEncrypter {
 	 * @return the random values used to encrypt the last ballot cast.
 	 */
 	public List<List<AdderInteger>> getRecentAdderRandom(){
-		final List<List<AdderInteger>> randoms = new ArrayList<List<AdderInteger>>();
-
-		Runnable r = new Runnable(){
-			public void run(){
-				synchronized(randoms){
-					for(String id : canonicalIdOrder()){
-						ListExpression exp = _randomCache.get(id);
-						List<AdderInteger> subRandom = new ArrayList<AdderInteger>();
-						for(int i = 0; i < exp.size(); i++){
-							subRandom.add(AdderInteger.fromASE(exp.get(i)));
-						}
-
-						randoms.add(subRandom);
-					}
+		Map<String, EncryptedCard> cards = awaitCards();
 
-					randoms.notify();
-				}
+		List<List<AdderInteger>> randoms = new ArrayList<List<AdderInteger>>();
+		for(String id : canonicalIdOrder(cards.keySet())){
+			ListExpression exp = cards.get(id).random;
+			List<AdderInteger> subRandom = new ArrayList<AdderInteger>();
+			for(int i = 0; i < exp.size(); i++){
+				subRandom.add(AdderInteger.fromASE(exp.get(i)));
 			}
-		};
-
-		synchronized(_pendingActions){
-			_pendingActions.add(r);
-			_pendingActions.notify();
-		}
 
-		synchronized(randoms){
-			try {
-				randoms.wait();
-			} catch (InterruptedException e) {}
+			randoms.add(subRandom);
 		}
 
 		return randoms;
@@ -4,6 +4,14 @@ import java.io.File;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -276,4 +284,192 @@ public class PiecemealEncrypterTest {
 			}
 		}
 	}
+
+	@Test
+	public void supersededTest() throws Exception{
+		System.out.println("supersededTest:");
+
+		List<Card> cards = _ballot.getCards();
+
+		for(Card card : cards)
+			for(SelectableCardElement elem : card.getElements())
+				elem.deselect();
+
+		//Change every card's selection several times; only the last should count
+		SecureRandom rand = new SecureRandom(_seeds.get(0));
+		for(int change = 0; change < 3; change++){
+			for(Card card : cards){
+				for(SelectableCardElement elem : card.getElements())
+					elem.deselect();
+
+				List<SelectableCardElement> elems = card.getElements();
+				elems.get(rand.nextInt(elems.size())).select();
+
+				PiecemealBallotEncrypter.SINGELTON.update(card.getUniqueID(), card.getCastBallot(), _publicKey);
+			}
+		}
+
+		ListExpression ballot = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture().get(60, TimeUnit.SECONDS);
+		ListExpression random = PiecemealBallotEncrypter.SINGELTON.getRecentRandom();
+
+		PiecemealBallotEncrypter.SINGELTON.clear();
+
+		ListExpression decrypted = BallotEncrypter.SINGLETON.decrypt(ballot, random, _publicKey);
+		ListExpression expected  = _ballot.getCastBallot();
+
+		Assert.assertEquals("Decrypted ballot same size as original", expected.size(), decrypted.size());
+
+		for(int i = 0; i < expected.size(); i++){
+			boolean found = false;
+
+			for(int j = 0; j < decrypted.size(); j++)
+				if(expected.get(i).equals(decrypted.get(j)))
+					found = true;
+
+			Assert.assertTrue("Could not find <"+expected.get(i)+"> in decrypted ballot.", found);
+		}
+	}
+
+	/**
+	 * Holds every card encryption until told to run them.
+	 */
+	class HeldExecutor implements Executor {
+		public final List<Runnable> held = new ArrayList<Runnable>();
+
+		public synchronized void execute(Runnable command) {
+			held.add(command);
+		}
+
+		public synchronized void runAll(){
+			for(Runnable r : held)
+				r.run();
+
+			held.clear();
+		}
+	}
+
+	/**
+	 * Selects the first element of every card and submits them all.
+	 */
+	protected void updateAll(Key key) throws Exception{
+		for(Card card : _ballot.getCards()){
+			for(SelectableCardElement elem : card.getElements())
+				elem.deselect();
+
+			card.getElements().get(0).select();
+
+			PiecemealBallotEncrypter.SINGELTON.update(card.getUniqueID(), card.getCastBallot(), key);
+		}
+	}
+
+	@Test
+	public void futureTest() throws Exception{
+		System.out.println("futureTest:");
+
+		HeldExecutor executor = new HeldExecutor();
+		PiecemealBallotEncrypter.SINGELTON.clear();
+		PiecemealBallotEncrypter.SINGELTON.setExecutor(executor);
+
+		try{
+			updateAll(_publicKey);
+
+			CompletableFuture<ListExpression> ballot = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+			CompletableFuture<Integer> size = ballot.thenApply(new Function<ListExpression, Integer>(){
+				public Integer apply(ListExpression encrypted) {
+					return encrypted.size();
+				}
+			});
+
+			try{
+				ballot.get(10, TimeUnit.MILLISECONDS);
+				Assert.fail("Nothing has been encrypted yet");
+			}catch(TimeoutException e){}
+
+			Assert.assertFalse(size.isDone());
+
+			executor.runAll();
+
+			Assert.assertTrue(ballot.isDone());
+			Assert.assertEquals(ballot.get(), PiecemealBallotEncrypter.SINGELTON.getEncryptedBallot());
+			Assert.assertEquals(Integer.valueOf(_ballot.getCastBallot().size()), size.get());
+		}finally{
+			PiecemealBallotEncrypter.SINGELTON.clear();
+			PiecemealBallotEncrypter.SINGELTON.setExecutor(null);
+		}
+	}
+
+	@Test
+	public void futureFailureTest() throws Exception{
+		System.out.println("futureFailureTest:");
+
+		HeldExecutor executor = new HeldExecutor();
+		PiecemealBallotEncrypter.SINGELTON.clear();
+		PiecemealBallotEncrypter.SINGELTON.setExecutor(executor);
+
+		try{
+			//No key to encrypt with
+			updateAll(null);
+
+			CompletableFuture<ListExpression> ballot = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+			executor.runAll();
+
+			try{
+				ballot.get();
+				Assert.fail("Encrypting without a key should fail");
+			}catch(ExecutionException e){}
+		}finally{
+			PiecemealBallotEncrypter.SINGELTON.clear();
+			PiecemealBallotEncrypter.SINGELTON.setExecutor(null);
+		}
+	}
+
+	@Test
+	public void cancelTest() throws Exception{
+		System.out.println("cancelTest:");
+
+		HeldExecutor executor = new HeldExecutor();
+		PiecemealBallotEncrypter.SINGELTON.clear();
+		PiecemealBallotEncrypter.SINGELTON.setExecutor(executor);
+
+		try{
+			updateAll(_publicKey);
+
+			CompletableFuture<ListExpression> first = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+			CompletableFuture<ListExpression> second = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+
+			//Another handle is still waiting, so the cards carry on
+			Assert.assertTrue(first.cancel(true));
+			Assert.assertTrue(first.isCancelled());
+			Assert.assertFalse(second.isDone());
+
+			//The last handle takes the pending cards with it
+			Assert.assertTrue(second.cancel(true));
+			for(Runnable card : executor.held)
+				Assert.assertTrue(((Future<?>)card).isCancelled());
+
+			executor.runAll();
+
+			try{
+				second.get();
+				Assert.fail("The ballot was cancelled");
+			}catch(CancellationException e){}
+
+			//The abandoned cards are encrypted again, not dropped
+			CompletableFuture<ListExpression> again = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+			Assert.assertFalse(again.isDone());
+			executor.runAll();
+			Assert.assertTrue(again.isDone());
+			Assert.assertEquals(_ballot.getCastBallot().size(), again.get().size());
+			Assert.assertEquals(again.get(), PiecemealBallotEncrypter.SINGELTON.getEncryptedBallot());
+
+			//Clearing cancels a ballot still waiting
+			updateAll(_publicKey);
+			CompletableFuture<ListExpression> third = PiecemealBallotEncrypter.SINGELTON.getEncryptedBallotFuture();
+			PiecemealBallotEncrypter.SINGELTON.clear();
+			Assert.assertTrue(third.isCancelled());
+		}finally{
+			PiecemealBallotEncrypter.SINGELTON.clear();
+			PiecemealBallotEncrypter.SINGELTON.setExecutor(null);
+		}
+	}
 }
\ No newline at end of file
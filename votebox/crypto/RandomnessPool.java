@@ -0,0 +1,274 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.math.BigInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import auditorium.Key;
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.PublicKey;
+
+/**
+ * Holds encryption randomness whose powers have already been computed, so
+ * that encrypting a ballot costs multiplications instead of two modexps per
+ * counter. A low priority thread keeps the pool full in the background while
+ * the booth sits idle or the voter reads a page, and stops when it is full.
+ * If the pool runs dry, take() computes what it needs on the spot.<br>
+ * <br>
+ * The randomness is secret: it only ever lives in this pool's memory, and
+ * each entry is handed out once and then dropped.
+ * 
+ * @param <T>
+ *            Each entry is one of these, e.g. {r, g^r, h^r}.
+ * @author Montrose
+ */
+public class RandomnessPool<T> {
+
+    /**
+     * Makes the entries the pool holds.
+     */
+    public interface ISource<T> {
+        /**
+         * @return This method returns a new entry, made with fresh randomness.
+         *         Called from the refill thread.
+         */
+        public T next();
+    }
+
+    /**
+     * Hold this many entries unless told otherwise.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final ISource<T> _source;
+    private final int _capacity;
+    private final ArrayBlockingQueue<T> _pool;
+
+    private Thread _refill = null;
+    private volatile boolean _stopped = false;
+    private int _paused = 0;
+
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _generated = new AtomicLong();
+    private final AtomicLong _refillNanos = new AtomicLong();
+
+    /**
+     * @param source
+     *            Make entries with this.
+     * @param capacity
+     *            Hold at most this many entries.
+     */
+    public RandomnessPool(ISource<T> source, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity " + capacity);
+        _source = source;
+        _capacity = capacity;
+        _pool = new ArrayBlockingQueue<T>(capacity);
+    }
+
+    /**
+     * Make a pool of {r, g^r, h^r} for encrypting with the given Adder key.
+     * 
+     * @param key
+     *            Entries are for PublicKey.encrypt(m, entry) on this key.
+     * @param capacity
+     *            Hold at most this many entries.
+     * @return This method returns the pool, not yet started.
+     */
+    public static RandomnessPool<AdderInteger[]> forKey(final PublicKey key,
+            int capacity) {
+        return new RandomnessPool<AdderInteger[]>(
+                new ISource<AdderInteger[]>() {
+                    public AdderInteger[] next() {
+                        return key.precompute();
+                    }
+                }, capacity);
+    }
+
+    /**
+     * Make a pool of {r, g^r, key^r} for ElGamalCrypto encryptions under the
+     * given key.
+     * 
+     * @param key
+     *            Entries are for ElGamalCrypto.encrypt(key, m, entry).
+     * @param capacity
+     *            Hold at most this many entries.
+     * @return This method returns the pool, not yet started.
+     */
+    public static RandomnessPool<BigInteger[]> forKey(final Key key,
+            int capacity) {
+        return new RandomnessPool<BigInteger[]>(new ISource<BigInteger[]>() {
+            public BigInteger[] next() {
+                return ElGamalCrypto.SINGLETON.precompute(key);
+            }
+        }, capacity);
+    }
+
+    /**
+     * Start filling the pool in the background.
+     */
+    public synchronized void start() {
+        if (_refill != null)
+            return;
+
+        _refill = new Thread(new Runnable() {
+            public void run() {
+                refill();
+            }
+        }, "RandomnessPool");
+        _refill.setDaemon(true);
+        _refill.setPriority(Thread.MIN_PRIORITY);
+        _refill.start();
+    }
+
+    /**
+     * Stop filling the pool and forget everything in it. An entry the refill
+     * thread was making when this was called is dropped too.
+     */
+    public synchronized void stop() {
+        _stopped = true;
+        notifyAll();
+        if (_refill != null)
+            _refill.interrupt();
+        _pool.clear();
+    }
+
+    /**
+     * Don't refill until resume() is called as many times as this was, e.g.
+     * while a ballot is being encrypted, so that the refill thread doesn't
+     * compete with it for a processor.
+     */
+    public synchronized void pause() {
+        _paused++;
+    }
+
+    /**
+     * Undo one call to pause().
+     */
+    public synchronized void resume() {
+        if (_paused > 0 && --_paused == 0)
+            notifyAll();
+    }
+
+    /**
+     * Take an entry out of the pool, or make one now if the pool is empty.
+     * 
+     * @return This method returns an entry no one else has been given.
+     */
+    public T take() {
+        T entry = _pool.poll();
+        if (entry != null) {
+            _hits.incrementAndGet();
+            return entry;
+        }
+
+        _misses.incrementAndGet();
+        return _source.next();
+    }
+
+    private void refill() {
+        try {
+            while (!_stopped) {
+                synchronized (this) {
+                    while (_paused > 0 && !_stopped)
+                        wait();
+                }
+                if (_stopped)
+                    break;
+
+                long start = System.nanoTime();
+                T entry = _source.next();
+                _refillNanos.addAndGet(System.nanoTime() - start);
+                _generated.incrementAndGet();
+                if (_stopped)
+                    break;
+
+                // Blocks while the pool is full.
+                _pool.put(entry);
+            }
+        }
+        catch (InterruptedException e) {}
+        finally {
+            // stop() may have cleared the pool between the check and put().
+            if (_stopped)
+                _pool.clear();
+        }
+    }
+
+    /**
+     * @return This method returns how many entries are in the pool now.
+     */
+    public int getDepth() {
+        return _pool.size();
+    }
+
+    /**
+     * @return This method returns the most entries the pool holds.
+     */
+    public int getCapacity() {
+        return _capacity;
+    }
+
+    /**
+     * @return This method returns how many entries take() found in the pool.
+     */
+    public long getHits() {
+        return _hits.get();
+    }
+
+    /**
+     * @return This method returns how many entries take() had to make itself
+     *         because the pool was empty.
+     */
+    public long getMisses() {
+        return _misses.get();
+    }
+
+    /**
+     * @return This method returns how many entries the refill thread has made.
+     */
+    public long getGenerated() {
+        return _generated.get();
+    }
+
+    /**
+     * @return This method returns how many entries the refill thread makes
+     *         per second while it's working, or 0 if it hasn't made any.
+     */
+    public double getRefillRate() {
+        long nanos = _refillNanos.get();
+        if (nanos == 0)
+            return 0;
+        return _generated.get() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + getDepth() + "/" + _capacity + ", " + getHits()
+                + " hits, " + getMisses() + " misses, "
+                + String.format("%.1f", getRefillRate()) + "/s refill";
+    }
+}
@@ -0,0 +1,120 @@
+/**
+  * This file is part of VoteBox.
+  * 
+  * VoteBox is free software: you can redistribute it and/or modify
+  * it under the terms of the GNU General Public License version 3 as published by
+  * the Free Software Foundation.
+  * 
+  * You should have received a copy of the GNU General Public License
+  * along with VoteBox, found in the root of any distribution or
+  * repository containing all or part of VoteBox.
+  * 
+  * THIS SOFTWARE IS PROVIDED BY WILLIAM MARSH RICE UNIVERSITY, HOUSTON,
+  * TX AND IS PROVIDED 'AS IS' AND WITHOUT ANY EXPRESS, IMPLIED OR
+  * STATUTORY WARRANTIES, INCLUDING, BUT NOT LIMITED TO, WARRANTIES OF
+  * ACCURACY, COMPLETENESS, AND NONINFRINGEMENT.  THE SOFTWARE USER SHALL
+  * INDEMNIFY, DEFEND AND HOLD HARMLESS RICE UNIVERSITY AND ITS FACULTY,
+  * STAFF AND STUDENTS FROM ANY AND ALL CLAIMS, ACTIONS, DAMAGES, LOSSES,
+  * LIABILITIES, COSTS AND EXPENSES, INCLUDING ATTORNEYS' FEES AND COURT
+  * COSTS, DIRECTLY OR INDIRECTLY ARISING OUR OF OR IN CONNECTION WITH
+  * ACCESS OR USE OF THE SOFTWARE.
+ */
+
+package votebox.crypto;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import sexpression.ListExpression;
+import sexpression.StringExpression;
+import auditorium.Key;
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.ElgamalCiphertext;
+import edu.uconn.cse.adder.PublicKey;
+import edu.uconn.cse.adder.Vote;
+
+public class RandomnessPoolTest extends TestCase {
+
+	private static class Counter implements RandomnessPool.ISource<Integer> {
+		private int _next = 0;
+
+		public synchronized Integer next() {
+			return _next++;
+		}
+	}
+
+	private static void waitForDepth(RandomnessPool<?> pool, int depth) throws InterruptedException {
+		for(int i = 0; i < 500 && pool.getDepth() < depth; i++)
+			Thread.sleep(10);
+		assertEquals(depth, pool.getDepth());
+	}
+
+	public void testFillsAndDrains() throws Exception {
+		RandomnessPool<Integer> pool = new RandomnessPool<Integer>(new Counter(), 8);
+		pool.start();
+		waitForDepth(pool, 8);
+
+		// Nothing is ever handed out twice, whether it came from the pool or not.
+		pool.pause();
+		List<Integer> taken = new ArrayList<Integer>();
+		for(int i = 0; i < 20; i++){
+			Integer entry = pool.take();
+			assertFalse(taken.contains(entry));
+			taken.add(entry);
+		}
+		assertTrue(pool.getHits() >= 8);
+		assertEquals(20, pool.getHits() + pool.getMisses());
+
+		pool.resume();
+		waitForDepth(pool, 8);
+		assertTrue(pool.getRefillRate() > 0);
+
+		pool.stop();
+		assertEquals(0, pool.getDepth());
+	}
+
+	public void testElGamal() throws Exception {
+		ElGamalCrypto crypto = ElGamalCrypto.SINGLETON;
+		Pair<Key> keys = crypto.generate("test");
+		BallotEncrypter.SINGLETON.precompute(keys.get1(), 4);
+		waitForDepth(BallotEncrypter.SINGLETON.getPool(), 4);
+
+		ListExpression ballot = new ListExpression(
+				new ListExpression(StringExpression.makeString("B0"), StringExpression.makeString("1")),
+				new ListExpression(StringExpression.makeString("B1"), StringExpression.makeString("0")));
+		ListExpression encrypted = BallotEncrypter.SINGLETON.encrypt(ballot, keys.get1());
+
+		assertEquals(ballot, BallotEncrypter.SINGLETON.decrypt(encrypted, BallotEncrypter.SINGLETON.getRecentRandom(), keys.get1()));
+		assertTrue(BallotEncrypter.SINGLETON.getPool().getHits() >= 2);
+
+		BallotEncrypter.SINGLETON.getPool().stop();
+		BallotEncrypter.SINGLETON.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	public void testAdder() throws Exception {
+		PublicKey key = PublicKey.makePartialKey(128);
+		key.genKeyPair();
+		RandomnessPool<AdderInteger[]> pool = RandomnessPool.forKey(key, 4);
+		pool.start();
+		waitForDepth(pool, 4);
+
+		List<ElgamalCiphertext> ciphers = new ArrayList<ElgamalCiphertext>();
+		List<AdderInteger> rs = new ArrayList<AdderInteger>();
+		int[] choices = {0, 1, 1, 0};
+		for(int choice : choices){
+			ElgamalCiphertext cipher = key.encrypt(new AdderInteger(choice), pool.take());
+			ciphers.add(cipher);
+			rs.add(cipher.getR());
+		}
+		pool.stop();
+
+		List<AdderInteger> decrypted = BallotEncrypter.SINGLETON.adderDecryptSublist(new Vote(ciphers), rs, key);
+		for(int i = 0; i < choices.length; i++)
+			assertEquals(BigInteger.valueOf(choices[i]), decrypted.get(i).bigintValue());
+		assertEquals(4, pool.getHits());
+	}
+}
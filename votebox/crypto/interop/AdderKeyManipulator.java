@@ -21,7 +21,7 @@ public class AdderKeyManipulator {
 	 * @param newKey - the key to load into the cache.
 	 * @param baseKey - the key the newKey must be a derivative of.
 	 */
-	public static void setCachedKey(PublicKey newKey/*, PublicKey baseKey*/)/* throws AuditoriumCryptoException*/{
+	public static synchronized void setCachedKey(PublicKey newKey/*, PublicKey baseKey*/)/* throws AuditoriumCryptoException*/{
 		/*if(baseKey.getF() != null && !(baseKey.getF().equals(newKey.getF())))
 			throw new AuditoriumCryptoException("F's don't match", null);
 		
@@ -46,12 +46,13 @@ public class AdderKeyManipulator {
 	 * Generates the "final" public key using the pre-generated public key.
 	 * This is needed for tallying and NIZK verification.
 	 * This call returns the same key each time, but this key is different
-	 * from run to run.
+	 * from run to run.  Several threads may call this at once and still
+	 * get the same key.
 	 * 
 	 * @param publicKey - the precalculated public key.
 	 * @return the new PublicKey
 	 */
-	public static PublicKey generateFinalPublicKey(PublicKey publicKey){
+	public static synchronized PublicKey generateFinalPublicKey(PublicKey publicKey){
 		if(_cachedKey != null)
 			return _cachedKey;
 		
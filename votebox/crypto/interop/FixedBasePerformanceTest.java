@@ -0,0 +1,120 @@
+package votebox.crypto.interop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import auditorium.SimpleKeyStore;
+
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.FixedBaseTable;
+import edu.uconn.cse.adder.PublicKey;
+import edu.uconn.cse.adder.Vote;
+import edu.uconn.cse.adder.VoteProof;
+
+/**
+ * Compares encrypting and proving ballots with and without the fixed-base
+ * tables kept by each PublicKey.
+ */
+public class FixedBasePerformanceTest {
+	public static final int TRIAL_COUNT = 10;
+	public static final int RACE_SIZE = 8;
+	public static final int RACE_COUNT = 12;
+
+	private static PublicKey _finalPublicKey = null;
+
+	@BeforeClass
+	public static void loadKey() throws Exception{
+		SimpleKeyStore store = new SimpleKeyStore("keys");
+		PublicKey adderPublicKey = (PublicKey)store.loadAdderKey("public");
+
+		_finalPublicKey = AdderKeyManipulator.generateFinalPublicKeyNoCache(adderPublicKey);
+	}
+
+	@After
+	public void resetLimit(){
+		FixedBaseTable.setMemoryLimit(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Encrypts and proves TRIAL_COUNT ballots of RACE_COUNT races each with a
+	 * fresh copy of the final key, checking every proof.
+	 *
+	 * @return elapsed milliseconds spent encrypting and proving
+	 */
+	protected long encryptBallots(){
+		PublicKey key = new PublicKey(_finalPublicKey.getP(), _finalPublicKey.getG(), _finalPublicKey.getH(), _finalPublicKey.getF());
+		long elapsedTime = 0;
+
+		for(int trial = 0; trial < TRIAL_COUNT; trial++){
+			long start = System.currentTimeMillis();
+			List<Vote> votes = new ArrayList<Vote>();
+			List<VoteProof> proofs = new ArrayList<VoteProof>();
+
+			for(int race = 0; race < RACE_COUNT; race++){
+				List<AdderInteger> choices = new ArrayList<AdderInteger>();
+
+				for(int i = 0; i < RACE_SIZE; i++)
+					choices.add(i == (trial + race) % RACE_SIZE ? AdderInteger.ONE : AdderInteger.ZERO);
+
+				Vote vote = key.encrypt(choices);
+				VoteProof proof = new VoteProof();
+				proof.compute(vote, key, choices, 0, 1);
+
+				votes.add(vote);
+				proofs.add(proof);
+			}
+
+			long stop = System.currentTimeMillis();
+
+			elapsedTime += (stop - start);
+			System.out.println("\tTrial #"+trial+": "+(stop - start)+" milliseconds");
+
+			for(int race = 0; race < RACE_COUNT; race++)
+				Assert.assertTrue("Proof failed to verify", proofs.get(race).verify(votes.get(race), _finalPublicKey, 0, 1));
+		}
+
+		System.out.println("Total: "+elapsedTime+" milliseconds");
+		System.out.println("Average per ballot: "+(elapsedTime / TRIAL_COUNT));
+
+		return elapsedTime;
+	}
+
+	@Test
+	public void withoutTables() throws Exception{
+		System.out.println("withoutTables:");
+		FixedBaseTable.setMemoryLimit(0);
+
+		encryptBallots();
+	}
+
+	@Test
+	public void withTables() throws Exception{
+		System.out.println("withTables:");
+
+		encryptBallots();
+	}
+
+	@Test
+	public void withCappedTables() throws Exception{
+		System.out.println("withCappedTables (64KB):");
+		FixedBaseTable.setMemoryLimit(64 * 1024);
+
+		encryptBallots();
+	}
+
+	public static void main(String[] args) throws Exception{
+		FixedBasePerformanceTest test = new FixedBasePerformanceTest();
+		loadKey();
+		test.withoutTables();
+		test.resetLimit();
+		test.withTables();
+		test.resetLimit();
+		test.withCappedTables();
+		test.resetLimit();
+	}
+}
@@ -0,0 +1,209 @@
+package votebox.crypto.interop;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.uconn.cse.adder.AdderInteger;
+import edu.uconn.cse.adder.Election;
+import edu.uconn.cse.adder.ElgamalCiphertext;
+import edu.uconn.cse.adder.Montgomery;
+import edu.uconn.cse.adder.Vote;
+
+/**
+ * Compares summing votes and inverting values with AdderInteger arithmetic
+ * against the Montgomery products and batch inversion the adder package now
+ * uses, over a 1536-bit prime.  Reports time and, where the JVM can count
+ * them, bytes allocated and collections.
+ */
+public class MontgomeryPerformanceTest {
+	public static final int TRIAL_COUNT = 5;
+	public static final int PRIME_BITS = 1536;
+	public static final int VOTE_COUNT = 500;
+	public static final int RACE_SIZE = 8;
+	public static final int INVERSE_COUNT = 500;
+
+	private static AdderInteger _p = null;
+	private static List<Vote> _votes = null;
+	private static AdderInteger[] _values = null;
+
+	@BeforeClass
+	public static void makeVotes() throws Exception{
+		Random random = new Random(1536);
+		BigInteger p = BigInteger.probablePrime(PRIME_BITS, random);
+		_p = new AdderInteger(p);
+
+		_votes = new ArrayList<Vote>();
+		for(int i = 0; i < VOTE_COUNT; i++){
+			List<ElgamalCiphertext> ciphers = new ArrayList<ElgamalCiphertext>();
+
+			for(int j = 0; j < RACE_SIZE; j++)
+				ciphers.add(new ElgamalCiphertext(element(p, random), element(p, random), AdderInteger.ZERO, _p));
+
+			_votes.add(new Vote(ciphers));
+		}
+
+		_values = new AdderInteger[INVERSE_COUNT];
+		for(int i = 0; i < INVERSE_COUNT; i++)
+			_values[i] = element(p, random);
+	}
+
+	private static AdderInteger element(BigInteger p, Random random){
+		BigInteger x;
+
+		do{
+			x = new BigInteger(PRIME_BITS, random);
+		}while(x.signum() == 0 || x.compareTo(p) >= 0);
+
+		return new AdderInteger(x, p);
+	}
+
+	/**
+	 * Something to time.
+	 */
+	protected interface Trial {
+		public Object run();
+	}
+
+	/**
+	 * Runs a trial TRIAL_COUNT times, printing the time, allocation and collections of each.
+	 *
+	 * @return the result of the last run
+	 */
+	protected Object time(Trial trial){
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		com.sun.management.ThreadMXBean allocations = (threads instanceof com.sun.management.ThreadMXBean) ? (com.sun.management.ThreadMXBean)threads : null;
+		long elapsedTime = 0;
+		Object result = null;
+
+		for(int i = 0; i < TRIAL_COUNT; i++){
+			long collections = collections();
+			long allocated = (allocations == null) ? 0 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+			long start = System.currentTimeMillis();
+
+			result = trial.run();
+
+			long stop = System.currentTimeMillis();
+			if(allocations != null)
+				allocated = allocations.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated;
+			collections = collections() - collections;
+
+			elapsedTime += (stop - start);
+			System.out.println("\tTrial #"+i+": "+(stop - start)+" milliseconds, "+(allocated / 1024)+" KB allocated, "+collections+" collections");
+		}
+
+		System.out.println("Average: "+(elapsedTime / TRIAL_COUNT)+" milliseconds");
+
+		return result;
+	}
+
+	private static long collections(){
+		long count = 0;
+
+		for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(gc.getCollectionCount(), 0);
+
+		return count;
+	}
+
+	/**
+	 * Sums the votes the way Election did before Montgomery products, one AdderInteger per multiplication.
+	 */
+	protected static List<AdderInteger> sumWithAdderIntegers(){
+		List<AdderInteger> sums = new ArrayList<AdderInteger>();
+
+		for(int j = 0; j < RACE_SIZE; j++){
+			AdderInteger g = new AdderInteger(AdderInteger.ONE, _p);
+			AdderInteger h = new AdderInteger(AdderInteger.ONE, _p);
+
+			for(Vote vote : _votes){
+				ElgamalCiphertext cipher = vote.getCipherList().get(j);
+				g = cipher.getG().multiply(g);
+				h = cipher.getH().multiply(h);
+			}
+
+			sums.add(g);
+			sums.add(h);
+		}
+
+		return sums;
+	}
+
+	/**
+	 * Sums the votes with Election.
+	 */
+	protected static List<AdderInteger> sumWithElection(){
+		Election election = new Election(_p);
+		for(Vote vote : _votes)
+			election.castVote(vote);
+
+		List<AdderInteger> sums = new ArrayList<AdderInteger>();
+		for(ElgamalCiphertext cipher : election.sumVotes().getCipherList()){
+			sums.add(cipher.getG());
+			sums.add(cipher.getH());
+		}
+
+		return sums;
+	}
+
+	@Test
+	public void sumVotes() throws Exception{
+		System.out.println("sumVotes with AdderIntegers ("+VOTE_COUNT+" votes of "+RACE_SIZE+"):");
+		Object expected = time(new Trial(){
+			public Object run(){
+				return sumWithAdderIntegers();
+			}
+		});
+
+		System.out.println("sumVotes with Montgomery products:");
+		Object actual = time(new Trial(){
+			public Object run(){
+				return sumWithElection();
+			}
+		});
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void invert() throws Exception{
+		final AdderInteger one = new AdderInteger(AdderInteger.ONE, _p);
+
+		System.out.println("invert with AdderInteger.divide ("+INVERSE_COUNT+" values):");
+		AdderInteger[] expected = (AdderInteger[])time(new Trial(){
+			public Object run(){
+				AdderInteger[] inverses = new AdderInteger[INVERSE_COUNT];
+				for(int i = 0; i < INVERSE_COUNT; i++)
+					inverses[i] = one.divide(_values[i]);
+
+				return inverses;
+			}
+		});
+
+		System.out.println("invert with Montgomery.invert:");
+		final Montgomery mont = new Montgomery(_p);
+		AdderInteger[] actual = (AdderInteger[])time(new Trial(){
+			public Object run(){
+				return mont.invert(_values);
+			}
+		});
+
+		for(int i = 0; i < INVERSE_COUNT; i++)
+			Assert.assertEquals(expected[i], actual[i]);
+	}
+
+	public static void main(String[] args) throws Exception{
+		MontgomeryPerformanceTest test = new MontgomeryPerformanceTest();
+		makeVotes();
+		test.sumVotes();
+		test.invert();
+	}
+}
@@ -57,6 +57,10 @@ public class ActivatedEvent implements IAnnounceEvent {
         private VoteBoxEventMatcher statusMatcher = new VoteBoxEventMatcher(
                 StatusEvent.getMatcher() );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -18,6 +18,10 @@ public class AdderChallengeEvent extends ChallengeEvent {
                 .makeString( "adder-challenge" ), StringWildcard.SINGLETON,
                 new ListWildcard(new ListWildcard(StringWildcard.SINGLETON)));
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -53,6 +53,10 @@ public class AssignLabelEvent implements IAnnounceEvent {
                 .makeString( "assign-label" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -57,6 +57,10 @@ public class AuthorizedToCastEvent implements IAnnounceEvent {
                 .makeString( "authorized-to-cast" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON, StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -29,6 +29,10 @@ public class AuthorizedToCastWithNIZKsEvent extends AuthorizedToCastEvent {
                 .makeString( "authorized-to-cast-with-nizks" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON, StringWildcard.SINGLETON, WildcardWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -70,6 +74,13 @@ public class AuthorizedToCastWithNIZKsEvent extends AuthorizedToCastEvent {
     	AdderKeyManipulator.setCachedKey(finalPubKey);
     }
     
+    /**
+     * @return the final Adder key ballots are to be encrypted with
+     */
+    public PublicKey getFinalPubKey(){
+    	return _finalPubKey;
+    }
+    
     public ASExpression toSExp() {
         /*return new ListExpression( StringExpression
                 .makeString( "authorized-to-cast" ), StringExpression
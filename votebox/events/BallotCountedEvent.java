@@ -44,6 +44,10 @@ public class BallotCountedEvent extends BallotReceivedEvent{
                 .makeString( "ballot-counted" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
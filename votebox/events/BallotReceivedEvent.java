@@ -55,6 +55,10 @@ public class BallotReceivedEvent implements IAnnounceEvent {
                 .makeString( "ballot-received" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
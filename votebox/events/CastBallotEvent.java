@@ -52,6 +52,10 @@ public class CastBallotEvent implements IAnnounceEvent {
         private ASExpression pattern = ASExpression
                 .make("(cast-ballot %nonce:#string %ballot:#any)");
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             HashMap<String, ASExpression> result = pattern.namedMatch(sexp);
             if (result != NamedNoMatch.SINGLETON)
@@ -42,6 +42,10 @@ public class CastCommittedBallotEvent extends CastBallotEvent {
         private ASExpression pattern = ASExpression
                 .make("(cast-committed-ballot %nonce:#string)");
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             HashMap<String, ASExpression> result = pattern.namedMatch(sexp);
             if (result != NamedNoMatch.SINGLETON)
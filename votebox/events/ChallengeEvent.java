@@ -44,6 +44,10 @@ public class ChallengeEvent implements IAnnounceEvent {
                 .makeString( "challenge" ), StringWildcard.SINGLETON,
                 new ListWildcard(new ListWildcard(StringWildcard.SINGLETON)));
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -45,6 +45,10 @@ public class ChallengeResponseEvent implements IAnnounceEvent {
                 .makeString( "challenge-response" ), StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON);
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
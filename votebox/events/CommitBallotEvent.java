@@ -45,6 +45,10 @@ public class CommitBallotEvent implements IAnnounceEvent {
         private ASExpression pattern = ASExpression
                 .make("(commit-ballot %nonce:#string %ballot:#any)");
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             HashMap<String, ASExpression> result = pattern.namedMatch(sexp);
             if (result != NamedNoMatch.SINGLETON)
@@ -46,6 +46,10 @@ public class EncryptedCastBallotEvent extends CastBallotEvent{
         private ASExpression pattern = ASExpression
                 .make("(encrypted-cast-ballot %nonce:#string %ballot:#any)");
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             HashMap<String, ASExpression> result = pattern.namedMatch(sexp);
             if (result != NamedNoMatch.SINGLETON)
@@ -16,6 +16,10 @@ public class EncryptedCastBallotWithNIZKsEvent extends EncryptedCastBallotEvent
         private ASExpression pattern = ASExpression
                 .make("(encrypted-cast-ballot-with-nizks %nonce:#string %ballot:#any)");
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             HashMap<String, ASExpression> result = pattern.namedMatch(sexp);
             if (result != NamedNoMatch.SINGLETON)
@@ -54,6 +54,10 @@ public class LastPollsOpenEvent implements IAnnounceEvent {
         private VoteBoxEventMatcher pollsOpenMatcher = new VoteBoxEventMatcher(
                 PollsOpenEvent.getMatcher() );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -40,4 +40,11 @@ public interface MatcherRule {
      */
     public IAnnounceEvent match(int serial, ASExpression sexp);
 
+    /**
+     * @return the pattern a message has to match for this rule to make an
+     *         event of it. VoteBoxEventMatcher uses it to decide which rules
+     *         are worth trying.
+     */
+    public ASExpression getPattern();
+
 }
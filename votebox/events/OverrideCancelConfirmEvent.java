@@ -53,6 +53,10 @@ public class OverrideCancelConfirmEvent implements IAnnounceEvent {
                 .makeString( "override-cancel-confirm" ),
                 StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -52,6 +52,10 @@ public class OverrideCastDenyEvent implements IAnnounceEvent {
         private ASExpression pattern = new ListExpression( StringExpression
                 .makeString( "override-cast-deny" ), StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
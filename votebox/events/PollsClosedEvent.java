@@ -50,6 +50,10 @@ public class PollsClosedEvent implements IAnnounceEvent {
         private ASExpression pattern = new ListExpression( StringExpression
                 .makeString( "polls-closed" ), StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -50,6 +50,10 @@ public class PollsOpenQEvent implements IAnnounceEvent {
         private ASExpression pattern = new ListExpression( StringExpression
                 .makeString( "polls-open?" ), StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
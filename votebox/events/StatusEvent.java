@@ -56,6 +56,10 @@ public class StatusEvent implements IAnnounceEvent {
         private VoteBoxEventMatcher statusMatcher = new VoteBoxEventMatcher(
                 SupervisorEvent.getMatcher(), VoteBoxEvent.getMatcher() );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
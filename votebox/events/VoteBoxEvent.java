@@ -60,6 +60,10 @@ public class VoteBoxEvent implements IAnnounceEvent {
                 StringWildcard.SINGLETON, StringWildcard.SINGLETON,
                 StringWildcard.SINGLETON, StringWildcard.SINGLETON );
 
+        public ASExpression getPattern() {
+            return pattern;
+        }
+
         public IAnnounceEvent match(int serial, ASExpression sexp) {
             ASExpression res = pattern.match( sexp );
             if (res != NoMatch.SINGLETON) {
@@ -23,25 +23,31 @@
 package votebox.events;
 
 import sexpression.ASExpression;
+import sexpression.PatternTable;
 
 /**
  * A VoteBoxEventMatcher contains a list of rules to check messages against, and
  * has a match method that performs this series of checks on the message. This
  * exists in its own class so that messages that contain other messages can have
  * their own VoteBoxEventMatchers that only use the rules of the contained
- * messages.
+ * messages.<br>
+ * <br>
+ * The rules are kept in a {@link PatternTable} keyed on their patterns, so a
+ * message is only checked against the rules whose pattern has its length and
+ * leading symbol, however many rules there are.
  * @author cshaw
  */
 public class VoteBoxEventMatcher {
 
-    private MatcherRule[] rules;
+    private final PatternTable<MatcherRule> rules = new PatternTable<MatcherRule>();
 
     /**
      * Constructs a VoteBoxEventMatcher with the given matcher rules
      * @param rules the rules
      */
     public VoteBoxEventMatcher(MatcherRule... rules) {
-        this.rules = rules;
+        for (MatcherRule rule : rules)
+            this.rules.add(rule.getPattern(), rule);
     }
 
     /**
@@ -57,7 +63,7 @@ public class VoteBoxEventMatcher {
      *         null otherwise
      */
     public IAnnounceEvent match(int serial, ASExpression sexp) {
-        for (MatcherRule rule : rules) {
+        for (MatcherRule rule : rules.candidates(sexp)) {
             IAnnounceEvent res = rule.match(serial, sexp);
             if (res != null) return res;
         }
@@ -229,6 +229,38 @@ public class Launcher {
 					public boolean getUseSimpleTallyView() { return false; }
 
 					public boolean getUseTableTallyView() { return false; }
+
+					public String getNIZKVerificationMode() { return "batch"; }
+
+					public int getNIZKVerificationThreads() { return 0; }
+
+					public int getNIZKBatchSize() { return 32; }
+
+					public int getAdderTableLimit() { return -1; }
+
+					public int getTallyStripes() { return 1; }
+
+					public String getTallyAuditDirectory() { return null; }
+
+					public int getDecryptionTableSize() { return 65536; }
+
+					public int getRandomnessPoolSize() { return 256; }
+
+					public String getAuditoriumTransport() { return "blocking"; }
+
+					public int getAuditoriumQueueCapacity() { return 8192; }
+
+					public String getAuditoriumQueuePolicy() { return "block"; }
+
+					public int getAuditoriumVerifyThreads() { return 0; }
+
+					public int getAuditoriumBatchWindow() { return 0; }
+
+					public int getAuditoriumBatchSize() { return 64; }
+
+					public int getLogSegmentSize() { return 67108864; }
+
+					public int getLogSyncInterval() { return 100; }
 				};
 				
 				//#ifdef EVIL